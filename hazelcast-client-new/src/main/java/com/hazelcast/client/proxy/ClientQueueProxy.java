@@ -303,6 +303,18 @@ public final class ClientQueueProxy<E> extends ClientProxy implements IQueue<E>
         return resultParameters.result;
     }
 
+    public int offerAll(Collection<? extends E> c) {
+        // the protocol has no batched offer yet, items are offered one by one until the queue is full
+        int accepted = 0;
+        for (E e : c) {
+            if (!offer(e)) {
+                break;
+            }
+            accepted++;
+        }
+        return accepted;
+    }
+
     public boolean removeAll(Collection<?> c) {
         ClientMessage request = QueueCompareAndRemoveAllParameters.encode(name, getDataList(c));
         ClientMessage response = invoke(request);
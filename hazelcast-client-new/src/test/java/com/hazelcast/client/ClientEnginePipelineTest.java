@@ -0,0 +1,151 @@
+package com.hazelcast.client;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.IMap;
+import com.hazelcast.instance.GroupProperties;
+import com.hazelcast.map.AbstractEntryProcessor;
+import com.hazelcast.query.TruePredicate;
+import com.hazelcast.spi.ExecutionService;
+import com.hazelcast.test.AssertTask;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.QuickTest;
+import com.hazelcast.util.executor.ManagedExecutorService;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(QuickTest.class)
+public class ClientEnginePipelineTest extends HazelcastTestSupport {
+
+    private static final int ENTRY_COUNT = 100;
+
+    private ManagedExecutorService clientExecutor;
+    private ManagedExecutorService queryExecutor;
+    private ManagedExecutorService bulkExecutor;
+    private IMap<Integer, Integer> map;
+
+    @Before
+    public void setup() {
+        Config config = new Config();
+        config.setProperty(GroupProperties.PROP_CLIENT_ENGINE_PIPELINE_ENABLED, "true");
+        HazelcastInstance instance = Hazelcast.newHazelcastInstance(config);
+        ExecutionService executionService = getNode(instance).nodeEngine.getExecutionService();
+        clientExecutor = executionService.getExecutor(ExecutionService.CLIENT_EXECUTOR);
+        queryExecutor = executionService.getExecutor(ExecutionService.CLIENT_QUERY_EXECUTOR);
+        bulkExecutor = executionService.getExecutor(ExecutionService.CLIENT_BULK_EXECUTOR);
+
+        HazelcastInstance client = HazelcastClient.newHazelcastClient();
+        map = client.getMap(randomMapName());
+    }
+
+    @After
+    public void cleanup() {
+        HazelcastClient.shutdownAll();
+        Hazelcast.shutdownAll();
+    }
+
+    @Test
+    public void testQueryTasks_runOnQueryExecutor() {
+        fillMap();
+        final long queryTasks = queryExecutor.getCompletedTaskCount();
+        final long bulkTasks = bulkExecutor.getCompletedTaskCount();
+
+        assertEquals(ENTRY_COUNT, map.values(TruePredicate.INSTANCE).size());
+        assertEquals(ENTRY_COUNT, map.keySet(TruePredicate.INSTANCE).size());
+
+        assertTrueEventually(new AssertTask() {
+            @Override
+            public void run() throws Exception {
+                assertEquals(queryTasks + 2, queryExecutor.getCompletedTaskCount());
+            }
+        });
+        assertEquals(bulkTasks, bulkExecutor.getCompletedTaskCount());
+    }
+
+    @Test
+    public void testBulkTasks_runOnBulkExecutor() {
+        fillMap();
+        final long queryTasks = queryExecutor.getCompletedTaskCount();
+        final long bulkTasks = bulkExecutor.getCompletedTaskCount();
+
+        assertEquals(ENTRY_COUNT, map.size());
+        assertEquals(ENTRY_COUNT, map.keySet().size());
+
+        assertTrueEventually(new AssertTask() {
+            @Override
+            public void run() throws Exception {
+                assertEquals(bulkTasks + 2, bulkExecutor.getCompletedTaskCount());
+            }
+        });
+        assertEquals(queryTasks, queryExecutor.getCompletedTaskCount());
+    }
+
+    @Test
+    public void testPartitionTasks_doNotRunOnClientExecutors() {
+        long clientTasks = clientExecutor.getCompletedTaskCount();
+        long queryTasks = queryExecutor.getCompletedTaskCount();
+        long bulkTasks = bulkExecutor.getCompletedTaskCount();
+
+        fillMap();
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            assertEquals(Integer.valueOf(i), map.get(i));
+        }
+
+        // a few unrelated tasks, e.g. heartbeats, may run on the generic client executor meanwhile
+        assertTrue(clientExecutor.getCompletedTaskCount() - clientTasks < ENTRY_COUNT);
+        assertEquals(queryTasks, queryExecutor.getCompletedTaskCount());
+        assertEquals(bulkTasks, bulkExecutor.getCompletedTaskCount());
+    }
+
+    @Test
+    public void testPartitionTasks_sendResponsesFromCallingThread() throws Exception {
+        List<Future<Integer>> futures = new ArrayList<Future<Integer>>();
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            futures.add(map.putAsync(i, i));
+        }
+        for (Future<Integer> future : futures) {
+            future.get();
+        }
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            assertEquals(Integer.valueOf(i), map.getAsync(i).get());
+        }
+    }
+
+    @Test
+    public void testPartitionTasks_sendFailuresFromCallingThread() {
+        try {
+            map.executeOnKey(1, new FailingEntryProcessor());
+            fail();
+        } catch (IllegalStateException expected) {
+            assertEquals("failed on purpose", expected.getMessage());
+        }
+    }
+
+    private void fillMap() {
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, i);
+        }
+    }
+
+    private static class FailingEntryProcessor extends AbstractEntryProcessor<Integer, Integer> {
+        @Override
+        public Object process(Map.Entry<Integer, Integer> entry) {
+            throw new IllegalStateException("failed on purpose");
+        }
+    }
+}
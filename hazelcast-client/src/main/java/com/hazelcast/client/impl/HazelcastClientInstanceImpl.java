@@ -68,6 +68,9 @@ import com.hazelcast.core.MultiMap;
 import com.hazelcast.core.PartitionService;
 import com.hazelcast.core.ReplicatedMap;
 import com.hazelcast.executor.impl.DistributedExecutorService;
+import com.hazelcast.internal.metrics.LatencyHistograms;
+import com.hazelcast.internal.metrics.MetricsRegistry;
+import com.hazelcast.internal.metrics.impl.MetricsRegistryImpl;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.logging.Logger;
 import com.hazelcast.logging.LoggingService;
@@ -128,6 +131,8 @@ public class HazelcastClientInstanceImpl implements HazelcastInstance {
     private final LoadBalancer loadBalancer;
     private final ClientExtension clientExtension;
     private final Credentials credentials;
+    private final MetricsRegistryImpl metricsRegistry;
+    private final LatencyHistograms invocationLatencies;
 
     public HazelcastClientInstanceImpl(ClientConfig config) {
         this.config = config;
@@ -140,6 +145,8 @@ public class HazelcastClientInstanceImpl implements HazelcastInstance {
         threadGroup = new ThreadGroup(instanceName);
         lifecycleService = new LifecycleServiceImpl(this);
         clientProperties = new ClientProperties(config);
+        metricsRegistry = new MetricsRegistryImpl(Logger.getLogger(MetricsRegistry.class));
+        invocationLatencies = new LatencyHistograms(metricsRegistry, "client.invocation", "roundTrip");
         serializationService = clientExtension.createSerializationService();
         proxyManager = new ProxyManager(this);
         executionService = initExecutorService();
@@ -268,6 +275,19 @@ public class HazelcastClientInstanceImpl implements HazelcastInstance {
         return clientProperties;
     }
 
+    public MetricsRegistry getMetricsRegistry() {
+        return metricsRegistry;
+    }
+
+    /**
+     * Returns the round trip latency histograms of the invocations, one per request type.
+     *
+     * @return the invocation latency histograms.
+     */
+    public LatencyHistograms getInvocationLatencies() {
+        return invocationLatencies;
+    }
+
     @Override
     public String getName() {
         return instanceName;
@@ -533,5 +553,6 @@ public class HazelcastClientInstanceImpl implements HazelcastInstance {
         listenerService.shutdown();
         serializationService.destroy();
         nearCacheManager.destroyAllNearCaches();
+        metricsRegistry.shutdown();
     }
 }
@@ -313,6 +313,17 @@ public class ClientExecutorServiceProxy extends ClientProxy implements IExecutor
         submitToKeyOwnerInternal(task, key, callback);
     }
 
+    @Override
+    public <T> List<Future<T>> submitAll(Collection<? extends Callable<T>> tasks) {
+        // tasks are not batched yet on clients; each task is routed on its own just like submit(Callable)
+        checkNotNull(tasks, "tasks can't be null");
+        List<Future<T>> futures = new ArrayList<Future<T>>(tasks.size());
+        for (Callable<T> task : tasks) {
+            futures.add(submit(task));
+        }
+        return futures;
+    }
+
     // end
 
     public LocalExecutorStats getLocalExecutorStats() {
@@ -35,6 +35,7 @@ import com.hazelcast.collection.impl.queue.client.ContainsRequest;
 import com.hazelcast.collection.impl.queue.client.DrainRequest;
 import com.hazelcast.collection.impl.queue.client.IsEmptyRequest;
 import com.hazelcast.collection.impl.queue.client.IteratorRequest;
+import com.hazelcast.collection.impl.queue.client.OfferAllRequest;
 import com.hazelcast.collection.impl.queue.client.OfferRequest;
 import com.hazelcast.collection.impl.queue.client.PeekRequest;
 import com.hazelcast.collection.impl.queue.client.PollRequest;
@@ -268,6 +269,15 @@ public final class ClientQueueProxy<E> extends ClientProxy implements IQueue<E>
         return result;
     }
 
+    public int offerAll(Collection<? extends E> c) {
+        if (c.isEmpty()) {
+            return 0;
+        }
+        OfferAllRequest request = new OfferAllRequest(name, getDataList(c));
+        Integer result = invoke(request);
+        return result;
+    }
+
     public boolean removeAll(Collection<?> c) {
         CompareAndRemoveRequest request = new CompareAndRemoveRequest(name, getDataList(c), false);
         Boolean result = invoke(request);
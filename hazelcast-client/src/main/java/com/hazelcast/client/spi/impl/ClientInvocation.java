@@ -61,6 +61,7 @@ public class ClientInvocation implements Runnable {
     private final Address address;
     private final int partitionId;
     private final Connection connection;
+    private final long startTimeNanos = System.nanoTime();
     private volatile ClientConnection sendConnection;
 
     private ClientInvocation(HazelcastClientInstanceImpl client, EventHandler handler,
@@ -273,4 +274,13 @@ public class ClientInvocation implements Runnable {
     public boolean isInvoked() {
         return sendConnection != null;
     }
+
+    /**
+     * Returns the {@link System#nanoTime()} at which this invocation was created; retries don't reset it.
+     *
+     * @return the start time of this invocation.
+     */
+    long getStartTimeNanos() {
+        return startTimeNanos;
+    }
 }
@@ -21,6 +21,7 @@ import com.hazelcast.client.impl.client.ClientRequest;
 import com.hazelcast.client.spi.EventHandler;
 import com.hazelcast.core.ExecutionCallback;
 import com.hazelcast.core.ICompletableFuture;
+import com.hazelcast.internal.metrics.LatencyHistograms;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.logging.Logger;
 import com.hazelcast.nio.serialization.Data;
@@ -56,6 +57,8 @@ public class ClientInvocationFuture<V> implements ICompletableFuture<V> {
 
     private final ClientInvocation invocation;
 
+    private final LatencyHistograms invocationLatencies;
+
     private volatile Object response;
 
     public ClientInvocationFuture(ClientInvocation invocation, HazelcastClientInstanceImpl client,
@@ -66,6 +69,7 @@ public class ClientInvocationFuture<V> implements ICompletableFuture<V> {
         this.request = request;
         this.handler = handler;
         this.invocation = invocation;
+        this.invocationLatencies = client.getInvocationLatencies();
     }
 
     @Override
@@ -133,6 +137,7 @@ public class ClientInvocationFuture<V> implements ICompletableFuture<V> {
                 return;
             }
             this.response = response;
+            invocationLatencies.recordNanos(request.getClass(), System.nanoTime() - invocation.getStartTimeNanos());
 
             this.notifyAll();
             for (ExecutionCallbackNode node : callbackNodeList) {
@@ -81,6 +81,23 @@ public final class CacheEnvironment {
      */
     public static final String HAZELCAST_INSTANCE_NAME = "hibernate.cache.hazelcast.instance_name";
 
+    /**
+     * Property to configure the period in milliseconds to batch the invalidations of local region caches for,
+     * so they are published as a single topic message per region. Defaults to 0, which publishes every
+     * invalidation immediately.
+     */
+    public static final String INVALIDATION_BATCH_LINGER = "hibernate.cache.hazelcast.invalidation_batch_linger_millis";
+
+    /**
+     * Property to enable the near cache of the IMap of the entity and collection regions. Reads are served locally and
+     * updates of versioned entities are version checked by an entry processor instead of locking the entries; collections,
+     * structured cache entries and unversioned data are still locked. On members a near cache with {@code invalidate-on-
+     * change} and a maximum size of 10000 entries is added to the config of the region map, unless the map already has a
+     * near cache configured; clients have to configure the near cache in their client config. Intended for read-mostly
+     * data; the near caches of the other members may serve a stale value until the invalidation arrives.
+     */
+    public static final String USE_NEAR_CACHE = "hibernate.cache.hazelcast.use_near_cache";
+
     // milliseconds
     private static final int MAXIMUM_LOCK_TIMEOUT = 10000;
 
@@ -130,4 +147,16 @@ public final class CacheEnvironment {
     public static boolean isExplicitVersionCheckEnabled(Properties props) {
         return PropertiesHelper.getBoolean(CacheEnvironment.EXPLICIT_VERSION_CHECK, props, false);
     }
+
+    public static int getInvalidationBatchLingerMillis(Properties props) {
+        return PropertiesHelper.getInt(CacheEnvironment.INVALIDATION_BATCH_LINGER, props, 0);
+    }
+
+    public static boolean isStructuredCacheEnabled(Properties props) {
+        return PropertiesHelper.getBoolean(Environment.USE_STRUCTURED_CACHE, props, false);
+    }
+
+    public static boolean isNearCacheEnabled(Properties props) {
+        return PropertiesHelper.getBoolean(CacheEnvironment.USE_NEAR_CACHE, props, false);
+    }
 }
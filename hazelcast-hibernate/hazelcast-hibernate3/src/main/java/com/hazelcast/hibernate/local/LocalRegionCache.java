@@ -28,13 +28,13 @@ import com.hazelcast.util.Clock;
 import org.hibernate.cache.CacheDataDescription;
 import org.hibernate.cache.access.SoftLock;
 
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Iterator;
-import java.util.List;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Random;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
@@ -47,6 +47,8 @@ public class LocalRegionCache implements RegionCache {
     private static final long SEC_TO_MS = 1000L;
     private static final int MAX_SIZE = 100000;
     private static final float BASE_EVICTION_RATE = 0.2F;
+    private static final int EVICTION_SAMPLE_SIZE = 1024;
+    private static final int MAX_INVALIDATION_BATCH_SIZE = 1000;
 
     private static final SoftLock LOCK_SUCCESS = new SoftLock() {
         @Override
@@ -68,6 +70,12 @@ public class LocalRegionCache implements RegionCache {
     protected final Comparator versionComparator;
     protected MapConfig config;
 
+    // invalidations waiting to be published as a single InvalidationBatch, coalesced by key
+    private final Object pendingInvalidationsLock = new Object();
+    private Map<Object, Object> pendingInvalidations = new LinkedHashMap<Object, Object>();
+    private final Random random = new Random();
+    private volatile boolean invalidationBatching;
+
     /**
      * @param name              the name for this region cache, which is also used to retrieve configuration/topic
      * @param hazelcastInstance the {@code HazelcastInstance} to which this region cache belongs, used to retrieve
@@ -136,7 +144,7 @@ public class LocalRegionCache implements RegionCache {
             }
         }
         if (topic != null) {
-            topic.publish(createMessage(key, value, currentVersion));
+            publish(key, createMessage(key, value, currentVersion));
         }
         cache.put(key, new Value(currentVersion, value, lock, Clock.currentTimeMillis()));
         return true;
@@ -149,28 +157,96 @@ public class LocalRegionCache implements RegionCache {
     protected MessageListener<Object> createMessageListener() {
         return new MessageListener<Object>() {
             public void onMessage(final Message<Object> message) {
-                final Invalidation invalidation = (Invalidation) message.getMessageObject();
-                if (versionComparator != null) {
-                    final Value value = cache.get(invalidation.getKey());
-                    if (value != null) {
-                        Object currentVersion = value.getVersion();
-                        Object newVersion = invalidation.getVersion();
-                        if (versionComparator.compare(newVersion, currentVersion) > 0) {
-                            cache.remove(invalidation.getKey(), value);
-                        }
+                final Object messageObject = message.getMessageObject();
+                if (messageObject instanceof InvalidationBatch) {
+                    for (Object invalidation : ((InvalidationBatch) messageObject).getMessages()) {
+                        invalidate((Invalidation) invalidation);
                     }
                 } else {
-                    cache.remove(invalidation.getKey());
+                    invalidate((Invalidation) messageObject);
                 }
             }
         };
     }
 
+    private void invalidate(final Invalidation invalidation) {
+        if (versionComparator != null) {
+            final Value value = cache.get(invalidation.getKey());
+            if (value != null) {
+                Object currentVersion = value.getVersion();
+                Object newVersion = invalidation.getVersion();
+                if (versionComparator.compare(newVersion, currentVersion) > 0) {
+                    cache.remove(invalidation.getKey(), value);
+                }
+            }
+        } else {
+            cache.remove(invalidation.getKey());
+        }
+    }
+
+    /**
+     * Publishes the message to the topic of this region. If invalidation batching is enabled, the message is queued
+     * instead and replaces any pending message for the same key.
+     */
+    private void publish(final Object key, final Object message) {
+        if (!invalidationBatching) {
+            topic.publish(message);
+            return;
+        }
+        Map<Object, Object> fullBatch = null;
+        synchronized (pendingInvalidationsLock) {
+            pendingInvalidations.put(key, message);
+            if (pendingInvalidations.size() >= MAX_INVALIDATION_BATCH_SIZE) {
+                fullBatch = takePendingInvalidations();
+            }
+        }
+        if (fullBatch != null) {
+            publishBatch(fullBatch);
+        }
+    }
+
+    /**
+     * Makes this region cache queue its invalidations until {@link #flushInvalidations()} is called, so the updates
+     * within a linger period are published as a single topic message. Has no effect if the region has no topic.
+     */
+    void enableInvalidationBatching() {
+        invalidationBatching = topic != null;
+    }
+
+    /**
+     * Publishes all pending invalidations as a single {@link InvalidationBatch}.
+     */
+    void flushInvalidations() {
+        Map<Object, Object> batch;
+        synchronized (pendingInvalidationsLock) {
+            if (pendingInvalidations.isEmpty()) {
+                return;
+            }
+            batch = takePendingInvalidations();
+        }
+        publishBatch(batch);
+    }
+
+    /**
+     * Swaps the pending invalidations for an empty map, so the taken batch can be published without holding the
+     * lock and blocking the threads that queue new invalidations. Must be called while holding
+     * {@code pendingInvalidationsLock}.
+     */
+    private Map<Object, Object> takePendingInvalidations() {
+        Map<Object, Object> batch = pendingInvalidations;
+        pendingInvalidations = new LinkedHashMap<Object, Object>();
+        return batch;
+    }
+
+    private void publishBatch(Map<Object, Object> batch) {
+        topic.publish(new InvalidationBatch(batch.values().toArray()));
+    }
+
     public boolean remove(final Object key) {
         final Value value = cache.remove(key);
         if (value != null) {
             if (topic != null) {
-                topic.publish(createMessage(key, null, value.getVersion()));
+                publish(key, createMessage(key, null, value.getVersion()));
             }
             return true;
         }
@@ -241,95 +317,91 @@ public class LocalRegionCache implements RegionCache {
 
         boolean limitSize = maxSize > 0 && maxSize != Integer.MAX_VALUE;
         if (limitSize || timeToLive > 0) {
-            List<EvictionEntry> entries = searchEvictableEntries(timeToLive, limitSize);
+            EvictionSample sample = expireAndSample(timeToLive, limitSize);
             final int diff = cache.size() - maxSize;
             final int evictionRate = calculateEvictionRate(diff, maxSize);
-            if (evictionRate > 0 && entries != null) {
-                evictEntries(entries, evictionRate);
+            if (evictionRate > 0 && sample != null) {
+                evictEntries(sample, evictionRate);
             }
         }
     }
 
-    private List<EvictionEntry> searchEvictableEntries(long timeToLive, boolean limitSize) {
-        List<EvictionEntry> entries = null;
+    /**
+     * Removes the expired entries and, if the size is limited, collects a fixed size random sample of the creation
+     * times of the remaining evictable entries using reservoir sampling. This keeps the cost of a cleanup at a
+     * single pass over the entries without copying or sorting them.
+     */
+    private EvictionSample expireAndSample(long timeToLive, boolean limitSize) {
+        EvictionSample sample = null;
         Iterator<Entry<Object, Value>> iter = cache.entrySet().iterator();
         long now = Clock.currentTimeMillis();
         while (iter.hasNext()) {
-            final Entry<Object, Value> e = iter.next();
-            final Object k = e.getKey();
-            final Value v = e.getValue();
+            final Value v = iter.next().getValue();
             if (v.getLock() == LOCK_SUCCESS) {
                 continue;
             }
             if (timeToLive > 0 && v.getCreationTime() + timeToLive < now) {
                 iter.remove();
             } else if (limitSize) {
-                if (entries == null) {
-                    // Use a List rather than a Set for correctness. Using a Set, especially a TreeSet
-                    // based on EvictionEntry.compareTo, causes evictions to be processed incorrectly
-                    // when two or more entries in the map have the same timestamp. In such a case, the
-                    // _first_ entry at a given timestamp is the only one that can be evicted because
-                    // TreeSet does not add "equivalent" entries. A second benefit of using a List is
-                    // that the cost of sorting the entries is not incurred if eviction isn't performed
-                    entries = new ArrayList<EvictionEntry>(cache.size());
+                if (sample == null) {
+                    sample = new EvictionSample();
                 }
-                entries.add(new EvictionEntry(k, v));
+                sample.add(v.getCreationTime(), random);
             }
         }
-        return entries;
+        return sample;
     }
 
     private int calculateEvictionRate(int diff, int maxSize) {
         return diff >= 0 ? (diff + (int) (maxSize * BASE_EVICTION_RATE)) : 0;
     }
 
-    private void evictEntries(List<EvictionEntry> entries, int evictionRate) {
-        // Only sort the entries if we're going to evict some
-        Collections.sort(entries);
+    /**
+     * Evicts up to {@code evictionRate} entries created at or before the creation time that the sample estimates
+     * to separate the oldest {@code evictionRate} entries from the rest.
+     */
+    private void evictEntries(EvictionSample sample, int evictionRate) {
+        long cutoff = sample.estimateCutoff(evictionRate);
         int removed = 0;
-        for (EvictionEntry entry : entries) {
-            if (cache.remove(entry.key, entry.value) && ++removed == evictionRate) {
+        Iterator<Entry<Object, Value>> iter = cache.entrySet().iterator();
+        while (iter.hasNext()) {
+            final Entry<Object, Value> e = iter.next();
+            final Value v = e.getValue();
+            if (v.getLock() != LOCK_SUCCESS && v.getCreationTime() <= cutoff
+                    && cache.remove(e.getKey(), v) && ++removed == evictionRate) {
                 break;
             }
         }
     }
 
     /**
-     * Inner class that instances represent an entry marked for eviction
+     * A fixed size random sample of the creation times of the evictable entries
      */
-    private static final class EvictionEntry implements Comparable<EvictionEntry> {
-        final Object key;
-        final Value value;
+    private static final class EvictionSample {
+        private final long[] creationTimes = new long[EVICTION_SAMPLE_SIZE];
+        private int count;
 
-        private EvictionEntry(final Object key, final Value value) {
-            this.key = key;
-            this.value = value;
-        }
-
-        public int compareTo(final EvictionEntry o) {
-            final long thisVal = this.value.getCreationTime();
-            final long anotherVal = o.value.getCreationTime();
-            return (thisVal < anotherVal ? -1 : (thisVal == anotherVal ? 0 : 1));
-        }
-
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) {
-                return true;
-            }
-            if (o == null || getClass() != o.getClass()) {
-                return false;
+        void add(long creationTime, Random random) {
+            if (count < creationTimes.length) {
+                creationTimes[count] = creationTime;
+            } else {
+                int index = random.nextInt(count + 1);
+                if (index < creationTimes.length) {
+                    creationTimes[index] = creationTime;
+                }
             }
-
-            EvictionEntry that = (EvictionEntry) o;
-
-            return (key == null ? that.key == null : key.equals(that.key))
-                    && (value == null ? that.value == null : value.equals(that.value));
+            count++;
         }
 
-        @Override
-        public int hashCode() {
-            return key == null ? 0 : key.hashCode();
+        long estimateCutoff(int evictionRate) {
+            if (evictionRate >= count) {
+                return Long.MAX_VALUE;
+            }
+            int sampleSize = Math.min(count, creationTimes.length);
+            long[] sorted = Arrays.copyOf(creationTimes, sampleSize);
+            Arrays.sort(sorted);
+            int index = (int) ((long) sampleSize * evictionRate / count);
+            return sorted[Math.min(index, sampleSize - 1)];
         }
     }
 }
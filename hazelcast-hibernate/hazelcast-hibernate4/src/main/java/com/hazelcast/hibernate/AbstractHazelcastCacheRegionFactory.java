@@ -87,17 +87,19 @@ public abstract class AbstractHazelcastCacheRegionFactory implements RegionFacto
             instanceLoader = HazelcastInstanceFactory.createInstanceLoader(properties);
             instance = instanceLoader.loadInstance();
         }
-        cleanupService = new CleanupService(instance.getName());
+        cleanupService = new CleanupService(instance.getName(),
+                CacheEnvironment.getInvalidationBatchLingerMillis(properties));
     }
 
     public void stop() {
+        // stopped first, so the pending invalidations are published while the instance is still running
+        cleanupService.stop();
         if (instanceLoader != null) {
             log.info("Shutting down " + getClass().getSimpleName());
             instanceLoader.unloadInstance();
             instance = null;
             instanceLoader = null;
         }
-        cleanupService.stop();
     }
 
     public HazelcastInstance getHazelcastInstance() {
@@ -55,12 +55,14 @@ public class HazelcastCacheRegionFactory extends AbstractHazelcastCacheRegionFac
     public EntityRegion buildEntityRegion(final String regionName, final Properties properties,
                                           final CacheDataDescription metadata) throws CacheException {
         return new HazelcastEntityRegion<IMapRegionCache>(instance, regionName, properties, metadata,
-                new IMapRegionCache(regionName, instance, properties, metadata));
+                new IMapRegionCache(regionName, instance, properties, metadata,
+                        CacheEnvironment.isNearCacheEnabled(properties), true));
     }
 
     public TimestampsRegion buildTimestampsRegion(final String regionName, final Properties properties)
             throws CacheException {
+        // stale timestamps would let stale query results through, so the timestamps region is never near cached
         return new HazelcastTimestampsRegion<IMapRegionCache>(instance, regionName, properties,
-                new IMapRegionCache(regionName, instance, properties, null));
+                new IMapRegionCache(regionName, instance, properties, null, false));
     }
 }
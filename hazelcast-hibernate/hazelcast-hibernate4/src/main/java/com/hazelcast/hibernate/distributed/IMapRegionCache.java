@@ -16,6 +16,9 @@
 
 package com.hazelcast.hibernate.distributed;
 
+import com.hazelcast.config.Config;
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.config.NearCacheConfig;
 import com.hazelcast.core.EntryView;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.core.IMap;
@@ -28,6 +31,7 @@ import org.hibernate.cache.spi.CacheDataDescription;
 import org.hibernate.cache.spi.access.SoftLock;
 import org.hibernate.cache.spi.entry.CacheEntry;
 
+import java.io.Serializable;
 import java.util.Comparator;
 import java.util.Map;
 import java.util.Properties;
@@ -35,17 +39,27 @@ import java.util.concurrent.TimeUnit;
 
 /**
  * A {@link RegionCache} implementation based on the underlying IMap
+ * <p/>
+ * If the near cache is enabled, reads are served from the near cache of the IMap, which is invalidated on change,
+ * and updates of versioned entities are version checked by an entry processor instead of locking the entry. Other
+ * data, such as collections and structured cache entries, has no version to check atomically and is still locked.
  */
 public class IMapRegionCache implements RegionCache {
 
     private static final long COMPARISON_VALUE = 500;
 
+    // bounds the near cache added for a region map that has no near cache configured
+    private static final int DEFAULT_NEAR_CACHE_MAX_SIZE = 10000;
+
     private static final SoftLock LOCK_SUCCESS = new SoftLock() {
     };
 
     private static final SoftLock LOCK_FAILURE = new SoftLock() {
     };
 
+    private static final SoftLock LOCK_NOT_REQUIRED = new SoftLock() {
+    };
+
     private final String name;
     private final HazelcastInstance hazelcastInstance;
     private final IMap<Object, Object> map;
@@ -54,18 +68,80 @@ public class IMapRegionCache implements RegionCache {
     private final long tryLockAndGetTimeout;
     private final boolean explicitVersionCheckEnabled;
     private final ILogger logger;
+    private final boolean nearCacheEnabled;
+    // true if updates are version checked atomically, so the entries don't need to be locked
+    private final boolean versionCheckedWithoutLock;
 
     public IMapRegionCache(final String name, final HazelcastInstance hazelcastInstance,
                            final Properties props, final CacheDataDescription metadata) {
+        this(name, hazelcastInstance, props, metadata, CacheEnvironment.isNearCacheEnabled(props), false);
+    }
+
+    /**
+     * @param name              the name of the region cache and of the underlying IMap
+     * @param hazelcastInstance the {@code HazelcastInstance} to look up the IMap from
+     * @param props             the properties of the region
+     * @param metadata          metadata describing the cached data, used to compare data versions (optional)
+     * @param nearCacheEnabled  {@code true} to serve reads from a near cache of the IMap invalidated on change
+     * @since 3.5
+     */
+    public IMapRegionCache(final String name, final HazelcastInstance hazelcastInstance,
+                           final Properties props, final CacheDataDescription metadata,
+                           final boolean nearCacheEnabled) {
+        this(name, hazelcastInstance, props, metadata, nearCacheEnabled, false);
+    }
+
+    /**
+     * @param name              the name of the region cache and of the underlying IMap
+     * @param hazelcastInstance the {@code HazelcastInstance} to look up the IMap from
+     * @param props             the properties of the region
+     * @param metadata          metadata describing the cached data, used to compare data versions (optional)
+     * @param nearCacheEnabled  {@code true} to serve reads from a near cache of the IMap invalidated on change and,
+     *                          for an entity region, to version check updates of versioned entities atomically
+     *                          instead of locking the entries
+     * @param entityRegion      {@code true} if the region caches entities, which are stored as {@link CacheEntry}
+     *                          unless structured cache entries are enabled
+     * @since 3.5
+     */
+    public IMapRegionCache(final String name, final HazelcastInstance hazelcastInstance,
+                           final Properties props, final CacheDataDescription metadata,
+                           final boolean nearCacheEnabled, final boolean entityRegion) {
         this.name = name;
         this.hazelcastInstance = hazelcastInstance;
         this.versionComparator = metadata != null && metadata.isVersioned() ? metadata.getVersionComparator() : null;
+        this.nearCacheEnabled = nearCacheEnabled;
+        this.versionCheckedWithoutLock = nearCacheEnabled && versionComparator != null && entityRegion
+                && !CacheEnvironment.isStructuredCacheEnabled(props);
+        logger = createLogger(name, hazelcastInstance);
+        if (nearCacheEnabled) {
+            configureNearCache();
+        }
         this.map = hazelcastInstance.getMap(this.name);
         lockTimeout = CacheEnvironment.getLockTimeoutInMillis(props);
         final long maxOperationTimeout = HazelcastTimestamper.getMaxOperationTimeout(hazelcastInstance);
         tryLockAndGetTimeout = Math.min(maxOperationTimeout, COMPARISON_VALUE);
         explicitVersionCheckEnabled = CacheEnvironment.isExplicitVersionCheckEnabled(props);
-        logger = createLogger(name, hazelcastInstance);
+    }
+
+    /**
+     * Adds a near cache which is invalidated on change to the config of the region map, unless one is configured
+     * already. Clients cannot change the config, so their near cache has to be configured in the client config.
+     */
+    private void configureNearCache() {
+        try {
+            final Config config = hazelcastInstance.getConfig();
+            final MapConfig mapConfig = config.getMapConfig(name);
+            if (mapConfig.getNearCacheConfig() == null) {
+                // copied, since the map config might be shared with other maps matching the same wildcard
+                final MapConfig regionMapConfig = new MapConfig(mapConfig).setName(name);
+                regionMapConfig.setNearCacheConfig(new NearCacheConfig()
+                        .setMaxSize(DEFAULT_NEAR_CACHE_MAX_SIZE)
+                        .setInvalidateOnChange(true));
+                config.addMapConfig(regionMapConfig);
+            }
+        } catch (UnsupportedOperationException e) {
+            logger.finest("The near cache of region " + name + " has to be configured in the client config");
+        }
     }
 
     public Object get(final Object key) {
@@ -82,8 +158,13 @@ public class IMapRegionCache implements RegionCache {
             logger.warning("Cache lock could not be acquired!");
             return false;
         }
+        return updateMap(key, value, currentVersion, previousVersion);
+    }
+
+    private boolean updateMap(final Object key, final Object value, final Object currentVersion,
+                              final Object previousVersion) {
         if (versionComparator != null && currentVersion != null) {
-            if (explicitVersionCheckEnabled && value instanceof CacheEntry) {
+            if ((explicitVersionCheckEnabled || versionCheckedWithoutLock) && value instanceof CacheEntry) {
                 return compareVersion(key, value);
             } else if (previousVersion == null || versionComparator.compare(currentVersion, previousVersion) > 0) {
                 map.set(key, value);
@@ -101,6 +182,10 @@ public class IMapRegionCache implements RegionCache {
     }
 
     public SoftLock tryLock(final Object key, final Object version) {
+        // versioned entities are version checked atomically by updateMap, everything else still needs the lock
+        if (versionCheckedWithoutLock) {
+            return LOCK_NOT_REQUIRED;
+        }
         try {
             return map.tryLock(key, lockTimeout, TimeUnit.MILLISECONDS) ? LOCK_SUCCESS : LOCK_FAILURE;
         } catch (InterruptedException e) {
@@ -152,8 +237,15 @@ public class IMapRegionCache implements RegionCache {
     private boolean compareVersion(Object key, Object value) {
         final CacheEntry currentEntry = (CacheEntry) value;
 
-        // Ideally this would be an entry processor. Unfortunately there is no guarantee that
-        // the versionComparator is Serializable.
+        // With the near cache enabled the entries are not locked, so the version is checked by an entry processor
+        // in a single operation. It requires the Hibernate classes on the members and a Serializable comparator.
+        if (versionCheckedWithoutLock && versionComparator instanceof Serializable) {
+            return (Boolean) map.executeOnKey(key,
+                    new VersionCheckEntryProcessor(value, currentEntry.getVersion(), versionComparator));
+        }
+
+        // Otherwise the version is checked without an entry processor, since the members might not have the
+        // Hibernate classes and there is no guarantee that the versionComparator is Serializable.
         //
         // Previously, this was implemented using a `map.get` followed by `map.set` wrapped inside a `map.tryLock`
         // block.  Unfortunately this implementation was prone to `IllegalMonitorStateException` when the lock was
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.hibernate.distributed;
+
+import com.hazelcast.map.AbstractEntryProcessor;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.DataSerializable;
+import org.hibernate.cache.spi.entry.CacheEntry;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.Map;
+
+/**
+ * Sets the value of an entry if the entry does not exist or if the version of the value is newer than the version
+ * of the existing cache entry. Returns {@code true} if the value was set.
+ */
+public class VersionCheckEntryProcessor extends AbstractEntryProcessor<Object, Object> implements DataSerializable {
+
+    private Object value;
+    private Object version;
+    private Comparator versionComparator;
+
+    public VersionCheckEntryProcessor() {
+    }
+
+    public VersionCheckEntryProcessor(final Object value, final Object version, final Comparator versionComparator) {
+        this.value = value;
+        this.version = version;
+        this.versionComparator = versionComparator;
+    }
+
+    public Object process(final Map.Entry<Object, Object> entry) {
+        final CacheEntry previousEntry = (CacheEntry) entry.getValue();
+        if (previousEntry == null || versionComparator.compare(version, previousEntry.getVersion()) > 0) {
+            entry.setValue(value);
+            return Boolean.TRUE;
+        }
+        return Boolean.FALSE;
+    }
+
+    public void writeData(final ObjectDataOutput out) throws IOException {
+        out.writeObject(value);
+        out.writeObject(version);
+        out.writeObject(versionComparator);
+    }
+
+    public void readData(final ObjectDataInput in) throws IOException {
+        value = in.readObject();
+        version = in.readObject();
+        versionComparator = in.readObject();
+    }
+}
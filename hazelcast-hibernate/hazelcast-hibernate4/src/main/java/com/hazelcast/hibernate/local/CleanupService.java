@@ -18,7 +18,10 @@ package com.hazelcast.hibernate.local;
 
 
 import com.hazelcast.instance.OutOfMemoryErrorDispatcher;
+import com.hazelcast.logging.Logger;
 
+import java.util.Collection;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
@@ -34,9 +37,21 @@ public final class CleanupService {
 
     private final String name;
     private final ScheduledExecutorService executor;
+    private final long invalidationBatchLingerMillis;
+    private final Collection<LocalRegionCache> batchingCaches = new ConcurrentLinkedQueue<LocalRegionCache>();
 
     public CleanupService(final String name) {
+        this(name, 0);
+    }
+
+    /**
+     * @param name                          the name of the instance, used to name the cleanup thread
+     * @param invalidationBatchLingerMillis the period in milliseconds to batch the invalidations of the registered
+     *                                      caches for; {@code 0} to publish every invalidation immediately
+     */
+    public CleanupService(final String name, final long invalidationBatchLingerMillis) {
         this.name = name;
+        this.invalidationBatchLingerMillis = invalidationBatchLingerMillis;
         executor = Executors.newSingleThreadScheduledExecutor(new CleanupThreadFactory());
     }
 
@@ -46,10 +61,28 @@ public final class CleanupService {
                 cache.cleanup();
             }
         }, FIXED_DELAY, FIXED_DELAY1, TimeUnit.SECONDS);
+
+        if (invalidationBatchLingerMillis > 0) {
+            cache.enableInvalidationBatching();
+            batchingCaches.add(cache);
+            executor.scheduleWithFixedDelay(new Runnable() {
+                public void run() {
+                    try {
+                        cache.flushInvalidations();
+                    } catch (RuntimeException e) {
+                        // keep the flush scheduled, a failed publish must not stop the following ones
+                        Logger.getLogger(CleanupService.class).warning("Failed to publish invalidations", e);
+                    }
+                }
+            }, invalidationBatchLingerMillis, invalidationBatchLingerMillis, TimeUnit.MILLISECONDS);
+        }
     }
 
     public void stop() {
         executor.shutdownNow();
+        for (LocalRegionCache cache : batchingCaches) {
+            cache.flushInvalidations();
+        }
     }
 
     /**
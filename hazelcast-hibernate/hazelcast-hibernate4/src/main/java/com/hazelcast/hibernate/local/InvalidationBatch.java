@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.hibernate.local;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.DataSerializable;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * A batch of invalidation messages published as a single topic message
+ */
+public class InvalidationBatch implements DataSerializable {
+
+    private Object[] messages;
+
+    public InvalidationBatch() {
+    }
+
+    public InvalidationBatch(final Object[] messages) {
+        this.messages = messages;
+    }
+
+    public Object[] getMessages() {
+        return messages;
+    }
+
+    public void writeData(final ObjectDataOutput out) throws IOException {
+        out.writeInt(messages.length);
+        for (Object message : messages) {
+            out.writeObject(message);
+        }
+    }
+
+    public void readData(final ObjectDataInput in) throws IOException {
+        messages = new Object[in.readInt()];
+        for (int i = 0; i < messages.length; i++) {
+            messages[i] = in.readObject();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "InvalidationBatch{messages=" + Arrays.toString(messages) + '}';
+    }
+}
@@ -0,0 +1,153 @@
+package com.hazelcast.hibernate.distributed;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.NearCacheConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.test.AssertTask;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.QuickTest;
+import org.hibernate.cache.spi.CacheDataDescription;
+import org.hibernate.cache.spi.access.SoftLock;
+import org.hibernate.cfg.Environment;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Comparator;
+import java.util.Properties;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(QuickTest.class)
+public class IMapRegionCacheTest extends HazelcastTestSupport {
+
+    private static final String CACHE_NAME = "cache";
+
+    @Test
+    public void testNearCacheIsInvalidatedByUpdatesOfOtherMembers() {
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        HazelcastInstance instance1 = factory.newHazelcastInstance();
+        HazelcastInstance instance2 = factory.newHazelcastInstance();
+        IMapRegionCache cache1 = new IMapRegionCache(CACHE_NAME, instance1, new Properties(), null, true);
+        final IMapRegionCache cache2 = new IMapRegionCache(CACHE_NAME, instance2, new Properties(), null, true);
+
+        cache1.put("key", "value1", null);
+        assertEquals("value1", cache2.get("key"));
+
+        cache1.update("key", "value2", null, null, null);
+        assertEquals("value2", cache1.get("key"));
+        assertTrueEventually(new AssertTask() {
+            public void run() throws Exception {
+                assertEquals("value2", cache2.get("key"));
+            }
+        });
+    }
+
+    @Test
+    public void testNearCacheReadsOwnRemove() {
+        HazelcastInstance instance = createHazelcastInstance();
+        IMapRegionCache cache = new IMapRegionCache(CACHE_NAME, instance, new Properties(), null, true);
+
+        cache.put("key", "value", null);
+        assertEquals("value", cache.get("key"));
+        assertTrue(cache.remove("key"));
+        assertNull(cache.get("key"));
+    }
+
+    @Test
+    public void testNearCacheIsAddedToRegionMapConfig() {
+        HazelcastInstance instance = createHazelcastInstance();
+        new IMapRegionCache(CACHE_NAME, instance, new Properties(), null, true);
+
+        NearCacheConfig nearCacheConfig = instance.getConfig().getMapConfig(CACHE_NAME).getNearCacheConfig();
+        assertNotNull(nearCacheConfig);
+        assertTrue(nearCacheConfig.isInvalidateOnChange());
+        assertTrue(nearCacheConfig.getMaxSize() < Integer.MAX_VALUE);
+        assertNull(instance.getConfig().getMapConfig("default").getNearCacheConfig());
+    }
+
+    @Test
+    public void testNearCacheKeepsConfiguredNearCache() {
+        Config config = new Config();
+        config.getMapConfig(CACHE_NAME).setNearCacheConfig(new NearCacheConfig().setMaxSize(100));
+        HazelcastInstance instance = createHazelcastInstance(config);
+        new IMapRegionCache(CACHE_NAME, instance, new Properties(), null, true);
+
+        assertEquals(100, instance.getConfig().getMapConfig(CACHE_NAME).getNearCacheConfig().getMaxSize());
+    }
+
+    @Test
+    public void testNearCacheDoesNotLockVersionedEntities() {
+        HazelcastInstance instance = createHazelcastInstance();
+        IMapRegionCache cache = new IMapRegionCache(CACHE_NAME, instance, new Properties(), versionedMetadata(), true, true);
+
+        SoftLock lock = cache.tryLock("key", null);
+        assertFalse(instance.getMap(CACHE_NAME).isLocked("key"));
+        assertTrue(cache.update("key", "value", null, null, lock));
+        cache.unlock("key", lock);
+        assertEquals("value", cache.get("key"));
+    }
+
+    @Test
+    public void testNearCacheLocksVersionedCollectionEntries() {
+        HazelcastInstance instance = createHazelcastInstance();
+        IMapRegionCache cache = new IMapRegionCache(CACHE_NAME, instance, new Properties(), versionedMetadata(), true, false);
+
+        SoftLock lock = cache.tryLock("key", 1);
+        assertTrue(instance.getMap(CACHE_NAME).isLocked("key"));
+        assertTrue(cache.update("key", "value2", 2, 1, lock));
+        assertFalse(cache.update("key", "value1", 1, 2, lock));
+        cache.unlock("key", lock);
+        assertFalse(instance.getMap(CACHE_NAME).isLocked("key"));
+        assertEquals("value2", cache.get("key"));
+    }
+
+    @Test
+    public void testNearCacheLocksStructuredEntities() {
+        HazelcastInstance instance = createHazelcastInstance();
+        Properties props = new Properties();
+        props.setProperty(Environment.USE_STRUCTURED_CACHE, "true");
+        IMapRegionCache cache = new IMapRegionCache(CACHE_NAME, instance, props, versionedMetadata(), true, true);
+
+        SoftLock lock = cache.tryLock("key", null);
+        assertTrue(instance.getMap(CACHE_NAME).isLocked("key"));
+        cache.unlock("key", lock);
+        assertFalse(instance.getMap(CACHE_NAME).isLocked("key"));
+    }
+
+    @Test
+    public void testNearCacheLocksUnversionedEntries() {
+        HazelcastInstance instance = createHazelcastInstance();
+        IMapRegionCache cache = new IMapRegionCache(CACHE_NAME, instance, new Properties(), null, true);
+
+        SoftLock lock = cache.tryLock("key", null);
+        assertTrue(instance.getMap(CACHE_NAME).isLocked("key"));
+        assertTrue(cache.update("key", "value", null, null, lock));
+        cache.unlock("key", lock);
+        assertFalse(instance.getMap(CACHE_NAME).isLocked("key"));
+        assertEquals("value", cache.get("key"));
+    }
+
+    private static CacheDataDescription versionedMetadata() {
+        CacheDataDescription metadata = mock(CacheDataDescription.class);
+        when(metadata.isVersioned()).thenReturn(true);
+        when(metadata.getVersionComparator()).thenReturn(new IntegerComparator());
+        return metadata;
+    }
+
+    private static class IntegerComparator implements Comparator<Integer> {
+
+        public int compare(Integer o1, Integer o2) {
+            return o1.compareTo(o2);
+        }
+    }
+}
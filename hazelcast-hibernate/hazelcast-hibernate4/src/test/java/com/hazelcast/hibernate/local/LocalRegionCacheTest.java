@@ -11,9 +11,15 @@ import org.hibernate.cache.spi.CacheDataDescription;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 
 import java.util.Comparator;
+import java.util.concurrent.CountDownLatch;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.*;
 
 @RunWith(HazelcastSerialClassRunner.class)
@@ -93,6 +99,92 @@ public class LocalRegionCacheTest {
         verify(topic).addMessageListener(isNotNull(MessageListener.class));
     }
 
+    @Test
+    public void testBatchedInvalidationsAreCoalescedAndPublishedOnFlush() {
+        ITopic<Object> topic = mock(ITopic.class);
+        HazelcastInstance instance = mock(HazelcastInstance.class);
+        when(instance.getConfig()).thenReturn(mock(Config.class));
+        when(instance.getTopic(eq(CACHE_NAME))).thenReturn(topic);
+
+        LocalRegionCache cache = new LocalRegionCache(CACHE_NAME, instance, null);
+        cache.enableInvalidationBatching();
+        cache.update("key1", "value1", null, null, null);
+        cache.update("key1", "value2", null, null, null);
+        cache.update("key2", "value1", null, null, null);
+        verify(topic, never()).publish(any());
+
+        cache.flushInvalidations();
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(topic).publish(captor.capture());
+        assertTrue(captor.getValue() instanceof InvalidationBatch);
+        assertEquals(2, ((InvalidationBatch) captor.getValue()).getMessages().length);
+
+        cache.flushInvalidations();
+        verify(topic, times(1)).publish(any());
+    }
+
+    @Test(timeout = 30000)
+    public void testInvalidationsCanBeQueuedWhileABatchIsPublished() throws Exception {
+        final CountDownLatch publishStarted = new CountDownLatch(1);
+        final CountDownLatch releasePublish = new CountDownLatch(1);
+        ITopic<Object> topic = mock(ITopic.class);
+        doAnswer(new Answer<Object>() {
+            @Override
+            public Object answer(InvocationOnMock invocation) throws Throwable {
+                publishStarted.countDown();
+                releasePublish.await();
+                return null;
+            }
+        }).when(topic).publish(any());
+        HazelcastInstance instance = mock(HazelcastInstance.class);
+        when(instance.getConfig()).thenReturn(mock(Config.class));
+        when(instance.getTopic(eq(CACHE_NAME))).thenReturn(topic);
+
+        final LocalRegionCache cache = new LocalRegionCache(CACHE_NAME, instance, null);
+        cache.enableInvalidationBatching();
+        cache.update("key1", "value1", null, null, null);
+        Thread flusher = new Thread() {
+            @Override
+            public void run() {
+                cache.flushInvalidations();
+            }
+        };
+        flusher.start();
+        publishStarted.await();
+
+        // the topic is still publishing the first batch, queuing must not wait for it
+        cache.update("key2", "value1", null, null, null);
+        releasePublish.countDown();
+        flusher.join();
+
+        cache.flushInvalidations();
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(topic, times(2)).publish(captor.capture());
+        assertEquals(1, ((InvalidationBatch) captor.getAllValues().get(0)).getMessages().length);
+        assertEquals(1, ((InvalidationBatch) captor.getAllValues().get(1)).getMessages().length);
+    }
+
+    @Test
+    public void testCleanupEvictsWhenMaxSizeIsExceeded() {
+        MapConfig mapConfig = new MapConfig(CACHE_NAME);
+        mapConfig.getMaxSizeConfig().setSize(100);
+
+        Config config = mock(Config.class);
+        when(config.findMapConfig(eq(CACHE_NAME))).thenReturn(mapConfig);
+
+        HazelcastInstance instance = mock(HazelcastInstance.class);
+        when(instance.getConfig()).thenReturn(config);
+
+        LocalRegionCache cache = new LocalRegionCache(CACHE_NAME, instance, null, false);
+        for (int i = 0; i < 200; i++) {
+            cache.put(i, i, null);
+        }
+        runCleanup(cache);
+
+        // 100 entries above the max size plus 20% of the max size
+        assertEquals(80, cache.size());
+    }
+
     public static void runCleanup(LocalRegionCache cache) {
         cache.cleanup();
     }
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.web;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Returns the serialized value of a single attribute of a {@link SessionState}, or {@code null} if either the
+ * session or the attribute does not exist.
+ * <p/>
+ * The entry is never modified, so nothing is written or backed up and only the requested attribute is sent
+ * back to the caller instead of the whole session state.
+ */
+public class GetSessionAttributeEntryProcessor extends AbstractWebDataEntryProcessor<SessionState> {
+
+    private String name;
+
+    // Serialization Constructor
+    public GetSessionAttributeEntryProcessor() {
+        super(false);
+    }
+
+    public GetSessionAttributeEntryProcessor(String name) {
+        super(false);
+        this.name = name;
+    }
+
+    @Override
+    public int getId() {
+        return WebDataSerializerHook.GET_SESSION_ATTRIBUTE_ID;
+    }
+
+    @Override
+    public Object process(Map.Entry<String, SessionState> entry) {
+        SessionState state = entry.getValue();
+        return state != null ? state.getAttributes().get(name) : null;
+    }
+
+    @Override
+    public void writeData(ObjectDataOutput out) throws IOException {
+        out.writeUTF(name);
+    }
+
+    @Override
+    public void readData(ObjectDataInput in) throws IOException {
+        name = in.readUTF();
+    }
+}
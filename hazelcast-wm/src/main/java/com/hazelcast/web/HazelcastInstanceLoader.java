@@ -17,16 +17,22 @@
 package com.hazelcast.web;
 
 import com.hazelcast.client.HazelcastClient;
+import com.hazelcast.client.impl.HazelcastClientInstanceImpl;
+import com.hazelcast.client.impl.HazelcastClientProxy;
 import com.hazelcast.client.config.ClientConfig;
 import com.hazelcast.client.config.XmlClientConfigBuilder;
 import com.hazelcast.config.Config;
 import com.hazelcast.config.ConfigLoader;
+import com.hazelcast.config.InvalidConfigurationException;
 import com.hazelcast.config.UrlXmlConfig;
 import com.hazelcast.config.XmlConfigBuilder;
 import com.hazelcast.core.Hazelcast;
 import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.instance.HazelcastInstanceImpl;
+import com.hazelcast.instance.HazelcastInstanceProxy;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.logging.Logger;
+import com.hazelcast.nio.serialization.SerializationService;
 
 import javax.servlet.FilterConfig;
 import javax.servlet.ServletException;
@@ -114,6 +120,32 @@ final class HazelcastInstanceLoader {
         return HazelcastClient.newHazelcastClient(clientConfig);
     }
 
+    /**
+     * Returns the {@link SerializationService} of the given member or client instance.
+     *
+     * @param instance the instance used for session replication
+     * @return the serialization service of the instance
+     * @throws InvalidConfigurationException if the instance type is not known, since per-session storage
+     *                                       cannot work without access to the serialization service
+     */
+    static SerializationService getSerializationService(HazelcastInstance instance) {
+        if (instance instanceof HazelcastInstanceProxy) {
+            return ((HazelcastInstanceProxy) instance).getSerializationService();
+        }
+        if (instance instanceof HazelcastInstanceImpl) {
+            return ((HazelcastInstanceImpl) instance).getSerializationService();
+        }
+        if (instance instanceof HazelcastClientProxy) {
+            return ((HazelcastClientProxy) instance).getSerializationService();
+        }
+        if (instance instanceof HazelcastClientInstanceImpl) {
+            return ((HazelcastClientInstanceImpl) instance).getSerializationService();
+        }
+        throw new InvalidConfigurationException("session-storage 'per-session' requires a Hazelcast member or client"
+                + " instance, but the serialization service of " + instance
+                + " (" + (instance == null ? null : instance.getClass().getName()) + ") is not accessible");
+    }
+
     private static URL getConfigURL(final FilterConfig filterConfig, final String configLocation) throws ServletException {
         URL configUrl = null;
         try {
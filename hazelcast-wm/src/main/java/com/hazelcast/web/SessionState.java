@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.web;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Holds all attributes of a session in a single clustered map entry when the {@link WebFilter} uses the
+ * {@code per-session} storage. The attribute values are kept in their serialized form, so the members
+ * never need the application classes to apply updates to a session.
+ *
+ * @see SessionUpdateEntryProcessor
+ */
+public class SessionState implements IdentifiedDataSerializable {
+
+    private final Map<String, Data> attributes = new HashMap<String, Data>(1);
+
+    public Map<String, Data> getAttributes() {
+        return attributes;
+    }
+
+    /**
+     * Applies the given updates to this state. A {@code null} value removes the attribute.
+     *
+     * @param updates the attribute updates
+     */
+    public void set(Map<String, Data> updates) {
+        for (Map.Entry<String, Data> entry : updates.entrySet()) {
+            Data value = entry.getValue();
+            if (value == null) {
+                attributes.remove(entry.getKey());
+            } else {
+                attributes.put(entry.getKey(), value);
+            }
+        }
+    }
+
+    @Override
+    public int getFactoryId() {
+        return WebDataSerializerHook.F_ID;
+    }
+
+    @Override
+    public int getId() {
+        return WebDataSerializerHook.SESSION_STATE_ID;
+    }
+
+    @Override
+    public void writeData(ObjectDataOutput out) throws IOException {
+        out.writeInt(attributes.size());
+        for (Map.Entry<String, Data> entry : attributes.entrySet()) {
+            out.writeUTF(entry.getKey());
+            out.writeData(entry.getValue());
+        }
+    }
+
+    @Override
+    public void readData(ObjectDataInput in) throws IOException {
+        int attributeCount = in.readInt();
+        for (int i = 0; i < attributeCount; i++) {
+            attributes.put(in.readUTF(), in.readData());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SessionState{attributes=" + attributes.keySet() + '}';
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.web;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.Data;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Applies a delta of attribute changes to the {@link SessionState} of a session. Only the changed attributes
+ * are shipped to the owner of the session, and a {@code null} value removes the attribute. When the last
+ * attribute is removed, the session state entry itself is removed from the clustered map.
+ */
+public class SessionUpdateEntryProcessor extends AbstractWebDataEntryProcessor<SessionState> {
+
+    private Map<String, Data> updates;
+
+    // Serialization Constructor
+    public SessionUpdateEntryProcessor() {
+    }
+
+    public SessionUpdateEntryProcessor(Map<String, Data> updates) {
+        this.updates = updates;
+    }
+
+    public SessionUpdateEntryProcessor(String name, Data value) {
+        this.updates = new HashMap<String, Data>(1);
+        updates.put(name, value);
+    }
+
+    @Override
+    public int getId() {
+        return WebDataSerializerHook.SESSION_UPDATE_ID;
+    }
+
+    @Override
+    public Object process(Map.Entry<String, SessionState> entry) {
+        SessionState state = entry.getValue();
+        if (state == null) {
+            state = new SessionState();
+        }
+        state.set(updates);
+        entry.setValue(state.getAttributes().isEmpty() ? null : state);
+        return null;
+    }
+
+    @Override
+    public void writeData(ObjectDataOutput out) throws IOException {
+        out.writeInt(updates.size());
+        for (Map.Entry<String, Data> entry : updates.entrySet()) {
+            out.writeUTF(entry.getKey());
+            out.writeData(entry.getValue());
+        }
+    }
+
+    @Override
+    public void readData(ObjectDataInput in) throws IOException {
+        int updateCount = in.readInt();
+        updates = new HashMap<String, Data>(updateCount);
+        for (int i = 0; i < updateCount; i++) {
+            updates.put(in.readUTF(), in.readData());
+        }
+    }
+}
@@ -30,6 +30,9 @@ public class WebDataSerializerHook implements DataSerializerHook {
     public static final int DESTROY_SESSION_ID = 3;
     public static final int INVALIDATE_SESSION_ATTRIBUTES_ID = 4;
     public static final int REFERENCE_SESSION_ID = 5;
+    public static final int SESSION_STATE_ID = 6;
+    public static final int SESSION_UPDATE_ID = 7;
+    public static final int GET_SESSION_ATTRIBUTE_ID = 8;
 
     @Override
     public DataSerializableFactory createFactory() {
@@ -48,6 +51,12 @@ public class WebDataSerializerHook implements DataSerializerHook {
                         return new InvalidateSessionAttributesEntryProcessor();
                     case REFERENCE_SESSION_ID:
                         return new ReferenceSessionEntryProcessor();
+                    case SESSION_STATE_ID:
+                        return new SessionState();
+                    case SESSION_UPDATE_ID:
+                        return new SessionUpdateEntryProcessor();
+                    case GET_SESSION_ATTRIBUTE_ID:
+                        return new GetSessionAttributeEntryProcessor();
                     default:
                         throw new IllegalArgumentException();
                 }
@@ -20,11 +20,14 @@ import com.hazelcast.config.Config;
 import com.hazelcast.config.MapConfig;
 import com.hazelcast.core.EntryEvent;
 import com.hazelcast.core.EntryListener;
+import com.hazelcast.core.ExecutionCallback;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.core.IMap;
 import com.hazelcast.core.MapEvent;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.logging.Logger;
+import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.nio.serialization.SerializationService;
 
 import javax.servlet.Filter;
 import javax.servlet.FilterChain;
@@ -43,6 +46,7 @@ import javax.servlet.http.HttpSession;
 import javax.servlet.http.HttpSessionContext;
 import java.io.IOException;
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
@@ -86,6 +90,14 @@ import java.util.logging.Level;
  * <li>{@code deferred-write}: When enabled, optimizes {@link IMap} interactions by only writing session attributes
  * at the end of a request. This can yield significant performance improvements for session-heavy applications
  * (Default: {@code false})</li>
+ * <li>{@code session-storage}: Sets how session attributes are stored in the {@link IMap}. With
+ * {@code per-attribute}, every attribute is stored as its own entry. With {@code per-session}, all attributes
+ * of a session are stored in a single {@link SessionState} entry that is updated with deltas, so loading a
+ * session is a single partition operation regardless of the cluster size (Default: {@code per-attribute})</li>
+ * <li>{@code delta-write}: When enabled, implies {@code deferred-write} and {@code per-session} storage. At the end of
+ * a request, all changed attributes are written with one asynchronous entry processor. An attribute is only written
+ * when the hash of its serialized form has changed, which also catches in-place changes to mutable attributes that
+ * were read during the request (Default: {@code false})</li>
  * <li>{@code cookie-name}: Sets the name for the Hazelcast session cookie (Default:
  * {@link #HAZELCAST_SESSION_COOKIE_NAME "hazelcast.sessionId"}</li>
  * <li>{@code cookie-domain}: Sets the domain for the Hazelcast session cookie (Default: {@code null})</li>
@@ -110,6 +122,9 @@ public class WebFilter implements Filter {
     protected static final String HAZELCAST_REQUEST = "*hazelcast-request";
     protected static final String HAZELCAST_SESSION_COOKIE_NAME = "hazelcast.sessionId";
 
+    private static final String SESSION_STORAGE_PER_ATTRIBUTE = "per-attribute";
+    private static final String SESSION_STORAGE_PER_SESSION = "per-session";
+
     protected ServletContext servletContext;
     protected FilterConfig filterConfig;
 
@@ -126,6 +141,9 @@ public class WebFilter implements Filter {
     private boolean stickySession = true;
     private boolean shutdownOnDestroy = true;
     private boolean deferredWrite;
+    private boolean perSessionStorage;
+    private boolean deltaWrite;
+    private SerializationService serializationService;
     private Properties properties;
 
     public WebFilter() {
@@ -173,6 +191,9 @@ public class WebFilter implements Filter {
         initInstance();
         initCookieParams();
         initParams();
+        if (perSessionStorage) {
+            serializationService = HazelcastInstanceLoader.getSerializationService(hazelcastInstance);
+        }
 
         String mapName = getParam("map-name");
         if (mapName != null) {
@@ -227,7 +248,8 @@ public class WebFilter implements Filter {
 
         if (LOGGER.isLoggable(Level.FINEST)) {
             LOGGER.finest("sticky:" + stickySession + ", shutdown-on-destroy: " + shutdownOnDestroy
-                    + ", map-name: " + clusterMapName);
+                    + ", map-name: " + clusterMapName + ", per-session-storage: " + perSessionStorage
+                    + ", delta-write: " + deltaWrite);
         }
     }
 
@@ -244,6 +266,25 @@ public class WebFilter implements Filter {
         if (deferredWriteParam != null) {
             deferredWrite = Boolean.parseBoolean(deferredWriteParam);
         }
+        initSessionStorageParams();
+    }
+
+    private void initSessionStorageParams() {
+        String sessionStorageParam = getParam("session-storage");
+        if (sessionStorageParam != null) {
+            if (SESSION_STORAGE_PER_SESSION.equals(sessionStorageParam)) {
+                perSessionStorage = true;
+            } else if (!SESSION_STORAGE_PER_ATTRIBUTE.equals(sessionStorageParam)) {
+                throw new IllegalArgumentException("Unknown session-storage '" + sessionStorageParam + "', expected '"
+                        + SESSION_STORAGE_PER_ATTRIBUTE + "' or '" + SESSION_STORAGE_PER_SESSION + "'");
+            }
+        }
+        String deltaWriteParam = getParam("delta-write");
+        if (deltaWriteParam != null && Boolean.parseBoolean(deltaWriteParam)) {
+            deltaWrite = true;
+            deferredWrite = true;
+            perSessionStorage = true;
+        }
     }
 
     private void initCookieParams() {
@@ -385,7 +426,11 @@ public class WebFilter implements Filter {
         if (invalidated) {
             // If the session was invalidated, either explicitly or because the final reference to it was
             // destroyed, invalidate all of the attributes that were attached to it
-            clusterMap.executeOnEntries(new InvalidateSessionAttributesEntryProcessor(session.getId()));
+            if (perSessionStorage) {
+                clusterMap.delete(session.buildSessionStateKey());
+            } else {
+                clusterMap.executeOnEntries(new InvalidateSessionAttributesEntryProcessor(session.getId()));
+            }
         }
     }
 
@@ -509,6 +554,10 @@ public class WebFilter implements Filter {
         volatile boolean dirty;
         volatile boolean reload;
         boolean removed;
+        // only used by delta-write: the value has been handed out during the request and may have been mutated
+        volatile boolean accessed;
+        // only used by delta-write: the hash of the serialized value as it is known to the cluster
+        long hash;
         private Object value;
     }
 
@@ -630,7 +679,7 @@ public class WebFilter implements Filter {
         volatile boolean valid = true;
         final String id;
         final HttpSession originalSession;
-        private final Map<String, LocalCacheEntry> localCache;
+        private final ConcurrentMap<String, LocalCacheEntry> localCache;
         private final boolean deferredWrite;
         // only true if session is created first time in the cluster
         private volatile boolean clusterWideNew;
@@ -655,7 +704,9 @@ public class WebFilter implements Filter {
             IMap<String, Object> clusterMap = getClusterMap();
             if (deferredWrite) {
                 LocalCacheEntry cacheEntry = localCache.get(name);
-                if (cacheEntry == null || (cacheEntry.reload && !cacheEntry.dirty)) {
+                if (perSessionStorage && (cacheEntry == null || (cacheEntry.reload && !cacheEntry.dirty))) {
+                    cacheEntry = reloadLocalCache(name);
+                } else if (cacheEntry == null || (cacheEntry.reload && !cacheEntry.dirty)) {
                     Object value = clusterMap.get(buildAttributeName(name));
                     if (value == null) {
                         cacheEntry = NULL_ENTRY;
@@ -666,7 +717,16 @@ public class WebFilter implements Filter {
                     }
                     localCache.put(name, cacheEntry);
                 }
-                return cacheEntry != NULL_ENTRY ? cacheEntry.value : null;
+                if (cacheEntry == NULL_ENTRY) {
+                    return null;
+                }
+                if (deltaWrite) {
+                    cacheEntry.accessed = true;
+                }
+                return cacheEntry.value;
+            }
+            if (perSessionStorage) {
+                return clusterMap.executeOnKey(buildSessionStateKey(), new GetSessionAttributeEntryProcessor(name));
             }
             return clusterMap.get(buildAttributeName(name));
         }
@@ -734,6 +794,8 @@ public class WebFilter implements Filter {
                     // dirty needs to be set as last value for memory visibility reasons!
                     entry.dirty = true;
                 }
+            } else if (perSessionStorage) {
+                updateSessionState(new SessionUpdateEntryProcessor(name, null));
             } else {
                 getClusterMap().delete(buildAttributeName(name));
             }
@@ -756,6 +818,8 @@ public class WebFilter implements Filter {
                 entry.value = value;
                 entry.removed = false;
                 entry.dirty = true;
+            } else if (perSessionStorage) {
+                updateSessionState(new SessionUpdateEntryProcessor(name, serializationService.toData(value)));
             } else {
                 getClusterMap().set(buildAttributeName(name), value);
             }
@@ -809,10 +873,67 @@ public class WebFilter implements Filter {
             return id + HAZELCAST_SESSION_ATTRIBUTE_SEPARATOR + name;
         }
 
-        private Map<String, LocalCacheEntry> buildLocalCache() {
+        private String buildSessionStateKey() {
+            return id + HAZELCAST_SESSION_ATTRIBUTE_SEPARATOR;
+        }
+
+        private SessionState loadSessionState() {
+            SessionState state = (SessionState) getClusterMap().get(buildSessionStateKey());
+            return state != null ? state : new SessionState();
+        }
+
+        private void updateSessionState(SessionUpdateEntryProcessor entryProcessor) {
+            getClusterMap().executeOnKey(buildSessionStateKey(), entryProcessor);
+        }
+
+        /**
+         * Reloads all non-dirty entries of the local cache from the session state with a single map operation.
+         *
+         * @param name the attribute name being read
+         * @return the reloaded cache entry for the attribute, {@link #NULL_ENTRY} if the attribute does not exist
+         */
+        private LocalCacheEntry reloadLocalCache(String name) {
+            Map<String, Data> attributes = loadSessionState().getAttributes();
+            for (Entry<String, LocalCacheEntry> entry : localCache.entrySet()) {
+                if (!entry.getValue().dirty && !attributes.containsKey(entry.getKey())) {
+                    localCache.put(entry.getKey(), NULL_ENTRY);
+                }
+            }
+            for (Entry<String, Data> attribute : attributes.entrySet()) {
+                LocalCacheEntry cacheEntry = localCache.get(attribute.getKey());
+                if (cacheEntry == null || cacheEntry == NULL_ENTRY) {
+                    cacheEntry = new LocalCacheEntry();
+                    localCache.put(attribute.getKey(), cacheEntry);
+                } else if (cacheEntry.dirty) {
+                    continue;
+                }
+                cacheEntry.value = serializationService.toObject(attribute.getValue());
+                cacheEntry.hash = attribute.getValue().hash64();
+                cacheEntry.reload = false;
+            }
+            LocalCacheEntry cacheEntry = localCache.get(name);
+            if (cacheEntry == null) {
+                cacheEntry = NULL_ENTRY;
+                localCache.put(name, cacheEntry);
+            }
+            return cacheEntry;
+        }
+
+        private ConcurrentMap<String, LocalCacheEntry> buildLocalCache() {
+            if (perSessionStorage) {
+                ConcurrentMap<String, LocalCacheEntry> cache = new ConcurrentHashMap<String, LocalCacheEntry>();
+                for (Entry<String, Data> attribute : loadSessionState().getAttributes().entrySet()) {
+                    LocalCacheEntry cacheEntry = new LocalCacheEntry();
+                    cacheEntry.value = serializationService.toObject(attribute.getValue());
+                    cacheEntry.hash = attribute.getValue().hash64();
+                    cache.put(attribute.getKey(), cacheEntry);
+                }
+                return cache;
+            }
+
             Set<Entry<String, Object>> entrySet = getClusterMap().entrySet(new SessionAttributePredicate(id));
 
-            Map<String, LocalCacheEntry> cache = new ConcurrentHashMap<String, LocalCacheEntry>();
+            ConcurrentMap<String, LocalCacheEntry> cache = new ConcurrentHashMap<String, LocalCacheEntry>();
             for (Entry<String, Object> entry : entrySet) {
                 String attributeKey = extractAttributeKey(entry.getKey());
                 LocalCacheEntry cacheEntry = cache.get(attributeKey);
@@ -831,7 +952,9 @@ public class WebFilter implements Filter {
         }
 
         private void sessionDeferredWrite() {
-            if (sessionChanged()) {
+            if (perSessionStorage) {
+                sessionStateDeferredWrite();
+            } else if (sessionChanged()) {
                 IMap<String, Object> clusterMap = getClusterMap();
 
                 Iterator<Entry<String, LocalCacheEntry>> iterator = localCache.entrySet().iterator();
@@ -851,9 +974,81 @@ public class WebFilter implements Filter {
             }
         }
 
+        /**
+         * Writes all changed attributes of the local cache as a single delta to the session state. With delta-write,
+         * the attributes that were set or read during the request are only written if the hash of their serialized
+         * form differs from the one known to the cluster, and the delta is written asynchronously.
+         */
+        private void sessionStateDeferredWrite() {
+            Map<String, Data> updates = new HashMap<String, Data>();
+            Map<String, LocalCacheEntry> written = new HashMap<String, LocalCacheEntry>();
+            Iterator<Entry<String, LocalCacheEntry>> iterator = localCache.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Entry<String, LocalCacheEntry> entry = iterator.next();
+                LocalCacheEntry cacheEntry = entry.getValue();
+                if (cacheEntry.dirty && cacheEntry.removed) {
+                    updates.put(entry.getKey(), null);
+                    written.put(entry.getKey(), cacheEntry);
+                    iterator.remove();
+                } else if (cacheEntry.dirty || cacheEntry.accessed) {
+                    Data value = serializationService.toData(cacheEntry.value);
+                    long hash = value.hash64();
+                    if (!deltaWrite || hash != cacheEntry.hash) {
+                        updates.put(entry.getKey(), value);
+                        written.put(entry.getKey(), cacheEntry);
+                    }
+                    cacheEntry.hash = hash;
+                    cacheEntry.accessed = false;
+                    cacheEntry.dirty = false;
+                }
+            }
+            if (updates.isEmpty()) {
+                return;
+            }
+            SessionUpdateEntryProcessor entryProcessor = new SessionUpdateEntryProcessor(updates);
+            if (deltaWrite) {
+                getClusterMap().submitToKey(buildSessionStateKey(), entryProcessor, new DeltaWriteCallback(written));
+            } else {
+                updateSessionState(entryProcessor);
+            }
+        }
+
+        /**
+         * Marks the attributes of a failed asynchronous delta write as dirty again, so they are written with the
+         * next request instead of being skipped because their hash is assumed to be known to the cluster.
+         */
+        private final class DeltaWriteCallback implements ExecutionCallback<Object> {
+
+            private final Map<String, LocalCacheEntry> written;
+
+            private DeltaWriteCallback(Map<String, LocalCacheEntry> written) {
+                this.written = written;
+            }
+
+            @Override
+            public void onResponse(Object response) {
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+                LOGGER.warning("Failed to write the session attribute changes of session " + id, t);
+                for (Entry<String, LocalCacheEntry> entry : written.entrySet()) {
+                    LocalCacheEntry cacheEntry = entry.getValue();
+                    cacheEntry.hash = 0;
+                    // dirty needs to be set as last value for memory visibility reasons!
+                    cacheEntry.dirty = true;
+                    if (cacheEntry.removed) {
+                        localCache.putIfAbsent(entry.getKey(), cacheEntry);
+                    }
+                }
+            }
+        }
+
         private Set<String> selectKeys() {
             Set<String> keys = new HashSet<String>();
-            if (!deferredWrite) {
+            if (!deferredWrite && perSessionStorage) {
+                keys.addAll(loadSessionState().getAttributes().keySet());
+            } else if (!deferredWrite) {
                 for (String qualifiedAttributeKey : getClusterMap().keySet(new SessionAttributePredicate(id))) {
                     keys.add(extractAttributeKey(qualifiedAttributeKey));
                 }
@@ -0,0 +1,35 @@
+package com.hazelcast.web;
+
+import com.hazelcast.config.InvalidConfigurationException;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertNotNull;
+import static org.mockito.Mockito.mock;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category(QuickTest.class)
+public class HazelcastInstanceLoaderTest extends HazelcastTestSupport {
+
+    @Test
+    public void getSerializationService_whenMember() {
+        HazelcastInstance instance = createHazelcastInstance();
+
+        assertNotNull(HazelcastInstanceLoader.getSerializationService(instance));
+    }
+
+    @Test(expected = InvalidConfigurationException.class)
+    public void getSerializationService_whenUnknownInstanceType() {
+        HazelcastInstanceLoader.getSerializationService(mock(HazelcastInstance.class));
+    }
+
+    @Test(expected = InvalidConfigurationException.class)
+    public void getSerializationService_whenNull() {
+        HazelcastInstanceLoader.getSerializationService(null);
+    }
+}
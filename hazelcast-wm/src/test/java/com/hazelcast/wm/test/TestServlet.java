@@ -22,6 +22,7 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpSession;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -90,6 +91,19 @@ public class TestServlet extends HttpServlet {
         } else if (req.getRequestURI().endsWith("isNew")) {
             session = req.getSession();
             resp.getWriter().write(session.isNew() == true ? "true" : "false");
+        } else if (req.getRequestURI().endsWith("mutable-write")) {
+            List<String> list = new ArrayList<String>();
+            list.add("value");
+            session.setAttribute("list", list);
+            resp.getWriter().write("true");
+        } else if (req.getRequestURI().endsWith("mutable-append")) {
+            // changes the attribute in place without calling setAttribute
+            List<String> list = (List<String>) session.getAttribute("list");
+            list.add("appended");
+            resp.getWriter().write("true");
+        } else if (req.getRequestURI().endsWith("mutable-read")) {
+            Object value = session.getAttribute("list");
+            resp.getWriter().write(value == null ? "null" : value.toString());
         } else if (req.getRequestURI().endsWith("issue5186_remove_then_set")) {
             session = req.getSession();
             session.removeAttribute("key");
@@ -0,0 +1,112 @@
+package com.hazelcast.wm.test;
+
+import com.hazelcast.core.EntryAdapter;
+import com.hazelcast.core.EntryEvent;
+import com.hazelcast.core.IMap;
+import com.hazelcast.test.AssertTask;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.annotation.QuickTest;
+import org.apache.http.client.CookieStore;
+import org.apache.http.impl.client.BasicCookieStore;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests the delta-write mode, where the attribute changes of a request are written asynchronously with a single
+ * entry processor.
+ */
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(QuickTest.class)
+public class WebFilterDeltaWriteTest extends AbstractWebFilterTest {
+
+    public WebFilterDeltaWriteTest() {
+        super("node1-node-delta-write.xml", "node2-node-delta-write.xml");
+    }
+
+    @Test(timeout = 20000)
+    public void test_setAttribute() throws Exception {
+        final CookieStore cookieStore = new BasicCookieStore();
+        executeRequest("write", serverPort1, cookieStore);
+
+        assertTrueEventually(new AssertTask() {
+            @Override
+            public void run() throws Exception {
+                assertEquals("value", executeRequest("read", serverPort2, cookieStore));
+            }
+        });
+    }
+
+    @Test(timeout = 20000)
+    public void test_removeAttribute() throws Exception {
+        final CookieStore cookieStore = new BasicCookieStore();
+        IMap<String, Object> map = hz.getMap(DEFAULT_MAP_NAME);
+        executeRequest("write", serverPort1, cookieStore);
+        assertSizeEventually(2, map);
+        executeRequest("remove", serverPort1, cookieStore);
+
+        assertTrueEventually(new AssertTask() {
+            @Override
+            public void run() throws Exception {
+                assertEquals("null", executeRequest("read", serverPort2, cookieStore));
+            }
+        });
+        assertSizeEventually(1, map);
+    }
+
+    @Test(timeout = 20000)
+    public void test_unchangedAttribute_isNotWritten() throws Exception {
+        final CookieStore cookieStore = new BasicCookieStore();
+        IMap<String, Object> map = hz.getMap(DEFAULT_MAP_NAME);
+        executeRequest("write", serverPort1, cookieStore);
+        assertSizeEventually(2, map);
+
+        final AtomicInteger updateCount = new AtomicInteger();
+        String sessionStateKey = findHazelcastSessionId(map) + HAZELCAST_SESSION_ATTRIBUTE_SEPARATOR;
+        map.addEntryListener(new EntryAdapter<String, Object>() {
+            @Override
+            public void entryUpdated(EntryEvent<String, Object> event) {
+                updateCount.incrementAndGet();
+            }
+        }, sessionStateKey, false);
+
+        // neither reading the attribute nor setting the same value again changes its serialized form
+        executeRequest("read", serverPort1, cookieStore);
+        executeRequest("write", serverPort1, cookieStore);
+        executeRequest("update", serverPort1, cookieStore);
+
+        assertTrueEventually(new AssertTask() {
+            @Override
+            public void run() throws Exception {
+                assertTrue(updateCount.get() > 0);
+            }
+        });
+        // events of the same key are delivered in order, so a write of the unchanged value would have been seen first
+        assertEquals(1, updateCount.get());
+        assertEquals("value-updated", executeRequest("read", serverPort2, cookieStore));
+    }
+
+    @Test(timeout = 20000)
+    public void test_mutatedAttribute_isWritten() throws Exception {
+        final CookieStore cookieStore = new BasicCookieStore();
+        executeRequest("mutable-write", serverPort1, cookieStore);
+        executeRequest("mutable-append", serverPort1, cookieStore);
+
+        assertTrueEventually(new AssertTask() {
+            @Override
+            public void run() throws Exception {
+                assertEquals("[value, appended]", executeRequest("mutable-read", serverPort2, cookieStore));
+            }
+        });
+    }
+
+    @Override
+    protected ServletContainer getServletContainer(int port, String sourceDir, String serverXml) throws Exception {
+        return new JettyServer(port, sourceDir, serverXml);
+    }
+}
@@ -0,0 +1,84 @@
+package com.hazelcast.wm.test;
+
+import com.hazelcast.core.IMap;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.annotation.QuickTest;
+import org.apache.http.client.CookieStore;
+import org.apache.http.impl.client.BasicCookieStore;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests the basic session methods when all attributes of a session are stored in a single map entry.
+ */
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(QuickTest.class)
+public class WebFilterPerSessionStorageTest extends AbstractWebFilterTest {
+
+    public WebFilterPerSessionStorageTest() {
+        super("node1-node-per-session.xml", "node2-node-per-session.xml");
+    }
+
+    @Test(timeout = 20000)
+    public void test_setAttribute() throws Exception {
+        CookieStore cookieStore = new BasicCookieStore();
+        executeRequest("write", serverPort1, cookieStore);
+
+        assertEquals("value", executeRequest("read", serverPort2, cookieStore));
+    }
+
+    @Test(timeout = 20000)
+    public void test_getAttributeNames_WhenSessionNotEmpty() throws Exception {
+        CookieStore cookieStore = new BasicCookieStore();
+        executeRequest("write", serverPort1, cookieStore);
+
+        assertEquals("key", executeRequest("names", serverPort2, cookieStore));
+    }
+
+    @Test(timeout = 20000)
+    public void test_updateAttribute() throws Exception {
+        CookieStore cookieStore = new BasicCookieStore();
+        executeRequest("write", serverPort1, cookieStore);
+        executeRequest("update", serverPort2, cookieStore);
+
+        assertEquals("value-updated", executeRequest("read", serverPort1, cookieStore));
+    }
+
+    @Test(timeout = 20000)
+    public void test_removeAttribute() throws Exception {
+        CookieStore cookieStore = new BasicCookieStore();
+        IMap<String, Object> map = hz.getMap(DEFAULT_MAP_NAME);
+        executeRequest("write", serverPort1, cookieStore);
+        executeRequest("remove", serverPort2, cookieStore);
+
+        assertEquals("null", executeRequest("read", serverPort1, cookieStore));
+        assertEquals(1, map.size());
+    }
+
+    @Test(timeout = 20000)
+    public void test_clusterMapSize_isIndependentOfAttributeCount() throws Exception {
+        CookieStore cookieStore = new BasicCookieStore();
+        IMap<String, Object> map = hz.getMap(DEFAULT_MAP_NAME);
+        executeRequest("reload", serverPort1, cookieStore);
+
+        assertEquals(2, map.size());
+    }
+
+    @Test(timeout = 20000)
+    public void test_invalidateSession() throws Exception {
+        CookieStore cookieStore = new BasicCookieStore();
+        IMap<String, Object> map = hz.getMap(DEFAULT_MAP_NAME);
+        executeRequest("write", serverPort1, cookieStore);
+        executeRequest("invalidate", serverPort2, cookieStore);
+
+        assertSizeEventually(0, map);
+    }
+
+    @Override
+    protected ServletContainer getServletContainer(int port, String sourceDir, String serverXml) throws Exception {
+        return new JettyServer(port, sourceDir, serverXml);
+    }
+}
@@ -30,6 +30,7 @@ import com.hazelcast.cache.impl.record.SampleableCacheRecordMap;
 import com.hazelcast.config.CacheConfig;
 import com.hazelcast.config.EvictionConfig;
 import com.hazelcast.config.EvictionPolicy;
+import com.hazelcast.internal.hotrestart.PartitionLog;
 import com.hazelcast.map.impl.MapEntrySet;
 import com.hazelcast.nio.serialization.Data;
 import com.hazelcast.nio.serialization.DefaultData;
@@ -91,6 +92,7 @@ public abstract class AbstractCacheRecordStore<R extends CacheRecord, CRM extend
     protected final EvictionPolicyEvaluator<Data, R> evictionPolicyEvaluator;
     protected final EvictionChecker evictionChecker;
     protected final EvictionStrategy<Data, R, CRM> evictionStrategy;
+    protected final PartitionLog hotRestartLog;
 
     //CHECKSTYLE:OFF
     public AbstractCacheRecordStore(final String name, final int partitionId, final NodeEngine nodeEngine,
@@ -127,6 +129,8 @@ public abstract class AbstractCacheRecordStore<R extends CacheRecord, CRM extend
         this.evictionPolicyEvaluator = createEvictionPolicyEvaluator(evictionConfig);
         this.evictionChecker = createEvictionChecker(evictionConfig);
         this.evictionStrategy = createEvictionStrategy(evictionConfig);
+        this.hotRestartLog = cacheConfig.isHotRestartEnabled()
+                ? cacheService.getHotRestartStore().getOrCreateLog(name, partitionId) : null;
 
         // Register "cacheWriter" if it is "Closable" to be closed while cache is being destroyed
         if (cacheWriter instanceof Closeable) {
@@ -294,9 +298,22 @@ public abstract class AbstractCacheRecordStore<R extends CacheRecord, CRM extend
 
     @Override
     public void onEvict(Data key, R record) {
+        persistRemove(key);
         invalidateEntry(key);
     }
 
+    protected void persistRecord(Data key, R record) {
+        if (hotRestartLog != null) {
+            hotRestartLog.put(key, toData(record), Clock.currentTimeMillis());
+        }
+    }
+
+    protected void persistRemove(Data key) {
+        if (hotRestartLog != null) {
+            hotRestartLog.remove(key);
+        }
+    }
+
     protected void invalidateEntry(Data key) {
         invalidateEntry(key, SOURCE_NOT_AVAILABLE);
     }
@@ -552,6 +569,7 @@ public abstract class AbstractCacheRecordStore<R extends CacheRecord, CRM extend
             Data eventDataOldValue = toEventData(dataOldValue);
 
             record.setValue(recordValue);
+            persistRecord(key, record);
 
             onUpdateRecord(key, record, value, dataOldValue);
 
@@ -814,6 +832,7 @@ public abstract class AbstractCacheRecordStore<R extends CacheRecord, CRM extend
 
     protected final R doPutRecord(Data key, R record, String source) {
         R oldRecord = records.put(key, record);
+        persistRecord(key, record);
         if (oldRecord != null) {
             invalidateEntry(toHeapData(key), source);
         }
@@ -832,6 +851,7 @@ public abstract class AbstractCacheRecordStore<R extends CacheRecord, CRM extend
     protected R doRemoveRecord(Data key, String source) {
         R removedRecord = records.remove(key);
         if (removedRecord != null) {
+            persistRemove(key);
             invalidateEntry(toHeapData(key), source);
         }
         return removedRecord;
@@ -1392,6 +1412,19 @@ public abstract class AbstractCacheRecordStore<R extends CacheRecord, CRM extend
         return keysLoaded;
     }
 
+    @Override
+    public Set<Data> putRecovered(Map<Data, Data> entries) {
+        Set<Data> keysPut = new HashSet<Data>();
+        for (Map.Entry<Data, Data> entry : entries.entrySet()) {
+            final Data key = entry.getKey();
+            final boolean hasPut = putIfAbsent(key, entry.getValue(), null, null, true, IGNORE_COMPLETION);
+            if (hasPut) {
+                keysPut.add(key);
+            }
+        }
+        return keysPut;
+    }
+
     @Override
     public CacheKeyIteratorResult iterator(int tableIndex, int size) {
         return records.fetchNext(tableIndex, size);
@@ -1450,6 +1483,10 @@ public abstract class AbstractCacheRecordStore<R extends CacheRecord, CRM extend
     @Override
     public void clear() {
         records.clear();
+        // partitions of a shutting down member are cleared too, their data is kept for the next start
+        if (hotRestartLog != null && nodeEngine.isActive()) {
+            hotRestartLog.clear();
+        }
         onClear();
     }
 
@@ -23,6 +23,7 @@ import com.hazelcast.config.CacheSimpleConfig;
 import com.hazelcast.config.InMemoryFormat;
 import com.hazelcast.core.DistributedObject;
 import com.hazelcast.instance.MemberImpl;
+import com.hazelcast.internal.hotrestart.HotRestartStore;
 import com.hazelcast.nio.IOUtil;
 import com.hazelcast.nio.serialization.Data;
 import com.hazelcast.partition.MigrationEndpoint;
@@ -62,6 +63,7 @@ public abstract class AbstractCacheService implements ICacheService {
 
     protected NodeEngine nodeEngine;
     protected CachePartitionSegment[] segments;
+    protected HotRestartStore hotRestartStore;
 
     @Override
     public final void init(NodeEngine nodeEngine, Properties properties) {
@@ -71,6 +73,7 @@ public abstract class AbstractCacheService implements ICacheService {
         for (int i = 0; i < partitionCount; i++) {
             segments[i] = new CachePartitionSegment(this, i);
         }
+        hotRestartStore = new HotRestartStore(nodeEngine, "cache");
         postInit(nodeEngine, properties);
     }
 
@@ -171,6 +174,9 @@ public abstract class AbstractCacheService implements ICacheService {
             if (config.isManagementEnabled()) {
                 setManagementEnabled(config, config.getNameWithPrefix(), true);
             }
+            if (config.isHotRestartEnabled()) {
+                hotRestartStore.recover(config.getNameWithPrefix(), new CacheHotRestartRecoveryHandler(nodeEngine));
+            }
         }
         return localConfig;
     }
@@ -331,6 +337,11 @@ public abstract class AbstractCacheService implements ICacheService {
         return nodeEngine;
     }
 
+    @Override
+    public HotRestartStore getHotRestartStore() {
+        return hotRestartStore;
+    }
+
     @Override
     public void dispatchEvent(Object event, CacheEventListener listener) {
         listener.handleEvent(event);
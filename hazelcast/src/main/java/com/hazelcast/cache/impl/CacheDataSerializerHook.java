@@ -32,6 +32,7 @@ import com.hazelcast.cache.impl.operation.CacheGetAndRemoveOperation;
 import com.hazelcast.cache.impl.operation.CacheGetAndReplaceOperation;
 import com.hazelcast.cache.impl.operation.CacheGetConfigOperation;
 import com.hazelcast.cache.impl.operation.CacheGetOperation;
+import com.hazelcast.cache.impl.operation.CacheHotRestartReplayOperation;
 import com.hazelcast.cache.impl.operation.CacheKeyIteratorOperation;
 import com.hazelcast.cache.impl.operation.CacheListenerRegistrationOperation;
 import com.hazelcast.cache.impl.operation.CacheLoadAllOperation;
@@ -101,8 +102,9 @@ public final class CacheDataSerializerHook
     public static final short REMOVE_ALL = 34;
     public static final short REMOVE_ALL_BACKUP = 35;
     public static final short REMOVE_ALL_FACTORY = 36;
+    public static final short HOT_RESTART_REPLAY = 37;
 
-    private static final int LEN = 37;
+    private static final int LEN = 38;
 
     public int getFactoryId() {
         return F_ID;
@@ -293,6 +295,11 @@ public final class CacheDataSerializerHook
                 return new CacheRemoveAllOperationFactory();
             }
         };
+        constructors[HOT_RESTART_REPLAY] = new ConstructorFunction<Integer, IdentifiedDataSerializable>() {
+            public IdentifiedDataSerializable createNew(Integer arg) {
+                return new CacheHotRestartReplayOperation();
+            }
+        };
         return new ArrayDataSerializableFactory(constructors);
     }
 }
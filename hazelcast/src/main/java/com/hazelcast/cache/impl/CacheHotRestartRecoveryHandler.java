@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.cache.impl;
+
+import com.hazelcast.cache.impl.operation.CacheHotRestartReplayOperation;
+import com.hazelcast.internal.hotrestart.RecoveredRecord;
+import com.hazelcast.internal.hotrestart.RecoveryHandler;
+import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.spi.NodeEngine;
+import com.hazelcast.spi.OperationService;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Replays the entries recovered from the hot restart store of a cache to the current owners of their partitions.
+ */
+class CacheHotRestartRecoveryHandler implements RecoveryHandler {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final NodeEngine nodeEngine;
+
+    CacheHotRestartRecoveryHandler(NodeEngine nodeEngine) {
+        this.nodeEngine = nodeEngine;
+    }
+
+    @Override
+    public void onRecovered(String name, int partitionId, Collection<RecoveredRecord> records) throws Exception {
+        final OperationService operationService = nodeEngine.getOperationService();
+        Map<Data, Data> entries = new LinkedHashMap<Data, Data>();
+        for (RecoveredRecord record : records) {
+            entries.put(record.getKey(), record.getValue());
+            if (entries.size() == BATCH_SIZE) {
+                replay(operationService, name, partitionId, entries);
+                entries = new LinkedHashMap<Data, Data>();
+            }
+        }
+        if (!entries.isEmpty()) {
+            replay(operationService, name, partitionId, entries);
+        }
+    }
+
+    private void replay(OperationService operationService, String name, int partitionId, Map<Data, Data> entries)
+            throws Exception {
+        CacheHotRestartReplayOperation operation = new CacheHotRestartReplayOperation(name, entries);
+        operationService.invokeOnPartition(ICacheService.SERVICE_NAME, operation, partitionId).get();
+    }
+}
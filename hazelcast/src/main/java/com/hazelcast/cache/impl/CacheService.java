@@ -74,6 +74,7 @@ public class CacheService extends AbstractCacheService implements ICacheService
 
     @Override
     public void shutdown(boolean terminate) {
+        hotRestartStore.shutdown();
         if (!terminate) {
             reset();
         }
@@ -408,6 +408,18 @@ public interface ICacheRecordStore {
      */
     Set<Data> loadAll(Set<Data> keys, boolean replaceExistingValues);
 
+    /**
+     * Puts the entries recovered from the hot restart store of this cache into the cache.
+     * <p>
+     * An entry is only put if the cache does not already contain its key. The configured
+     * {@link javax.cache.integration.CacheWriter} is not called for the recovered entries.
+     * </p>
+     *
+     * @param entries the recovered entries.
+     * @return Set of keys which are put.
+     */
+    Set<Data> putRecovered(Map<Data, Data> entries);
+
     /**
      * Gets the Cache statistics associated with this {@link com.hazelcast.cache.impl.CacheService}.
      * @return {@link CacheStatisticsImpl} cache statistics.
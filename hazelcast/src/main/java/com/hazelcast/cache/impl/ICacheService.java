@@ -19,6 +19,7 @@ package com.hazelcast.cache.impl;
 import com.hazelcast.config.CacheConfig;
 import com.hazelcast.config.CacheSimpleConfig;
 import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.internal.hotrestart.HotRestartStore;
 import com.hazelcast.nio.serialization.Data;
 import com.hazelcast.spi.EventPublishingService;
 import com.hazelcast.spi.ManagedService;
@@ -70,6 +71,8 @@ public interface ICacheService extends ManagedService, RemoteService, MigrationA
 
     NodeEngine getNodeEngine();
 
+    HotRestartStore getHotRestartStore();
+
     String registerListener(String distributedObjectName, CacheEventListener listener);
 
     boolean deregisterListener(String name, String registrationId);
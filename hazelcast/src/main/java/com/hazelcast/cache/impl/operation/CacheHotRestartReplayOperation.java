@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.cache.impl.operation;
+
+import com.hazelcast.cache.impl.CacheDataSerializerHook;
+import com.hazelcast.cache.impl.CacheService;
+import com.hazelcast.cache.impl.ICacheRecordStore;
+import com.hazelcast.cache.impl.record.CacheRecord;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.spi.BackupAwareOperation;
+import com.hazelcast.spi.Operation;
+import com.hazelcast.spi.PartitionAwareOperation;
+import com.hazelcast.spi.impl.AbstractNamedOperation;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Puts the entries recovered from the hot restart store of a cache back into the cache.
+ * <p>Entries whose keys are already in the cache are skipped, so replaying the same partition from the logs of
+ * several members is harmless. Backups are done by {@link CachePutAllBackupOperation}.</p>
+ */
+public class CacheHotRestartReplayOperation
+        extends AbstractNamedOperation
+        implements PartitionAwareOperation, IdentifiedDataSerializable, BackupAwareOperation {
+
+    private Map<Data, Data> entries;
+
+    private transient Map<Data, CacheRecord> backupRecords;
+    private transient ICacheRecordStore cache;
+
+    public CacheHotRestartReplayOperation() {
+        entries = Collections.emptyMap();
+    }
+
+    public CacheHotRestartReplayOperation(String name, Map<Data, Data> entries) {
+        super(name);
+        this.entries = entries;
+    }
+
+    @Override
+    public void run()
+            throws Exception {
+        final CacheService service = getService();
+        cache = service.getOrCreateCache(name, getPartitionId());
+        final Set<Data> keysPut = cache.putRecovered(entries);
+        if (!keysPut.isEmpty()) {
+            backupRecords = new HashMap<Data, CacheRecord>(keysPut.size());
+            for (Data key : keysPut) {
+                backupRecords.put(key, cache.getRecord(key));
+            }
+        }
+    }
+
+    @Override
+    public Object getResponse() {
+        return Boolean.TRUE;
+    }
+
+    @Override
+    public boolean shouldBackup() {
+        return backupRecords != null;
+    }
+
+    @Override
+    public Operation getBackupOperation() {
+        return new CachePutAllBackupOperation(name, backupRecords);
+    }
+
+    @Override
+    public final int getSyncBackupCount() {
+        return cache != null ? cache.getConfig().getBackupCount() : 0;
+    }
+
+    @Override
+    public final int getAsyncBackupCount() {
+        return cache != null ? cache.getConfig().getAsyncBackupCount() : 0;
+    }
+
+    @Override
+    public int getId() {
+        return CacheDataSerializerHook.HOT_RESTART_REPLAY;
+    }
+
+    @Override
+    public int getFactoryId() {
+        return CacheDataSerializerHook.F_ID;
+    }
+
+    @Override
+    protected void writeInternal(ObjectDataOutput out)
+            throws IOException {
+        super.writeInternal(out);
+        out.writeInt(entries.size());
+        for (Map.Entry<Data, Data> entry : entries.entrySet()) {
+            out.writeData(entry.getKey());
+            out.writeData(entry.getValue());
+        }
+    }
+
+    @Override
+    protected void readInternal(ObjectDataInput in)
+            throws IOException {
+        super.readInternal(in);
+        final int size = in.readInt();
+        entries = new LinkedHashMap<Data, Data>(size);
+        for (int i = 0; i < size; i++) {
+            final Data key = in.readData();
+            final Data value = in.readData();
+            entries.put(key, value);
+        }
+    }
+}
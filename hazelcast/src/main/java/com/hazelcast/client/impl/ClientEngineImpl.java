@@ -29,7 +29,11 @@ import com.hazelcast.client.impl.operations.PostJoinClientOperation;
 import com.hazelcast.client.impl.protocol.ClientMessage;
 import com.hazelcast.client.impl.protocol.MessageTaskFactory;
 import com.hazelcast.client.impl.protocol.MessageTaskFactoryImpl;
+import com.hazelcast.client.impl.protocol.task.AbstractAllPartitionsMessageTask;
+import com.hazelcast.client.impl.protocol.task.AbstractMultiPartitionMessageTask;
+import com.hazelcast.client.impl.protocol.task.AbstractMultiTargetMessageTask;
 import com.hazelcast.client.impl.protocol.task.MessageTask;
+import com.hazelcast.client.impl.protocol.task.map.AbstractMapQueryMessageTask;
 import com.hazelcast.cluster.ClusterService;
 import com.hazelcast.config.Config;
 import com.hazelcast.core.Client;
@@ -105,6 +109,9 @@ public class ClientEngineImpl implements ClientEngine, CoreService, PostJoinAwar
     private final Node node;
     private final NodeEngineImpl nodeEngine;
     private final Executor executor;
+    private final boolean pipelineEnabled;
+    private final Executor queryExecutor;
+    private final Executor bulkExecutor;
 
     private final SerializationService serializationService;
     // client uuid -> member uuid
@@ -123,6 +130,16 @@ public class ClientEngineImpl implements ClientEngine, CoreService, PostJoinAwar
         this.nodeEngine = node.nodeEngine;
         this.endpointManager = new ClientEndpointManagerImpl(this, nodeEngine);
         this.executor = newExecutor();
+        this.pipelineEnabled = node.getGroupProperties().CLIENT_ENGINE_PIPELINE_ENABLED.getBoolean();
+        if (pipelineEnabled) {
+            this.queryExecutor = newPipelineExecutor(ExecutionService.CLIENT_QUERY_EXECUTOR,
+                    node.getGroupProperties().CLIENT_ENGINE_QUERY_THREAD_COUNT.getInteger());
+            this.bulkExecutor = newPipelineExecutor(ExecutionService.CLIENT_BULK_EXECUTOR,
+                    node.getGroupProperties().CLIENT_ENGINE_BULK_THREAD_COUNT.getInteger());
+        } else {
+            this.queryExecutor = executor;
+            this.bulkExecutor = executor;
+        }
         this.messageTaskFactory = new MessageTaskFactoryImpl(node);
 
         ClientHeartbeatMonitor heartBeatMonitor = new ClientHeartbeatMonitor(
@@ -144,6 +161,27 @@ public class ClientEngineImpl implements ClientEngine, CoreService, PostJoinAwar
                 ExecutorType.CONCRETE);
     }
 
+    private Executor newPipelineExecutor(String name, int threadCount) {
+        final ExecutionService executionService = nodeEngine.getExecutionService();
+        int coreSize = Runtime.getRuntime().availableProcessors();
+        if (threadCount <= 0) {
+            threadCount = coreSize;
+        }
+
+        return executionService.register(name, threadCount, coreSize * EXECUTOR_QUEUE_CAPACITY_PER_CORE,
+                ExecutorType.CONCRETE);
+    }
+
+    /**
+     * Checks if the client engine pipeline is enabled. When enabled, partition specific message tasks send their response
+     * on the thread that completes the operation and query and bulk message tasks run on their own executors.
+     *
+     * @return true if the pipeline is enabled, false otherwise
+     */
+    public boolean isPipelineEnabled() {
+        return pipelineEnabled;
+    }
+
     //needed for testing purposes
     public ConnectionListener getConnectionListener() {
         return connectionListener;
@@ -170,13 +208,30 @@ public class ClientEngineImpl implements ClientEngine, CoreService, PostJoinAwar
         int partitionId = clientMessage.getPartitionId();
         final MessageTask messageTask = messageTaskFactory.create(clientMessage, connection);
         if (partitionId < 0) {
-            executor.execute(messageTask);
+            selectExecutor(messageTask).execute(messageTask);
         } else {
             InternalOperationService operationService = nodeEngine.getOperationService();
             operationService.execute(messageTask);
         }
     }
 
+    /**
+     * Selects the executor for a non partition specific message task. Queries and bulk tasks get their own executors,
+     * so a slow scan can't starve the blocking tasks running on the generic client executor. If the pipeline is
+     * disabled, all these executors are the same.
+     */
+    private Executor selectExecutor(MessageTask messageTask) {
+        if (messageTask instanceof AbstractMapQueryMessageTask) {
+            return queryExecutor;
+        }
+        if (messageTask instanceof AbstractAllPartitionsMessageTask
+                || messageTask instanceof AbstractMultiPartitionMessageTask
+                || messageTask instanceof AbstractMultiTargetMessageTask) {
+            return bulkExecutor;
+        }
+        return executor;
+    }
+
     @Override
     public InternalPartitionService getPartitionService() {
         return nodeEngine.getPartitionService();
@@ -26,6 +26,8 @@ import com.hazelcast.nio.serialization.Data;
 import com.hazelcast.spi.InvocationBuilder;
 import com.hazelcast.spi.Operation;
 
+import java.util.concurrent.Executor;
+
 /**
  * AbstractPartitionMessageTask
  */
@@ -33,6 +35,17 @@ public abstract class AbstractPartitionMessageTask<P>
         extends AbstractMessageTask<P>
         implements ExecutionCallback {
 
+    /**
+     * Runs the callback on the thread that completes the invocation. Encoding the response and handing it to the
+     * connection is cheap, so there is no need to hop to the async executor for it.
+     */
+    private static final Executor CALLING_THREAD_EXECUTOR = new Executor() {
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+    };
+
     protected AbstractPartitionMessageTask(ClientMessage clientMessage, Node node, Connection connection) {
         super(clientMessage, node, connection);
     }
@@ -65,7 +78,11 @@ public abstract class AbstractPartitionMessageTask<P>
                 .setResultDeserialized(false);
 
         ICompletableFuture future = builder.invoke();
-        future.andThen(this);
+        if (clientEngine.isPipelineEnabled()) {
+            future.andThen(this, CALLING_THREAD_EXECUTOR);
+        } else {
+            future.andThen(this);
+        }
     }
 
     protected abstract Operation prepareOperation();
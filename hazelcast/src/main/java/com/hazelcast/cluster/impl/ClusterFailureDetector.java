@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.cluster.impl;
+
+import com.hazelcast.instance.MemberImpl;
+
+/**
+ * Decides whether a remote member is still alive, based on the heartbeats received from it.
+ */
+interface ClusterFailureDetector {
+
+    /**
+     * Notifies the detector that a heartbeat of the member has been received.
+     */
+    void heartbeat(MemberImpl member, long timestamp);
+
+    /**
+     * Returns true if the member is considered alive at the given time.
+     */
+    boolean isAlive(MemberImpl member, long timestamp);
+
+    /**
+     * Returns the suspicion level of the member being dead at the given time, 0 if the member is not suspected.
+     * The scale depends on the detector.
+     */
+    double suspicionLevel(MemberImpl member, long timestamp);
+
+    /**
+     * Returns true if heartbeats have to be sent on every heartbeat interval, even to members
+     * which receive other packets anyway.
+     */
+    boolean requiresRegularHeartbeats();
+
+    /**
+     * Drops the state kept for the member.
+     */
+    void remove(MemberImpl member);
+
+    /**
+     * Drops the state kept for all members.
+     */
+    void reset();
+}
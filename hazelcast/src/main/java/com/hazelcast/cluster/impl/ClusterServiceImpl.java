@@ -43,6 +43,7 @@ import com.hazelcast.core.MemberAttributeEvent;
 import com.hazelcast.core.MembershipEvent;
 import com.hazelcast.core.MembershipListener;
 import com.hazelcast.instance.BuildInfo;
+import com.hazelcast.instance.GroupProperties;
 import com.hazelcast.instance.HazelcastInstanceImpl;
 import com.hazelcast.instance.LifecycleServiceImpl;
 import com.hazelcast.instance.MemberImpl;
@@ -120,6 +121,8 @@ public final class ClusterServiceImpl implements ClusterService, ConnectionListe
     private static final int HEARTBEAT_INTERVAL = 500;
     private static final long HEARTBEAT_LOG_THRESHOLD = 10000L;
     private static final int PING_INTERVAL = 5000;
+    private static final String DEADLINE_FAILURE_DETECTOR = "deadline";
+    private static final String PHI_ACCRUAL_FAILURE_DETECTOR = "phi-accrual";
 
     private final Node node;
 
@@ -141,6 +144,8 @@ public final class ClusterServiceImpl implements ClusterService, ConnectionListe
 
     private final long maxNoMasterConfirmationMillis;
 
+    private final ClusterFailureDetector failureDetector;
+
     private final boolean icmpEnabled;
 
     private final int icmpTtl;
@@ -188,6 +193,9 @@ public final class ClusterServiceImpl implements ClusterService, ConnectionListe
         heartbeatIntervalSeconds = heartbeatIntervalSeconds <= 0 ? 1 : heartbeatIntervalSeconds;
         heartbeatInterval = heartbeatIntervalSeconds;
         maxNoHeartbeatMillis = node.groupProperties.MAX_NO_HEARTBEAT_SECONDS.getInteger() * 1000L;
+        failureDetector = createFailureDetector(node.groupProperties, TimeUnit.SECONDS.toMillis(heartbeatInterval),
+                maxNoHeartbeatMillis);
+        nodeEngine.getMetricsRegistry().scanAndRegister(failureDetector, "cluster.failureDetector");
         maxNoMasterConfirmationMillis = node.groupProperties.MAX_NO_MASTER_CONFIRMATION_SECONDS.getInteger() * 1000L;
         icmpEnabled = node.groupProperties.ICMP_ENABLED.getBoolean();
         icmpTtl = node.groupProperties.ICMP_TTL.getInteger();
@@ -195,6 +203,24 @@ public final class ClusterServiceImpl implements ClusterService, ConnectionListe
         node.connectionManager.addConnectionListener(this);
     }
 
+    private static ClusterFailureDetector createFailureDetector(GroupProperties groupProperties,
+                                                                long heartbeatIntervalMillis, long maxNoHeartbeatMillis) {
+        String type = groupProperties.HEARTBEAT_FAILURE_DETECTOR_TYPE.getString();
+        if (DEADLINE_FAILURE_DETECTOR.equals(type)) {
+            return new DeadlineClusterFailureDetector(maxNoHeartbeatMillis);
+        }
+        if (PHI_ACCRUAL_FAILURE_DETECTOR.equals(type)) {
+            return new PhiAccrualClusterFailureDetector(
+                    Double.parseDouble(groupProperties.HEARTBEAT_PHI_ACCRUAL_THRESHOLD.getString()),
+                    groupProperties.HEARTBEAT_PHI_ACCRUAL_SAMPLE_SIZE.getInteger(),
+                    groupProperties.HEARTBEAT_PHI_ACCRUAL_MIN_STD_DEV_MILLIS.getInteger(),
+                    groupProperties.HEARTBEAT_PHI_ACCRUAL_ACCEPTABLE_PAUSE_MILLIS.getLong(),
+                    heartbeatIntervalMillis, maxNoHeartbeatMillis);
+        }
+        throw new IllegalArgumentException("Unknown heartbeat failure detector type '" + type + "', use '"
+                + DEADLINE_FAILURE_DETECTOR + "' or '" + PHI_ACCRUAL_FAILURE_DETECTOR + "'");
+    }
+
     @Override
     public ClusterClockImpl getClusterClock() {
         return clusterClock;
@@ -359,15 +385,32 @@ public final class ClusterServiceImpl implements ClusterService, ConnectionListe
     }
 
     private boolean removeMemberIfNotHeartBeating(long now, MemberImpl member) {
-        if ((now - member.getLastRead()) > maxNoHeartbeatMillis) {
-            logger.warning("Removing " + member + " because it has not sent any heartbeats for " +
-                    maxNoHeartbeatMillis + " ms.");
+        if (!failureDetector.isAlive(member, now)) {
+            logger.warning("Removing " + member + " because it has not sent any heartbeats for "
+                    + (now - member.getLastRead()) + " ms. Suspicion level: "
+                    + failureDetector.suspicionLevel(member, now));
             removeAddress(member.getAddress());
             return true;
         }
         return false;
     }
 
+    /**
+     * Feeds the failure detector with a heartbeat received from the given member.
+     */
+    public void onHeartbeat(MemberImpl member, long timestamp) {
+        failureDetector.heartbeat(member, timestamp);
+    }
+
+    /**
+     * Returns the suspicion level of the given member being dead, as seen by the configured failure detector.
+     * For the deadline detector it is the time since the last read from the member relative to the deadline,
+     * for the phi accrual detector it is the phi value.
+     */
+    public double getSuspicionLevel(MemberImpl member) {
+        return failureDetector.suspicionLevel(member, Clock.currentTimeMillis());
+    }
+
     private boolean removeMemberIfMasterConfirmationExpired(long now, MemberImpl member) {
         Long lastConfirmation = masterConfirmationTimes.get(member);
         if (lastConfirmation == null ||
@@ -408,7 +451,7 @@ public final class ClusterServiceImpl implements ClusterService, ConnectionListe
     }
 
     private void sendHearBeatIfRequired(long now, MemberImpl member) {
-        if ((now - member.getLastWrite()) > HEARTBEAT_INTERVAL) {
+        if (failureDetector.requiresRegularHeartbeats() || (now - member.getLastWrite()) > HEARTBEAT_INTERVAL) {
             sendHeartbeat(member.getAddress());
         }
     }
@@ -949,6 +992,7 @@ public final class ClusterServiceImpl implements ClusterService, ConnectionListe
             timeToStartJoin = 0;
             setMembersRef(Collections.singletonMap(thisAddress, thisMember));
             masterConfirmationTimes.clear();
+            failureDetector.reset();
         } finally {
             lock.unlock();
         }
@@ -1159,6 +1203,7 @@ public final class ClusterServiceImpl implements ClusterService, ConnectionListe
                 Map<Address, MemberImpl> newMembers = new LinkedHashMap<Address, MemberImpl>(members);  // ! ORDERED !
                 newMembers.remove(deadMember.getAddress());
                 masterConfirmationTimes.remove(deadMember);
+                failureDetector.remove(deadMember);
                 setMembersRef(newMembers);
                 node.getPartitionService().memberRemoved(deadMember); // sync call
                 nodeEngine.onMemberLeft(deadMember);                  // sync call
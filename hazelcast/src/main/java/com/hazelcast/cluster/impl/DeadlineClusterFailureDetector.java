@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.cluster.impl;
+
+import com.hazelcast.instance.MemberImpl;
+
+/**
+ * Declares a member dead when nothing has been read from it for a fixed amount of time.
+ * Any packet received from the member counts as a heartbeat.
+ */
+final class DeadlineClusterFailureDetector implements ClusterFailureDetector {
+
+    private final long maxNoHeartbeatMillis;
+
+    DeadlineClusterFailureDetector(long maxNoHeartbeatMillis) {
+        this.maxNoHeartbeatMillis = maxNoHeartbeatMillis;
+    }
+
+    @Override
+    public void heartbeat(MemberImpl member, long timestamp) {
+        // member.didRead() is called for every packet received from the member
+    }
+
+    @Override
+    public boolean isAlive(MemberImpl member, long timestamp) {
+        return timestamp - member.getLastRead() <= maxNoHeartbeatMillis;
+    }
+
+    /**
+     * Returns the time since the last read from the member as a fraction of the deadline.
+     */
+    @Override
+    public double suspicionLevel(MemberImpl member, long timestamp) {
+        long elapsed = timestamp - member.getLastRead();
+        return elapsed <= 0 ? 0 : (double) elapsed / maxNoHeartbeatMillis;
+    }
+
+    @Override
+    public boolean requiresRegularHeartbeats() {
+        return false;
+    }
+
+    @Override
+    public void remove(MemberImpl member) {
+    }
+
+    @Override
+    public void reset() {
+    }
+}
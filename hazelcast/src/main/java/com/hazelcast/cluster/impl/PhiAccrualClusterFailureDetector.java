@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.cluster.impl;
+
+import com.hazelcast.instance.MemberImpl;
+import com.hazelcast.internal.metrics.Probe;
+import com.hazelcast.util.Clock;
+import com.hazelcast.util.ConcurrencyUtil;
+import com.hazelcast.util.ConstructorFunction;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Keeps a {@link PhiAccrualFailureDetector} per member, fed by the heartbeat operations the member sends.
+ * <p/>
+ * Until the first heartbeat of a member arrives, e.g. right after it joined, the member is judged by the
+ * time since anything was last read from it, like the {@link DeadlineClusterFailureDetector} does.
+ */
+final class PhiAccrualClusterFailureDetector implements ClusterFailureDetector {
+
+    private final ConcurrentMap<MemberImpl, PhiAccrualFailureDetector> detectors
+            = new ConcurrentHashMap<MemberImpl, PhiAccrualFailureDetector>();
+    private final ConstructorFunction<MemberImpl, PhiAccrualFailureDetector> detectorConstructor
+            = new ConstructorFunction<MemberImpl, PhiAccrualFailureDetector>() {
+        @Override
+        public PhiAccrualFailureDetector createNew(MemberImpl member) {
+            return new PhiAccrualFailureDetector(threshold, maxSampleSize, minStdDeviationMillis,
+                    acceptableHeartbeatPauseMillis, heartbeatIntervalMillis);
+        }
+    };
+
+    private final double threshold;
+    private final int maxSampleSize;
+    private final double minStdDeviationMillis;
+    private final long acceptableHeartbeatPauseMillis;
+    private final long heartbeatIntervalMillis;
+    private final DeadlineClusterFailureDetector noHeartbeatDetector;
+
+    PhiAccrualClusterFailureDetector(double threshold, int maxSampleSize, double minStdDeviationMillis,
+                                     long acceptableHeartbeatPauseMillis, long heartbeatIntervalMillis,
+                                     long maxNoHeartbeatMillis) {
+        this.threshold = threshold;
+        this.maxSampleSize = maxSampleSize;
+        this.minStdDeviationMillis = minStdDeviationMillis;
+        this.acceptableHeartbeatPauseMillis = acceptableHeartbeatPauseMillis;
+        this.heartbeatIntervalMillis = heartbeatIntervalMillis;
+        this.noHeartbeatDetector = new DeadlineClusterFailureDetector(maxNoHeartbeatMillis);
+        // validates the settings
+        new PhiAccrualFailureDetector(threshold, maxSampleSize, minStdDeviationMillis,
+                acceptableHeartbeatPauseMillis, heartbeatIntervalMillis);
+    }
+
+    @Override
+    public void heartbeat(MemberImpl member, long timestamp) {
+        ConcurrencyUtil.getOrPutIfAbsent(detectors, member, detectorConstructor).heartbeat(timestamp);
+    }
+
+    @Override
+    public boolean isAlive(MemberImpl member, long timestamp) {
+        PhiAccrualFailureDetector detector = detectors.get(member);
+        if (detector == null) {
+            return noHeartbeatDetector.isAlive(member, timestamp);
+        }
+        return detector.isAlive(timestamp);
+    }
+
+    @Override
+    public double suspicionLevel(MemberImpl member, long timestamp) {
+        PhiAccrualFailureDetector detector = detectors.get(member);
+        return detector == null ? 0 : detector.phi(timestamp);
+    }
+
+    @Override
+    public boolean requiresRegularHeartbeats() {
+        return true;
+    }
+
+    @Override
+    public void remove(MemberImpl member) {
+        detectors.remove(member);
+    }
+
+    @Override
+    public void reset() {
+        detectors.clear();
+    }
+
+    /**
+     * Returns the highest suspicion level among the members.
+     */
+    @Probe
+    public double getMaxSuspicionLevel() {
+        long now = Clock.currentTimeMillis();
+        double max = 0;
+        for (PhiAccrualFailureDetector detector : detectors.values()) {
+            max = Math.max(max, detector.phi(now));
+        }
+        return max;
+    }
+
+    @Probe
+    public int getMonitoredMemberCount() {
+        return detectors.size();
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.cluster.impl;
+
+/**
+ * Phi accrual failure detector of a single member, as described in
+ * <i>The phi accrual failure detector</i> by Hayashibara et al.
+ * <p/>
+ * Instead of a boolean, the detector yields the suspicion level phi of the member being dead, derived from the
+ * distribution of the heartbeat inter-arrival times seen so far, modelled as a normal distribution.
+ * phi = -log10(P(a heartbeat arrives later than now)), so a threshold of 1 means a 10% chance of a
+ * false suspicion, 2 means 1%, 3 means 0.1% and so on.
+ */
+final class PhiAccrualFailureDetector {
+
+    static final long NO_HEARTBEAT_TIMESTAMP = -1;
+
+    // coefficients of the logistic approximation of the cumulative normal distribution
+    private static final double LOGISTIC_COEFFICIENT_1 = 1.5976;
+    private static final double LOGISTIC_COEFFICIENT_2 = 0.070566;
+    private static final int FIRST_HEARTBEAT_STD_DEV_DIVISOR = 4;
+
+    private final double threshold;
+    private final double minStdDeviationMillis;
+    private final long acceptableHeartbeatPauseMillis;
+    private final HeartbeatHistory heartbeatHistory;
+
+    private long lastHeartbeatMillis = NO_HEARTBEAT_TIMESTAMP;
+
+    /**
+     * @param threshold                      phi value at which the member is considered dead
+     * @param maxSampleSize                  number of inter-arrival times kept
+     * @param minStdDeviationMillis          lower bound of the standard deviation used for phi
+     * @param acceptableHeartbeatPauseMillis pause tolerated on top of the mean inter-arrival time
+     * @param heartbeatIntervalMillis        expected heartbeat interval, seeds the history
+     */
+    PhiAccrualFailureDetector(double threshold, int maxSampleSize, double minStdDeviationMillis,
+                              long acceptableHeartbeatPauseMillis, long heartbeatIntervalMillis) {
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("Threshold must be positive: " + threshold);
+        }
+        if (maxSampleSize <= 0) {
+            throw new IllegalArgumentException("Sample size must be positive: " + maxSampleSize);
+        }
+        if (minStdDeviationMillis <= 0) {
+            throw new IllegalArgumentException("Minimum standard deviation must be positive: " + minStdDeviationMillis);
+        }
+        if (acceptableHeartbeatPauseMillis < 0) {
+            throw new IllegalArgumentException("Acceptable heartbeat pause can not be negative: "
+                    + acceptableHeartbeatPauseMillis);
+        }
+        if (heartbeatIntervalMillis <= 0) {
+            throw new IllegalArgumentException("Heartbeat interval must be positive: " + heartbeatIntervalMillis);
+        }
+        this.threshold = threshold;
+        this.minStdDeviationMillis = minStdDeviationMillis;
+        this.acceptableHeartbeatPauseMillis = acceptableHeartbeatPauseMillis;
+        this.heartbeatHistory = new HeartbeatHistory(maxSampleSize);
+        // bootstrap with 2 entries with a rather high standard deviation
+        long stdDeviationMillis = heartbeatIntervalMillis / FIRST_HEARTBEAT_STD_DEV_DIVISOR;
+        heartbeatHistory.add(heartbeatIntervalMillis - stdDeviationMillis);
+        heartbeatHistory.add(heartbeatIntervalMillis + stdDeviationMillis);
+    }
+
+    synchronized void heartbeat(long timestamp) {
+        long last = lastHeartbeatMillis;
+        if (last != NO_HEARTBEAT_TIMESTAMP) {
+            if (timestamp <= last) {
+                // heartbeats can be handled out of order
+                return;
+            }
+            // the first heartbeat after a suspicion is not added, a long pause would skew the statistics
+            if (phi(timestamp) < threshold) {
+                heartbeatHistory.add(timestamp - last);
+            }
+        }
+        lastHeartbeatMillis = timestamp;
+    }
+
+    synchronized boolean isAlive(long timestamp) {
+        return phi(timestamp) < threshold;
+    }
+
+    /**
+     * Returns the suspicion level at the given time, 0 if no heartbeat has been received yet.
+     */
+    synchronized double phi(long timestamp) {
+        long last = lastHeartbeatMillis;
+        if (last == NO_HEARTBEAT_TIMESTAMP) {
+            return 0;
+        }
+        long timeDiffMillis = timestamp - last;
+        double meanMillis = heartbeatHistory.mean() + acceptableHeartbeatPauseMillis;
+        double stdDeviationMillis = Math.max(heartbeatHistory.stdDeviation(), minStdDeviationMillis);
+        return phi(timeDiffMillis, meanMillis, stdDeviationMillis);
+    }
+
+    synchronized long lastHeartbeat() {
+        return lastHeartbeatMillis;
+    }
+
+    /**
+     * Computes phi with a logistic approximation of the cumulative normal distribution, which is accurate
+     * enough and does not lose precision for large deviations.
+     */
+    static double phi(long timeDiffMillis, double meanMillis, double stdDeviationMillis) {
+        double y = (timeDiffMillis - meanMillis) / stdDeviationMillis;
+        double e = Math.exp(-y * (LOGISTIC_COEFFICIENT_1 + LOGISTIC_COEFFICIENT_2 * y * y));
+        if (timeDiffMillis > meanMillis) {
+            return -Math.log10(e / (1.0 + e));
+        } else {
+            return -Math.log10(1.0 - 1.0 / (1.0 + e));
+        }
+    }
+
+    /**
+     * Sliding window of the last inter-arrival times with their running sum and sum of squares.
+     */
+    private static final class HeartbeatHistory {
+
+        private final long[] intervals;
+        private int count;
+        private int next;
+        private long intervalSum;
+        private long squaredIntervalSum;
+
+        HeartbeatHistory(int maxSampleSize) {
+            intervals = new long[maxSampleSize];
+        }
+
+        void add(long interval) {
+            if (count == intervals.length) {
+                long dropped = intervals[next];
+                intervalSum -= dropped;
+                squaredIntervalSum -= dropped * dropped;
+            } else {
+                count++;
+            }
+            intervals[next] = interval;
+            next = (next + 1) % intervals.length;
+            intervalSum += interval;
+            squaredIntervalSum += interval * interval;
+        }
+
+        double mean() {
+            return (double) intervalSum / count;
+        }
+
+        double variance() {
+            double mean = mean();
+            return Math.max(0, (double) squaredIntervalSum / count - mean * mean);
+        }
+
+        double stdDeviation() {
+            return Math.sqrt(variance());
+        }
+    }
+}
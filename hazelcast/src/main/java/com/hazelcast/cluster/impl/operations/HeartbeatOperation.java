@@ -17,14 +17,21 @@
 package com.hazelcast.cluster.impl.operations;
 
 import com.hazelcast.cluster.impl.ClusterDataSerializerHook;
+import com.hazelcast.cluster.impl.ClusterServiceImpl;
+import com.hazelcast.instance.MemberImpl;
 import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.util.Clock;
 
 public final class HeartbeatOperation extends AbstractClusterOperation
         implements JoinOperation, IdentifiedDataSerializable {
 
     @Override
     public void run() {
-        // do nothing ...
+        ClusterServiceImpl service = getService();
+        MemberImpl member = service.getMember(getCallerAddress());
+        if (member != null) {
+            service.onHeartbeat(member, Clock.currentTimeMillis());
+        }
     }
 
     @Override
@@ -35,12 +35,10 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -53,10 +51,12 @@ import java.util.concurrent.TimeUnit;
 public class QueueContainer implements IdentifiedDataSerializable {
     private static final int ID_PROMOTION_OFFSET = 100000;
 
-    private LinkedList<QueueItem> itemQueue;
-    private Map<Long, QueueItem> backupMap;
+    // Only one of the item queue and the backup queue exists at a time, the backup queue is ordered by item id
+    private QueueItemRing itemQueue;
+    private QueueItemRing backupQueue;
     private final Map<Long, TxQueueItem> txMap = new HashMap<Long, TxQueueItem>();
-    private final Map<Long, Data> dataMap = new HashMap<Long, Data>();
+    // number of items of txMap held by prefetch leases, they still count against the capacity of the queue
+    private int leasedItemCount;
 
     private QueueConfig config;
     private QueueStoreWrapper store;
@@ -98,9 +98,9 @@ public class QueueContainer implements IdentifiedDataSerializable {
             Set<Long> keys = store.loadAllKeys();
             if (keys != null) {
                 long maxId = -1;
+                long now = Clock.currentTimeMillis();
                 for (Long key : keys) {
-                    QueueItem item = new QueueItem(this, key, null);
-                    getItemQueue().offer(item);
+                    getItemQueue().addLast(key, null, now);
                     maxId = Math.max(maxId, key);
                 }
                 idGenerator = maxId + 1;
@@ -119,7 +119,7 @@ public class QueueContainer implements IdentifiedDataSerializable {
 
     //TX Poll
     public QueueItem txnPollReserve(long reservedOfferId, String transactionId) {
-        QueueItem item = getItemQueue().peek();
+        QueueItem item = peek();
         if (item == null) {
             TxQueueItem txItem = txMap.remove(reservedOfferId);
             if (txItem == null) {
@@ -128,24 +128,20 @@ public class QueueContainer implements IdentifiedDataSerializable {
             item = new QueueItem(this, txItem.getItemId(), txItem.getData());
             return item;
         }
-        if (store.isEnabled() && item.getData() == null) {
-            try {
-                load(item);
-            } catch (Exception e) {
-                throw new HazelcastException(e);
-            }
-        }
-        getItemQueue().poll();
+        getItemQueue().removeFirst();
         txMap.put(item.getItemId(), new TxQueueItem(item).setPollOperation(true).setTransactionId(transactionId));
         return item;
     }
 
     public void txnPollBackupReserve(long itemId, String transactionId) {
-        QueueItem item = getBackupMap().remove(itemId);
-        if (item == null) {
+        QueueItemRing backupQueue = getBackupQueue();
+        int index = backupQueue.indexOfSorted(itemId);
+        if (index < 0) {
             logger.warning("Backup reserve failed, itemId: " + itemId);
             return;
         }
+        QueueItem item = backupQueue.getItem(this, index);
+        backupQueue.removeAt(index);
         txMap.put(itemId, new TxQueueItem(item).setPollOperation(true).setTransactionId(transactionId));
     }
 
@@ -177,7 +173,7 @@ public class QueueContainer implements IdentifiedDataSerializable {
             return false;
         }
         if (!backup) {
-            getItemQueue().offerFirst(item);
+            getItemQueue().addFirst(item.getItemId(), item.getData(), item.getCreationTime());
         }
         cancelEvictionIfExists();
         return true;
@@ -207,10 +203,10 @@ public class QueueContainer implements IdentifiedDataSerializable {
         }
         item.setData(data);
         if (!backup) {
-            getItemQueue().offer(item);
+            getItemQueue().addLast(itemId, data, item.getCreationTime());
             cancelEvictionIfExists();
         } else {
-            getBackupMap().put(itemId, item);
+            getBackupQueue().addSorted(itemId, data, item.getCreationTime());
         }
         if (store.isEnabled() && !backup) {
             try {
@@ -238,7 +234,7 @@ public class QueueContainer implements IdentifiedDataSerializable {
     }
 
     public QueueItem txnPeek(long offerId, String transactionId) {
-        QueueItem item = getItemQueue().peek();
+        QueueItem item = peek();
         if (item == null) {
             if (offerId == -1) {
                 return null;
@@ -250,54 +246,139 @@ public class QueueContainer implements IdentifiedDataSerializable {
             item = new QueueItem(this, txItem.getItemId(), txItem.getData());
             return item;
         }
-        if (store.isEnabled() && item.getData() == null) {
+        return item;
+    }
+
+    //TX Methods Ends
+
+    //Lease Methods
+
+    /**
+     * Moves up to maxSize items from the head of the queue into the pending state under the given lease id.
+     * The items stay in the queue store until the lease is committed.
+     */
+    public Map<Long, Data> lease(String leaseId, int maxSize) {
+        QueueItemRing itemQueue = getItemQueue();
+        int count = Math.min(maxSize, itemQueue.size());
+        LinkedHashMap<Long, Data> map = new LinkedHashMap<Long, Data>(count);
+        mapDrainIterator(count, map);
+        long current = Clock.currentTimeMillis();
+        for (int i = 0; i < count; i++) {
+            long itemId = itemQueue.getItemId(i);
+            TxQueueItem item = new TxQueueItem(this, itemId, itemQueue.getData(i));
+            txMap.put(itemId, item.setPollOperation(true).setTransactionId(leaseId));
+            //For Stats
+            age(itemQueue.getCreationTime(i), current);
+        }
+        itemQueue.removeFirst(count);
+        leasedItemCount += count;
+        return map;
+    }
+
+    public void leaseBackup(String leaseId, Collection<Long> itemIds) {
+        int txMapSize = txMap.size();
+        for (Long itemId : itemIds) {
+            txnPollBackupReserve(itemId, leaseId);
+        }
+        leasedItemCount += txMap.size() - txMapSize;
+    }
+
+    /**
+     * Drops the items of the given lease, they have been consumed.
+     *
+     * @return the number of dropped items.
+     */
+    public int commitLease(String leaseId, boolean backup) {
+        Set<Long> itemIds = new HashSet<Long>();
+        Iterator<TxQueueItem> iterator = txMap.values().iterator();
+        while (iterator.hasNext()) {
+            TxQueueItem item = iterator.next();
+            if (item.isPollOperation() && leaseId.equals(item.getTransactionId())) {
+                itemIds.add(item.getItemId());
+                iterator.remove();
+            }
+        }
+        leasedItemCount -= itemIds.size();
+        if (backup || itemIds.isEmpty()) {
+            return itemIds.size();
+        }
+        if (store.isEnabled()) {
             try {
-                load(item);
+                store.deleteAll(itemIds);
             } catch (Exception e) {
-                throw new HazelcastException(e);
+                logger.severe("Error during store delete of leased items: " + itemIds, e);
             }
         }
-        return item;
+        scheduleEvictionIfEmpty();
+        return itemIds.size();
     }
 
-    //TX Methods Ends
+    /**
+     * Puts the items of all leases whose id starts with the given prefix back to the head of the queue,
+     * in their original order.
+     *
+     * @return the number of released items.
+     */
+    public int releaseLeases(String leaseIdPrefix, boolean backup) {
+        List<TxQueueItem> released = new ArrayList<TxQueueItem>();
+        Iterator<TxQueueItem> iterator = txMap.values().iterator();
+        while (iterator.hasNext()) {
+            TxQueueItem item = iterator.next();
+            String transactionId = item.getTransactionId();
+            if (item.isPollOperation() && transactionId != null && transactionId.startsWith(leaseIdPrefix)) {
+                released.add(item);
+                iterator.remove();
+            }
+        }
+        if (released.isEmpty()) {
+            return 0;
+        }
+        leasedItemCount -= released.size();
+        Collections.sort(released);
+        if (backup) {
+            QueueItemRing backupQueue = getBackupQueue();
+            for (TxQueueItem item : released) {
+                backupQueue.addSorted(item.getItemId(), item.getData(), item.getCreationTime());
+            }
+        } else {
+            QueueItemRing itemQueue = getItemQueue();
+            for (int i = released.size() - 1; i >= 0; i--) {
+                TxQueueItem item = released.get(i);
+                itemQueue.addFirst(item.getItemId(), item.getData(), item.getCreationTime());
+            }
+            cancelEvictionIfExists();
+        }
+        return released.size();
+    }
+
+    //Lease Methods Ends
 
 
     public long offer(Data data) {
-        QueueItem item = new QueueItem(this, nextId(), null);
+        long itemId = nextId();
         if (store.isEnabled()) {
             try {
-                store.store(item.getItemId(), data);
+                store.store(itemId, data);
             } catch (Exception e) {
                 throw new HazelcastException(e);
             }
         }
-        if (!store.isEnabled() || store.getMemoryLimit() > getItemQueue().size()) {
-            item.setData(data);
-        }
-        getItemQueue().offer(item);
+        QueueItemRing itemQueue = getItemQueue();
+        itemQueue.addLast(itemId, dataToKeepInMemory(data, itemQueue), Clock.currentTimeMillis());
         cancelEvictionIfExists();
-        return item.getItemId();
+        return itemId;
     }
 
     public void offerBackup(Data data, long itemId) {
-        QueueItem item = new QueueItem(this, itemId, null);
-        if (!store.isEnabled() || store.getMemoryLimit() > getItemQueue().size()) {
-            item.setData(data);
-        }
-        getBackupMap().put(itemId, item);
+        QueueItemRing backupQueue = getBackupQueue();
+        backupQueue.addSorted(itemId, dataToKeepInMemory(data, backupQueue), Clock.currentTimeMillis());
     }
 
     public Map<Long, Data> addAll(Collection<Data> dataList) {
         Map<Long, Data> map = new HashMap<Long, Data>(dataList.size());
-        List<QueueItem> list = new ArrayList<QueueItem>(dataList.size());
+        long firstItemId = idGenerator;
         for (Data data : dataList) {
-            QueueItem item = new QueueItem(this, nextId(), null);
-            if (!store.isEnabled() || store.getMemoryLimit() > getItemQueue().size()) {
-                item.setData(data);
-            }
-            map.put(item.getItemId(), data);
-            list.add(item);
+            map.put(nextId(), data);
         }
         if (store.isEnabled() && !map.isEmpty()) {
             try {
@@ -306,36 +387,45 @@ public class QueueContainer implements IdentifiedDataSerializable {
                 throw new HazelcastException(e);
             }
         }
-        if (!list.isEmpty()) {
-            getItemQueue().addAll(list);
+        if (!map.isEmpty()) {
+            QueueItemRing itemQueue = getItemQueue();
+            long now = Clock.currentTimeMillis();
+            long itemId = firstItemId;
+            for (Data data : dataList) {
+                itemQueue.addLast(itemId, dataToKeepInMemory(data, itemQueue), now);
+                itemId++;
+            }
             cancelEvictionIfExists();
         }
         return map;
     }
 
     public void addAllBackup(Map<Long, Data> dataMap) {
+        QueueItemRing backupQueue = getBackupQueue();
+        long now = Clock.currentTimeMillis();
         for (Map.Entry<Long, Data> entry : dataMap.entrySet()) {
-            QueueItem item = new QueueItem(this, entry.getKey(), null);
-            if (!store.isEnabled() || store.getMemoryLimit() > getItemQueue().size()) {
-                item.setData(entry.getValue());
-            }
-            getBackupMap().put(item.getItemId(), item);
+            backupQueue.addSorted(entry.getKey(), dataToKeepInMemory(entry.getValue(), backupQueue), now);
         }
     }
 
+    /**
+     * With a queue store only the first {@code memoryLimit} items keep their data in memory,
+     * the data of the others is loaded from the store when needed.
+     */
+    private Data dataToKeepInMemory(Data data, QueueItemRing queue) {
+        if (!store.isEnabled() || store.getMemoryLimit() > queue.size()) {
+            return data;
+        }
+        return null;
+    }
+
     public QueueItem peek() {
-        QueueItem item = getItemQueue().peek();
-        if (item == null) {
+        QueueItemRing itemQueue = getItemQueue();
+        if (itemQueue.isEmpty()) {
             return null;
         }
-        if (store.isEnabled() && item.getData() == null) {
-            try {
-                load(item);
-            } catch (Exception e) {
-                throw new HazelcastException(e);
-            }
-        }
-        return item;
+        loadIfNeeded(0);
+        return itemQueue.getItem(this, 0);
     }
 
     public QueueItem poll() {
@@ -350,24 +440,27 @@ public class QueueContainer implements IdentifiedDataSerializable {
                 throw new HazelcastException(e);
             }
         }
-        getItemQueue().poll();
-        age(item, Clock.currentTimeMillis());
+        getItemQueue().removeFirst();
+        age(item.getCreationTime(), Clock.currentTimeMillis());
         scheduleEvictionIfEmpty();
         return item;
     }
 
     public void pollBackup(long itemId) {
-        QueueItem item = getBackupMap().remove(itemId);
-        if (item != null) {
+        QueueItemRing backupQueue = getBackupQueue();
+        int index = backupQueue.indexOfSorted(itemId);
+        if (index >= 0) {
             //For Stats
-            age(item, Clock.currentTimeMillis());
+            age(backupQueue.getCreationTime(index), Clock.currentTimeMillis());
+            backupQueue.removeAt(index);
         }
     }
 
     public Map<Long, Data> drain(int maxSize) {
+        QueueItemRing itemQueue = getItemQueue();
         int maxSizeParam = maxSize;
-        if (maxSizeParam < 0 || maxSizeParam > getItemQueue().size()) {
-            maxSizeParam = getItemQueue().size();
+        if (maxSizeParam < 0 || maxSizeParam > itemQueue.size()) {
+            maxSizeParam = itemQueue.size();
         }
         LinkedHashMap<Long, Data> map = new LinkedHashMap<Long, Data>(maxSizeParam);
         mapDrainIterator(maxSizeParam, map);
@@ -380,10 +473,10 @@ public class QueueContainer implements IdentifiedDataSerializable {
         }
         long current = Clock.currentTimeMillis();
         for (int i = 0; i < maxSizeParam; i++) {
-            QueueItem item = getItemQueue().poll();
             //For Stats
-            age(item, current);
+            age(itemQueue.getCreationTime(i), current);
         }
+        itemQueue.removeFirst(maxSizeParam);
         if (maxSizeParam != 0) {
             scheduleEvictionIfEmpty();
         }
@@ -391,17 +484,10 @@ public class QueueContainer implements IdentifiedDataSerializable {
     }
 
     public void mapDrainIterator(int maxSize, Map map) {
-        Iterator<QueueItem> iter = getItemQueue().iterator();
+        QueueItemRing itemQueue = getItemQueue();
         for (int i = 0; i < maxSize; i++) {
-            QueueItem item = iter.next();
-            if (store.isEnabled() && item.getData() == null) {
-                try {
-                    load(item);
-                } catch (Exception e) {
-                    throw new HazelcastException(e);
-                }
-            }
-            map.put(item.getItemId(), item.getData());
+            loadIfNeeded(i);
+            map.put(itemQueue.getItemId(i), itemQueue.getData(i));
         }
     }
 
@@ -409,7 +495,6 @@ public class QueueContainer implements IdentifiedDataSerializable {
         for (Long itemId : itemIdSet) {
             pollBackup(itemId);
         }
-        dataMap.clear();
     }
 
     public int size() {
@@ -421,16 +506,17 @@ public class QueueContainer implements IdentifiedDataSerializable {
     }
 
     public int backupSize() {
-        return getBackupMap().size();
+        return getBackupQueue().size();
     }
 
     public Map<Long, Data> clear() {
+        QueueItemRing itemQueue = getItemQueue();
         long current = Clock.currentTimeMillis();
-        LinkedHashMap<Long, Data> map = new LinkedHashMap<Long, Data>(getItemQueue().size());
-        for (QueueItem item : getItemQueue()) {
-            map.put(item.getItemId(), item.getData());
+        LinkedHashMap<Long, Data> map = new LinkedHashMap<Long, Data>(itemQueue.size());
+        for (int i = 0; i < itemQueue.size(); i++) {
+            map.put(itemQueue.getItemId(i), itemQueue.getData(i));
             // For stats
-            age(item, current);
+            age(itemQueue.getCreationTime(i), current);
         }
         if (store.isEnabled() && !map.isEmpty()) {
             try {
@@ -439,8 +525,7 @@ public class QueueContainer implements IdentifiedDataSerializable {
                 throw new HazelcastException(e);
             }
         }
-        getItemQueue().clear();
-        dataMap.clear();
+        itemQueue.clear();
         scheduleEvictionIfEmpty();
         return map;
     }
@@ -454,39 +539,44 @@ public class QueueContainer implements IdentifiedDataSerializable {
      * This method does not trigger store load.
      */
     public long remove(Data data) {
-        Iterator<QueueItem> iter = getItemQueue().iterator();
-        while (iter.hasNext()) {
-            QueueItem item = iter.next();
-            if (data.equals(item.getData())) {
+        QueueItemRing itemQueue = getItemQueue();
+        for (int i = 0; i < itemQueue.size(); i++) {
+            if (data.equals(itemQueue.getData(i))) {
+                long itemId = itemQueue.getItemId(i);
                 if (store.isEnabled()) {
                     try {
-                        store.delete(item.getItemId());
+                        store.delete(itemId);
                     } catch (Exception e) {
                         throw new HazelcastException(e);
                     }
                 }
-                iter.remove();
                 //For Stats
-                age(item, Clock.currentTimeMillis());
+                age(itemQueue.getCreationTime(i), Clock.currentTimeMillis());
+                itemQueue.removeAt(i);
                 scheduleEvictionIfEmpty();
-                return item.getItemId();
+                return itemId;
             }
         }
         return -1;
     }
 
     public void removeBackup(long itemId) {
-        getBackupMap().remove(itemId);
+        QueueItemRing backupQueue = getBackupQueue();
+        int index = backupQueue.indexOfSorted(itemId);
+        if (index >= 0) {
+            backupQueue.removeAt(index);
+        }
     }
 
     /**
      * This method does not trigger store load.
      */
     public boolean contains(Collection<Data> dataSet) {
+        QueueItemRing itemQueue = getItemQueue();
         for (Data data : dataSet) {
             boolean contains = false;
-            for (QueueItem item : getItemQueue()) {
-                if (item.getData() != null && item.getData().equals(data)) {
+            for (int i = 0; i < itemQueue.size(); i++) {
+                if (data.equals(itemQueue.getData(i))) {
                     contains = true;
                     break;
                 }
@@ -502,16 +592,11 @@ public class QueueContainer implements IdentifiedDataSerializable {
      * This method triggers store load.
      */
     public List<Data> getAsDataList() {
-        List<Data> dataList = new ArrayList<Data>(getItemQueue().size());
-        for (QueueItem item : getItemQueue()) {
-            if (store.isEnabled() && item.getData() == null) {
-                try {
-                    load(item);
-                } catch (Exception e) {
-                    throw new HazelcastException(e);
-                }
-            }
-            dataList.add(item.getData());
+        QueueItemRing itemQueue = getItemQueue();
+        List<Data> dataList = new ArrayList<Data>(itemQueue.size());
+        for (int i = 0; i < itemQueue.size(); i++) {
+            loadIfNeeded(i);
+            dataList.add(itemQueue.getData(i));
         }
         return dataList;
     }
@@ -520,18 +605,14 @@ public class QueueContainer implements IdentifiedDataSerializable {
      * This method triggers store load
      */
     public Map<Long, Data> compareAndRemove(Collection<Data> dataList, boolean retain) {
+        QueueItemRing itemQueue = getItemQueue();
         LinkedHashMap<Long, Data> map = new LinkedHashMap<Long, Data>();
-        for (QueueItem item : getItemQueue()) {
-            if (item.getData() == null && store.isEnabled()) {
-                try {
-                    load(item);
-                } catch (Exception e) {
-                    throw new HazelcastException(e);
-                }
-            }
-            boolean contains = dataList.contains(item.getData());
+        for (int i = 0; i < itemQueue.size(); i++) {
+            loadIfNeeded(i);
+            Data data = itemQueue.getData(i);
+            boolean contains = dataList.contains(data);
             if ((retain && !contains) || (!retain && contains)) {
-                map.put(item.getItemId(), item.getData());
+                map.put(itemQueue.getItemId(i), data);
             }
         }
 
@@ -540,7 +621,7 @@ public class QueueContainer implements IdentifiedDataSerializable {
         return map;
     }
 
-    public void mapIterateAndRemove(Map map) {
+    public void mapIterateAndRemove(Map<Long, Data> map) {
         if (map.size() <= 0) {
             return;
         }
@@ -552,15 +633,15 @@ public class QueueContainer implements IdentifiedDataSerializable {
                 throw new HazelcastException(e);
             }
         }
-        Iterator<QueueItem> iter = getItemQueue().iterator();
-        while (iter.hasNext()) {
-            QueueItem item = iter.next();
-            if (map.containsKey(item.getItemId())) {
-                iter.remove();
+        QueueItemRing itemQueue = getItemQueue();
+        long current = Clock.currentTimeMillis();
+        for (int i = 0; i < itemQueue.size(); i++) {
+            if (map.containsKey(itemQueue.getItemId(i))) {
                 //For Stats
-                age(item, Clock.currentTimeMillis());
+                age(itemQueue.getCreationTime(i), current);
             }
         }
+        itemQueue.removeAll(map);
         scheduleEvictionIfEmpty();
     }
 
@@ -568,20 +649,38 @@ public class QueueContainer implements IdentifiedDataSerializable {
         drainFromBackup(itemIdSet);
     }
 
-    private void load(QueueItem item) throws Exception {
-        int bulkLoad = store.getBulkLoad();
-        bulkLoad = Math.min(getItemQueue().size(), bulkLoad);
+    private void loadIfNeeded(int index) {
+        if (store.isEnabled() && getItemQueue().getData(index) == null) {
+            try {
+                load(index);
+            } catch (Exception e) {
+                throw new HazelcastException(e);
+            }
+        }
+    }
+
+    /**
+     * Loads the data of the item at the given index. With bulk load enabled the data of the items following it
+     * is loaded as well and kept in the queue.
+     */
+    private void load(int index) throws Exception {
+        QueueItemRing itemQueue = getItemQueue();
+        int bulkLoad = Math.min(itemQueue.size() - index, store.getBulkLoad());
         if (bulkLoad == 1) {
-            item.setData(store.load(item.getItemId()));
+            itemQueue.setData(index, store.load(itemQueue.getItemId(index)));
         } else if (bulkLoad > 1) {
-            Iterator<QueueItem> iter = getItemQueue().iterator();
             HashSet<Long> keySet = new HashSet<Long>(bulkLoad);
-            for (int i = 0; i < bulkLoad; i++) {
-                keySet.add(iter.next().getItemId());
+            for (int i = index; i < index + bulkLoad; i++) {
+                if (itemQueue.getData(i) == null) {
+                    keySet.add(itemQueue.getItemId(i));
+                }
             }
             Map<Long, Data> values = store.loadAll(keySet);
-            dataMap.putAll(values);
-            item.setData(getDataFromMap(item.getItemId()));
+            for (int i = index; i < index + bulkLoad; i++) {
+                if (itemQueue.getData(i) == null) {
+                    itemQueue.setData(i, values.get(itemQueue.getItemId(i)));
+                }
+            }
         }
     }
 
@@ -590,44 +689,45 @@ public class QueueContainer implements IdentifiedDataSerializable {
     }
 
     public boolean hasEnoughCapacity(int delta) {
-        return (getItemQueue().size() + delta) <= config.getMaxSize();
+        return (getItemQueue().size() + leasedItemCount + delta) <= config.getMaxSize();
+    }
+
+    /**
+     * Returns how many items can be offered, items held by prefetch leases take up capacity too.
+     */
+    public int remainingCapacity() {
+        return Math.max(0, config.getMaxSize() - getItemQueue().size() - leasedItemCount);
     }
 
-    public Deque<QueueItem> getItemQueue() {
+    private QueueItemRing getItemQueue() {
         if (itemQueue == null) {
-            itemQueue = new LinkedList<QueueItem>();
-            if (backupMap != null && !backupMap.isEmpty()) {
-                List<QueueItem> values = new ArrayList<QueueItem>(backupMap.values());
-                Collections.sort(values);
-                itemQueue.addAll(values);
-                final QueueItem lastItem = itemQueue.peekLast();
-                if (lastItem != null) {
-                    setId(lastItem.itemId + ID_PROMOTION_OFFSET);
+            if (backupQueue != null) {
+                // the backup queue is ordered by item id, it becomes the item queue as is
+                itemQueue = backupQueue;
+                backupQueue = null;
+                if (!itemQueue.isEmpty()) {
+                    setId(itemQueue.getItemId(itemQueue.size() - 1) + ID_PROMOTION_OFFSET);
                 }
-                backupMap.clear();
-                backupMap = null;
+            } else {
+                itemQueue = new QueueItemRing();
             }
         }
         return itemQueue;
     }
 
-    Map<Long, QueueItem> getBackupMap() {
-        if (backupMap == null) {
-            backupMap = new HashMap<Long, QueueItem>();
+    private QueueItemRing getBackupQueue() {
+        if (backupQueue == null) {
             if (itemQueue != null) {
-                for (QueueItem item : itemQueue) {
-                    backupMap.put(item.getItemId(), item);
+                backupQueue = new QueueItemRing(itemQueue.size());
+                for (int i = 0; i < itemQueue.size(); i++) {
+                    backupQueue.addSorted(itemQueue.getItemId(i), itemQueue.getData(i), itemQueue.getCreationTime(i));
                 }
-                itemQueue.clear();
                 itemQueue = null;
+            } else {
+                backupQueue = new QueueItemRing();
             }
         }
-        return backupMap;
-    }
-
-
-    public Data getDataFromMap(long itemId) {
-        return dataMap.remove(itemId);
+        return backupQueue;
     }
 
     public void setConfig(QueueConfig config, NodeEngine nodeEngine, QueueService service) {
@@ -661,8 +761,8 @@ public class QueueContainer implements IdentifiedDataSerializable {
         return config;
     }
 
-    private void age(QueueItem item, long currentTime) {
-        long elapsed = currentTime - item.getCreationTime();
+    private void age(long creationTime, long currentTime) {
+        long elapsed = currentTime - creationTime;
         if (elapsed <= 0) {
             //elapsed time can not be a negative value, a system clock problem maybe. ignored
             return;
@@ -715,7 +815,7 @@ public class QueueContainer implements IdentifiedDataSerializable {
             if (transactionId.equals(item.getTransactionId())) {
                 iterator.remove();
                 if (item.isPollOperation()) {
-                    getItemQueue().offerFirst(item);
+                    getItemQueue().addFirst(item.getItemId(), item.getData(), item.getCreationTime());
                     cancelEvictionIfExists();
                 }
             }
@@ -725,9 +825,10 @@ public class QueueContainer implements IdentifiedDataSerializable {
     @Override
     public void writeData(ObjectDataOutput out) throws IOException {
         out.writeUTF(name);
-        out.writeInt(getItemQueue().size());
-        for (QueueItem item : getItemQueue()) {
-            out.writeObject(item);
+        QueueItemRing itemQueue = getItemQueue();
+        out.writeInt(itemQueue.size());
+        for (int i = 0; i < itemQueue.size(); i++) {
+            out.writeObject(itemQueue.getItem(this, i));
         }
         out.writeInt(txMap.size());
         for (TxQueueItem item : txMap.values()) {
@@ -741,7 +842,7 @@ public class QueueContainer implements IdentifiedDataSerializable {
         int size = in.readInt();
         for (int j = 0; j < size; j++) {
             QueueItem item = in.readObject();
-            getItemQueue().offer(item);
+            getItemQueue().addLast(item.getItemId(), item.getData(), item.getCreationTime());
             setId(item.getItemId());
         }
         int txSize = in.readInt();
@@ -750,6 +851,9 @@ public class QueueContainer implements IdentifiedDataSerializable {
             item.readData(in);
             txMap.put(item.getItemId(), item);
             setId(item.getItemId());
+            if (item.isPollOperation() && QueueService.isLeaseId(item.getTransactionId())) {
+                leasedItemCount++;
+            }
         }
     }
 
@@ -757,11 +861,11 @@ public class QueueContainer implements IdentifiedDataSerializable {
         if (itemQueue != null) {
             itemQueue.clear();
         }
-        if (backupMap != null) {
-            backupMap.clear();
+        if (backupQueue != null) {
+            backupQueue.clear();
         }
         txMap.clear();
-        dataMap.clear();
+        leasedItemCount = 0;
     }
 
     @Override
@@ -34,12 +34,16 @@ import com.hazelcast.collection.impl.queue.operations.DrainBackupOperation;
 import com.hazelcast.collection.impl.queue.operations.DrainOperation;
 import com.hazelcast.collection.impl.queue.operations.IsEmptyOperation;
 import com.hazelcast.collection.impl.queue.operations.IteratorOperation;
+import com.hazelcast.collection.impl.queue.operations.LeaseBackupOperation;
+import com.hazelcast.collection.impl.queue.operations.LeaseOperation;
+import com.hazelcast.collection.impl.queue.operations.OfferAllOperation;
 import com.hazelcast.collection.impl.queue.operations.OfferBackupOperation;
 import com.hazelcast.collection.impl.queue.operations.OfferOperation;
 import com.hazelcast.collection.impl.queue.operations.PeekOperation;
 import com.hazelcast.collection.impl.queue.operations.PollBackupOperation;
 import com.hazelcast.collection.impl.queue.operations.PollOperation;
 import com.hazelcast.collection.impl.queue.operations.QueueReplicationOperation;
+import com.hazelcast.collection.impl.queue.operations.ReleaseLeasesOperation;
 import com.hazelcast.collection.impl.queue.operations.RemainingCapacityOperation;
 import com.hazelcast.collection.impl.queue.operations.RemoveBackupOperation;
 import com.hazelcast.collection.impl.queue.operations.RemoveOperation;
@@ -113,6 +117,10 @@ public final class QueueDataSerializerHook implements DataSerializerHook {
     public static final int TXN_PEEK = 39;
     public static final int IS_EMPTY = 40;
     public static final int REMAINING_CAPACITY = 41;
+    public static final int LEASE = 42;
+    public static final int LEASE_BACKUP = 43;
+    public static final int RELEASE_LEASES = 44;
+    public static final int OFFER_ALL = 45;
 
 
     public int getFactoryId() {
@@ -121,7 +129,7 @@ public final class QueueDataSerializerHook implements DataSerializerHook {
 
     public DataSerializableFactory createFactory() {
 
-        ConstructorFunction<Integer, IdentifiedDataSerializable>[] constructors = new ConstructorFunction[REMAINING_CAPACITY + 1];
+        ConstructorFunction<Integer, IdentifiedDataSerializable>[] constructors = new ConstructorFunction[OFFER_ALL + 1];
         constructors[OFFER] = new ConstructorFunction<Integer, IdentifiedDataSerializable>() {
             public IdentifiedDataSerializable createNew(Integer arg) {
                 return new OfferOperation();
@@ -331,6 +339,30 @@ public final class QueueDataSerializerHook implements DataSerializerHook {
                 return new RemainingCapacityOperation();
             }
         };
+        constructors[LEASE] = new ConstructorFunction<Integer, IdentifiedDataSerializable>() {
+            @Override
+            public IdentifiedDataSerializable createNew(Integer arg) {
+                return new LeaseOperation();
+            }
+        };
+        constructors[LEASE_BACKUP] = new ConstructorFunction<Integer, IdentifiedDataSerializable>() {
+            @Override
+            public IdentifiedDataSerializable createNew(Integer arg) {
+                return new LeaseBackupOperation();
+            }
+        };
+        constructors[RELEASE_LEASES] = new ConstructorFunction<Integer, IdentifiedDataSerializable>() {
+            @Override
+            public IdentifiedDataSerializable createNew(Integer arg) {
+                return new ReleaseLeasesOperation();
+            }
+        };
+        constructors[OFFER_ALL] = new ConstructorFunction<Integer, IdentifiedDataSerializable>() {
+            @Override
+            public IdentifiedDataSerializable createNew(Integer arg) {
+                return new OfferAllOperation();
+            }
+        };
 
         return new ArrayDataSerializableFactory(constructors);
     }
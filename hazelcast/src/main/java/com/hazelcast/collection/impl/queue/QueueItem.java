@@ -39,16 +39,17 @@ public class QueueItem implements IdentifiedDataSerializable, Comparable<QueueIt
     }
 
     public QueueItem(QueueContainer container, long itemId, Data data) {
-        this();
+        this(container, itemId, data, Clock.currentTimeMillis());
+    }
+
+    QueueItem(QueueContainer container, long itemId, Data data, long creationTime) {
+        this.creationTime = creationTime;
         this.container = container;
         this.itemId = itemId;
         this.data = data;
     }
 
     public Data getData() {
-        if (data == null && container != null) {
-            data = container.getDataFromMap(itemId);
-        }
         return data;
     }
 
@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.collection.impl.queue;
+
+import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.util.QuickMath;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Array based ring buffer holding the items of a {@link QueueContainer}.
+ * <p/>
+ * Item ids and creation times are kept in primitive arrays next to an array of data references,
+ * so a queue does not need an item object, a list node and a boxed id per element.
+ * Items are addressed by their index relative to the head of the ring.
+ * <p/>
+ * The arrays double when the ring is full, and are halved once no more than a quarter of them is used,
+ * so a queue that drained after a burst doesn't keep its peak size arrays.
+ * <p/>
+ * This class is not thread safe, a queue container is only accessed by its partition thread.
+ */
+final class QueueItemRing {
+
+    private static final int MIN_CAPACITY = 16;
+    // the arrays shrink once size is at most capacity / SHRINK_RATIO.
+    private static final int SHRINK_RATIO = 4;
+
+    private long[] itemIds;
+    private long[] creationTimes;
+    private Data[] data;
+    private int mask;
+    private int head;
+    private int size;
+
+    QueueItemRing() {
+        this(MIN_CAPACITY);
+    }
+
+    QueueItemRing(int initialCapacity) {
+        allocate(QuickMath.nextPowerOfTwo(Math.max(initialCapacity, MIN_CAPACITY)));
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    long getItemId(int index) {
+        return itemIds[offset(index)];
+    }
+
+    long getCreationTime(int index) {
+        return creationTimes[offset(index)];
+    }
+
+    Data getData(int index) {
+        return data[offset(index)];
+    }
+
+    void setData(int index, Data value) {
+        data[offset(index)] = value;
+    }
+
+    QueueItem getItem(QueueContainer container, int index) {
+        int offset = offset(index);
+        return new QueueItem(container, itemIds[offset], data[offset], creationTimes[offset]);
+    }
+
+    void addLast(long itemId, Data value, long creationTime) {
+        ensureCapacity();
+        set((head + size) & mask, itemId, value, creationTime);
+        size++;
+    }
+
+    void addFirst(long itemId, Data value, long creationTime) {
+        ensureCapacity();
+        head = (head - 1) & mask;
+        set(head, itemId, value, creationTime);
+        size++;
+    }
+
+    /**
+     * Inserts the item so that the ring stays ordered by item id.
+     * Ids mostly arrive in ascending order, in that case this is an append.
+     */
+    void addSorted(long itemId, Data value, long creationTime) {
+        if (size == 0 || getItemId(size - 1) < itemId) {
+            addLast(itemId, value, creationTime);
+            return;
+        }
+        int index = indexOfSorted(itemId);
+        if (index >= 0) {
+            set(offset(index), itemId, value, creationTime);
+            return;
+        }
+        int insertionPoint = -(index + 1);
+        ensureCapacity();
+        for (int i = size; i > insertionPoint; i--) {
+            move(i - 1, i);
+        }
+        set(offset(insertionPoint), itemId, value, creationTime);
+        size++;
+    }
+
+    /**
+     * Binary search for an item id, only valid if the ring is ordered by item id.
+     *
+     * @return the index of the item, or {@code -(insertion point) - 1} if there is no such item
+     */
+    int indexOfSorted(long itemId) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            long middleId = getItemId(middle);
+            if (middleId < itemId) {
+                low = middle + 1;
+            } else if (middleId > itemId) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    void removeFirst() {
+        removeFirst(1);
+    }
+
+    void removeFirst(int count) {
+        for (int i = 0; i < count; i++) {
+            data[head] = null;
+            head = (head + 1) & mask;
+        }
+        size -= count;
+        shrinkIfSparse();
+    }
+
+    void removeAt(int index) {
+        if (index < size / 2) {
+            for (int i = index; i > 0; i--) {
+                move(i - 1, i);
+            }
+            removeFirst();
+        } else {
+            for (int i = index; i < size - 1; i++) {
+                move(i + 1, i);
+            }
+            size--;
+            data[offset(size)] = null;
+            shrinkIfSparse();
+        }
+    }
+
+    /**
+     * Removes all items whose ids are keys of the given map, keeping the order of the remaining items.
+     */
+    void removeAll(Map<Long, ?> itemIdMap) {
+        int newSize = 0;
+        for (int i = 0; i < size; i++) {
+            if (!itemIdMap.containsKey(getItemId(i))) {
+                if (i != newSize) {
+                    move(i, newSize);
+                }
+                newSize++;
+            }
+        }
+        for (int i = newSize; i < size; i++) {
+            data[offset(i)] = null;
+        }
+        size = newSize;
+        shrinkIfSparse();
+    }
+
+    void clear() {
+        if (itemIds.length > MIN_CAPACITY) {
+            allocate(MIN_CAPACITY);
+        } else {
+            Arrays.fill(data, null);
+        }
+        head = 0;
+        size = 0;
+    }
+
+    // just for testing.
+    int capacity() {
+        return itemIds.length;
+    }
+
+    private void set(int offset, long itemId, Data value, long creationTime) {
+        itemIds[offset] = itemId;
+        data[offset] = value;
+        creationTimes[offset] = creationTime;
+    }
+
+    private void move(int fromIndex, int toIndex) {
+        int from = offset(fromIndex);
+        set(offset(toIndex), itemIds[from], data[from], creationTimes[from]);
+    }
+
+    private int offset(int index) {
+        return (head + index) & mask;
+    }
+
+    private void ensureCapacity() {
+        if (size < itemIds.length) {
+            return;
+        }
+        resize(itemIds.length << 1);
+    }
+
+    private void shrinkIfSparse() {
+        int capacity = itemIds.length;
+        if (capacity > MIN_CAPACITY && size <= capacity / SHRINK_RATIO) {
+            // half of the new arrays stays free, so they don't grow again right away.
+            resize(Math.max(MIN_CAPACITY, QuickMath.nextPowerOfTwo(size << 1)));
+        }
+    }
+
+    private void resize(int capacity) {
+        long[] oldItemIds = itemIds;
+        long[] oldCreationTimes = creationTimes;
+        Data[] oldData = data;
+        int oldHead = head;
+        int oldMask = mask;
+        allocate(capacity);
+        for (int i = 0; i < size; i++) {
+            int from = (oldHead + i) & oldMask;
+            set(i, oldItemIds[from], oldData[from], oldCreationTimes[from]);
+        }
+        head = 0;
+    }
+
+    private void allocate(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalStateException("Max capacity reached at size=" + size);
+        }
+        itemIds = new long[capacity];
+        creationTimes = new long[capacity];
+        data = new Data[capacity];
+        mask = capacity - 1;
+    }
+}
@@ -30,6 +30,7 @@ import com.hazelcast.collection.impl.queue.client.ContainsRequest;
 import com.hazelcast.collection.impl.queue.client.DrainRequest;
 import com.hazelcast.collection.impl.queue.client.IsEmptyRequest;
 import com.hazelcast.collection.impl.queue.client.IteratorRequest;
+import com.hazelcast.collection.impl.queue.client.OfferAllRequest;
 import com.hazelcast.collection.impl.queue.client.OfferRequest;
 import com.hazelcast.collection.impl.queue.client.PeekRequest;
 import com.hazelcast.collection.impl.queue.client.PollRequest;
@@ -71,6 +72,7 @@ public class QueuePortableHook implements PortableHook {
     public static final int TXN_PEEK = 17;
     public static final int REMOVE_LISTENER = 18;
     public static final int IS_EMPTY = 19;
+    public static final int OFFER_ALL = 20;
 
     @Override
     public int getFactoryId() {
@@ -80,7 +82,7 @@ public class QueuePortableHook implements PortableHook {
     @Override
     public PortableFactory createFactory() {
 
-        ConstructorFunction<Integer, Portable>[] constructors = new ConstructorFunction[IS_EMPTY + 1];
+        ConstructorFunction<Integer, Portable>[] constructors = new ConstructorFunction[OFFER_ALL + 1];
 
         constructors[OFFER] = new ConstructorFunction<Integer, Portable>() {
             @Override
@@ -196,6 +198,12 @@ public class QueuePortableHook implements PortableHook {
                 return new IsEmptyRequest();
             }
         };
+        constructors[OFFER_ALL] = new ConstructorFunction<Integer, Portable>() {
+            @Override
+            public Portable createNew(Integer arg) {
+                return new OfferAllRequest();
+            }
+        };
 
         return new ArrayPortableFactory(constructors);
     }
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.collection.impl.queue;
+
+import com.hazelcast.nio.serialization.Data;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Member local buffer of the items leased from a Queue with a positive prefetch count.
+ * <p/>
+ * When the buffer is empty, a lease operation leases up to prefetch count items, so consumers pay one round-trip
+ * per batch instead of one per item. The lease is acknowledged asynchronously as soon as its last item is handed
+ * out, so consumed items do not stay pending and keep their capacity. Leases are never blocking; waiting for
+ * items is left to the regular poll operation.
+ */
+final class QueuePrefetchBuffer {
+
+    private static final AtomicLong LEASE_SEQUENCE = new AtomicLong();
+
+    private final QueueProxySupport proxy;
+    private final String leaseIdPrefix;
+    private final int prefetchCount;
+    private final Lock lock = new ReentrantLock();
+    private final ArrayDeque<Data> buffer;
+    // the lease whose items are handed out, not acknowledged yet
+    private String leaseId;
+
+    QueuePrefetchBuffer(QueueProxySupport proxy, String leaseIdPrefix, int prefetchCount) {
+        this.proxy = proxy;
+        this.leaseIdPrefix = leaseIdPrefix;
+        this.prefetchCount = prefetchCount;
+        this.buffer = new ArrayDeque<Data>(prefetchCount);
+    }
+
+    /**
+     * Returns the next buffered item, refilling the buffer if it is empty.
+     *
+     * @return the next item or null if the Queue is empty
+     */
+    Data poll() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            if (buffer.isEmpty()) {
+                refill();
+            }
+            Data item = buffer.poll();
+            if (buffer.isEmpty()) {
+                ackLease();
+            }
+            return item;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Moves up to maxSize buffered items, all of them if maxSize is negative, to the given list.
+     */
+    void drainTo(List<Data> dataList, int maxSize) {
+        lock.lock();
+        try {
+            while (!buffer.isEmpty() && (maxSize < 0 || dataList.size() < maxSize)) {
+                dataList.add(buffer.poll());
+            }
+            if (buffer.isEmpty()) {
+                ackLease();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void refill() {
+        String newLeaseId = leaseIdPrefix + LEASE_SEQUENCE.incrementAndGet();
+        Collection<Data> leased = proxy.leaseInternal(newLeaseId, null, prefetchCount);
+        buffer.addAll(leased);
+        leaseId = leased.isEmpty() ? null : newLeaseId;
+    }
+
+    private void ackLease() {
+        if (leaseId != null) {
+            proxy.ackLeaseInternal(leaseId);
+            leaseId = null;
+        }
+    }
+}
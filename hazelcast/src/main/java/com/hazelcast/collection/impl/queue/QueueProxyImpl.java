@@ -202,6 +202,15 @@ public class QueueProxyImpl<E> extends QueueProxySupport implements IQueue<E>, I
         return addAllInternal(toDataList(es));
     }
 
+    @Override
+    public int offerAll(Collection<? extends E> es) {
+        checkNotNull(es, "Collection is null");
+        if (es.isEmpty()) {
+            return 0;
+        }
+        return offerAllInternal(toDataList(es));
+    }
+
     @Override
     public boolean removeAll(Collection<?> objects) {
         return compareAndRemove(getDataList(objects), false);
@@ -23,6 +23,8 @@ import com.hazelcast.collection.impl.queue.operations.ContainsOperation;
 import com.hazelcast.collection.impl.queue.operations.DrainOperation;
 import com.hazelcast.collection.impl.queue.operations.IsEmptyOperation;
 import com.hazelcast.collection.impl.queue.operations.IteratorOperation;
+import com.hazelcast.collection.impl.queue.operations.LeaseOperation;
+import com.hazelcast.collection.impl.queue.operations.OfferAllOperation;
 import com.hazelcast.collection.impl.queue.operations.OfferOperation;
 import com.hazelcast.collection.impl.queue.operations.PeekOperation;
 import com.hazelcast.collection.impl.queue.operations.PollOperation;
@@ -45,6 +47,7 @@ import com.hazelcast.spi.OperationService;
 import com.hazelcast.spi.impl.SerializableCollection;
 import com.hazelcast.util.ExceptionUtil;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.Future;
@@ -56,12 +59,20 @@ abstract class QueueProxySupport extends AbstractDistributedObject<QueueService>
     final String name;
     final int partitionId;
     final QueueConfig config;
+    //null if prefetching is disabled
+    final QueuePrefetchBuffer prefetchBuffer;
 
     QueueProxySupport(final String name, final QueueService queueService, NodeEngine nodeEngine) {
         super(nodeEngine, queueService);
         this.name = name;
         this.partitionId = nodeEngine.getPartitionService().getPartitionId(getNameAsPartitionAwareData());
         this.config = nodeEngine.getConfig().findQueueConfig(name);
+        if (config.getPrefetchCount() > 0) {
+            String leaseIdPrefix = QueueService.getLeaseIdPrefix(nodeEngine.getLocalMember().getUuid());
+            this.prefetchBuffer = new QueuePrefetchBuffer(this, leaseIdPrefix, config.getPrefetchCount());
+        } else {
+            this.prefetchBuffer = null;
+        }
     }
 
     @Override
@@ -124,6 +135,12 @@ abstract class QueueProxySupport extends AbstractDistributedObject<QueueService>
     }
 
     Object pollInternal(long timeout) throws InterruptedException {
+        if (prefetchBuffer != null) {
+            Data data = prefetchBuffer.poll();
+            if (data != null || timeout == 0) {
+                return data;
+            }
+        }
         PollOperation operation = new PollOperation(name, timeout);
         try {
             return invokeAndGet(operation);
@@ -151,16 +168,47 @@ abstract class QueueProxySupport extends AbstractDistributedObject<QueueService>
     }
 
     Collection<Data> drainInternal(int maxSize) {
+        if (prefetchBuffer == null) {
+            return drainQueue(maxSize);
+        }
+        List<Data> dataList = new ArrayList<Data>();
+        prefetchBuffer.drainTo(dataList, maxSize);
+        if (maxSize < 0 || dataList.size() < maxSize) {
+            dataList.addAll(drainQueue(maxSize < 0 ? maxSize : maxSize - dataList.size()));
+        }
+        return dataList;
+    }
+
+    private Collection<Data> drainQueue(int maxSize) {
         DrainOperation operation = new DrainOperation(name, maxSize);
         SerializableCollection collectionContainer = invokeAndGet(operation);
         return collectionContainer.getCollection();
     }
 
+    Collection<Data> leaseInternal(String leaseId, String ackLeaseId, int maxSize) {
+        LeaseOperation operation = new LeaseOperation(name, leaseId, ackLeaseId, maxSize);
+        SerializableCollection collectionContainer = invokeAndGet(operation);
+        return collectionContainer.getCollection();
+    }
+
+    /**
+     * Acknowledges a lease without waiting for the response. When the acknowledgement is lost the items
+     * are delivered again once this member leaves the cluster.
+     */
+    void ackLeaseInternal(String ackLeaseId) {
+        invoke(new LeaseOperation(name, null, ackLeaseId, 0));
+    }
+
     boolean addAllInternal(Collection<Data> dataList) {
         AddAllOperation operation = new AddAllOperation(name, dataList);
         return (Boolean) invokeAndGet(operation);
     }
 
+    int offerAllInternal(List<Data> dataList) {
+        OfferAllOperation operation = new OfferAllOperation(name, dataList);
+        return (Integer) invokeAndGet(operation);
+    }
+
     boolean compareAndRemove(Collection<Data> dataList, boolean retain) {
         CompareAndRemoveOperation operation = new CompareAndRemoveOperation(name, dataList, retain);
         return (Boolean) invokeAndGet(operation);
@@ -32,12 +32,16 @@ import com.hazelcast.partition.InternalPartitionService;
 import com.hazelcast.partition.MigrationEndpoint;
 import com.hazelcast.partition.strategy.StringPartitioningStrategy;
 import com.hazelcast.collection.impl.queue.operations.QueueReplicationOperation;
+import com.hazelcast.collection.impl.queue.operations.ReleaseLeasesOperation;
 import com.hazelcast.collection.impl.txnqueue.operations.QueueTransactionRollbackOperation;
 import com.hazelcast.collection.impl.txnqueue.TransactionalQueueProxy;
 import com.hazelcast.spi.EventPublishingService;
 import com.hazelcast.spi.EventRegistration;
 import com.hazelcast.spi.EventService;
 import com.hazelcast.spi.ManagedService;
+import com.hazelcast.spi.MemberAttributeServiceEvent;
+import com.hazelcast.spi.MembershipAwareService;
+import com.hazelcast.spi.MembershipServiceEvent;
 import com.hazelcast.spi.MigrationAwareService;
 import com.hazelcast.spi.NodeEngine;
 import com.hazelcast.spi.Operation;
@@ -71,11 +75,13 @@ import java.util.logging.Level;
  * such as {@link com.hazelcast.collection.impl.queue.QueueEvictionProcessor }
  */
 public class QueueService implements ManagedService, MigrationAwareService, TransactionalService,
-        RemoteService, EventPublishingService<QueueEvent, ItemListener>, StatisticsAwareService {
+        RemoteService, EventPublishingService<QueueEvent, ItemListener>, StatisticsAwareService,
+        MembershipAwareService {
     /**
      * Service name.
      */
     public static final String SERVICE_NAME = "hz:impl:queueService";
+    private static final String LEASE_ID_PREFIX = "lease:";
     private final EntryTaskScheduler queueEvictionScheduler;
     private final NodeEngine nodeEngine;
     private final ConcurrentMap<String, QueueContainer> containerMap
@@ -311,6 +317,43 @@ public class QueueService implements ManagedService, MigrationAwareService, Tran
         }
     }
 
+    /**
+     * Returns the prefix of the ids of all prefetch leases taken by the given member.
+     */
+    public static String getLeaseIdPrefix(String memberUuid) {
+        return LEASE_ID_PREFIX + memberUuid + ':';
+    }
+
+    /**
+     * Returns true if the given transaction id of a pending item is the id of a prefetch lease.
+     */
+    public static boolean isLeaseId(String transactionId) {
+        return transactionId != null && transactionId.startsWith(LEASE_ID_PREFIX);
+    }
+
+    @Override
+    public void memberAdded(MembershipServiceEvent event) {
+    }
+
+    @Override
+    public void memberRemoved(MembershipServiceEvent event) {
+        String leaseIdPrefix = getLeaseIdPrefix(event.getMember().getUuid());
+        InternalPartitionService partitionService = nodeEngine.getPartitionService();
+        OperationService operationService = nodeEngine.getOperationService();
+        for (String name : containerMap.keySet()) {
+            int partitionId = partitionService.getPartitionId(StringPartitioningStrategy.getPartitionKey(name));
+            Operation operation = new ReleaseLeasesOperation(name, leaseIdPrefix)
+                    .setPartitionId(partitionId)
+                    .setService(this)
+                    .setNodeEngine(nodeEngine);
+            operationService.executeOperation(operation);
+        }
+    }
+
+    @Override
+    public void memberAttributeChanged(MemberAttributeServiceEvent event) {
+    }
+
     @Override
     public Map<String, LocalQueueStats> getStats() {
         Map<String, LocalQueueStats> queueStats = MapUtil.createHashMap(containerMap.size());
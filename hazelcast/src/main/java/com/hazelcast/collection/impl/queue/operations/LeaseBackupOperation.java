@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.collection.impl.queue.operations;
+
+import com.hazelcast.collection.impl.queue.QueueContainer;
+import com.hazelcast.collection.impl.queue.QueueDataSerializerHook;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.spi.BackupOperation;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+
+/**
+ * Backup operation of the {@link com.hazelcast.collection.impl.queue.operations.LeaseOperation}.
+ */
+public class LeaseBackupOperation extends QueueOperation implements BackupOperation {
+
+    private String leaseId;
+    //can be null
+    private String ackLeaseId;
+    private Collection<Long> itemIds;
+
+    public LeaseBackupOperation() {
+    }
+
+    public LeaseBackupOperation(String name, String leaseId, String ackLeaseId, Collection<Long> itemIds) {
+        super(name);
+        this.leaseId = leaseId;
+        this.ackLeaseId = ackLeaseId;
+        this.itemIds = itemIds;
+    }
+
+    @Override
+    public void run() throws Exception {
+        QueueContainer queueContainer = getOrCreateContainer();
+        if (ackLeaseId != null) {
+            queueContainer.commitLease(ackLeaseId, true);
+        }
+        queueContainer.leaseBackup(leaseId, itemIds);
+    }
+
+    @Override
+    public int getId() {
+        return QueueDataSerializerHook.LEASE_BACKUP;
+    }
+
+    @Override
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        super.writeInternal(out);
+        out.writeUTF(leaseId);
+        out.writeUTF(ackLeaseId);
+        out.writeInt(itemIds.size());
+        for (Long itemId : itemIds) {
+            out.writeLong(itemId);
+        }
+    }
+
+    @Override
+    protected void readInternal(ObjectDataInput in) throws IOException {
+        super.readInternal(in);
+        leaseId = in.readUTF();
+        ackLeaseId = in.readUTF();
+        int size = in.readInt();
+        itemIds = new ArrayList<Long>(size);
+        for (int i = 0; i < size; i++) {
+            itemIds.add(in.readLong());
+        }
+    }
+}
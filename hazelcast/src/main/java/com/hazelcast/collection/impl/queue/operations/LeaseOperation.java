@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.collection.impl.queue.operations;
+
+import com.hazelcast.collection.impl.queue.QueueContainer;
+import com.hazelcast.collection.impl.queue.QueueDataSerializerHook;
+import com.hazelcast.core.ItemEventType;
+import com.hazelcast.monitor.impl.LocalQueueStatsImpl;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.spi.Notifier;
+import com.hazelcast.spi.Operation;
+import com.hazelcast.spi.WaitNotifyKey;
+import com.hazelcast.spi.impl.SerializableCollection;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Leases up to maxSize items from the head of the Queue to a member's prefetch buffer, never waits for items.
+ * The leased items are kept in the pending state, still taking up capacity, until the lease is acknowledged
+ * or released when the member leaves the cluster. A lease with maxSize 0 only acknowledges the previous lease.
+ */
+public class LeaseOperation extends QueueBackupAwareOperation implements Notifier {
+
+    private String leaseId;
+    //can be null
+    private String ackLeaseId;
+    private int maxSize;
+    private transient Map<Long, Data> dataMap;
+    private transient int acknowledgedCount;
+
+    public LeaseOperation() {
+    }
+
+    public LeaseOperation(String name, String leaseId, String ackLeaseId, int maxSize) {
+        super(name);
+        this.leaseId = leaseId;
+        this.ackLeaseId = ackLeaseId;
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public void run() throws Exception {
+        QueueContainer queueContainer = getOrCreateContainer();
+        if (ackLeaseId != null) {
+            acknowledgedCount = queueContainer.commitLease(ackLeaseId, false);
+        }
+        dataMap = maxSize > 0 ? queueContainer.lease(leaseId, maxSize) : Collections.<Long, Data>emptyMap();
+        response = new SerializableCollection(new ArrayList<Data>(dataMap.values()));
+    }
+
+    @Override
+    public void afterRun() throws Exception {
+        if (maxSize == 0) {
+            return;
+        }
+        LocalQueueStatsImpl stats = getQueueService().getLocalQueueStatsImpl(name);
+        if (dataMap.isEmpty()) {
+            stats.incrementEmptyPolls();
+            return;
+        }
+        for (Data data : dataMap.values()) {
+            stats.incrementPolls();
+            publishEvent(ItemEventType.REMOVED, data);
+        }
+    }
+
+    @Override
+    public boolean shouldBackup() {
+        return ackLeaseId != null || !dataMap.isEmpty();
+    }
+
+    @Override
+    public Operation getBackupOperation() {
+        return new LeaseBackupOperation(name, leaseId, ackLeaseId, dataMap.keySet());
+    }
+
+    /**
+     * Leased items keep their capacity, only the acknowledged items make room for offers.
+     */
+    @Override
+    public boolean shouldNotify() {
+        return acknowledgedCount > 0;
+    }
+
+    @Override
+    public WaitNotifyKey getNotifiedKey() {
+        return getOrCreateContainer().getOfferWaitNotifyKey();
+    }
+
+    @Override
+    public int getId() {
+        return QueueDataSerializerHook.LEASE;
+    }
+
+    @Override
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        super.writeInternal(out);
+        out.writeUTF(leaseId);
+        out.writeUTF(ackLeaseId);
+        out.writeInt(maxSize);
+    }
+
+    @Override
+    protected void readInternal(ObjectDataInput in) throws IOException {
+        super.readInternal(in);
+        leaseId = in.readUTF();
+        ackLeaseId = in.readUTF();
+        maxSize = in.readInt();
+    }
+}
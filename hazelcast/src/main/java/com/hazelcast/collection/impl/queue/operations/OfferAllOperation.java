@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.collection.impl.queue.operations;
+
+import com.hazelcast.collection.impl.queue.QueueContainer;
+import com.hazelcast.collection.impl.queue.QueueDataSerializerHook;
+import com.hazelcast.core.ItemEventType;
+import com.hazelcast.monitor.impl.LocalQueueStatsImpl;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.spi.Notifier;
+import com.hazelcast.spi.Operation;
+import com.hazelcast.spi.WaitNotifyKey;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Offers a batch of items to the Queue. As many items as the remaining capacity allows
+ * are accepted, in order, and the number of accepted items is returned.
+ */
+public class OfferAllOperation extends QueueBackupAwareOperation implements Notifier {
+
+    private List<Data> dataList;
+    private transient Map<Long, Data> dataMap;
+
+    public OfferAllOperation() {
+    }
+
+    public OfferAllOperation(String name, List<Data> dataList) {
+        super(name);
+        this.dataList = dataList;
+    }
+
+    @Override
+    public void run() {
+        QueueContainer queueContainer = getOrCreateContainer();
+        int accepted = Math.min(queueContainer.remainingCapacity(), dataList.size());
+        if (accepted > 0) {
+            dataMap = queueContainer.addAll(dataList.subList(0, accepted));
+        }
+        response = accepted;
+    }
+
+    @Override
+    public void afterRun() throws Exception {
+        LocalQueueStatsImpl stats = getQueueService().getLocalQueueStatsImpl(name);
+        if (dataMap == null) {
+            stats.incrementRejectedOffers();
+            return;
+        }
+        for (Data data : dataMap.values()) {
+            stats.incrementOffers();
+            publishEvent(ItemEventType.ADDED, data);
+        }
+    }
+
+    @Override
+    public boolean shouldBackup() {
+        return dataMap != null;
+    }
+
+    @Override
+    public Operation getBackupOperation() {
+        return new AddAllBackupOperation(name, dataMap);
+    }
+
+    @Override
+    public boolean shouldNotify() {
+        return dataMap != null;
+    }
+
+    @Override
+    public WaitNotifyKey getNotifiedKey() {
+        return getOrCreateContainer().getPollWaitNotifyKey();
+    }
+
+    @Override
+    public int getId() {
+        return QueueDataSerializerHook.OFFER_ALL;
+    }
+
+    @Override
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        super.writeInternal(out);
+        out.writeInt(dataList.size());
+        for (Data data : dataList) {
+            out.writeData(data);
+        }
+    }
+
+    @Override
+    protected void readInternal(ObjectDataInput in) throws IOException {
+        super.readInternal(in);
+        int size = in.readInt();
+        dataList = new ArrayList<Data>(size);
+        for (int i = 0; i < size; i++) {
+            dataList.add(in.readData());
+        }
+    }
+}
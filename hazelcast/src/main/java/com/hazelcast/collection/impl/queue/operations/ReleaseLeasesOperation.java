@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.collection.impl.queue.operations;
+
+import com.hazelcast.collection.impl.queue.QueueContainer;
+import com.hazelcast.collection.impl.queue.QueueDataSerializerHook;
+import com.hazelcast.nio.Address;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.spi.Notifier;
+import com.hazelcast.spi.WaitNotifyKey;
+
+import java.io.IOException;
+
+/**
+ * Puts the items leased by a member which left the cluster back to the Queue and wakes up waiting pollers.
+ * Runs locally on every replica of the Queue partition.
+ */
+public class ReleaseLeasesOperation extends QueueOperation implements Notifier {
+
+    private String leaseIdPrefix;
+    private transient int releasedCount;
+    private transient boolean backup;
+
+    public ReleaseLeasesOperation() {
+    }
+
+    public ReleaseLeasesOperation(String name, String leaseIdPrefix) {
+        super(name);
+        this.leaseIdPrefix = leaseIdPrefix;
+    }
+
+    @Override
+    public void run() throws Exception {
+        QueueContainer queueContainer = getOrCreateContainer();
+        Address owner = getNodeEngine().getPartitionService().getPartitionOwner(getPartitionId());
+        backup = !getNodeEngine().getThisAddress().equals(owner);
+        releasedCount = queueContainer.releaseLeases(leaseIdPrefix, backup);
+    }
+
+    @Override
+    public boolean shouldNotify() {
+        return !backup && releasedCount > 0;
+    }
+
+    @Override
+    public WaitNotifyKey getNotifiedKey() {
+        return getOrCreateContainer().getPollWaitNotifyKey();
+    }
+
+    @Override
+    public boolean returnsResponse() {
+        return false;
+    }
+
+    @Override
+    public int getId() {
+        return QueueDataSerializerHook.RELEASE_LEASES;
+    }
+
+    @Override
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        super.writeInternal(out);
+        out.writeUTF(leaseIdPrefix);
+    }
+
+    @Override
+    protected void readInternal(ObjectDataInput in) throws IOException {
+        super.readInternal(in);
+        leaseIdPrefix = in.readUTF();
+    }
+}
@@ -35,7 +35,7 @@ public class RemainingCapacityOperation extends QueueOperation {
     @Override
     public void run() {
         QueueContainer queueContainer = getOrCreateContainer();
-        response = queueContainer.getConfig().getMaxSize() - queueContainer.size();
+        response = queueContainer.remainingCapacity();
     }
 
     @Override
@@ -16,34 +16,55 @@
 
 package com.hazelcast.concurrent.idgen;
 
+import com.hazelcast.config.IdGeneratorConfig;
+import com.hazelcast.core.AsyncAtomicLong;
 import com.hazelcast.core.IAtomicLong;
+import com.hazelcast.core.ICompletableFuture;
 import com.hazelcast.core.IdGenerator;
 import com.hazelcast.spi.AbstractDistributedObject;
 import com.hazelcast.spi.NodeEngine;
+import com.hazelcast.util.EmptyStatement;
 
-import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
-import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * Hands out ids from blocks reserved from the cluster using an {@link IAtomicLong}. The value of the atomic long is
+ * the number of reserved {@link #BLOCK_SIZE} units, so generators with different block sizes can share it.
+ *
+ * When the configured percentage of a block has been consumed, the next block is reserved asynchronously so that
+ * {@link #newId()} normally doesn't need to wait for a remote call when the current block runs out.
+ */
 public class IdGeneratorProxy
         extends AbstractDistributedObject<IdGeneratorService>
         implements IdGenerator {
 
-    public static final int BLOCK_SIZE = 10000;
+    public static final int BLOCK_SIZE = IdGeneratorConfig.BLOCK_SIZE_UNIT;
 
-    private static final AtomicIntegerFieldUpdater<IdGeneratorProxy> RESIDUE_UPDATER = AtomicIntegerFieldUpdater
-            .newUpdater(IdGeneratorProxy.class, "residue");
-    private static final AtomicLongFieldUpdater<IdGeneratorProxy> LOCAL_UPDATER = AtomicLongFieldUpdater
-            .newUpdater(IdGeneratorProxy.class, "local");
+    private static final int HUNDRED_PERCENT = 100;
+
+    private static final IdBlock EMPTY_BLOCK = new IdBlock(0, 0, 0, -1);
 
     private final String name;
     private final IAtomicLong blockGenerator;
-    private volatile int residue = BLOCK_SIZE;
-    private volatile long local = -1L;
+    private final int unitsPerBlock;
+    private final int prefetchPercentage;
+
+    private volatile IdBlock block = EMPTY_BLOCK;
+    // guarded by this
+    private ICompletableFuture<Long> prefetch;
 
     public IdGeneratorProxy(IAtomicLong blockGenerator, String name, NodeEngine nodeEngine, IdGeneratorService service) {
+        this(blockGenerator, name, nodeEngine, service, new IdGeneratorConfig());
+    }
+
+    public IdGeneratorProxy(IAtomicLong blockGenerator, String name, NodeEngine nodeEngine, IdGeneratorService service,
+                            IdGeneratorConfig config) {
         super(nodeEngine, service);
         this.name = name;
         this.blockGenerator = blockGenerator;
+        this.unitsPerBlock = config.getBlockSize() / BLOCK_SIZE;
+        this.prefetchPercentage = blockGenerator instanceof AsyncAtomicLong ? config.getPrefetchPercentage() : 0;
     }
 
     @Override
@@ -56,8 +77,7 @@ public class IdGeneratorProxy
         synchronized (this) {
             boolean init = blockGenerator.compareAndSet(0, step + 1);
             if (init) {
-                LOCAL_UPDATER.set(this, step);
-                RESIDUE_UPDATER.set(this, (int) (id % BLOCK_SIZE) + 1);
+                block = newBlock(step, BLOCK_SIZE, (int) (id % BLOCK_SIZE) + 1);
             }
             return init;
         }
@@ -65,19 +85,53 @@ public class IdGeneratorProxy
 
     @Override
     public long newId() {
-        int value = RESIDUE_UPDATER.getAndIncrement(this);
-        if (value >= BLOCK_SIZE) {
+        for (; ; ) {
+            IdBlock current = block;
+            int index = current.next.getAndIncrement();
+            if (index < current.size) {
+                if (index == current.prefetchIndex) {
+                    prefetchNextBlock();
+                }
+                return current.base + index;
+            }
+
             synchronized (this) {
-                value = residue;
-                if (value >= BLOCK_SIZE) {
-                    LOCAL_UPDATER.set(this, blockGenerator.getAndIncrement());
-                    RESIDUE_UPDATER.set(this, 0);
+                if (block == current) {
+                    block = newBlock(reserveUnits(), unitsPerBlock * BLOCK_SIZE, 0);
                 }
-                //todo: we need to get rid of this.
-                return newId();
             }
         }
-        return local * BLOCK_SIZE + value;
+    }
+
+    private IdBlock newBlock(long unit, int size, int start) {
+        int prefetchIndex = -1;
+        if (prefetchPercentage > 0) {
+            prefetchIndex = Math.min(size - 1, (int) ((long) size * prefetchPercentage / HUNDRED_PERCENT));
+        }
+        return new IdBlock(unit * BLOCK_SIZE, size, start, prefetchIndex);
+    }
+
+    private synchronized void prefetchNextBlock() {
+        if (prefetch == null) {
+            prefetch = ((AsyncAtomicLong) blockGenerator).asyncGetAndAdd(unitsPerBlock);
+        }
+    }
+
+    // only called while holding the lock on this
+    private long reserveUnits() {
+        ICompletableFuture<Long> future = prefetch;
+        prefetch = null;
+        if (future != null) {
+            try {
+                return future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                // the synchronous reservation below reports the failure if it wasn't transient
+                EmptyStatement.ignore(e);
+            }
+        }
+        return unitsPerBlock == 1 ? blockGenerator.getAndIncrement() : blockGenerator.getAndAdd(unitsPerBlock);
     }
 
     @Override
@@ -94,8 +148,26 @@ public class IdGeneratorProxy
     protected void postDestroy() {
         blockGenerator.destroy();
 
-        //todo: this behavior is racy; imagine what happens when destroy is called by different threads
-        LOCAL_UPDATER.set(this, -1);
-        RESIDUE_UPDATER.set(this, BLOCK_SIZE);
+        synchronized (this) {
+            block = EMPTY_BLOCK;
+            prefetch = null;
+        }
+    }
+
+    /**
+     * A range of ids reserved from the cluster: [base, base + size).
+     */
+    private static final class IdBlock {
+        final long base;
+        final int size;
+        final int prefetchIndex;
+        final AtomicInteger next;
+
+        IdBlock(long base, int size, int start, int prefetchIndex) {
+            this.base = base;
+            this.size = size;
+            this.prefetchIndex = prefetchIndex;
+            this.next = new AtomicInteger(start);
+        }
     }
 }
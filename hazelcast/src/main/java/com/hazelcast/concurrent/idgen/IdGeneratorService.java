@@ -16,6 +16,7 @@
 
 package com.hazelcast.concurrent.idgen;
 
+import com.hazelcast.config.IdGeneratorConfig;
 import com.hazelcast.core.DistributedObject;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.core.IAtomicLong;
@@ -29,6 +30,7 @@ public class IdGeneratorService implements ManagedService, RemoteService {
 
     public static final String SERVICE_NAME = "hz:impl:idGeneratorService";
     public static final String ATOMIC_LONG_NAME = "hz:atomic:idGenerator:";
+    public static final String GENERATOR_ID_ATOMIC_LONG_NAME = "hz:atomic:kSortedIdGenerator:";
 
     private NodeEngine nodeEngine;
 
@@ -49,15 +51,20 @@ public class IdGeneratorService implements ManagedService, RemoteService {
     public void shutdown(boolean terminate) {
     }
 
-    private IAtomicLong getBlockGenerator(String name) {
+    private IAtomicLong getAtomicLong(String name) {
         HazelcastInstance hazelcastInstance = nodeEngine.getHazelcastInstance();
-        return hazelcastInstance.getAtomicLong(ATOMIC_LONG_NAME + name);
+        return hazelcastInstance.getAtomicLong(name);
     }
 
     @Override
     public DistributedObject createDistributedObject(String name) {
-        IAtomicLong blockGenerator = getBlockGenerator(name);
-        return new IdGeneratorProxy(blockGenerator, name, nodeEngine, this);
+        IdGeneratorConfig config = nodeEngine.getConfig().findIdGeneratorConfig(name);
+        if (config.getMode() == IdGeneratorConfig.Mode.K_SORTED) {
+            IAtomicLong generatorIdGenerator = getAtomicLong(GENERATOR_ID_ATOMIC_LONG_NAME + name);
+            return new KSortedIdGeneratorProxy(generatorIdGenerator, name, nodeEngine, this);
+        }
+        IAtomicLong blockGenerator = getAtomicLong(ATOMIC_LONG_NAME + name);
+        return new IdGeneratorProxy(blockGenerator, name, nodeEngine, this, config);
     }
 
     @Override
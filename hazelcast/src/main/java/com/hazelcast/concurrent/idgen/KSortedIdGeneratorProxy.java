@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.concurrent.idgen;
+
+import com.hazelcast.core.IAtomicLong;
+import com.hazelcast.core.IdGenerator;
+import com.hazelcast.spi.AbstractDistributedObject;
+import com.hazelcast.spi.NodeEngine;
+import com.hazelcast.util.Clock;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates roughly time ordered ids without coordinating with the cluster.
+ *
+ * An id is made of 41 bits of milliseconds since {@link #EPOCH}, a 10 bit generator id and a 12 bit sequence. The
+ * generator id is claimed once per proxy from an {@link IAtomicLong}, so at most 1024 proxies of the same IdGenerator
+ * can generate ids over the lifetime of the cluster; once the generator ids are used up, {@link #newId()} fails
+ * instead of handing out duplicates, until the IdGenerator is destroyed. If more than 4096 ids are generated
+ * within a single millisecond, the timestamp part is advanced ahead of the clock, which also keeps ids unique when
+ * the clock moves backwards.
+ */
+public class KSortedIdGeneratorProxy
+        extends AbstractDistributedObject<IdGeneratorService>
+        implements IdGenerator {
+
+    /**
+     * Start of the timestamp part of the ids: 2015-01-01T00:00:00Z.
+     */
+    public static final long EPOCH = 1420070400000L;
+
+    static final int GENERATOR_ID_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+
+    private static final long GENERATOR_ID_MASK = (1L << GENERATOR_ID_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final String name;
+    private final IAtomicLong generatorIdGenerator;
+    // timestamp and sequence of the last id: timestamp << SEQUENCE_BITS | sequence
+    private final AtomicLong lastStamp = new AtomicLong();
+
+    private volatile long generatorIdBits = -1;
+
+    public KSortedIdGeneratorProxy(IAtomicLong generatorIdGenerator, String name, NodeEngine nodeEngine,
+                                   IdGeneratorService service) {
+        super(nodeEngine, service);
+        this.name = name;
+        this.generatorIdGenerator = generatorIdGenerator;
+    }
+
+    /**
+     * K-sorted ids can't be initialized.
+     *
+     * @return always false.
+     */
+    @Override
+    public boolean init(long id) {
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalStateException if all generator ids of this IdGenerator have been claimed by other proxies.
+     */
+    @Override
+    public long newId() {
+        long idBits = getGeneratorIdBits();
+        for (; ; ) {
+            long last = lastStamp.get();
+            long now = (Clock.currentTimeMillis() - EPOCH) << SEQUENCE_BITS;
+            long next = Math.max(now, last + 1);
+            if (lastStamp.compareAndSet(last, next)) {
+                long timestamp = next >>> SEQUENCE_BITS;
+                return (timestamp << (GENERATOR_ID_BITS + SEQUENCE_BITS)) | idBits | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+
+    private long getGeneratorIdBits() {
+        long idBits = generatorIdBits;
+        if (idBits < 0) {
+            synchronized (this) {
+                idBits = generatorIdBits;
+                if (idBits < 0) {
+                    idBits = claimGeneratorId() << SEQUENCE_BITS;
+                    generatorIdBits = idBits;
+                }
+            }
+        }
+        return idBits;
+    }
+
+    private long claimGeneratorId() {
+        long generatorId = generatorIdGenerator.getAndIncrement();
+        if (generatorId > GENERATOR_ID_MASK) {
+            throw new IllegalStateException("IdGenerator '" + name + "' has run out of generator ids: "
+                    + (GENERATOR_ID_MASK + 1) + " proxies have already claimed one. Ids would no longer be unique;"
+                    + " destroy the IdGenerator to reset its generator ids.");
+        }
+        return generatorId;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getServiceName() {
+        return IdGeneratorService.SERVICE_NAME;
+    }
+
+    @Override
+    protected void postDestroy() {
+        generatorIdGenerator.destroy();
+        generatorIdBits = -1;
+    }
+}
@@ -50,6 +50,10 @@ final class LockResourceImpl implements DataSerializable, LockResource {
     // and incremented by 1 for each lock and extendLease operation
     private transient int version;
 
+    // true while a lease eviction is scheduled for this lock; lets plain lock/unlock cycles
+    // skip the eviction scheduler entirely
+    private transient boolean evictionScheduled;
+
     public LockResourceImpl() {
     }
 
@@ -111,14 +115,15 @@ final class LockResourceImpl implements DataSerializable, LockResource {
         version++;
         if (leaseTime < 0) {
             expirationTime = Long.MAX_VALUE;
-            lockStore.cancelEviction(key);
+            cancelEviction();
         } else {
             expirationTime = Clock.currentTimeMillis() + leaseTime;
             if (expirationTime < 0) {
                 expirationTime = Long.MAX_VALUE;
-                lockStore.cancelEviction(key);
+                cancelEviction();
             } else {
                 lockStore.scheduleEviction(key, version, leaseTime);
+                evictionScheduled = true;
             }
         }
     }
@@ -251,7 +256,10 @@ final class LockResourceImpl implements DataSerializable, LockResource {
     }
 
     void cancelEviction() {
-        lockStore.cancelEviction(key);
+        if (evictionScheduled) {
+            lockStore.cancelEviction(key);
+            evictionScheduled = false;
+        }
     }
 
     boolean isRemovable() {
@@ -365,6 +373,8 @@ final class LockResourceImpl implements DataSerializable, LockResource {
         expirationTime = in.readLong();
         acquireTime = in.readLong();
         transactional = in.readBoolean();
+        // evictions of migrated leased locks are scheduled by LockServiceImpl after the migration commits
+        evictionScheduled = expirationTime >= 0 && expirationTime < Long.MAX_VALUE;
 
         int len = in.readInt();
         if (len > 0) {
@@ -155,9 +155,10 @@ public final class LockServiceImpl implements LockService, ManagedService, Remot
     }
 
     public void cancelEviction(ObjectNamespace namespace, Data key) {
-        EntryTaskScheduler scheduler = getOrPutSynchronized(
-                evictionProcessors, namespace, evictionProcessors, schedulerConstructor);
-        scheduler.cancel(key);
+        EntryTaskScheduler scheduler = evictionProcessors.get(namespace);
+        if (scheduler != null) {
+            scheduler.cancel(key);
+        }
     }
 
     public LockStoreContainer getLockContainer(int partitionId) {
@@ -59,6 +59,8 @@ public class CacheConfig<K, V>
 
     private WanReplicationRef wanReplicationRef;
 
+    private boolean hotRestartEnabled;
+
     public CacheConfig() {
     }
 
@@ -83,6 +85,7 @@ public class CacheConfig<K, V>
             if (config.wanReplicationRef != null) {
                 this.wanReplicationRef = new WanReplicationRef(config.wanReplicationRef);
             }
+            this.hotRestartEnabled = config.hotRestartEnabled;
         }
     }
 
@@ -117,6 +120,7 @@ public class CacheConfig<K, V>
         if (simpleConfig.getWanReplicationRef() != null) {
             this.wanReplicationRef = new WanReplicationRef(simpleConfig.getWanReplicationRef());
         }
+        this.hotRestartEnabled = simpleConfig.isHotRestartEnabled();
         for (CacheSimpleEntryListenerConfig simpleListener : simpleConfig.getCacheEntryListeners()) {
             Factory<? extends CacheEntryListener<? super K, ? super V>> listenerFactory = null;
             Factory<? extends CacheEntryEventFilter<? super K, ? super V>> filterFactory = null;
@@ -318,6 +322,28 @@ public class CacheConfig<K, V>
         return this;
     }
 
+    /**
+     * Checks if the entries of this cache are persisted to the local disk of the members so they survive
+     * a restart of the cluster.
+     *
+     * @return true if hot restart is enabled, false otherwise
+     */
+    public boolean isHotRestartEnabled() {
+        return hotRestartEnabled;
+    }
+
+    /**
+     * Sets hot restart (persisting the entries to the local disk of the members) for this cache.
+     *
+     * @param hotRestartEnabled true to enable hot restart, false to disable
+     * @return the current cache config instance
+     * @see com.hazelcast.instance.GroupProperties#PROP_HOT_RESTART_BASE_DIR
+     */
+    public CacheConfig<K, V> setHotRestartEnabled(boolean hotRestartEnabled) {
+        this.hotRestartEnabled = hotRestartEnabled;
+        return this;
+    }
+
     /**
      * Gets the data type that will be used for storing records.
      *
@@ -355,6 +381,7 @@ public class CacheConfig<K, V>
         out.writeObject(evictionConfig);
 
         out.writeObject(wanReplicationRef);
+        out.writeBoolean(hotRestartEnabled);
         //SUPER
         out.writeObject(keyType);
         out.writeObject(valueType);
@@ -392,6 +419,7 @@ public class CacheConfig<K, V>
         evictionConfig = in.readObject();
 
         wanReplicationRef = in.readObject();
+        hotRestartEnabled = in.readBoolean();
 
         //SUPER
         keyType = in.readObject();
@@ -457,6 +485,7 @@ public class CacheConfig<K, V>
                 + ", managerPrefix='" + managerPrefix + '\''
                 + ", inMemoryFormat=" + inMemoryFormat
                 + ", backupCount=" + backupCount
+                + ", hotRestartEnabled=" + hotRestartEnabled
                 + '}';
     }
 }
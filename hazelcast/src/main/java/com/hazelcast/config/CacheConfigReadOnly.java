@@ -125,4 +125,9 @@ public class CacheConfigReadOnly<K, V> extends CacheConfig<K, V> {
         throw new UnsupportedOperationException("This config is read-only cache: " + getName());
     }
 
+    @Override
+    public CacheConfig<K, V> setHotRestartEnabled(final boolean hotRestartEnabled) {
+        throw new UnsupportedOperationException("This config is read-only cache: " + getName());
+    }
+
 }
@@ -82,6 +82,7 @@ public class CacheSimpleConfig {
     //      * LRU as eviction policy
     private EvictionConfig evictionConfig = new EvictionConfig();
     private WanReplicationRef wanReplicationRef;
+    private boolean hotRestartEnabled;
 
     private CacheSimpleConfig readOnly;
 
@@ -98,6 +99,7 @@ public class CacheSimpleConfig {
         this.expiryPolicyFactory = cacheSimpleConfig.expiryPolicyFactory;
         this.cacheEntryListeners = cacheSimpleConfig.cacheEntryListeners;
         this.asyncBackupCount = cacheSimpleConfig.asyncBackupCount;
+        this.hotRestartEnabled = cacheSimpleConfig.hotRestartEnabled;
         this.backupCount = cacheSimpleConfig.backupCount;
         this.inMemoryFormat = cacheSimpleConfig.inMemoryFormat;
         // Eviction config cannot be null
@@ -438,4 +440,25 @@ public class CacheSimpleConfig {
         this.wanReplicationRef = wanReplicationRef;
     }
 
+    /**
+     * Checks if the entries of this {@link com.hazelcast.cache.ICache} are persisted to the local disk of the members.
+     *
+     * @return True if hot restart is enabled, false otherwise.
+     */
+    public boolean isHotRestartEnabled() {
+        return hotRestartEnabled;
+    }
+
+    /**
+     * Sets hot restart (persisting the entries to the local disk of the members) for this
+     * {@link com.hazelcast.cache.ICache}.
+     *
+     * @param hotRestartEnabled True to enable hot restart, false to disable.
+     * @return The current cache config instance.
+     */
+    public CacheSimpleConfig setHotRestartEnabled(boolean hotRestartEnabled) {
+        this.hotRestartEnabled = hotRestartEnabled;
+        return this;
+    }
+
 }
@@ -135,4 +135,9 @@ public class CacheSimpleConfigReadOnly
         throw new UnsupportedOperationException("This config is read-only cache: " + getName());
     }
 
+    @Override
+    public CacheSimpleConfig setHotRestartEnabled(boolean hotRestartEnabled) {
+        throw new UnsupportedOperationException("This config is read-only cache: " + getName());
+    }
+
 }
@@ -85,6 +85,8 @@ public class Config {
 
     private final Map<String, SemaphoreConfig> semaphoreConfigs = new ConcurrentHashMap<String, SemaphoreConfig>();
 
+    private final Map<String, IdGeneratorConfig> idGeneratorConfigs = new ConcurrentHashMap<String, IdGeneratorConfig>();
+
     private final Map<String, ReplicatedMapConfig> replicatedMapConfigs = new ConcurrentHashMap<String, ReplicatedMapConfig>();
 
     private final Map<String, WanReplicationConfig> wanReplicationConfigs = new ConcurrentHashMap<String, WanReplicationConfig>();
@@ -782,6 +784,68 @@ public class Config {
         return this;
     }
 
+    public IdGeneratorConfig findIdGeneratorConfig(String name) {
+        String baseName = getBaseName(name);
+        IdGeneratorConfig config = lookupByPattern(idGeneratorConfigs, baseName);
+        if (config != null) {
+            return config.getAsReadOnly();
+        }
+        return getIdGeneratorConfig("default").getAsReadOnly();
+    }
+
+    /**
+     * Returns the IdGeneratorConfig for the given name
+     *
+     * @param name name of the id generator config
+     * @return IdGeneratorConfig
+     */
+    public IdGeneratorConfig getIdGeneratorConfig(String name) {
+        String baseName = getBaseName(name);
+        IdGeneratorConfig config = lookupByPattern(idGeneratorConfigs, baseName);
+        if (config != null) {
+            return config;
+        }
+        IdGeneratorConfig defConfig = idGeneratorConfigs.get("default");
+        if (defConfig == null) {
+            defConfig = new IdGeneratorConfig();
+            defConfig.setName("default");
+            addIdGeneratorConfig(defConfig);
+        }
+        config = new IdGeneratorConfig(defConfig);
+        config.setName(name);
+        addIdGeneratorConfig(config);
+        return config;
+    }
+
+    /**
+     * Adds a new IdGeneratorConfig by name
+     *
+     * @param idGeneratorConfig id generator config to add
+     * @return this config instance
+     */
+    public Config addIdGeneratorConfig(IdGeneratorConfig idGeneratorConfig) {
+        this.idGeneratorConfigs.put(idGeneratorConfig.getName(), idGeneratorConfig);
+        return this;
+    }
+
+    /**
+     * Returns the collection of id generator configs.
+     *
+     * @return collection of id generator configs.
+     */
+    public Collection<IdGeneratorConfig> getIdGeneratorConfigs() {
+        return idGeneratorConfigs.values();
+    }
+
+    public Config setIdGeneratorConfigs(Map<String, IdGeneratorConfig> idGeneratorConfigs) {
+        this.idGeneratorConfigs.clear();
+        this.idGeneratorConfigs.putAll(idGeneratorConfigs);
+        for (final Entry<String, IdGeneratorConfig> entry : this.idGeneratorConfigs.entrySet()) {
+            entry.getValue().setName(entry.getKey());
+        }
+        return this;
+    }
+
 
     public WanReplicationConfig getWanReplicationConfig(String name) {
         return wanReplicationConfigs.get(name);
@@ -1090,6 +1154,7 @@ public class Config {
         sb.append(", multiMapConfigs=").append(multiMapConfigs);
         sb.append(", executorConfigs=").append(executorConfigs);
         sb.append(", semaphoreConfigs=").append(semaphoreConfigs);
+        sb.append(", idGeneratorConfigs=").append(idGeneratorConfigs);
         sb.append(", ringbufferConfigs=").append(ringbufferConfigs);
         sb.append(", wanReplicationConfigs=").append(wanReplicationConfigs);
         sb.append(", listenerConfigs=").append(listenerConfigs);
@@ -107,6 +107,8 @@ public class ConfigXmlGenerator {
 
         semaphoreXmlGenerator(xml, config);
 
+        idGeneratorXmlGenerator(xml, config);
+
         ringbufferXmlGenerator(xml, config);
 
         executorXmlGenerator(xml, config);
@@ -165,6 +167,17 @@ public class ConfigXmlGenerator {
         }
     }
 
+    private void idGeneratorXmlGenerator(StringBuilder xml, Config config) {
+        final Collection<IdGeneratorConfig> idGeneratorCfgs = config.getIdGeneratorConfigs();
+        for (IdGeneratorConfig ic : idGeneratorCfgs) {
+            xml.append("<id-generator name=\"").append(ic.getName()).append("\">");
+            xml.append("<block-size>").append(ic.getBlockSize()).append("</block-size>");
+            xml.append("<prefetch-percentage>").append(ic.getPrefetchPercentage()).append("</prefetch-percentage>");
+            xml.append("<mode>").append(ic.getMode()).append("</mode>");
+            xml.append("</id-generator>");
+        }
+    }
+
     private void topicXmlGenerator(StringBuilder xml, Config config) {
         final Collection<TopicConfig> tCfgs = config.getTopicConfigs().values();
         for (TopicConfig t : tCfgs) {
@@ -191,6 +204,7 @@ public class ConfigXmlGenerator {
         for (ReliableTopicConfig t : tCfgs) {
             xml.append("<reliable-topic name=\"").append(t.getName()).append("\">");
             xml.append("<read-batch-size>").append(t.getReadBatchSize()).append("</read-batch-size>");
+            xml.append("<read-ahead-count>").append(t.getReadAheadCount()).append("</read-ahead-count>");
             xml.append("<statistics-enabled>").append(t.isStatisticsEnabled()).append("</statistics-enabled>");
             xml.append("<topic-overload-policy>").append(t.getTopicOverloadPolicy().name()).append("</topic-overload-policy>");
 
@@ -248,6 +262,7 @@ public class ConfigXmlGenerator {
             xml.append("<max-size>").append(q.getMaxSize()).append("</max-size>");
             xml.append("<backup-count>").append(q.getBackupCount()).append("</backup-count>");
             xml.append("<async-backup-count>").append(q.getAsyncBackupCount()).append("</async-backup-count>");
+            xml.append("<prefetch-count>").append(q.getPrefetchCount()).append("</prefetch-count>");
             if (!q.getItemListenerConfigs().isEmpty()) {
                 xml.append("<item-listeners>");
                 for (ItemListenerConfig lc : q.getItemListenerConfigs()) {
@@ -270,6 +285,7 @@ public class ConfigXmlGenerator {
             xml.append("<async-backup-count>").append(rbConfig.getAsyncBackupCount()).append("</async-backup-count>");
             xml.append("<time-to-live-seconds>").append(rbConfig.getTimeToLiveSeconds()).append("</time-to-live-seconds>");
             xml.append("<in-memory-format>").append(rbConfig.getInMemoryFormat().toString()).append("</in-memory-format>");
+            xml.append("<arena-size>").append(rbConfig.getArenaSize()).append("</arena-size>");
             xml.append("</ringbuffer>");
         }
     }
@@ -352,6 +368,8 @@ public class ConfigXmlGenerator {
                     .append("</merge-policy>");
             xml.append("<read-backup-data>").append(m.isReadBackupData())
                     .append("</read-backup-data>");
+            xml.append("<hot-restart-enabled>").append(m.isHotRestartEnabled())
+                    .append("</hot-restart-enabled>");
             xml.append("<statistics-enabled>").append(m.isStatisticsEnabled())
                     .append("</statistics-enabled>");
 
@@ -381,6 +399,7 @@ public class ConfigXmlGenerator {
             xml.append("<async-backup-count>").append(c.getAsyncBackupCount()).append("</async-backup-count>");
             xml.append("<read-through>").append(c.isReadThrough()).append("</read-through>");
             xml.append("<write-through>").append(c.isWriteThrough()).append("</write-through>");
+            xml.append("<hot-restart-enabled>").append(c.isHotRestartEnabled()).append("</hot-restart-enabled>");
             xml.append("<cache-loader-factory class-name=\"").append(c.getCacheLoaderFactory()).append("\"/>");
             xml.append("<cache-writer-factory class-name=\"").append(c.getCacheWriterFactory()).append("\"/>");
             xml.append("<expiry-policy-factory class-name=\"").append(c.getExpiryPolicyFactory()).append("\"/>");
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.config;
+
+import static com.hazelcast.util.Preconditions.checkHasText;
+import static com.hazelcast.util.Preconditions.checkNotNull;
+import static com.hazelcast.util.Preconditions.checkTrue;
+import static com.hazelcast.util.Preconditions.isNotNull;
+
+/**
+ * Contains the configuration for an {@link com.hazelcast.core.IdGenerator}.
+ */
+public class IdGeneratorConfig {
+
+    /**
+     * The unit in which blocks of ids are reserved from the cluster. Every block size has to be a multiple of it.
+     */
+    public static final int BLOCK_SIZE_UNIT = 10000;
+
+    /**
+     * Default number of ids reserved from the cluster at once.
+     */
+    public static final int DEFAULT_BLOCK_SIZE = BLOCK_SIZE_UNIT;
+
+    /**
+     * Default percentage of a block that is consumed before the next block is fetched in the background.
+     */
+    public static final int DEFAULT_PREFETCH_PERCENTAGE = 50;
+
+    /**
+     * Default id generation mode.
+     */
+    public static final Mode DEFAULT_MODE = Mode.BLOCK;
+
+    private static final int MAX_PERCENTAGE = 100;
+
+    /**
+     * The way ids are generated.
+     */
+    public enum Mode {
+        /**
+         * Dense ids handed out from blocks that are reserved from the cluster.
+         */
+        BLOCK,
+        /**
+         * Roughly time ordered ids composed of a timestamp, a member specific id and a sequence. Apart from a single
+         * call to obtain the member specific id, no coordination with the cluster is needed.
+         */
+        K_SORTED
+    }
+
+    private String name;
+    private int blockSize = DEFAULT_BLOCK_SIZE;
+    private int prefetchPercentage = DEFAULT_PREFETCH_PERCENTAGE;
+    private Mode mode = DEFAULT_MODE;
+    private IdGeneratorConfigReadOnly readOnly;
+
+    /**
+     * Creates a default configured {@link IdGeneratorConfig}.
+     */
+    public IdGeneratorConfig() {
+    }
+
+    /**
+     * Creates an IdGeneratorConfig by cloning another one.
+     *
+     * @param config the IdGeneratorConfig to copy
+     * @throws IllegalArgumentException if config is null.
+     */
+    public IdGeneratorConfig(IdGeneratorConfig config) {
+        isNotNull(config, "config");
+        this.name = config.getName();
+        this.blockSize = config.getBlockSize();
+        this.prefetchPercentage = config.getPrefetchPercentage();
+        this.mode = config.getMode();
+    }
+
+    public IdGeneratorConfigReadOnly getAsReadOnly() {
+        if (readOnly == null) {
+            readOnly = new IdGeneratorConfigReadOnly(this);
+        }
+        return readOnly;
+    }
+
+    /**
+     * Gets the name of the IdGenerator. If no name has been configured, null is returned.
+     *
+     * @return the name of the IdGenerator.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Sets the name of the IdGenerator.
+     *
+     * @param name the name of the IdGenerator
+     * @return the updated IdGeneratorConfig
+     * @throws IllegalArgumentException if name is null or empty.
+     */
+    public IdGeneratorConfig setName(String name) {
+        this.name = checkHasText(name, "name must contain text");
+        return this;
+    }
+
+    /**
+     * Gets the number of ids reserved from the cluster at once.
+     *
+     * @return the block size.
+     */
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    /**
+     * Sets the number of ids reserved from the cluster at once. Bigger blocks mean fewer remote calls, but also more ids
+     * that are lost when a member or client holding a partially consumed block goes away.
+     *
+     * Blocks are reserved in units of {@link #BLOCK_SIZE_UNIT} ids, so members and clients using different block sizes
+     * for the same IdGenerator still generate unique ids.
+     *
+     * @param blockSize the block size
+     * @return the updated IdGeneratorConfig
+     * @throws IllegalArgumentException if blockSize is not a positive multiple of {@link #BLOCK_SIZE_UNIT}.
+     */
+    public IdGeneratorConfig setBlockSize(int blockSize) {
+        checkTrue(blockSize > 0 && blockSize % BLOCK_SIZE_UNIT == 0,
+                "blockSize should be a positive multiple of " + BLOCK_SIZE_UNIT + ", but was " + blockSize);
+        this.blockSize = blockSize;
+        return this;
+    }
+
+    /**
+     * Gets the percentage of a block that is consumed before the next block is fetched in the background.
+     *
+     * @return the prefetch percentage.
+     * @see #setPrefetchPercentage(int)
+     */
+    public int getPrefetchPercentage() {
+        return prefetchPercentage;
+    }
+
+    /**
+     * Sets the percentage of a block that is consumed before the next block is fetched in the background, so that
+     * {@link com.hazelcast.core.IdGenerator#newId()} normally doesn't need to wait for a remote call when a block runs
+     * out. 0 disables prefetching.
+     *
+     * @param prefetchPercentage the prefetch percentage, 0 to 100.
+     * @return the updated IdGeneratorConfig
+     * @throws IllegalArgumentException if prefetchPercentage is smaller than 0 or larger than 100.
+     */
+    public IdGeneratorConfig setPrefetchPercentage(int prefetchPercentage) {
+        checkTrue(prefetchPercentage >= 0 && prefetchPercentage <= MAX_PERCENTAGE,
+                "prefetchPercentage should be between 0 and 100, but was " + prefetchPercentage);
+        this.prefetchPercentage = prefetchPercentage;
+        return this;
+    }
+
+    /**
+     * Gets the id generation mode.
+     *
+     * @return the mode.
+     */
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Sets the id generation mode. {@link Mode#K_SORTED} ids aren't dense and can't be initialized using
+     * {@link com.hazelcast.core.IdGenerator#init(long)}, but generating them doesn't require any coordination
+     * with the cluster.
+     *
+     * @param mode the mode
+     * @return the updated IdGeneratorConfig
+     * @throws IllegalArgumentException if mode is null.
+     */
+    public IdGeneratorConfig setMode(Mode mode) {
+        this.mode = checkNotNull(mode, "mode can't be null");
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("IdGeneratorConfig{");
+        sb.append("name='").append(name).append('\'');
+        sb.append(", blockSize=").append(blockSize);
+        sb.append(", prefetchPercentage=").append(prefetchPercentage);
+        sb.append(", mode=").append(mode);
+        sb.append('}');
+        return sb.toString();
+    }
+}
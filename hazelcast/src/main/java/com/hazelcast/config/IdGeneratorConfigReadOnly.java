@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.config;
+
+/**
+ * Contains configuration for IdGenerator(read only)
+ */
+public class IdGeneratorConfigReadOnly extends IdGeneratorConfig {
+
+    public IdGeneratorConfigReadOnly(IdGeneratorConfig config) {
+        super(config);
+    }
+
+    public IdGeneratorConfig setName(String name) {
+        throw new UnsupportedOperationException("This config is read-only id generator: " + getName());
+    }
+
+    public IdGeneratorConfig setBlockSize(int blockSize) {
+        throw new UnsupportedOperationException("This config is read-only id generator: " + getName());
+    }
+
+    public IdGeneratorConfig setPrefetchPercentage(int prefetchPercentage) {
+        throw new UnsupportedOperationException("This config is read-only id generator: " + getName());
+    }
+
+    public IdGeneratorConfig setMode(Mode mode) {
+        throw new UnsupportedOperationException("This config is read-only id generator: " + getName());
+    }
+}
@@ -111,6 +111,8 @@ public class MapConfig {
 
     private boolean readBackupData;
 
+    private boolean hotRestartEnabled;
+
     private boolean optimizeQueries;
 
     private String mergePolicy = DEFAULT_MAP_MERGE_POLICY;
@@ -157,6 +159,7 @@ public class MapConfig {
         this.mapStoreConfig = config.mapStoreConfig != null ? new MapStoreConfig(config.mapStoreConfig) : null;
         this.nearCacheConfig = config.nearCacheConfig != null ? new NearCacheConfig(config.nearCacheConfig) : null;
         this.readBackupData = config.readBackupData;
+        this.hotRestartEnabled = config.hotRestartEnabled;
         this.optimizeQueries = config.optimizeQueries;
         this.statisticsEnabled = config.statisticsEnabled;
         this.mergePolicy = config.mergePolicy;
@@ -510,6 +513,28 @@ public class MapConfig {
         return this;
     }
 
+    /**
+     * Checks if the entries of this map are persisted to the local disk of the members so they survive
+     * a restart of the cluster.
+     *
+     * @return True if hot restart is enabled, false otherwise.
+     */
+    public boolean isHotRestartEnabled() {
+        return hotRestartEnabled;
+    }
+
+    /**
+     * Sets hot restart (persisting the entries to the local disk of the members) for this map.
+     *
+     * @param hotRestartEnabled True to enable hot restart, false to disable.
+     * @return The current map config instance.
+     * @see com.hazelcast.instance.GroupProperties#PROP_HOT_RESTART_BASE_DIR
+     */
+    public MapConfig setHotRestartEnabled(boolean hotRestartEnabled) {
+        this.hotRestartEnabled = hotRestartEnabled;
+        return this;
+    }
+
     /**
      * Gets the Wan target replication reference.
      *
@@ -755,6 +780,7 @@ public class MapConfig {
         sb.append(", minEvictionCheckMillis=").append(minEvictionCheckMillis);
         sb.append(", maxSizeConfig=").append(maxSizeConfig);
         sb.append(", readBackupData=").append(readBackupData);
+        sb.append(", hotRestartEnabled=").append(hotRestartEnabled);
         sb.append(", nearCacheConfig=").append(nearCacheConfig);
         sb.append(", mapStoreConfig=").append(mapStoreConfig);
         sb.append(", mergePolicyConfig='").append(mergePolicy).append('\'');
@@ -168,6 +168,10 @@ public class MapConfigReadOnly extends MapConfig {
         throw new UnsupportedOperationException("This config is read-only map: " + getName());
     }
 
+    public MapConfig setHotRestartEnabled(boolean hotRestartEnabled) {
+        throw new UnsupportedOperationException("This config is read-only map: " + getName());
+    }
+
     public MapConfig setWanReplicationRef(WanReplicationRef wanReplicationRef) {
         throw new UnsupportedOperationException("This config is read-only map: " + getName());
     }
@@ -47,12 +47,18 @@ public class QueueConfig {
      */
     public static final int DEFAULT_EMPTY_QUEUE_TTL = -1;
 
+    /**
+     * Default value for the prefetch count of the Queue, prefetching is disabled by default.
+     */
+    public static final int DEFAULT_PREFETCH_COUNT = 0;
+
     private String name;
     private List<ItemListenerConfig> listenerConfigs;
     private int backupCount = DEFAULT_SYNC_BACKUP_COUNT;
     private int asyncBackupCount = DEFAULT_ASYNC_BACKUP_COUNT;
     private int maxSize = DEFAULT_MAX_SIZE;
     private int emptyQueueTtl = DEFAULT_EMPTY_QUEUE_TTL;
+    private int prefetchCount = DEFAULT_PREFETCH_COUNT;
     private QueueStoreConfig queueStoreConfig;
     private boolean statisticsEnabled = true;
     private QueueConfigReadOnly readOnly;
@@ -71,6 +77,7 @@ public class QueueConfig {
         this.asyncBackupCount = config.asyncBackupCount;
         this.maxSize = config.maxSize;
         this.emptyQueueTtl = config.emptyQueueTtl;
+        this.prefetchCount = config.prefetchCount;
         this.statisticsEnabled = config.statisticsEnabled;
         this.queueStoreConfig = config.queueStoreConfig != null ? new QueueStoreConfig(config.queueStoreConfig) : null;
         this.listenerConfigs = new ArrayList<ItemListenerConfig>(config.getItemListenerConfigs());
@@ -131,6 +138,37 @@ public class QueueConfig {
         return this;
     }
 
+    /**
+     * Returns the number of items a member leases at once when consuming from the Queue.
+     *
+     * @return The prefetch count, 0 if prefetching is disabled.
+     * @see #setPrefetchCount(int)
+     */
+    public int getPrefetchCount() {
+        return prefetchCount;
+    }
+
+    /**
+     * Sets the number of items a member leases at once when consuming from the Queue with
+     * {@link com.hazelcast.core.IQueue#poll()} or {@link com.hazelcast.core.IQueue#take()}.
+     * <p/>
+     * Leased items are removed from the Queue and kept in a pending state until the last of them has been handed
+     * to a consumer on the member. If the member leaves the cluster before that, the pending items are put back at
+     * the head of the Queue, so items can be delivered more than once. Items prefetched by a member are only visible
+     * to the consumers on that member; as long as the member is alive they are never handed to consumers on other
+     * members, even if nothing polls on that member anymore. The setting has no effect on clients.
+     *
+     * @param prefetchCount Set the prefetch count of the Queue to this value, 0 disables prefetching.
+     * @return The Queue configuration.
+     */
+    public QueueConfig setPrefetchCount(int prefetchCount) {
+        if (prefetchCount < 0) {
+            throw new IllegalArgumentException("Prefetch count of the queue can not be a negative value!");
+        }
+        this.prefetchCount = prefetchCount;
+        return this;
+    }
+
     /**
      * Get the total number of backups: the backup count plus the asynchronous backup count.
      *
@@ -291,6 +329,7 @@ public class QueueConfig {
         sb.append(", asyncBackupCount=").append(asyncBackupCount);
         sb.append(", maxSize=").append(maxSize);
         sb.append(", emptyQueueTtl=").append(emptyQueueTtl);
+        sb.append(", prefetchCount=").append(prefetchCount);
         sb.append(", queueStoreConfig=").append(queueStoreConfig);
         sb.append(", statisticsEnabled=").append(statisticsEnabled);
         sb.append('}');
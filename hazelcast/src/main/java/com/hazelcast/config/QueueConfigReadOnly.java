@@ -59,6 +59,10 @@ public class QueueConfigReadOnly extends QueueConfig {
         throw new UnsupportedOperationException("This config is read-only queue: " + getName());
     }
 
+    public QueueConfig setPrefetchCount(int prefetchCount) {
+        throw new UnsupportedOperationException("This config is read-only queue: " + getName());
+    }
+
     public QueueConfig setBackupCount(int backupCount) {
         throw new UnsupportedOperationException("This config is read-only queue: " + getName());
     }
@@ -49,6 +49,11 @@ public class ReliableTopicConfig {
      */
     public static final int DEFAULT_READ_BATCH_SIZE = 10;
 
+    /**
+     * The default number of batches a listener is allowed to read ahead.
+     */
+    public static final int DEFAULT_READ_AHEAD_COUNT = 1;
+
     /**
      * The default slow consumer policy
      */
@@ -61,6 +66,7 @@ public class ReliableTopicConfig {
 
     private Executor executor;
     private int readBatchSize = DEFAULT_READ_BATCH_SIZE;
+    private int readAheadCount = DEFAULT_READ_AHEAD_COUNT;
     private String name;
     private boolean statisticsEnabled = DEFAULT_STATISTICS_ENABLED;
     private List<ListenerConfig> listenerConfigs = new LinkedList<ListenerConfig>();
@@ -82,6 +88,7 @@ public class ReliableTopicConfig {
         this.name = config.name;
         this.statisticsEnabled = config.statisticsEnabled;
         this.readBatchSize = config.readBatchSize;
+        this.readAheadCount = config.readAheadCount;
         this.executor = config.executor;
         this.topicOverloadPolicy = config.topicOverloadPolicy;
         this.listenerConfigs = config.listenerConfigs;
@@ -192,6 +199,39 @@ public class ReliableTopicConfig {
         return this;
     }
 
+    /**
+     * Gets the maximum number of batches a MessageListener is allowed to read ahead. Returned value will always be equal
+     * or larger than 1.
+     *
+     * @return the read ahead count.
+     */
+    public int getReadAheadCount() {
+        return readAheadCount;
+    }
+
+    /**
+     * Sets the read ahead count.
+     *
+     * With a readAheadCount of 1, the next batch is only read from the ringbuffer after the current batch has been
+     * processed by the MessageListener. So the time spend in the MessageListener and the network round trip to the
+     * ringbuffer add up.
+     *
+     * With a readAheadCount larger than 1, the next batch is requested as soon as the current batch has been received, so
+     * the MessageListener processes one batch while the next one is being fetched. The readAheadCount determines how many
+     * received, but not yet processed, batches a MessageListener can have before it stops reading; this bounds the memory
+     * a slow MessageListener can consume.
+     *
+     * The ordering of messages is not influenced by this setting.
+     *
+     * @param readAheadCount the readAheadCount
+     * @return the updated config.
+     * @throws IllegalArgumentException if readAheadCount is smaller than 1.
+     */
+    public ReliableTopicConfig setReadAheadCount(int readAheadCount) {
+        this.readAheadCount = checkPositive(readAheadCount, "readAheadCount should be positive");
+        return this;
+    }
+
     /**
      * Checks if statistics are enabled.
      *
@@ -250,6 +290,7 @@ public class ReliableTopicConfig {
                 + ", topicOverloadPolicy=" + topicOverloadPolicy
                 + ", executor=" + executor
                 + ", readBatchSize=" + readBatchSize
+                + ", readAheadCount=" + readAheadCount
                 + ", statisticsEnabled=" + statisticsEnabled
                 + ", listenerConfigs=" + listenerConfigs
                 + '}';
@@ -271,6 +312,11 @@ public class ReliableTopicConfig {
             throw new UnsupportedOperationException("This config is read-only");
         }
 
+        @Override
+        public ReliableTopicConfig setReadAheadCount(int readAheadCount) {
+            throw new UnsupportedOperationException("This config is read-only");
+        }
+
         @Override
         public ReliableTopicConfig setStatisticsEnabled(boolean statisticsEnabled) {
             throw new UnsupportedOperationException("This config is read-only");
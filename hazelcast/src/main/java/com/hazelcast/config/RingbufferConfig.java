@@ -18,6 +18,7 @@ package com.hazelcast.config;
 
 import com.hazelcast.spi.annotation.Beta;
 
+import static com.hazelcast.config.InMemoryFormat.BINARY;
 import static com.hazelcast.config.InMemoryFormat.NATIVE;
 import static com.hazelcast.util.Preconditions.checkAsyncBackupCount;
 import static com.hazelcast.util.Preconditions.checkBackupCount;
@@ -55,6 +56,10 @@ public class RingbufferConfig {
      * Default value for the InMemoryFormat.
      */
     public static final InMemoryFormat DEFAULT_IN_MEMORY_FORMAT = InMemoryFormat.BINARY;
+    /**
+     * Default value for the arena size; 0 means that no arena is used.
+     */
+    public static final int DEFAULT_ARENA_SIZE = 0;
 
     private String name;
     private int capacity = DEFAULT_CAPACITY;
@@ -62,6 +67,7 @@ public class RingbufferConfig {
     private int asyncBackupCount = DEFAULT_ASYNC_BACKUP_COUNT;
     private int timeToLiveSeconds = DEFAULT_TTL_SECONDS;
     private InMemoryFormat inMemoryFormat = DEFAULT_IN_MEMORY_FORMAT;
+    private int arenaSize = DEFAULT_ARENA_SIZE;
 
     /**
      * Creates a RingbufferConfig with the provided name.
@@ -87,6 +93,7 @@ public class RingbufferConfig {
         this.asyncBackupCount = config.asyncBackupCount;
         this.timeToLiveSeconds = config.timeToLiveSeconds;
         this.inMemoryFormat = config.inMemoryFormat;
+        this.arenaSize = config.arenaSize;
     }
 
     /**
@@ -263,15 +270,58 @@ public class RingbufferConfig {
      * @param inMemoryFormat the new in memory format.
      * @return the updated Config.
      * @throws NullPointerException if inMemoryFormat is null.
-     * @throws IllegalArgumentException if {@link InMemoryFormat#NATIVE} in memory format is selected.
+     * @throws IllegalArgumentException if {@link InMemoryFormat#NATIVE} in memory format is selected, or if an in memory format
+     *                                  other than {@link InMemoryFormat#BINARY} is selected while an arena is configured.
      */
     public RingbufferConfig setInMemoryFormat(InMemoryFormat inMemoryFormat) {
         checkNotNull(inMemoryFormat, "inMemoryFormat can't be null");
         checkFalse(inMemoryFormat == NATIVE, "InMemoryFormat " + NATIVE + " is not supported");
+        checkArenaInMemoryFormat(arenaSize, inMemoryFormat);
         this.inMemoryFormat = inMemoryFormat;
         return this;
     }
 
+    /**
+     * Gets the size of the arena in bytes.
+     *
+     * @return the size of the arena, 0 if no arena is used.
+     * @see #setArenaSize(int)
+     */
+    public int getArenaSize() {
+        return arenaSize;
+    }
+
+    /**
+     * Sets the size of the arena in bytes.
+     *
+     * By default every item in the ringbuffer is stored as a separate object. If an arena is used, the serialized items
+     * are written back to back in a single pre-allocated byte array of the given size. This removes the per item
+     * allocation when items are added and improves locality when items are read. So it is useful for ringbuffers that
+     * store large numbers of small items.
+     *
+     * Apart from the capacity, the arena size determines how many items are retained: if the arena is full, the oldest
+     * items are removed to make room for new items, even if the capacity has not been reached or the time to live of these
+     * items has not expired. An item that is larger than the arena can't be stored.
+     *
+     * An arena can only be used in combination with the {@link InMemoryFormat#BINARY}.
+     *
+     * @param arenaSize the size of the arena in bytes, 0 to disable the arena.
+     * @return the updated RingbufferConfig
+     * @throws IllegalArgumentException if arenaSize smaller than 0, or if an arena is configured while the in memory format
+     *                                  is not {@link InMemoryFormat#BINARY}.
+     */
+    public RingbufferConfig setArenaSize(int arenaSize) {
+        checkNotNegative(arenaSize, "arenaSize can't be smaller than 0");
+        checkArenaInMemoryFormat(arenaSize, inMemoryFormat);
+        this.arenaSize = arenaSize;
+        return this;
+    }
+
+    private static void checkArenaInMemoryFormat(int arenaSize, InMemoryFormat inMemoryFormat) {
+        checkFalse(arenaSize > 0 && inMemoryFormat != BINARY,
+                "An arena can only be used in combination with InMemoryFormat " + BINARY);
+    }
+
     @Override
     public String toString() {
         return "RingbufferConfig{"
@@ -281,6 +331,7 @@ public class RingbufferConfig {
                 + ", asyncBackupCount=" + asyncBackupCount
                 + ", timeToLiveSeconds=" + timeToLiveSeconds
                 + ", inMemoryFormat=" + inMemoryFormat
+                + ", arenaSize=" + arenaSize
                 + '}';
     }
 
@@ -318,5 +369,10 @@ public class RingbufferConfig {
         public RingbufferConfig setInMemoryFormat(InMemoryFormat inMemoryFormat) {
             throw new UnsupportedOperationException("This config is read-only");
         }
+
+        @Override
+        public RingbufferConfig setArenaSize(int arenaSize) {
+            throw new UnsupportedOperationException("This config is read-only");
+        }
     }
 }
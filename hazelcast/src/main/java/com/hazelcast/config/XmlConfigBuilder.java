@@ -54,6 +54,7 @@ import static com.hazelcast.config.MapStoreConfig.InitialLoadMode;
 import static com.hazelcast.config.XmlElements.CACHE;
 import static com.hazelcast.config.XmlElements.EXECUTOR_SERVICE;
 import static com.hazelcast.config.XmlElements.GROUP;
+import static com.hazelcast.config.XmlElements.ID_GENERATOR;
 import static com.hazelcast.config.XmlElements.IMPORT;
 import static com.hazelcast.config.XmlElements.JOB_TRACKER;
 import static com.hazelcast.config.XmlElements.LICENSE_KEY;
@@ -292,6 +293,8 @@ public class XmlConfigBuilder extends AbstractConfigBuilder implements ConfigBui
             handleJobTracker(node);
         } else if (SEMAPHORE.isEqual(nodeName)) {
             handleSemaphore(node);
+        } else if (ID_GENERATOR.isEqual(nodeName)) {
+            handleIdGenerator(node);
         } else if (RINGBUFFER.isEqual(nodeName)) {
             handleRingbuffer(node);
         } else if (LISTENERS.isEqual(nodeName)) {
@@ -782,6 +785,8 @@ public class XmlConfigBuilder extends AbstractConfigBuilder implements ConfigBui
                 qConfig.setQueueStoreConfig(queueStoreConfig);
             } else if ("empty-queue-ttl".equals(nodeName)) {
                 qConfig.setEmptyQueueTtl(getIntegerValue("empty-queue-ttl", value, QueueConfig.DEFAULT_EMPTY_QUEUE_TTL));
+            } else if ("prefetch-count".equals(nodeName)) {
+                qConfig.setPrefetchCount(getIntegerValue("prefetch-count", value, QueueConfig.DEFAULT_PREFETCH_COUNT));
             }
         }
         this.config.addQueueConfig(qConfig);
@@ -961,6 +966,8 @@ public class XmlConfigBuilder extends AbstractConfigBuilder implements ConfigBui
                 mapConfig.setMergePolicy(value);
             } else if ("read-backup-data".equals(nodeName)) {
                 mapConfig.setReadBackupData(checkTrue(value));
+            } else if ("hot-restart-enabled".equals(nodeName)) {
+                mapConfig.setHotRestartEnabled(checkTrue(value));
             } else if ("statistics-enabled".equals(nodeName)) {
                 mapConfig.setStatisticsEnabled(checkTrue(value));
             } else if ("optimize-queries".equals(nodeName)) {
@@ -1023,6 +1030,8 @@ public class XmlConfigBuilder extends AbstractConfigBuilder implements ConfigBui
                 cacheWanReplicationRefHandle(n, cacheConfig);
             } else if ("eviction".equals(nodeName)) {
                 cacheConfig.setEvictionConfig(getEvictionConfig(n));
+            } else if ("hot-restart-enabled".equals(nodeName)) {
+                cacheConfig.setHotRestartEnabled(checkTrue(value));
             }
         }
         this.config.addCacheConfig(cacheConfig);
@@ -1393,6 +1402,10 @@ public class XmlConfigBuilder extends AbstractConfigBuilder implements ConfigBui
                 String batchSize = getTextContent(n);
                 topicConfig.setReadBatchSize(
                         getIntegerValue("read-batch-size", batchSize, ReliableTopicConfig.DEFAULT_READ_BATCH_SIZE));
+            } else if ("read-ahead-count".equals(nodeName)) {
+                String readAheadCount = getTextContent(n);
+                topicConfig.setReadAheadCount(
+                        getIntegerValue("read-ahead-count", readAheadCount, ReliableTopicConfig.DEFAULT_READ_AHEAD_COUNT));
             } else if ("statistics-enabled".equals(nodeName)) {
                 topicConfig.setStatisticsEnabled(checkTrue(getTextContent(n)));
             } else if ("topic-overload-policy".equals(nodeName)) {
@@ -1462,6 +1475,27 @@ public class XmlConfigBuilder extends AbstractConfigBuilder implements ConfigBui
         config.addSemaphoreConfig(sConfig);
     }
 
+    private void handleIdGenerator(final org.w3c.dom.Node node) {
+        final Node attName = node.getAttributes().getNamedItem("name");
+        final String name = getTextContent(attName);
+        final IdGeneratorConfig idConfig = new IdGeneratorConfig();
+        idConfig.setName(name);
+        for (org.w3c.dom.Node n : new IterableNodeList(node.getChildNodes())) {
+            final String nodeName = cleanNodeName(n.getNodeName());
+            final String value = getTextContent(n).trim();
+            if ("block-size".equals(nodeName)) {
+                idConfig.setBlockSize(getIntegerValue("block-size"
+                        , value, IdGeneratorConfig.DEFAULT_BLOCK_SIZE));
+            } else if ("prefetch-percentage".equals(nodeName)) {
+                idConfig.setPrefetchPercentage(getIntegerValue("prefetch-percentage"
+                        , value, IdGeneratorConfig.DEFAULT_PREFETCH_PERCENTAGE));
+            } else if ("mode".equals(nodeName)) {
+                idConfig.setMode(IdGeneratorConfig.Mode.valueOf(upperCaseInternal(value)));
+            }
+        }
+        config.addIdGeneratorConfig(idConfig);
+    }
+
     private void handleRingbuffer(Node node) {
         Node attName = node.getAttributes().getNamedItem("name");
         String name = getTextContent(attName);
@@ -1484,6 +1518,9 @@ public class XmlConfigBuilder extends AbstractConfigBuilder implements ConfigBui
             } else if ("in-memory-format".equals(nodeName)) {
                 InMemoryFormat inMemoryFormat = InMemoryFormat.valueOf(upperCaseInternal(value));
                 rbConfig.setInMemoryFormat(inMemoryFormat);
+            } else if ("arena-size".equals(nodeName)) {
+                int arenaSize = getIntegerValue("arena-size", value, RingbufferConfig.DEFAULT_ARENA_SIZE);
+                rbConfig.setArenaSize(arenaSize);
             }
         }
         config.addRingBufferConfig(rbConfig);
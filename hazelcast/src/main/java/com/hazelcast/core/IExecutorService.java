@@ -19,6 +19,7 @@ package com.hazelcast.core;
 import com.hazelcast.monitor.LocalExecutorStats;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
@@ -106,6 +107,21 @@ public interface IExecutorService extends ExecutorService, DistributedObject {
      */
     <T> Future<T> submitToKeyOwner(Callable<T> task, Object key);
 
+    /**
+     * Submits a collection of tasks in bulk and returns a list of Futures
+     * representing the tasks, in the iteration order of the collection.
+     *
+     * A task implementing {@link PartitionAware} is executed by the owner of its partition key,
+     * any other task by the owner of a randomly selected partition; just like {@link #submit(Callable)}.
+     * Instead of sending each task on its own, the tasks are grouped by the member they are executed on
+     * and sent in a few batch operations per member. The results of a batch are returned together as soon
+     * as all of its tasks have completed. The returned Futures can't be cancelled.
+     *
+     * @param tasks the tasks to submit
+     * @return a list of Futures representing pending completion of the tasks
+     */
+    <T> List<Future<T>> submitAll(Collection<? extends Callable<T>> tasks);
+
     /**
      * Submits a task to the specified member and returns a Future
      * representing that task.
@@ -18,6 +18,7 @@ package com.hazelcast.core;
 
 import com.hazelcast.monitor.LocalQueueStats;
 
+import java.util.Collection;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.TimeUnit;
 
@@ -53,6 +54,18 @@ public interface IQueue<E> extends BlockingQueue<E>, BaseQueue<E>, ICollection<E
 
     E take() throws InterruptedException;
 
+    /**
+     * Inserts the items of the given collection into this queue, in iteration order, as far as
+     * the remaining capacity of the queue allows. Unlike {@link #addAll(java.util.Collection)},
+     * a full queue does not reject the whole batch: the items that fit are accepted and the rest
+     * are left to the caller.
+     *
+     * @param items the items to insert, they can not be null
+     * @return the number of items accepted, the first that many items of the collection
+     * @throws NullPointerException if the collection or any of its items is null
+     */
+    int offerAll(Collection<? extends E> items);
+
     /**
      * Returns LocalQueueStats for this queue.
      * LocalQueueStats is the statistics for the local portion of this
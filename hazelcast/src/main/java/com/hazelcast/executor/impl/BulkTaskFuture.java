@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.executor.impl;
+
+import com.hazelcast.core.ExecutionCallback;
+import com.hazelcast.core.ICompletableFuture;
+import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.nio.serialization.SerializationService;
+import com.hazelcast.spi.impl.SerializableCollection;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * The Future of a single task submitted with {@link ExecutorServiceProxy#submitAll}. It completes when the batch
+ * containing the task completes.
+ *
+ * @param <V> the result type of the task
+ */
+final class BulkTaskFuture<V> implements ICompletableFuture<V> {
+
+    private final ICompletableFuture<SerializableCollection> batchFuture;
+    private final int index;
+    private final SerializationService serializationService;
+
+    BulkTaskFuture(ICompletableFuture<SerializableCollection> batchFuture, int index,
+                   SerializationService serializationService) {
+        this.batchFuture = batchFuture;
+        this.index = index;
+        this.serializationService = serializationService;
+    }
+
+    @Override
+    public V get() throws InterruptedException, ExecutionException {
+        return resolve(batchFuture.get());
+    }
+
+    @Override
+    public V get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+        return resolve(batchFuture.get(timeout, unit));
+    }
+
+    private V resolve(SerializableCollection results) throws ExecutionException {
+        Data data = ((List<Data>) results.getCollection()).get(index);
+        Object value = serializationService.toObject(data);
+        if (value instanceof Throwable) {
+            throw new ExecutionException((Throwable) value);
+        }
+        return (V) value;
+    }
+
+    @Override
+    public void andThen(ExecutionCallback<V> callback) {
+        batchFuture.andThen(new TaskCallback(callback));
+    }
+
+    @Override
+    public void andThen(ExecutionCallback<V> callback, Executor executor) {
+        batchFuture.andThen(new TaskCallback(callback), executor);
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        return false;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return false;
+    }
+
+    @Override
+    public boolean isDone() {
+        return batchFuture.isDone();
+    }
+
+    private final class TaskCallback implements ExecutionCallback<SerializableCollection> {
+        private final ExecutionCallback<V> callback;
+
+        private TaskCallback(ExecutionCallback<V> callback) {
+            this.callback = callback;
+        }
+
+        @Override
+        public void onResponse(SerializableCollection results) {
+            V value;
+            try {
+                value = resolve(results);
+            } catch (ExecutionException e) {
+                callback.onFailure(e.getCause());
+                return;
+            }
+            callback.onResponse(value);
+        }
+
+        @Override
+        public void onFailure(Throwable t) {
+            callback.onFailure(t);
+        }
+    }
+}
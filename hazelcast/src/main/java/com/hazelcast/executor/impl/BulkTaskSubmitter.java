@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.executor.impl;
+
+import com.hazelcast.executor.impl.operations.BulkCallableTaskOperation;
+import com.hazelcast.nio.Address;
+import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.partition.InternalPartitionService;
+import com.hazelcast.spi.InternalCompletableFuture;
+import com.hazelcast.spi.NodeEngine;
+import com.hazelcast.spi.OperationService;
+import com.hazelcast.spi.impl.SerializableCollection;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+
+import static com.hazelcast.util.UuidUtil.buildRandomUuidString;
+
+/**
+ * Groups tasks by the owner of their partition and sends them in batches of
+ * {@link com.hazelcast.instance.GroupProperties#PROP_EXECUTOR_BULK_BATCH_SIZE} tasks per operation.
+ *
+ * The tasks are sent to the member owning the partition when they are submitted; unlike a single task submitted to
+ * a key owner, a batch isn't redirected when the partition migrates in the meantime.
+ */
+final class BulkTaskSubmitter {
+
+    private BulkTaskSubmitter() {
+    }
+
+    static <T> List<Future<T>> submit(NodeEngine nodeEngine, String name, List<? extends Callable<T>> tasks,
+                                      int[] partitionIds) {
+        Map<Address, List<Integer>> tasksByOwner = groupByOwner(nodeEngine.getPartitionService(), partitionIds);
+        int batchSize = nodeEngine.getGroupProperties().EXECUTOR_BULK_BATCH_SIZE.getInteger();
+        OperationService operationService = nodeEngine.getOperationService();
+
+        List<Future<T>> futures = new ArrayList<Future<T>>(Collections.<Future<T>>nCopies(tasks.size(), null));
+        for (Map.Entry<Address, List<Integer>> entry : tasksByOwner.entrySet()) {
+            Address owner = entry.getKey();
+            List<Integer> taskIndexes = entry.getValue();
+            for (int from = 0; from < taskIndexes.size(); from += batchSize) {
+                List<Integer> batch = taskIndexes.subList(from, Math.min(from + batchSize, taskIndexes.size()));
+                List<Data> taskDataList = new ArrayList<Data>(batch.size());
+                for (Integer taskIndex : batch) {
+                    taskDataList.add(nodeEngine.toData(tasks.get(taskIndex)));
+                }
+
+                BulkCallableTaskOperation op = new BulkCallableTaskOperation(name, buildRandomUuidString(), taskDataList);
+                InternalCompletableFuture<SerializableCollection> batchFuture
+                        = operationService.invokeOnTarget(DistributedExecutorService.SERVICE_NAME, op, owner);
+                for (int k = 0; k < batch.size(); k++) {
+                    futures.set(batch.get(k), new BulkTaskFuture<T>(batchFuture, k, nodeEngine.getSerializationService()));
+                }
+            }
+        }
+        return futures;
+    }
+
+    private static Map<Address, List<Integer>> groupByOwner(InternalPartitionService partitionService, int[] partitionIds) {
+        Map<Address, List<Integer>> tasksByOwner = new HashMap<Address, List<Integer>>();
+        for (int taskIndex = 0; taskIndex < partitionIds.length; taskIndex++) {
+            Address owner = partitionService.getPartitionOwnerOrWait(partitionIds[taskIndex]);
+            List<Integer> taskIndexes = tasksByOwner.get(owner);
+            if (taskIndexes == null) {
+                taskIndexes = new ArrayList<Integer>();
+                tasksByOwner.put(owner, taskIndexes);
+            }
+            taskIndexes.add(taskIndex);
+        }
+        return tasksByOwner;
+    }
+}
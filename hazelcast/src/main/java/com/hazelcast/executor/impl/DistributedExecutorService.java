@@ -20,6 +20,8 @@ import com.hazelcast.logging.ILogger;
 import com.hazelcast.monitor.LocalExecutorStats;
 import com.hazelcast.monitor.impl.LocalExecutorStatsImpl;
 import com.hazelcast.nio.Address;
+import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.nio.serialization.HazelcastSerializationException;
 import com.hazelcast.spi.ExecutionService;
 import com.hazelcast.spi.ExecutionTracingService;
 import com.hazelcast.spi.ManagedService;
@@ -27,12 +29,14 @@ import com.hazelcast.spi.NodeEngine;
 import com.hazelcast.spi.RemoteService;
 import com.hazelcast.spi.ResponseHandler;
 import com.hazelcast.spi.StatisticsAwareService;
+import com.hazelcast.spi.impl.SerializableCollection;
 import com.hazelcast.util.Clock;
 import com.hazelcast.util.ConcurrencyUtil;
 import com.hazelcast.util.ConstructorFunction;
 import com.hazelcast.util.MapUtil;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
@@ -42,6 +46,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 public class DistributedExecutorService implements ManagedService, RemoteService, ExecutionTracingService,
@@ -60,6 +65,8 @@ public class DistributedExecutorService implements ManagedService, RemoteService
             = new ConcurrentHashMap<String, CallableProcessor>(100);
     private final Set<String> shutdownExecutors
             = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+    private final Set<String> runningBulkTasks
+            = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
     private final ConcurrentHashMap<String, LocalExecutorStatsImpl> statsMap
             = new ConcurrentHashMap<String, LocalExecutorStatsImpl>();
     private final ConstructorFunction<String, LocalExecutorStatsImpl> localExecutorStatsConstructorFunction
@@ -81,6 +88,7 @@ public class DistributedExecutorService implements ManagedService, RemoteService
     public void reset() {
         shutdownExecutors.clear();
         submittedTasks.clear();
+        runningBulkTasks.clear();
         statsMap.clear();
     }
 
@@ -108,6 +116,33 @@ public class DistributedExecutorService implements ManagedService, RemoteService
         }
     }
 
+    /**
+     * Executes a batch of tasks. The serialized results are sent as a single response once all tasks have completed.
+     *
+     * @param name            the name of the executor
+     * @param uuid            the id of the batch
+     * @param callables       the tasks; an exception instead of a task is used as the result of that task
+     * @param responseHandler the handler receiving the results
+     */
+    public void executeBulk(String name, String uuid, List<Object> callables, ResponseHandler responseHandler) {
+        BulkResponse bulkResponse = new BulkResponse(uuid, callables.size(), responseHandler);
+        if (callables.isEmpty()) {
+            bulkResponse.send();
+            return;
+        }
+
+        runningBulkTasks.add(uuid);
+        for (int i = 0; i < callables.size(); i++) {
+            Object callable = callables.get(i);
+            ResponseHandler taskResponseHandler = bulkResponse.forTask(i);
+            if (callable instanceof Callable) {
+                execute(name, null, (Callable) callable, taskResponseHandler);
+            } else {
+                taskResponseHandler.sendResponse(callable);
+            }
+        }
+    }
+
     public boolean cancel(String uuid, boolean interrupt) {
         CallableProcessor processor = submittedTasks.remove(uuid);
         if (processor != null && processor.cancel(interrupt)) {
@@ -161,7 +196,7 @@ public class DistributedExecutorService implements ManagedService, RemoteService
     @Override
     public boolean isOperationExecuting(Address callerAddress, String callerUuid, Object identifier) {
         String uuid = String.valueOf(identifier);
-        return submittedTasks.containsKey(uuid);
+        return submittedTasks.containsKey(uuid) || runningBulkTasks.contains(uuid);
     }
 
     @Override
@@ -173,6 +208,57 @@ public class DistributedExecutorService implements ManagedService, RemoteService
         return executorStats;
     }
 
+    /**
+     * Collects the results of the tasks of a batch and sends them once the last task has completed.
+     */
+    private final class BulkResponse {
+        private final String uuid;
+        private final Data[] results;
+        private final AtomicInteger pending;
+        private final ResponseHandler responseHandler;
+
+        private BulkResponse(String uuid, int taskCount, ResponseHandler responseHandler) {
+            this.uuid = uuid;
+            this.results = new Data[taskCount];
+            this.pending = new AtomicInteger(taskCount);
+            this.responseHandler = responseHandler;
+        }
+
+        private ResponseHandler forTask(final int index) {
+            return new ResponseHandler() {
+                @Override
+                public void sendResponse(Object result) {
+                    complete(index, result);
+                }
+
+                @Override
+                public boolean isLocal() {
+                    return responseHandler.isLocal();
+                }
+            };
+        }
+
+        private void complete(int index, Object result) {
+            results[index] = toData(result);
+            if (pending.decrementAndGet() == 0) {
+                runningBulkTasks.remove(uuid);
+                send();
+            }
+        }
+
+        private Data toData(Object result) {
+            try {
+                return nodeEngine.toData(result);
+            } catch (HazelcastSerializationException e) {
+                return nodeEngine.toData(e);
+            }
+        }
+
+        private void send() {
+            responseHandler.sendResponse(new SerializableCollection(results));
+        }
+    }
+
     private final class CallableProcessor extends FutureTask implements Runnable {
         //is being used through the RESPONSE_FLAG_FIELD_UPDATER. Can't be private due to reflection constraint.
         volatile Boolean responseFlag = Boolean.FALSE;
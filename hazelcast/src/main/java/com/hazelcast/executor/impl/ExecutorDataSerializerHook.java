@@ -16,6 +16,7 @@
 
 package com.hazelcast.executor.impl;
 
+import com.hazelcast.executor.impl.operations.BulkCallableTaskOperation;
 import com.hazelcast.executor.impl.operations.CallableTaskOperation;
 import com.hazelcast.executor.impl.operations.MemberCallableTaskOperation;
 import com.hazelcast.nio.serialization.DataSerializableFactory;
@@ -30,6 +31,7 @@ public class ExecutorDataSerializerHook implements DataSerializerHook {
     public static final int CALLABLE_TASK = 0;
     public static final int MEMBER_CALLABLE_TASK = 1;
     static final int RUNNABLE_ADAPTER = 2;
+    public static final int BULK_CALLABLE_TASK = 3;
 
     @Override
     public int getFactoryId() {
@@ -48,6 +50,8 @@ public class ExecutorDataSerializerHook implements DataSerializerHook {
                         return new MemberCallableTaskOperation();
                     case RUNNABLE_ADAPTER:
                         return new RunnableAdapter();
+                    case BULK_CALLABLE_TASK:
+                        return new BulkCallableTaskOperation();
                     default:
                         return null;
                 }
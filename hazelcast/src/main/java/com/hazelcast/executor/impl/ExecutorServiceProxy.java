@@ -288,6 +288,20 @@ public class ExecutorServiceProxy
         return submitToPartitionOwner(task, nodeEngine.getPartitionService().getPartitionId(key), false);
     }
 
+    @Override
+    public <T> List<Future<T>> submitAll(Collection<? extends Callable<T>> tasks) {
+        checkNotNull(tasks, "tasks can't be null");
+        checkNotShutdown();
+
+        List<Callable<T>> taskList = new ArrayList<Callable<T>>(tasks);
+        int[] partitionIds = new int[taskList.size()];
+        for (int i = 0; i < partitionIds.length; i++) {
+            Callable<T> task = checkNotNull(taskList.get(i), "task can't be null");
+            partitionIds[i] = getTaskPartitionId(task);
+        }
+        return BulkTaskSubmitter.submit(getNodeEngine(), name, taskList, partitionIds);
+    }
+
     @Override
     public <T> Future<T> submitToMember(Callable<T> task, Member member) {
         checkNotNull(task, "task can't be null");
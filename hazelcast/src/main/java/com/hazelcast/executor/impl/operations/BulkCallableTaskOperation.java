@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.executor.impl.operations;
+
+import com.hazelcast.core.ManagedContext;
+import com.hazelcast.core.MemberLeftException;
+import com.hazelcast.executor.impl.DistributedExecutorService;
+import com.hazelcast.executor.impl.ExecutorDataSerializerHook;
+import com.hazelcast.executor.impl.RunnableAdapter;
+import com.hazelcast.instance.HazelcastInstanceImpl;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.nio.serialization.SerializationServiceImpl;
+import com.hazelcast.spi.AbstractOperation;
+import com.hazelcast.spi.ExceptionAction;
+import com.hazelcast.spi.NodeEngine;
+import com.hazelcast.spi.TraceableOperation;
+import com.hazelcast.spi.exception.TargetNotMemberException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * Executes a batch of tasks on a member. The response, a
+ * {@link com.hazelcast.spi.impl.SerializableCollection} with the serialized result of each task, is sent
+ * once all tasks of the batch have completed.
+ */
+public final class BulkCallableTaskOperation extends AbstractOperation
+        implements IdentifiedDataSerializable, TraceableOperation {
+
+    private String name;
+    private String uuid;
+    private List<Data> callableDataList;
+
+    public BulkCallableTaskOperation() {
+    }
+
+    public BulkCallableTaskOperation(String name, String uuid, List<Data> callableDataList) {
+        this.name = name;
+        this.uuid = uuid;
+        this.callableDataList = callableDataList;
+    }
+
+    @Override
+    public void run() throws Exception {
+        NodeEngine nodeEngine = getNodeEngine();
+        ManagedContext managedContext = getManagedContext();
+        List<Object> callables = new ArrayList<Object>(callableDataList.size());
+        for (Data callableData : callableDataList) {
+            // a task that can't be deserialized fails on its own, the rest of the batch is still executed
+            Object callable;
+            try {
+                callable = initialize(managedContext, (Callable) nodeEngine.toObject(callableData));
+            } catch (Exception e) {
+                callable = e;
+            }
+            callables.add(callable);
+        }
+
+        DistributedExecutorService service = getService();
+        service.executeBulk(name, uuid, callables, getResponseHandler());
+    }
+
+    private static Callable initialize(ManagedContext managedContext, Callable callable) {
+        if (callable instanceof RunnableAdapter) {
+            RunnableAdapter adapter = (RunnableAdapter) callable;
+            Runnable runnable = (Runnable) managedContext.initialize(adapter.getRunnable());
+            adapter.setRunnable(runnable);
+            return adapter;
+        }
+        return (Callable) managedContext.initialize(callable);
+    }
+
+    private ManagedContext getManagedContext() {
+        HazelcastInstanceImpl hazelcastInstance = (HazelcastInstanceImpl) getNodeEngine().getHazelcastInstance();
+        SerializationServiceImpl serializationService =
+                (SerializationServiceImpl) hazelcastInstance.getSerializationService();
+        return serializationService.getManagedContext();
+    }
+
+    @Override
+    public boolean returnsResponse() {
+        return false;
+    }
+
+    @Override
+    public Object getResponse() {
+        return null;
+    }
+
+    @Override
+    public ExceptionAction onException(Throwable throwable) {
+        if (throwable instanceof MemberLeftException || throwable instanceof TargetNotMemberException) {
+            return ExceptionAction.THROW_EXCEPTION;
+        }
+        return super.onException(throwable);
+    }
+
+    @Override
+    public Object getTraceIdentifier() {
+        return uuid;
+    }
+
+    @Override
+    public String getServiceName() {
+        return DistributedExecutorService.SERVICE_NAME;
+    }
+
+    @Override
+    public int getFactoryId() {
+        return ExecutorDataSerializerHook.F_ID;
+    }
+
+    @Override
+    public int getId() {
+        return ExecutorDataSerializerHook.BULK_CALLABLE_TASK;
+    }
+
+    @Override
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        out.writeUTF(name);
+        out.writeUTF(uuid);
+        out.writeInt(callableDataList.size());
+        for (Data callableData : callableDataList) {
+            out.writeData(callableData);
+        }
+    }
+
+    @Override
+    protected void readInternal(ObjectDataInput in) throws IOException {
+        name = in.readUTF();
+        uuid = in.readUTF();
+        int size = in.readInt();
+        callableDataList = new ArrayList<Data>(size);
+        for (int i = 0; i < size; i++) {
+            callableDataList.add(in.readData());
+        }
+    }
+}
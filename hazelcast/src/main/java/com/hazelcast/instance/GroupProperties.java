@@ -62,6 +62,11 @@ public class GroupProperties {
      * The delay in seconds between monitoring of the performance.
      */
     public static final String PROP_PERFORMANCE_MONITORING_DELAY_SECONDS = "hazelcast.performance.monitoring.delay.seconds";
+    /**
+     * If latency histograms should be recorded for every operation type (queue wait and execution time) and for
+     * every invocation (round trip time). The histograms are exposed as gauges through the metrics registry and JMX.
+     */
+    public static final String PROP_LATENCY_HISTOGRAMS_ENABLED = "hazelcast.latency.histograms.enabled";
 
     public static final String PROP_VERSION_CHECK_ENABLED = "hazelcast.version.check.enabled";
     public static final String PROP_PREFER_IPv4_STACK = "hazelcast.prefer.ipv4.stack";
@@ -87,10 +92,30 @@ public class GroupProperties {
     public static final String PROP_EVENT_THREAD_COUNT = "hazelcast.event.thread.count";
     public static final String PROP_EVENT_QUEUE_CAPACITY = "hazelcast.event.queue.capacity";
     public static final String PROP_EVENT_QUEUE_TIMEOUT_MILLIS = "hazelcast.event.queue.timeout.millis";
+    /**
+     * If remote events destined to the same member should be packed into batches. A batch is sent when it
+     * reaches {@link #PROP_EVENT_BATCH_MAX_COUNT} events, {@link #PROP_EVENT_BATCH_MAX_BYTES} bytes or when
+     * it has been lingering for {@link #PROP_EVENT_BATCH_LINGER_MILLIS}. Disabled by default, since members that
+     * don't support event batches can't receive them and every event may linger up to the linger time.
+     */
+    public static final String PROP_EVENT_BATCH_ENABLED = "hazelcast.event.batch.enabled";
+    /**
+     * The maximum number of events in a single event batch.
+     */
+    public static final String PROP_EVENT_BATCH_MAX_COUNT = "hazelcast.event.batch.max.count";
+    /**
+     * The number of bytes of event data after which an event batch is sent.
+     */
+    public static final String PROP_EVENT_BATCH_MAX_BYTES = "hazelcast.event.batch.max.bytes";
+    /**
+     * The maximum time in milliseconds an event waits in an event batch before the batch is sent.
+     */
+    public static final String PROP_EVENT_BATCH_LINGER_MILLIS = "hazelcast.event.batch.linger.millis";
     public static final String PROP_CONNECT_ALL_WAIT_SECONDS = "hazelcast.connect.all.wait.seconds";
     public static final String PROP_MEMCACHE_ENABLED = "hazelcast.memcache.enabled";
     public static final String PROP_REST_ENABLED = "hazelcast.rest.enabled";
     public static final String PROP_MAP_LOAD_CHUNK_SIZE = "hazelcast.map.load.chunk.size";
+    public static final String PROP_MAP_LOAD_MAX_INFLIGHT_BATCHES = "hazelcast.map.load.max.inflight.batches";
     public static final String PROP_MERGE_FIRST_RUN_DELAY_SECONDS = "hazelcast.merge.first.run.delay.seconds";
     public static final String PROP_MERGE_NEXT_RUN_DELAY_SECONDS = "hazelcast.merge.next.run.delay.seconds";
     public static final String PROP_OPERATION_CALL_TIMEOUT_MILLIS = "hazelcast.operation.call.timeout.millis";
@@ -112,6 +137,25 @@ public class GroupProperties {
      * because they need to access all partitions on a given member.
      */
     public static final String PROP_CLIENT_ENGINE_THREAD_COUNT = "hazelcast.clientengine.thread.count";
+
+    /**
+     * Enables the client engine pipeline. Partition specific client messages then complete their response on the thread
+     * that completes the operation instead of hopping to the async executor, and query and bulk (multi partition and
+     * multi target) client messages run on their own executors so that slow scans can't starve the other requests.
+     */
+    public static final String PROP_CLIENT_ENGINE_PIPELINE_ENABLED = "hazelcast.clientengine.pipeline.enabled";
+
+    /**
+     * The number of threads that process client query requests when the client engine pipeline is enabled.
+     * If not set, the number of available processors is used.
+     */
+    public static final String PROP_CLIENT_ENGINE_QUERY_THREAD_COUNT = "hazelcast.clientengine.query.thread.count";
+
+    /**
+     * The number of threads that process client multi partition and multi target requests when the client engine
+     * pipeline is enabled. If not set, the number of available processors is used.
+     */
+    public static final String PROP_CLIENT_ENGINE_BULK_THREAD_COUNT = "hazelcast.clientengine.bulk.thread.count";
     public static final String PROP_SOCKET_RECEIVE_BUFFER_SIZE = "hazelcast.socket.receive.buffer.size";
     public static final String PROP_SOCKET_SEND_BUFFER_SIZE = "hazelcast.socket.send.buffer.size";
     public static final String PROP_SOCKET_LINGER_SECONDS = "hazelcast.socket.linger.seconds";
@@ -125,6 +169,45 @@ public class GroupProperties {
     public static final String PROP_MAX_JOIN_MERGE_TARGET_SECONDS = "hazelcast.max.join.merge.target.seconds";
     public static final String PROP_HEARTBEAT_INTERVAL_SECONDS = "hazelcast.heartbeat.interval.seconds";
     public static final String PROP_MAX_NO_HEARTBEAT_SECONDS = "hazelcast.max.no.heartbeat.seconds";
+
+    /**
+     * Failure detector used to decide when a member that stopped sending heartbeats is removed.
+     * <ul>
+     * <li>{@code deadline}: a member is removed when nothing has been read from it for
+     * {@link #PROP_MAX_NO_HEARTBEAT_SECONDS}.</li>
+     * <li>{@code phi-accrual}: heartbeats are sent every heartbeat interval and their inter-arrival times are
+     * tracked per member. A member is removed when the suspicion level (phi) of it being dead reaches
+     * {@link #PROP_HEARTBEAT_PHI_ACCRUAL_THRESHOLD}.</li>
+     * </ul>
+     */
+    public static final String PROP_HEARTBEAT_FAILURE_DETECTOR_TYPE = "hazelcast.heartbeat.failuredetector.type";
+
+    /**
+     * Suspicion level at which the phi accrual failure detector declares a member dead. A threshold of 8 means
+     * a roughly 1e-8 probability of a false suspicion given the observed heartbeat distribution.
+     */
+    public static final String PROP_HEARTBEAT_PHI_ACCRUAL_THRESHOLD = "hazelcast.heartbeat.phiaccrual.failuredetector.threshold";
+
+    /**
+     * Number of heartbeat inter-arrival times kept per member by the phi accrual failure detector.
+     */
+    public static final String PROP_HEARTBEAT_PHI_ACCRUAL_SAMPLE_SIZE
+            = "hazelcast.heartbeat.phiaccrual.failuredetector.sample.size";
+
+    /**
+     * Lower bound of the standard deviation of the heartbeat inter-arrival times used by the phi accrual failure
+     * detector, so that a very regular heartbeat history does not make the detector overly sensitive to jitter.
+     */
+    public static final String PROP_HEARTBEAT_PHI_ACCRUAL_MIN_STD_DEV_MILLIS
+            = "hazelcast.heartbeat.phiaccrual.failuredetector.min.std.dev.millis";
+
+    /**
+     * Heartbeat pause tolerated by the phi accrual failure detector on top of the observed inter-arrival times,
+     * e.g. to ride out garbage collection pauses. Use 0 for the fastest detection on healthy networks.
+     */
+    public static final String PROP_HEARTBEAT_PHI_ACCRUAL_ACCEPTABLE_PAUSE_MILLIS
+            = "hazelcast.heartbeat.phiaccrual.failuredetector.acceptable.pause.millis";
+
     public static final String PROP_MAX_NO_MASTER_CONFIRMATION_SECONDS = "hazelcast.max.no.master.confirmation.seconds";
     public static final String PROP_MASTER_CONFIRMATION_INTERVAL_SECONDS
             = "hazelcast.master.confirmation.interval.seconds";
@@ -209,6 +292,20 @@ public class GroupProperties {
     public static final String PROP_SLOW_OPERATION_DETECTOR_STACK_TRACE_LOGGING_ENABLED
             = "hazelcast.slow.operation.detector.stacktrace.logging.enabled";
 
+    /**
+     * Enables the hotspot detector, which samples the operations of the partition threads to account the load per
+     * partition, per data structure and per key. Disabled by default, since it registers gauges for every partition.
+     */
+    public static final String PROP_HOTSPOT_DETECTOR_ENABLED = "hazelcast.hotspot.detector.enabled";
+    /**
+     * One in every this many operations of a partition thread is sampled by the hotspot detector.
+     */
+    public static final String PROP_HOTSPOT_DETECTOR_SAMPLE_RATE = "hazelcast.hotspot.detector.sample.rate";
+    /**
+     * The number of partitions, data structures and keys reported by the hotspot detector.
+     */
+    public static final String PROP_HOTSPOT_DETECTOR_TOP_COUNT = "hazelcast.hotspot.detector.top.count";
+
     // OLD ELASTIC MEMORY PROPS
     public static final String PROP_ELASTIC_MEMORY_ENABLED = "hazelcast.elastic.memory.enabled";
     public static final String PROP_ELASTIC_MEMORY_TOTAL_SIZE = "hazelcast.elastic.memory.total.size";
@@ -218,6 +315,52 @@ public class GroupProperties {
     public static final String PROP_ENTERPRISE_LICENSE_KEY = "hazelcast.enterprise.license.key";
     public static final String PROP_MAP_WRITE_BEHIND_QUEUE_CAPACITY = "hazelcast.map.write.behind.queue.capacity";
 
+    /**
+     * Number of threads which are storing the entries of a write-behind map. Partitions are spread over the
+     * workers, so the store order of entries in the same partition is preserved.
+     */
+    public static final String PROP_MAP_WRITE_BEHIND_WORKER_COUNT = "hazelcast.map.write.behind.worker.count";
+
+    /**
+     * Target latency of a single batch store call for a write-behind map. When it is set, the size of the batches
+     * passed to {@link com.hazelcast.core.MapStore#storeAll} shrinks when the calls are slower than this target and
+     * grows back up to the configured write-batch-size when they are faster. Zero disables the adaptation.
+     */
+    public static final String PROP_MAP_WRITE_BEHIND_BATCH_LATENCY_MILLIS = "hazelcast.map.write.behind.batch.latency.millis";
+
+    /**
+     * Percentage of {@link #PROP_MAP_WRITE_BEHIND_QUEUE_CAPACITY} above which the owned write-behind queues are
+     * stored without waiting for their write delay and the updates of maps without write coalescing are slowed down
+     * by up to a millisecond each, so the queues are drained before updates are rejected.
+     */
+    public static final String PROP_MAP_WRITE_BEHIND_QUEUE_HIGH_WATER_MARK_PERCENTAGE
+            = "hazelcast.map.write.behind.queue.high.water.mark.percentage";
+
+    /**
+     * Directory where the hot restart logs of the maps and caches which have hot restart enabled are kept.
+     * Each member uses its own sub-directory named after its address, so it should restart with the same address
+     * to find its data again.
+     */
+    public static final String PROP_HOT_RESTART_BASE_DIR = "hazelcast.hot.restart.base.dir";
+
+    /**
+     * Size in bytes of a hot restart log segment. Sealed segments are compacted in the background.
+     */
+    public static final String PROP_HOT_RESTART_SEGMENT_SIZE_BYTES = "hazelcast.hot.restart.segment.size.bytes";
+
+    /**
+     * Number of threads reading the hot restart logs of the partitions in parallel on startup.
+     * A value smaller than 1 uses the number of available processors.
+     */
+    public static final String PROP_HOT_RESTART_RECOVERY_THREAD_COUNT = "hazelcast.hot.restart.recovery.thread.count";
+
+    /**
+     * Maximum time in milliseconds a partition thread waits when the hot restart write queue is full. The mutation
+     * is dropped once it expires, so the data persisted for the partition may be stale after a restart.
+     */
+    public static final String PROP_HOT_RESTART_WRITE_QUEUE_OFFER_TIMEOUT_MILLIS
+            = "hazelcast.hot.restart.write.queue.offer.timeout.millis";
+
     /**
      * Defines event queue capacity for WAN replication. Replication Events are dropped when queue capacity is reached.
      * Having too big queue capacity may lead to OOME problems,only valid for Hazelcast Enterprise
@@ -254,6 +397,52 @@ public class GroupProperties {
      */
     public static final String PROP_ENTERPRISE_WAN_REP_OP_TIMEOUT_MILLIS = "hazelcast.enterprise.wanrep.optimeout.millis";
 
+    /**
+     * Defines event queue capacity of the batching WAN replication publisher. When the queue is full, publishing
+     * threads wait for space as configured by {@link #PROP_WAN_REP_QUEUE_OFFER_TIMEOUT_MILLIS}.
+     */
+    public static final String PROP_WAN_REP_QUEUE_CAPACITY = "hazelcast.wanrep.queue.capacity";
+
+    /**
+     * Maximum time (in milliseconds) a publishing thread waits for space in a full WAN replication queue before
+     * the event is dropped and counted. Events are published on partition threads, so every update of the partition
+     * waits as well. 0, the default, never blocks the publishing thread.
+     */
+    public static final String PROP_WAN_REP_QUEUE_OFFER_TIMEOUT_MILLIS = "hazelcast.wanrep.queue.offer.timeout.millis";
+
+    /**
+     * Maximum number of WAN replication events sent to the target cluster in a single batch.
+     */
+    public static final String PROP_WAN_REP_BATCH_SIZE = "hazelcast.wanrep.batch.size";
+
+    /**
+     * Maximum time (in milliseconds) an event waits for its batch to fill up before the batch is sent anyway.
+     */
+    public static final String PROP_WAN_REP_BATCH_MAX_DELAY_MILLIS = "hazelcast.wanrep.batch.max.delay.millis";
+
+    /**
+     * Maximum number of batches in flight to a target cluster. Partitions are spread over this many lanes and each
+     * lane has at most one unacknowledged batch, so events of a partition are still applied in order.
+     */
+    public static final String PROP_WAN_REP_BATCH_MAX_IN_FLIGHT = "hazelcast.wanrep.batch.max.in.flight";
+
+    /**
+     * Time (in milliseconds) to wait for the acknowledgement of a batch before it is sent again.
+     */
+    public static final String PROP_WAN_REP_BATCH_ACK_TIMEOUT_MILLIS = "hazelcast.wanrep.batch.ack.timeout.millis";
+
+    /**
+     * Enables coalescing of WAN replication events by key. A pending map event is replaced by a newer event
+     * of the same map entry, so only the latest state of the entry is sent when the batch is cut.
+     */
+    public static final String PROP_WAN_REP_COALESCING_ENABLED = "hazelcast.wanrep.coalescing.enabled";
+
+    /**
+     * Maximum number of tasks sent to a member in a single operation by {@link com.hazelcast.core.IExecutorService#submitAll}.
+     * The results of such a batch are returned together, so smaller batches return their first results earlier.
+     */
+    public static final String PROP_EXECUTOR_BULK_BATCH_SIZE = "hazelcast.executor.bulk.batch.size";
+
     public static final String PROP_CLIENT_MAX_NO_HEARTBEAT_SECONDS = "hazelcast.client.max.no.heartbeat.seconds";
     public static final String PROP_MIGRATION_MIN_DELAY_ON_MEMBER_REMOVED_SECONDS
             = "hazelcast.migration.min.delay.on.member.removed.seconds";
@@ -377,6 +566,12 @@ public class GroupProperties {
 
     public final GroupProperty CLIENT_ENGINE_THREAD_COUNT;
 
+    public final GroupProperty CLIENT_ENGINE_PIPELINE_ENABLED;
+
+    public final GroupProperty CLIENT_ENGINE_QUERY_THREAD_COUNT;
+
+    public final GroupProperty CLIENT_ENGINE_BULK_THREAD_COUNT;
+
     public final GroupProperty PARTITION_OPERATION_THREAD_COUNT;
 
     public final GroupProperty GENERIC_OPERATION_THREAD_COUNT;
@@ -391,6 +586,8 @@ public class GroupProperties {
 
     public final GroupProperty PERFORMANCE_MONITORING_DELAY_SECONDS;
 
+    public final GroupProperty LATENCY_HISTOGRAMS_ENABLED;
+
     public final GroupProperty IO_THREAD_COUNT;
 
     public final GroupProperty IO_BALANCER_INTERVAL_SECONDS;
@@ -399,6 +596,14 @@ public class GroupProperties {
 
     public final GroupProperty EVENT_QUEUE_TIMEOUT_MILLIS;
 
+    public final GroupProperty EVENT_BATCH_ENABLED;
+
+    public final GroupProperty EVENT_BATCH_MAX_COUNT;
+
+    public final GroupProperty EVENT_BATCH_MAX_BYTES;
+
+    public final GroupProperty EVENT_BATCH_LINGER_MILLIS;
+
     public final GroupProperty PREFER_IPv4_STACK;
 
     public final GroupProperty CONNECT_ALL_WAIT_SECONDS;
@@ -411,6 +616,14 @@ public class GroupProperties {
 
     public final GroupProperty MAP_LOAD_CHUNK_SIZE;
 
+    /**
+     * The maximum number of key batches the member that loads the keys of a map from the
+     * {@link com.hazelcast.core.MapLoader#loadAllKeys()} has sent to the partitions but whose
+     * values have not yet been loaded. If the maximum is reached, loading keys is paused, so a very
+     * large key set is streamed to the partitions instead of flooding them.
+     */
+    public final GroupProperty MAP_LOAD_MAX_INFLIGHT_BATCHES;
+
     public final GroupProperty MERGE_FIRST_RUN_DELAY_SECONDS;
 
     public final GroupProperty MERGE_NEXT_RUN_DELAY_SECONDS;
@@ -453,6 +666,16 @@ public class GroupProperties {
 
     public final GroupProperty HEARTBEAT_INTERVAL_SECONDS;
 
+    public final GroupProperty HEARTBEAT_FAILURE_DETECTOR_TYPE;
+
+    public final GroupProperty HEARTBEAT_PHI_ACCRUAL_THRESHOLD;
+
+    public final GroupProperty HEARTBEAT_PHI_ACCRUAL_SAMPLE_SIZE;
+
+    public final GroupProperty HEARTBEAT_PHI_ACCRUAL_MIN_STD_DEV_MILLIS;
+
+    public final GroupProperty HEARTBEAT_PHI_ACCRUAL_ACCEPTABLE_PAUSE_MILLIS;
+
     public final GroupProperty MASTER_CONFIRMATION_INTERVAL_SECONDS;
 
     public final GroupProperty MAX_NO_MASTER_CONFIRMATION_SECONDS;
@@ -517,6 +740,10 @@ public class GroupProperties {
     public final GroupProperty SLOW_OPERATION_DETECTOR_LOG_PURGE_INTERVAL_SECONDS;
     public final GroupProperty SLOW_OPERATION_DETECTOR_STACK_TRACE_LOGGING_ENABLED;
 
+    public final GroupProperty HOTSPOT_DETECTOR_ENABLED;
+    public final GroupProperty HOTSPOT_DETECTOR_SAMPLE_RATE;
+    public final GroupProperty HOTSPOT_DETECTOR_TOP_COUNT;
+
     public final GroupProperty ELASTIC_MEMORY_ENABLED;
 
     public final GroupProperty ELASTIC_MEMORY_TOTAL_SIZE;
@@ -541,10 +768,33 @@ public class GroupProperties {
      */
     public final GroupProperty MAP_WRITE_BEHIND_QUEUE_CAPACITY;
 
+    public final GroupProperty MAP_WRITE_BEHIND_WORKER_COUNT;
+
+    public final GroupProperty MAP_WRITE_BEHIND_BATCH_LATENCY_MILLIS;
+
+    public final GroupProperty MAP_WRITE_BEHIND_QUEUE_HIGH_WATER_MARK_PERCENTAGE;
+
+    public final GroupProperty HOT_RESTART_BASE_DIR;
+
+    public final GroupProperty HOT_RESTART_SEGMENT_SIZE_BYTES;
+
+    public final GroupProperty HOT_RESTART_RECOVERY_THREAD_COUNT;
+
+    public final GroupProperty HOT_RESTART_WRITE_QUEUE_OFFER_TIMEOUT_MILLIS;
+
     public final GroupProperty ENTERPRISE_WAN_REP_QUEUE_CAPACITY;
     public final GroupProperty ENTERPRISE_WAN_REP_BATCH_SIZE;
     public final GroupProperty ENTERPRISE_WAN_REP_BATCH_FREQUENCY_SECONDS;
     public final GroupProperty ENTERPRISE_WAN_REP_OP_TIMEOUT_MILLIS;
+    public final GroupProperty WAN_REP_QUEUE_CAPACITY;
+    public final GroupProperty WAN_REP_QUEUE_OFFER_TIMEOUT_MILLIS;
+    public final GroupProperty WAN_REP_BATCH_SIZE;
+    public final GroupProperty WAN_REP_BATCH_MAX_DELAY_MILLIS;
+    public final GroupProperty WAN_REP_BATCH_MAX_IN_FLIGHT;
+    public final GroupProperty WAN_REP_BATCH_ACK_TIMEOUT_MILLIS;
+    public final GroupProperty WAN_REP_COALESCING_ENABLED;
+
+    public final GroupProperty EXECUTOR_BULK_BATCH_SIZE;
 
     public final GroupProperty CLIENT_HEARTBEAT_TIMEOUT_SECONDS;
 
@@ -568,6 +818,7 @@ public class GroupProperties {
         PERFORMANCE_MONITORING_ENABLED
                 = new GroupProperty(config, PROP_PERFORMANCE_MONITORING_ENABLED, "false");
         PERFORMANCE_MONITORING_DELAY_SECONDS = new GroupProperty(config, PROP_PERFORMANCE_MONITORING_DELAY_SECONDS, "30");
+        LATENCY_HISTOGRAMS_ENABLED = new GroupProperty(config, PROP_LATENCY_HISTOGRAMS_ENABLED, "true");
 
         VERSION_CHECK_ENABLED = new GroupProperty(config, PROP_VERSION_CHECK_ENABLED, "true");
         PREFER_IPv4_STACK = new GroupProperty(config, PROP_PREFER_IPv4_STACK, "true");
@@ -580,12 +831,20 @@ public class GroupProperties {
         EVENT_THREAD_COUNT = new GroupProperty(config, PROP_EVENT_THREAD_COUNT, "5");
         EVENT_QUEUE_CAPACITY = new GroupProperty(config, PROP_EVENT_QUEUE_CAPACITY, "1000000");
         EVENT_QUEUE_TIMEOUT_MILLIS = new GroupProperty(config, PROP_EVENT_QUEUE_TIMEOUT_MILLIS, "250");
+        EVENT_BATCH_ENABLED = new GroupProperty(config, PROP_EVENT_BATCH_ENABLED, "false");
+        EVENT_BATCH_MAX_COUNT = new GroupProperty(config, PROP_EVENT_BATCH_MAX_COUNT, "100");
+        EVENT_BATCH_MAX_BYTES = new GroupProperty(config, PROP_EVENT_BATCH_MAX_BYTES, "65536");
+        EVENT_BATCH_LINGER_MILLIS = new GroupProperty(config, PROP_EVENT_BATCH_LINGER_MILLIS, "1");
         CLIENT_ENGINE_THREAD_COUNT = new GroupProperty(config, PROP_CLIENT_ENGINE_THREAD_COUNT, "-1");
+        CLIENT_ENGINE_PIPELINE_ENABLED = new GroupProperty(config, PROP_CLIENT_ENGINE_PIPELINE_ENABLED, "false");
+        CLIENT_ENGINE_QUERY_THREAD_COUNT = new GroupProperty(config, PROP_CLIENT_ENGINE_QUERY_THREAD_COUNT, "-1");
+        CLIENT_ENGINE_BULK_THREAD_COUNT = new GroupProperty(config, PROP_CLIENT_ENGINE_BULK_THREAD_COUNT, "-1");
 
         CONNECT_ALL_WAIT_SECONDS = new GroupProperty(config, PROP_CONNECT_ALL_WAIT_SECONDS, "120");
         MEMCACHE_ENABLED = new GroupProperty(config, PROP_MEMCACHE_ENABLED, "true");
         REST_ENABLED = new GroupProperty(config, PROP_REST_ENABLED, "true");
         MAP_LOAD_CHUNK_SIZE = new GroupProperty(config, PROP_MAP_LOAD_CHUNK_SIZE, "1000");
+        MAP_LOAD_MAX_INFLIGHT_BATCHES = new GroupProperty(config, PROP_MAP_LOAD_MAX_INFLIGHT_BATCHES, "1000");
         MERGE_FIRST_RUN_DELAY_SECONDS = new GroupProperty(config, PROP_MERGE_FIRST_RUN_DELAY_SECONDS, "300");
         MERGE_NEXT_RUN_DELAY_SECONDS = new GroupProperty(config, PROP_MERGE_NEXT_RUN_DELAY_SECONDS, "120");
         OPERATION_CALL_TIMEOUT_MILLIS = new GroupProperty(config, PROP_OPERATION_CALL_TIMEOUT_MILLIS, "60000");
@@ -608,6 +867,13 @@ public class GroupProperties {
         MAX_JOIN_MERGE_TARGET_SECONDS = new GroupProperty(config, PROP_MAX_JOIN_MERGE_TARGET_SECONDS, "20");
         HEARTBEAT_INTERVAL_SECONDS = new GroupProperty(config, PROP_HEARTBEAT_INTERVAL_SECONDS, "1");
         MAX_NO_HEARTBEAT_SECONDS = new GroupProperty(config, PROP_MAX_NO_HEARTBEAT_SECONDS, "300");
+        HEARTBEAT_FAILURE_DETECTOR_TYPE = new GroupProperty(config, PROP_HEARTBEAT_FAILURE_DETECTOR_TYPE, "deadline");
+        HEARTBEAT_PHI_ACCRUAL_THRESHOLD = new GroupProperty(config, PROP_HEARTBEAT_PHI_ACCRUAL_THRESHOLD, "10");
+        HEARTBEAT_PHI_ACCRUAL_SAMPLE_SIZE = new GroupProperty(config, PROP_HEARTBEAT_PHI_ACCRUAL_SAMPLE_SIZE, "200");
+        HEARTBEAT_PHI_ACCRUAL_MIN_STD_DEV_MILLIS
+                = new GroupProperty(config, PROP_HEARTBEAT_PHI_ACCRUAL_MIN_STD_DEV_MILLIS, "100");
+        HEARTBEAT_PHI_ACCRUAL_ACCEPTABLE_PAUSE_MILLIS
+                = new GroupProperty(config, PROP_HEARTBEAT_PHI_ACCRUAL_ACCEPTABLE_PAUSE_MILLIS, "3000");
         MASTER_CONFIRMATION_INTERVAL_SECONDS
                 = new GroupProperty(config, PROP_MASTER_CONFIRMATION_INTERVAL_SECONDS, "30");
         MAX_NO_MASTER_CONFIRMATION_SECONDS = new GroupProperty(config, PROP_MAX_NO_MASTER_CONFIRMATION_SECONDS, "500");
@@ -652,6 +918,10 @@ public class GroupProperties {
         SLOW_OPERATION_DETECTOR_STACK_TRACE_LOGGING_ENABLED
                 = new GroupProperty(config, PROP_SLOW_OPERATION_DETECTOR_STACK_TRACE_LOGGING_ENABLED, "false");
 
+        HOTSPOT_DETECTOR_ENABLED = new GroupProperty(config, PROP_HOTSPOT_DETECTOR_ENABLED, "false");
+        HOTSPOT_DETECTOR_SAMPLE_RATE = new GroupProperty(config, PROP_HOTSPOT_DETECTOR_SAMPLE_RATE, "100");
+        HOTSPOT_DETECTOR_TOP_COUNT = new GroupProperty(config, PROP_HOTSPOT_DETECTOR_TOP_COUNT, "10");
+
         ELASTIC_MEMORY_ENABLED = new GroupProperty(config, PROP_ELASTIC_MEMORY_ENABLED, "false");
         ELASTIC_MEMORY_TOTAL_SIZE = new GroupProperty(config, PROP_ELASTIC_MEMORY_TOTAL_SIZE, "128M");
         ELASTIC_MEMORY_CHUNK_SIZE = new GroupProperty(config, PROP_ELASTIC_MEMORY_CHUNK_SIZE, "1K");
@@ -660,12 +930,30 @@ public class GroupProperties {
         ENTERPRISE_LICENSE_KEY = new GroupProperty(config, PROP_ENTERPRISE_LICENSE_KEY);
         MAP_WRITE_BEHIND_QUEUE_CAPACITY
                 = new GroupProperty(config, PROP_MAP_WRITE_BEHIND_QUEUE_CAPACITY, "50000");
+        MAP_WRITE_BEHIND_WORKER_COUNT = new GroupProperty(config, PROP_MAP_WRITE_BEHIND_WORKER_COUNT, "1");
+        MAP_WRITE_BEHIND_BATCH_LATENCY_MILLIS = new GroupProperty(config, PROP_MAP_WRITE_BEHIND_BATCH_LATENCY_MILLIS, "0");
+        MAP_WRITE_BEHIND_QUEUE_HIGH_WATER_MARK_PERCENTAGE
+                = new GroupProperty(config, PROP_MAP_WRITE_BEHIND_QUEUE_HIGH_WATER_MARK_PERCENTAGE, "80");
+
+        HOT_RESTART_BASE_DIR = new GroupProperty(config, PROP_HOT_RESTART_BASE_DIR, "hot-restart");
+        HOT_RESTART_SEGMENT_SIZE_BYTES = new GroupProperty(config, PROP_HOT_RESTART_SEGMENT_SIZE_BYTES, "8388608");
+        HOT_RESTART_RECOVERY_THREAD_COUNT = new GroupProperty(config, PROP_HOT_RESTART_RECOVERY_THREAD_COUNT, "-1");
+        HOT_RESTART_WRITE_QUEUE_OFFER_TIMEOUT_MILLIS = new GroupProperty(config,
+                PROP_HOT_RESTART_WRITE_QUEUE_OFFER_TIMEOUT_MILLIS, "100");
 
         ENTERPRISE_WAN_REP_QUEUE_CAPACITY = new GroupProperty(config, PROP_ENTERPRISE_WAN_REP_QUEUE_CAPACITY, "100000");
         ENTERPRISE_WAN_REP_BATCH_SIZE = new GroupProperty(config, PROP_ENTERPRISE_WAN_REP_BATCH_SIZE, "50");
         ENTERPRISE_WAN_REP_BATCH_FREQUENCY_SECONDS
                 = new GroupProperty(config, PROP_ENTERPRISE_WAN_REP_BATCH_FREQUENCY_SECONDS, "5");
         ENTERPRISE_WAN_REP_OP_TIMEOUT_MILLIS = new GroupProperty(config, PROP_ENTERPRISE_WAN_REP_OP_TIMEOUT_MILLIS, "-1");
+        WAN_REP_QUEUE_CAPACITY = new GroupProperty(config, PROP_WAN_REP_QUEUE_CAPACITY, "100000");
+        WAN_REP_QUEUE_OFFER_TIMEOUT_MILLIS = new GroupProperty(config, PROP_WAN_REP_QUEUE_OFFER_TIMEOUT_MILLIS, "0");
+        WAN_REP_BATCH_SIZE = new GroupProperty(config, PROP_WAN_REP_BATCH_SIZE, "500");
+        WAN_REP_BATCH_MAX_DELAY_MILLIS = new GroupProperty(config, PROP_WAN_REP_BATCH_MAX_DELAY_MILLIS, "100");
+        WAN_REP_BATCH_MAX_IN_FLIGHT = new GroupProperty(config, PROP_WAN_REP_BATCH_MAX_IN_FLIGHT, "4");
+        WAN_REP_BATCH_ACK_TIMEOUT_MILLIS = new GroupProperty(config, PROP_WAN_REP_BATCH_ACK_TIMEOUT_MILLIS, "60000");
+        WAN_REP_COALESCING_ENABLED = new GroupProperty(config, PROP_WAN_REP_COALESCING_ENABLED, "false");
+        EXECUTOR_BULK_BATCH_SIZE = new GroupProperty(config, PROP_EXECUTOR_BULK_BATCH_SIZE, "1000");
 
         CLIENT_HEARTBEAT_TIMEOUT_SECONDS = new GroupProperty(config, PROP_CLIENT_MAX_NO_HEARTBEAT_SECONDS, "300");
         MIGRATION_MIN_DELAY_ON_MEMBER_REMOVED_SECONDS
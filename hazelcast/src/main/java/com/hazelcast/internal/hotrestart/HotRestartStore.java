@@ -0,0 +1,343 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.hotrestart;
+
+import com.hazelcast.core.HazelcastException;
+import com.hazelcast.instance.GroupProperties;
+import com.hazelcast.instance.HazelcastThreadGroup;
+import com.hazelcast.logging.ILogger;
+import com.hazelcast.nio.Address;
+import com.hazelcast.spi.ExecutionService;
+import com.hazelcast.spi.NodeEngine;
+import com.hazelcast.spi.impl.NodeEngineImpl;
+import com.hazelcast.util.executor.ExecutorType;
+
+import java.io.File;
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static com.hazelcast.util.EmptyStatement.ignore;
+
+/**
+ * Keeps the {@link PartitionLog}s of the data structures of one service on the local disk of the member.
+ * <p/>
+ * The logs are laid out as {@code <base-dir>/<host>-<port>/<service>/<structure-name>/<partition-id>/}.
+ * Mutations of all logs are queued to a single writer thread which writes, flushes and compacts the logs, so
+ * partition threads never do disk I/O; the queue is bounded and a full queue blocks a partition thread for at most
+ * the configured offer timeout, after which the mutation is dropped. {@link #recover(String, RecoveryHandler)} reads
+ * the data left by a previous run with one task per partition.
+ *
+ * @see GroupProperties#PROP_HOT_RESTART_BASE_DIR
+ * @see GroupProperties#PROP_HOT_RESTART_WRITE_QUEUE_OFFER_TIMEOUT_MILLIS
+ */
+public class HotRestartStore {
+
+    private static final String RECOVERY_EXECUTOR_NAME_PREFIX = "hz:hot-restart:recovery:";
+    private static final long FLUSH_PERIOD_MILLIS = 100;
+    private static final long COMPACTION_PERIOD_MILLIS = 1000;
+    private static final long WRITER_SHUTDOWN_TIMEOUT_MILLIS = 10000;
+    private static final int WRITE_QUEUE_CAPACITY = 1 << 16;
+    private static final int WRITE_BATCH_SIZE = 1024;
+
+    private final NodeEngine nodeEngine;
+    private final ILogger logger;
+    private final File dir;
+    private final long segmentSize;
+    private final long offerTimeoutMillis;
+    private final int recoveryThreadCount;
+    private final String serviceName;
+    private final String recoveryExecutorName;
+    private final ConcurrentMap<String, PartitionLog> logs = new ConcurrentHashMap<String, PartitionLog>();
+    private final BlockingQueue<PartitionLog.Mutation> writeQueue
+            = new LinkedBlockingQueue<PartitionLog.Mutation>(WRITE_QUEUE_CAPACITY);
+
+    private WriterThread writer;
+    private ExecutorService recoveryExecutor;
+
+    public HotRestartStore(NodeEngine nodeEngine, String serviceName) {
+        this.nodeEngine = nodeEngine;
+        this.logger = nodeEngine.getLogger(HotRestartStore.class);
+        GroupProperties groupProperties = nodeEngine.getGroupProperties();
+        Address address = nodeEngine.getThisAddress();
+        File baseDir = new File(groupProperties.HOT_RESTART_BASE_DIR.getString());
+        File memberDir = new File(baseDir, address.getHost() + '-' + address.getPort());
+        this.dir = new File(memberDir, encode(serviceName));
+        this.segmentSize = groupProperties.HOT_RESTART_SEGMENT_SIZE_BYTES.getLong();
+        this.offerTimeoutMillis = groupProperties.HOT_RESTART_WRITE_QUEUE_OFFER_TIMEOUT_MILLIS.getLong();
+        int threadCount = groupProperties.HOT_RESTART_RECOVERY_THREAD_COUNT.getInteger();
+        this.recoveryThreadCount = threadCount > 0 ? threadCount : Runtime.getRuntime().availableProcessors();
+        this.serviceName = serviceName;
+        this.recoveryExecutorName = RECOVERY_EXECUTOR_NAME_PREFIX + serviceName;
+    }
+
+    /**
+     * Returns the log of a partition of a data structure, creating it if needed.
+     *
+     * @param name        name of the data structure.
+     * @param partitionId id of the partition.
+     * @return the log of the partition.
+     */
+    public PartitionLog getOrCreateLog(String name, int partitionId) {
+        String key = name + '/' + partitionId;
+        PartitionLog log = logs.get(key);
+        if (log == null) {
+            PartitionLog newLog = new PartitionLog(getPartitionDir(name, partitionId), partitionId, segmentSize, logger,
+                    writeQueue, offerTimeoutMillis);
+            log = logs.putIfAbsent(key, newLog);
+            if (log == null) {
+                log = newLog;
+                startWriter();
+            }
+        }
+        return log;
+    }
+
+    /**
+     * Returns the names of the data structures a previous run left data for.
+     *
+     * @return the names of the data structures found on disk.
+     */
+    public Collection<String> getRecoverableNames() {
+        File[] structureDirs = dir.listFiles();
+        if (structureDirs == null) {
+            return Collections.emptyList();
+        }
+        List<String> names = new ArrayList<String>(structureDirs.length);
+        for (File structureDir : structureDirs) {
+            if (structureDir.isDirectory()) {
+                names.add(decode(structureDir.getName()));
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Hands the data a previous run left for the given data structure to the handler. Partitions are read in
+     * parallel on a dedicated executor; this method does not wait for them.
+     *
+     * @param name    name of the data structure.
+     * @param handler handler receiving the entries of each partition.
+     */
+    public void recover(final String name, final RecoveryHandler handler) {
+        File[] partitionDirs = getStructureDir(name).listFiles();
+        if (partitionDirs == null) {
+            return;
+        }
+        int partitionCount = nodeEngine.getPartitionService().getPartitionCount();
+        for (File partitionDir : partitionDirs) {
+            final int partitionId = toPartitionId(partitionDir);
+            if (partitionId < 0 || partitionId >= partitionCount) {
+                logger.warning("Ignoring hot restart data in " + partitionDir + ", partition count is " + partitionCount);
+                continue;
+            }
+            final PartitionLog log = getOrCreateLog(name, partitionId);
+            if (!log.startRecovery()) {
+                continue;
+            }
+            getRecoveryExecutor().execute(new Runnable() {
+                @Override
+                public void run() {
+                    boolean success = false;
+                    try {
+                        Collection<RecoveredRecord> records = log.readRecovered();
+                        handler.onRecovered(name, partitionId, records);
+                        success = true;
+                    } catch (Exception e) {
+                        logger.warning("Could not recover partition " + partitionId + " of " + name
+                                + ", its data is kept for the next restart", e);
+                    } finally {
+                        log.endRecovery(success);
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * Writes the queued mutations, then flushes and closes all logs, their files are kept for the next start.
+     */
+    public void shutdown() {
+        WriterThread writer;
+        synchronized (this) {
+            writer = this.writer;
+        }
+        if (writer != null) {
+            writer.shutdown();
+        }
+        for (PartitionLog log : logs.values()) {
+            log.close();
+        }
+        // releases partition threads blocked on a full queue, their mutations are dropped by the closed logs
+        writeQueue.clear();
+    }
+
+    private synchronized void startWriter() {
+        if (writer != null) {
+            return;
+        }
+        HazelcastThreadGroup threadGroup = ((NodeEngineImpl) nodeEngine).getNode().getHazelcastThreadGroup();
+        writer = new WriterThread(threadGroup);
+        writer.start();
+    }
+
+    private synchronized ExecutorService getRecoveryExecutor() {
+        if (recoveryExecutor == null) {
+            ExecutionService executionService = nodeEngine.getExecutionService();
+            recoveryExecutor = executionService.register(recoveryExecutorName, recoveryThreadCount, Integer.MAX_VALUE,
+                    ExecutorType.CACHED);
+        }
+        return recoveryExecutor;
+    }
+
+    private File getStructureDir(String name) {
+        return new File(dir, encode(name));
+    }
+
+    private File getPartitionDir(String name, int partitionId) {
+        return new File(getStructureDir(name), String.valueOf(partitionId));
+    }
+
+    private static int toPartitionId(File partitionDir) {
+        try {
+            return Integer.parseInt(partitionDir.getName());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static String decode(String name) {
+        try {
+            return URLDecoder.decode(name, "UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            throw new HazelcastException(e);
+        }
+    }
+
+    private static String encode(String name) {
+        try {
+            return URLEncoder.encode(name, "UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            throw new HazelcastException(e);
+        }
+    }
+
+    /**
+     * Writes the queued mutations to their logs. Touched logs are flushed when the queue runs empty or every
+     * {@link #FLUSH_PERIOD_MILLIS}, all logs are considered for compaction every {@link #COMPACTION_PERIOD_MILLIS}.
+     */
+    private final class WriterThread extends Thread {
+
+        private final List<PartitionLog.Mutation> batch = new ArrayList<PartitionLog.Mutation>(WRITE_BATCH_SIZE);
+        private final Map<PartitionLog, Boolean> dirtyLogs = new IdentityHashMap<PartitionLog, Boolean>();
+        private volatile boolean running = true;
+        private long nextFlushMillis;
+        private long nextCompactionMillis;
+
+        private WriterThread(HazelcastThreadGroup threadGroup) {
+            super(threadGroup.getInternalThreadGroup(), threadGroup.getThreadNamePrefix("HotRestartWriter-" + serviceName));
+            setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            long now = System.currentTimeMillis();
+            nextFlushMillis = now + FLUSH_PERIOD_MILLIS;
+            nextCompactionMillis = now + COMPACTION_PERIOD_MILLIS;
+            while (running) {
+                try {
+                    PartitionLog.Mutation mutation = writeQueue.poll(FLUSH_PERIOD_MILLIS, TimeUnit.MILLISECONDS);
+                    if (mutation != null) {
+                        batch.add(mutation);
+                    }
+                    writeQueued();
+                    maintain();
+                } catch (InterruptedException e) {
+                    // woken up by shutdown
+                    ignore(e);
+                } catch (Throwable t) {
+                    logger.severe("Hot restart writer of " + serviceName + " failed", t);
+                }
+            }
+            writeQueued();
+            flushDirtyLogs();
+        }
+
+        private void writeQueued() {
+            for (;;) {
+                writeQueue.drainTo(batch, WRITE_BATCH_SIZE - batch.size());
+                if (batch.isEmpty()) {
+                    return;
+                }
+                for (PartitionLog.Mutation mutation : batch) {
+                    mutation.log.write(mutation);
+                    dirtyLogs.put(mutation.log, Boolean.TRUE);
+                }
+                batch.clear();
+                if (System.currentTimeMillis() >= nextFlushMillis) {
+                    return;
+                }
+            }
+        }
+
+        private void maintain() {
+            long now = System.currentTimeMillis();
+            if (writeQueue.isEmpty() || now >= nextFlushMillis) {
+                flushDirtyLogs();
+                nextFlushMillis = now + FLUSH_PERIOD_MILLIS;
+            }
+            if (now >= nextCompactionMillis) {
+                for (PartitionLog log : logs.values()) {
+                    log.compact();
+                }
+                nextCompactionMillis = now + COMPACTION_PERIOD_MILLIS;
+            }
+        }
+
+        private void flushDirtyLogs() {
+            for (PartitionLog log : dirtyLogs.keySet()) {
+                log.flush();
+            }
+            dirtyLogs.clear();
+        }
+
+        private void shutdown() {
+            running = false;
+            interrupt();
+            try {
+                join(WRITER_SHUTDOWN_TIMEOUT_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (isAlive()) {
+                logger.warning("Hot restart writer of " + serviceName + " did not stop in time");
+            }
+        }
+    }
+}
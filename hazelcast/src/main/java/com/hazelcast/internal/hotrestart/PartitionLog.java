@@ -0,0 +1,561 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.hotrestart;
+
+import com.hazelcast.logging.ILogger;
+import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.nio.serialization.DefaultData;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.hazelcast.nio.IOUtil.closeResource;
+import static com.hazelcast.util.EmptyStatement.ignore;
+
+/**
+ * Append-only log of the mutations of one partition of a persisted data structure.
+ * <p/>
+ * Every run of the member writes into its own epoch directory below the partition directory. Within an epoch the log
+ * is split into segments of about {@code segmentSize} bytes. Sealed segments are merged by {@link #compact()} into a
+ * single compacted file which only contains the live entries, plus the removals as long as epochs of previous runs
+ * are left that may still contain the removed entries; the files of an epoch are:
+ * <pre>
+ *     &lt;seq&gt;.seg        a segment, the one with the highest sequence is being written.
+ *     &lt;seq&gt;.compacted  the live entries of all segments up to and including &lt;seq&gt;.
+ * </pre>
+ * Epochs written by previous runs are never modified. They are read by {@link #readRecovered()} and deleted by
+ * {@link #discardRecovered()} once their entries are handed over.
+ * <p/>
+ * Mutations are not written by the calling partition thread. They are queued to the writer of the store which
+ * writes, flushes and compacts all logs of the store, so the files of a log are only touched by that single thread.
+ * If the queue stays full for longer than the offer timeout, the mutation is dropped rather than blocking the partition
+ * thread any longer; the data persisted for the partition may then be stale after a restart. A log created without a
+ * write queue writes on the calling thread instead.
+ */
+public final class PartitionLog {
+
+    static final byte PUT = 1;
+    static final byte REMOVE = 2;
+    // only used for queued mutations, never written to a file
+    static final byte CLEAR = 3;
+
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String COMPACTED_SUFFIX = ".compacted";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int MIN_FILES_TO_COMPACT = 2;
+
+    private static final Comparator<File> SEQUENCE_COMPARATOR = new Comparator<File>() {
+        @Override
+        public int compare(File o1, File o2) {
+            long s1 = toLong(toSequence(o1));
+            long s2 = toLong(toSequence(o2));
+            return s1 < s2 ? -1 : (s1 == s2 ? 0 : 1);
+        }
+    };
+
+    private final File dir;
+    private final int partitionId;
+    private final long segmentSize;
+    private final ILogger logger;
+    private final File epochDir;
+    private final List<File> recoveredEpochs;
+    private final List<File> sealedFiles = new ArrayList<File>();
+    private final AtomicBoolean recovering = new AtomicBoolean();
+    private final BlockingQueue<Mutation> writeQueue;
+    private final long offerTimeoutMillis;
+    private final AtomicLong droppedMutationCount = new AtomicLong();
+
+    private long nextSequence;
+    private File activeFile;
+    private DataOutputStream out;
+    private volatile boolean closed;
+
+    PartitionLog(File dir, int partitionId, long segmentSize, ILogger logger) {
+        this(dir, partitionId, segmentSize, logger, null, 0);
+    }
+
+    PartitionLog(File dir, int partitionId, long segmentSize, ILogger logger, BlockingQueue<Mutation> writeQueue,
+                 long offerTimeoutMillis) {
+        this.dir = dir;
+        this.writeQueue = writeQueue;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.partitionId = partitionId;
+        this.segmentSize = segmentSize;
+        this.logger = logger;
+        this.recoveredEpochs = listEpochs(dir);
+        long epoch = recoveredEpochs.isEmpty() ? 0 : toLong(lastOf(recoveredEpochs).getName()) + 1;
+        this.epochDir = new File(dir, String.valueOf(epoch));
+    }
+
+    public int getPartitionId() {
+        return partitionId;
+    }
+
+    /**
+     * Appends a put of the given entry.
+     *
+     * @param key     key of the entry.
+     * @param value   value of the entry.
+     * @param version version of the entry which is handed back on recovery.
+     */
+    public void put(Data key, Data value, long version) {
+        submit(new Mutation(this, PUT, key, value, version));
+    }
+
+    /**
+     * Appends a removal of the entry with the given key.
+     *
+     * @param key key of the removed entry.
+     */
+    public void remove(Data key) {
+        submit(new Mutation(this, REMOVE, key, null, 0));
+    }
+
+    /**
+     * Removes all entries written by this run. Data recovered from previous runs is not touched.
+     */
+    public void clear() {
+        submit(new Mutation(this, CLEAR, null, null, 0));
+    }
+
+    private void submit(Mutation mutation) {
+        if (closed) {
+            return;
+        }
+        if (writeQueue == null) {
+            write(mutation);
+            return;
+        }
+        boolean offered;
+        try {
+            offered = writeQueue.offer(mutation, offerTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            offered = false;
+        }
+        if (!offered && droppedMutationCount.getAndIncrement() == 0) {
+            logger.warning("The hot restart write queue is full, mutations of partition " + partitionId + " in " + dir
+                    + " are dropped. The data persisted for this partition may be stale after a restart.");
+        }
+    }
+
+    /**
+     * Returns the number of mutations dropped because the write queue stayed full for longer than the offer timeout.
+     *
+     * @return the number of dropped mutations.
+     */
+    public long getDroppedMutationCount() {
+        return droppedMutationCount.get();
+    }
+
+    /**
+     * Applies a queued mutation, only called by the writer of the store.
+     */
+    void write(Mutation mutation) {
+        if (closed) {
+            return;
+        }
+        if (mutation.type == CLEAR) {
+            clearFiles();
+            return;
+        }
+        try {
+            DataOutputStream out = getActiveSegment();
+            out.writeByte(mutation.type);
+            if (mutation.type == PUT) {
+                out.writeLong(mutation.version);
+                writeData(out, mutation.key);
+                writeData(out, mutation.value);
+            } else {
+                writeData(out, mutation.key);
+            }
+            sealIfFull(out);
+        } catch (IOException e) {
+            logger.warning("Could not persist a mutation of partition " + partitionId + " to " + dir, e);
+        }
+    }
+
+    private void clearFiles() {
+        closeActiveSegment();
+        if (activeFile != null) {
+            delete(activeFile);
+            activeFile = null;
+        }
+        for (File file : sealedFiles) {
+            delete(file);
+        }
+        sealedFiles.clear();
+    }
+
+    void flush() {
+        if (out == null) {
+            return;
+        }
+        try {
+            out.flush();
+        } catch (IOException e) {
+            logger.warning("Could not flush hot restart log of partition " + partitionId + " in " + dir, e);
+        }
+    }
+
+    /**
+     * Closes the log, must be called once the writer of the store does not write any more.
+     */
+    void close() {
+        closed = true;
+        closeActiveSegment();
+    }
+
+    public synchronized boolean hasRecoveredData() {
+        return !recoveredEpochs.isEmpty();
+    }
+
+    /**
+     * Marks the recovered data of this log as being handed over, so it is read only once.
+     *
+     * @return {@code true} if the caller should hand over the recovered data, {@code false} if it is already done.
+     */
+    boolean startRecovery() {
+        return hasRecoveredData() && recovering.compareAndSet(false, true);
+    }
+
+    /**
+     * Ends a hand over started by {@link #startRecovery()}.
+     *
+     * @param success {@code true} to discard the recovered data, {@code false} to keep it for a later attempt.
+     */
+    void endRecovery(boolean success) {
+        if (success) {
+            discardRecovered();
+        }
+        recovering.set(false);
+    }
+
+    /**
+     * Reads the entries of the epochs written by previous runs.
+     *
+     * @return the live entries, in the order they were last written.
+     * @throws IOException if the recovered data could not be read.
+     */
+    public Collection<RecoveredRecord> readRecovered() throws IOException {
+        List<File> epochs;
+        synchronized (this) {
+            epochs = new ArrayList<File>(recoveredEpochs);
+        }
+        Map<Data, RecoveredRecord> records = new LinkedHashMap<Data, RecoveredRecord>();
+        for (File epoch : epochs) {
+            for (File file : listFilesToRead(epoch)) {
+                read(file, records, false);
+            }
+        }
+        return records.values();
+    }
+
+    /**
+     * Deletes the epochs written by previous runs.
+     */
+    public synchronized void discardRecovered() {
+        for (File epoch : recoveredEpochs) {
+            File[] files = epoch.listFiles();
+            if (files != null) {
+                for (File file : files) {
+                    delete(file);
+                }
+            }
+            delete(epoch);
+        }
+        recoveredEpochs.clear();
+    }
+
+    /**
+     * Merges the sealed files of this run into a single compacted file when the sealed segments written since
+     * the last compaction are at least as large as the last compacted file. This bounds both the disk usage and
+     * the amount of data rewritten by compactions.
+     * <p/>
+     * Removals are kept in the compacted file while epochs of previous runs are left, otherwise the entries they
+     * remove would come back on the next restart. Once these epochs are discarded, the next compaction drops them.
+     */
+    void compact() {
+        if (closed || !shouldCompact()) {
+            return;
+        }
+        List<File> files = new ArrayList<File>(sealedFiles);
+        boolean keepRemovals = hasRecoveredData();
+        try {
+            Map<Data, RecoveredRecord> records = new LinkedHashMap<Data, RecoveredRecord>();
+            for (File file : files) {
+                read(file, records, keepRemovals);
+            }
+            String sequence = toSequence(lastOf(files));
+            File temp = new File(epochDir, sequence + TEMP_SUFFIX);
+            writeCompacted(temp, records.values());
+            File compacted = new File(epochDir, sequence + COMPACTED_SUFFIX);
+            if (!temp.renameTo(compacted)) {
+                delete(temp);
+                throw new IOException("Could not rename " + temp + " to " + compacted);
+            }
+            sealedFiles.removeAll(files);
+            sealedFiles.add(0, compacted);
+            for (File file : files) {
+                delete(file);
+            }
+        } catch (IOException e) {
+            logger.warning("Could not compact hot restart log of partition " + partitionId + " in " + epochDir, e);
+        }
+    }
+
+    private boolean shouldCompact() {
+        if (sealedFiles.size() < MIN_FILES_TO_COMPACT) {
+            return false;
+        }
+        long compactedBytes = 0;
+        long segmentBytes = 0;
+        for (File file : sealedFiles) {
+            if (file.getName().endsWith(COMPACTED_SUFFIX)) {
+                compactedBytes += file.length();
+            } else {
+                segmentBytes += file.length();
+            }
+        }
+        return segmentBytes >= Math.max(compactedBytes, segmentSize);
+    }
+
+    private DataOutputStream getActiveSegment() throws IOException {
+        if (out == null) {
+            if (!epochDir.isDirectory() && !epochDir.mkdirs()) {
+                throw new IOException("Could not create directory " + epochDir);
+            }
+            activeFile = new File(epochDir, nextSequence++ + SEGMENT_SUFFIX);
+            out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(activeFile), BUFFER_SIZE));
+        }
+        return out;
+    }
+
+    private void sealIfFull(DataOutputStream out) throws IOException {
+        if (out.size() < segmentSize) {
+            return;
+        }
+        out.close();
+        this.out = null;
+        sealedFiles.add(activeFile);
+        activeFile = null;
+    }
+
+    private void closeActiveSegment() {
+        if (out != null) {
+            closeResource(out);
+            out = null;
+        }
+    }
+
+    private void delete(File file) {
+        if (!file.delete() && file.exists()) {
+            logger.warning("Could not delete hot restart file " + file);
+        }
+    }
+
+    private static void writeCompacted(File file, Collection<RecoveredRecord> records) throws IOException {
+        FileOutputStream fileOut = new FileOutputStream(file);
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fileOut, BUFFER_SIZE));
+        try {
+            for (RecoveredRecord record : records) {
+                if (record.getValue() == null) {
+                    out.writeByte(REMOVE);
+                    writeData(out, record.getKey());
+                    continue;
+                }
+                out.writeByte(PUT);
+                out.writeLong(record.getVersion());
+                writeData(out, record.getKey());
+                writeData(out, record.getValue());
+            }
+            out.flush();
+            fileOut.getFD().sync();
+        } finally {
+            closeResource(out);
+        }
+    }
+
+    private static void writeData(DataOutputStream out, Data data) throws IOException {
+        byte[] bytes = data.toByteArray();
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads the records of a file into the given map.
+     *
+     * @param file         the file to read.
+     * @param records      the records read so far, keyed by their key.
+     * @param keepRemovals {@code true} to replace a removed record by one without a value, {@code false} to drop it.
+     * @throws IOException if the file could not be read.
+     */
+    static void read(File file, Map<Data, RecoveredRecord> records, boolean keepRemovals) throws IOException {
+        long fileLength = file.length();
+        DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file), BUFFER_SIZE));
+        try {
+            for (;;) {
+                int type = in.read();
+                if (type == -1) {
+                    return;
+                }
+                if (type == PUT) {
+                    long version = in.readLong();
+                    Data key = readData(in, fileLength, file);
+                    Data value = readData(in, fileLength, file);
+                    // re-insert so the iteration order follows the last write
+                    records.remove(key);
+                    records.put(key, new RecoveredRecord(key, value, version));
+                } else if (type == REMOVE) {
+                    Data key = readData(in, fileLength, file);
+                    records.remove(key);
+                    if (keepRemovals) {
+                        records.put(key, new RecoveredRecord(key, null, 0));
+                    }
+                } else {
+                    throw new IOException("Unknown record type " + type + " in hot restart file " + file);
+                }
+            }
+        } catch (EOFException e) {
+            // the last record was not completely written before the member stopped
+            ignore(e);
+        } finally {
+            closeResource(in);
+        }
+    }
+
+    private static Data readData(DataInputStream in, long fileLength, File file) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > fileLength) {
+            throw new IOException("Invalid record length " + length + " in hot restart file " + file);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new DefaultData(bytes);
+    }
+
+    /**
+     * Returns the files of an epoch in the order they should be read: the latest compacted file followed by the
+     * segments written after it. Older files are left overs of a compaction which was interrupted.
+     */
+    static List<File> listFilesToRead(File epoch) {
+        File[] files = epoch.listFiles();
+        if (files == null) {
+            return Collections.emptyList();
+        }
+        File compacted = null;
+        List<File> segments = new ArrayList<File>();
+        for (File file : files) {
+            String name = file.getName();
+            if (name.endsWith(COMPACTED_SUFFIX)) {
+                if (compacted == null || toLong(toSequence(file)) > toLong(toSequence(compacted))) {
+                    compacted = file;
+                }
+            } else if (name.endsWith(SEGMENT_SUFFIX)) {
+                segments.add(file);
+            }
+        }
+        sortBySequence(segments);
+        List<File> result = new ArrayList<File>(segments.size() + 1);
+        long compactedSequence = -1;
+        if (compacted != null) {
+            result.add(compacted);
+            compactedSequence = toLong(toSequence(compacted));
+        }
+        for (File segment : segments) {
+            if (toLong(toSequence(segment)) > compactedSequence) {
+                result.add(segment);
+            }
+        }
+        return result;
+    }
+
+    private static List<File> listEpochs(File dir) {
+        List<File> epochs = new ArrayList<File>();
+        File[] files = dir.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                if (file.isDirectory() && toLong(file.getName()) >= 0) {
+                    epochs.add(file);
+                }
+            }
+        }
+        sortBySequence(epochs);
+        return epochs;
+    }
+
+    private static void sortBySequence(List<File> files) {
+        Collections.sort(files, SEQUENCE_COMPARATOR);
+    }
+
+    private static String toSequence(File file) {
+        String name = file.getName();
+        int dot = name.indexOf('.');
+        return dot < 0 ? name : name.substring(0, dot);
+    }
+
+    private static long toLong(String s) {
+        try {
+            return Long.parseLong(s);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static File lastOf(List<File> files) {
+        return files.get(files.size() - 1);
+    }
+
+    /**
+     * A mutation queued for the writer of the store.
+     */
+    static final class Mutation {
+
+        final PartitionLog log;
+        final byte type;
+        final Data key;
+        final Data value;
+        final long version;
+
+        Mutation(PartitionLog log, byte type, Data key, Data value, long version) {
+            this.log = log;
+            this.type = type;
+            this.key = key;
+            this.value = value;
+            this.version = version;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.hotrestart;
+
+import com.hazelcast.nio.serialization.Data;
+
+/**
+ * An entry recovered from a {@link PartitionLog} written by a previous run of the member.
+ */
+public final class RecoveredRecord {
+
+    private final Data key;
+    private final Data value;
+    private final long version;
+
+    RecoveredRecord(Data key, Data value, long version) {
+        this.key = key;
+        this.value = value;
+        this.version = version;
+    }
+
+    public Data getKey() {
+        return key;
+    }
+
+    public Data getValue() {
+        return value;
+    }
+
+    /**
+     * Returns the version of the entry when it was persisted, the last update time for map entries.
+     *
+     * @return the version of the entry.
+     */
+    public long getVersion() {
+        return version;
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.hotrestart;
+
+import java.util.Collection;
+
+/**
+ * Receives the entries recovered from the {@link PartitionLog}s of a previous run.
+ * <p/>
+ * The handler is called concurrently for different partitions. When it returns normally the recovered
+ * data of the partition is discarded, when it throws the data is kept and offered again on the next restart.
+ */
+public interface RecoveryHandler {
+
+    /**
+     * Called with the recovered entries of a partition.
+     *
+     * @param name        name of the data structure.
+     * @param partitionId id of the partition.
+     * @param records     the recovered entries, in the order they were last written.
+     * @throws Exception when the entries could not be handled.
+     */
+    void onRecovered(String name, int partitionId, Collection<RecoveredRecord> records) throws Exception;
+}
@@ -41,6 +41,7 @@ import com.hazelcast.internal.management.request.GetLogsRequest;
 import com.hazelcast.internal.management.request.GetMapEntryRequest;
 import com.hazelcast.internal.management.request.GetMemberSystemPropertiesRequest;
 import com.hazelcast.internal.management.request.GetSystemWarningsRequest;
+import com.hazelcast.internal.management.request.HotspotsRequest;
 import com.hazelcast.internal.management.request.MapConfigRequest;
 import com.hazelcast.internal.management.request.MemberConfigRequest;
 import com.hazelcast.internal.management.request.RunGcRequest;
@@ -386,6 +387,7 @@ public class ManagementCenterService {
             register(new GetMapEntryRequest());
             register(new ShutdownMemberRequest());
             register(new GetSystemWarningsRequest());
+            register(new HotspotsRequest());
         }
 
         public void register(ConsoleRequest consoleRequest) {
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.internal.management.operation;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.spi.Operation;
+import com.hazelcast.spi.impl.operationexecutor.hotspotdetector.HotspotDetector;
+import com.hazelcast.spi.impl.operationservice.impl.OperationServiceImpl;
+import java.io.IOException;
+
+/**
+ *  Operation for fetching the hotspot report of a member.
+ */
+public class GetHotspotsOperation extends Operation {
+
+    private boolean reset;
+    private String result;
+
+    public GetHotspotsOperation() {
+        this(false);
+    }
+
+    public GetHotspotsOperation(boolean reset) {
+        this.reset = reset;
+    }
+
+    public void beforeRun() throws Exception {
+    }
+
+    public void run() throws Exception {
+        OperationServiceImpl operationService = (OperationServiceImpl) getNodeEngine().getOperationService();
+        HotspotDetector hotspotDetector = operationService.getHotspotDetector();
+        if (hotspotDetector == null) {
+            return;
+        }
+
+        result = hotspotDetector.getReport();
+        if (reset) {
+            hotspotDetector.reset();
+        }
+    }
+
+    public void afterRun() throws Exception {
+    }
+
+    public boolean returnsResponse() {
+        return true;
+    }
+
+    public Object getResponse() {
+        return result;
+    }
+
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        out.writeBoolean(reset);
+    }
+
+    protected void readInternal(ObjectDataInput in) throws IOException {
+        reset = in.readBoolean();
+    }
+}
@@ -36,6 +36,7 @@ public final class ConsoleRequestConstants {
     public static final int REQUEST_TYPE_LOG_VERSION_MISMATCH = 17;
     public static final int REQUEST_TYPE_MEMBER_SHUTDOWN = 18;
     public static final int REQUEST_TYPE_SYSTEM_WARNINGS = 20;
+    public static final int REQUEST_TYPE_HOTSPOTS = 21;
 
     private ConsoleRequestConstants() {
     }
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.internal.management.request;
+
+import com.eclipsesource.json.JsonObject;
+import com.hazelcast.internal.management.ManagementCenterService;
+import com.hazelcast.internal.management.operation.GetHotspotsOperation;
+
+import static com.hazelcast.util.JsonUtil.getBoolean;
+import static com.hazelcast.util.JsonUtil.getString;
+
+/**
+ * Request for fetching the hottest partitions, data structures and keys of a member.
+ */
+public class HotspotsRequest implements ConsoleRequest {
+
+    private boolean reset;
+
+    public HotspotsRequest() {
+    }
+
+    public HotspotsRequest(boolean reset) {
+        this.reset = reset;
+    }
+
+    @Override
+    public int getType() {
+        return ConsoleRequestConstants.REQUEST_TYPE_HOTSPOTS;
+    }
+
+    @Override
+    public void writeResponse(ManagementCenterService mcs, JsonObject root) {
+        final JsonObject result = new JsonObject();
+        String report = (String) mcs.callOnThis(new GetHotspotsOperation(reset));
+        if (report != null) {
+            result.add("enabled", true);
+            result.add("report", report);
+        } else {
+            result.add("enabled", false);
+        }
+        root.add("result", result);
+    }
+
+    @Override
+    public String readResponse(JsonObject json) {
+        final boolean enabled = getBoolean(json, "enabled", false);
+        if (enabled) {
+            return getString(json, "report");
+        }
+        return null;
+    }
+
+    @Override
+    public JsonObject toJson() {
+        final JsonObject root = new JsonObject();
+        root.add("reset", reset);
+        return root;
+    }
+
+    @Override
+    public void fromJson(JsonObject json) {
+        reset = getBoolean(json, "reset", false);
+    }
+}
@@ -0,0 +1,262 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.metrics;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static com.hazelcast.util.Preconditions.checkNotNull;
+
+/**
+ * A lock-free latency histogram with HDR style log-linear buckets.
+ *
+ * Latencies are recorded in microseconds. Every power of two range is split into 8 linear sub buckets, so each
+ * recorded value is reported with a relative error of at most 12.5%, while the whole range from 1 microsecond up to
+ * more than an hour fits in 240 counters. Larger values are counted in the last bucket.
+ *
+ * Every recording thread gets its own stripe, created the first time the thread records a latency. A stripe only has
+ * a single writer, so recording is two plain increments published with a lazySet, one on the bucket counter and one on
+ * the sum of the recorded values, and threads never contend with each other. Each stripe is padded so it doesn't share
+ * a cache line with the stripe of another thread. The two writes are not atomic together, so a mean read while
+ * recordings are in progress can be slightly off. Reading aggregates all stripes and is meant for the relatively rare
+ * reads done by the {@link MetricsRegistry}, JMX or the performance monitor.
+ */
+public final class LatencyHistogram {
+
+    static final int SUB_BUCKET_BITS = 3;
+    static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    static final int MAX_EXPONENT = 32;
+    static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+
+    // 64 bytes of padding on both sides of the counters of a stripe.
+    private static final int PADDING = 8;
+    private static final int SUM_INDEX = PADDING + BUCKET_COUNT;
+    private static final int STRIPE_LENGTH = SUM_INDEX + 1 + PADDING;
+    private static final double HUNDRED = 100d;
+    private static final double P50 = 50d;
+    private static final double P99 = 99d;
+    private static final double P999 = 99.9d;
+
+    private final List<AtomicLongArray> stripes = new CopyOnWriteArrayList<AtomicLongArray>();
+    private final ThreadLocal<AtomicLongArray> threadStripe = new ThreadLocal<AtomicLongArray>() {
+        @Override
+        protected AtomicLongArray initialValue() {
+            AtomicLongArray stripe = new AtomicLongArray(STRIPE_LENGTH);
+            stripes.add(stripe);
+            return stripe;
+        }
+    };
+
+    /**
+     * Records a latency.
+     *
+     * @param nanos the latency in nanoseconds. Negative values are recorded as 0.
+     */
+    public void recordNanos(long nanos) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(nanos);
+        if (micros < 0) {
+            micros = 0;
+        }
+        // the stripe is only written by the current thread, so no atomic add is needed.
+        AtomicLongArray stripe = threadStripe.get();
+        int index = PADDING + bucketIndex(micros);
+        stripe.lazySet(index, stripe.get(index) + 1);
+        stripe.lazySet(SUM_INDEX, stripe.get(SUM_INDEX) + micros);
+    }
+
+    // just for testing.
+    int stripeCount() {
+        return stripes.size();
+    }
+
+    /**
+     * Returns the number of recorded latencies.
+     *
+     * @return the number of recorded latencies.
+     */
+    public long count() {
+        long count = 0;
+        for (long bucketCount : buckets()) {
+            count += bucketCount;
+        }
+        return count;
+    }
+
+    /**
+     * Returns the mean latency in microseconds, or 0 if nothing has been recorded.
+     *
+     * @return the mean latency.
+     */
+    public long meanMicros() {
+        long count = 0;
+        long sum = 0;
+        for (AtomicLongArray stripe : stripes) {
+            for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+                count += stripe.get(PADDING + bucket);
+            }
+            sum += stripe.get(SUM_INDEX);
+        }
+        return count == 0 ? 0 : sum / count;
+    }
+
+    /**
+     * Returns the (bucket precision) maximum latency in microseconds, or 0 if nothing has been recorded.
+     *
+     * @return the maximum latency.
+     */
+    public long maxMicros() {
+        long[] buckets = buckets();
+        for (int bucket = BUCKET_COUNT - 1; bucket >= 0; bucket--) {
+            if (buckets[bucket] > 0) {
+                return highestEquivalentValue(bucket);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the latency in microseconds below which the given percentage of the recorded latencies fall.
+     *
+     * @param percentile the percentile, e.g. 99.9
+     * @return the latency at the given percentile, or 0 if nothing has been recorded.
+     * @throws IllegalArgumentException if percentile is not in the range 0 to 100.
+     */
+    public long percentileMicros(double percentile) {
+        if (percentile < 0 || percentile > HUNDRED) {
+            throw new IllegalArgumentException("percentile should be in the range 0 to 100, found: " + percentile);
+        }
+
+        long[] buckets = buckets();
+        long count = 0;
+        for (long bucketCount : buckets) {
+            count += bucketCount;
+        }
+        if (count == 0) {
+            return 0;
+        }
+
+        long threshold = Math.max(1, (long) Math.ceil(count * percentile / HUNDRED));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            seen += buckets[bucket];
+            if (seen >= threshold) {
+                return highestEquivalentValue(bucket);
+            }
+        }
+        return highestEquivalentValue(BUCKET_COUNT - 1);
+    }
+
+    private long[] buckets() {
+        long[] buckets = new long[BUCKET_COUNT];
+        for (AtomicLongArray stripe : stripes) {
+            for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+                buckets[bucket] += stripe.get(PADDING + bucket);
+            }
+        }
+        return buckets;
+    }
+
+    /**
+     * Registers the count, mean, max, p50, p99 and p999 of this histogram as gauges named
+     * {@code <name>.count}, {@code <name>.meanMicros} etc.
+     *
+     * @param metricsRegistry the MetricsRegistry to register on
+     * @param name            the name prefix of the gauges
+     * @throws NullPointerException if metricsRegistry or name is null.
+     */
+    public void register(MetricsRegistry metricsRegistry, String name) {
+        checkNotNull(metricsRegistry, "metricsRegistry can't be null");
+        checkNotNull(name, "name can't be null");
+
+        metricsRegistry.register(this, name + ".count", new LongProbe<LatencyHistogram>() {
+            @Override
+            public long get(LatencyHistogram histogram) {
+                return histogram.count();
+            }
+        });
+        metricsRegistry.register(this, name + ".meanMicros", new LongProbe<LatencyHistogram>() {
+            @Override
+            public long get(LatencyHistogram histogram) {
+                return histogram.meanMicros();
+            }
+        });
+        metricsRegistry.register(this, name + ".maxMicros", new LongProbe<LatencyHistogram>() {
+            @Override
+            public long get(LatencyHistogram histogram) {
+                return histogram.maxMicros();
+            }
+        });
+        metricsRegistry.register(this, name + ".p50Micros", new PercentileProbe(P50));
+        metricsRegistry.register(this, name + ".p99Micros", new PercentileProbe(P99));
+        metricsRegistry.register(this, name + ".p999Micros", new PercentileProbe(P999));
+    }
+
+    /**
+     * Appends a one line summary of this histogram to the given StringBuffer.
+     *
+     * @param sb the StringBuffer to append to.
+     */
+    public void dump(StringBuffer sb) {
+        sb.append("count=").append(count())
+                .append(" mean=").append(meanMicros()).append("us")
+                .append(" p50=").append(percentileMicros(P50)).append("us")
+                .append(" p99=").append(percentileMicros(P99)).append("us")
+                .append(" p999=").append(percentileMicros(P999)).append("us")
+                .append(" max=").append(maxMicros()).append("us");
+    }
+
+    static int bucketIndex(long micros) {
+        if (micros < SUB_BUCKET_COUNT) {
+            return (int) micros;
+        }
+
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(micros);
+        if (exponent >= MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+
+        int subBucket = (int) (micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    static long highestEquivalentValue(int bucketIndex) {
+        if (bucketIndex < SUB_BUCKET_COUNT) {
+            return bucketIndex;
+        }
+
+        int exponent = bucketIndex / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+        int subBucket = bucketIndex & (SUB_BUCKET_COUNT - 1);
+        int shift = exponent - SUB_BUCKET_BITS;
+        long lowestEquivalentValue = ((long) (SUB_BUCKET_COUNT + subBucket)) << shift;
+        return lowestEquivalentValue + (1L << shift) - 1;
+    }
+
+    private static final class PercentileProbe implements LongProbe<LatencyHistogram> {
+        private final double percentile;
+
+        private PercentileProbe(double percentile) {
+            this.percentile = percentile;
+        }
+
+        @Override
+        public long get(LatencyHistogram histogram) {
+            return histogram.percentileMicros(percentile);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.hazelcast.util.Preconditions.checkNotNull;
+
+/**
+ * A set of {@link LatencyHistogram} instances, one per type (e.g. the class of an operation or request).
+ *
+ * A histogram is created the first time its type is recorded and is then registered on the {@link MetricsRegistry}
+ * under the name {@code <prefix>[<type name>].<suffix>}, e.g. {@code operation[com.hazelcast.map.impl.operation
+ * .GetOperation].execution.p99Micros}.
+ */
+public final class LatencyHistograms {
+
+    private final ConcurrentMap<Class, LatencyHistogram> histograms = new ConcurrentHashMap<Class, LatencyHistogram>();
+    private final MetricsRegistry metricsRegistry;
+    private final String prefix;
+    private final String suffix;
+
+    /**
+     * Creates a LatencyHistograms.
+     *
+     * @param metricsRegistry the MetricsRegistry new histograms are registered on
+     * @param prefix          the name prefix of the gauges, e.g. 'operation'
+     * @param suffix          the name suffix of the gauges, e.g. 'execution'
+     * @throws NullPointerException if metricsRegistry, prefix or suffix is null.
+     */
+    public LatencyHistograms(MetricsRegistry metricsRegistry, String prefix, String suffix) {
+        this.metricsRegistry = checkNotNull(metricsRegistry, "metricsRegistry can't be null");
+        this.prefix = checkNotNull(prefix, "prefix can't be null");
+        this.suffix = checkNotNull(suffix, "suffix can't be null");
+    }
+
+    /**
+     * Records a latency for the given type.
+     *
+     * @param type  the type to record the latency for
+     * @param nanos the latency in nanoseconds
+     */
+    public void recordNanos(Class type, long nanos) {
+        get(type).recordNanos(nanos);
+    }
+
+    /**
+     * Gets the histogram for the given type, creating and registering it if it doesn't exist yet.
+     *
+     * @param type the type
+     * @return the histogram.
+     */
+    public LatencyHistogram get(Class type) {
+        LatencyHistogram histogram = histograms.get(type);
+        if (histogram != null) {
+            return histogram;
+        }
+
+        histogram = new LatencyHistogram();
+        LatencyHistogram found = histograms.putIfAbsent(type, histogram);
+        if (found != null) {
+            return found;
+        }
+
+        histogram.register(metricsRegistry, getName(type));
+        return histogram;
+    }
+
+    /**
+     * Returns the gauge name prefix of the histogram for the given type.
+     *
+     * @param type the type
+     * @return the name.
+     */
+    public String getName(Class type) {
+        return prefix + '[' + type.getName() + "]." + suffix;
+    }
+
+    /**
+     * Returns all histograms created so far.
+     *
+     * @return the histograms per type.
+     */
+    public Map<Class, LatencyHistogram> getHistograms() {
+        return histograms;
+    }
+
+    /**
+     * Appends a summary line for every histogram that recorded at least one latency.
+     *
+     * @param sb the StringBuffer to append to.
+     */
+    public void dump(StringBuffer sb) {
+        for (Map.Entry<Class, LatencyHistogram> entry : histograms.entrySet()) {
+            LatencyHistogram histogram = entry.getValue();
+            if (histogram.count() == 0) {
+                continue;
+            }
+            sb.append(getName(entry.getKey())).append(' ');
+            histogram.dump(sb);
+            sb.append('\n');
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.jmx;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.spi.impl.operationexecutor.hotspotdetector.HotspotDetector;
+import java.util.Hashtable;
+
+import static com.hazelcast.jmx.ManagementService.quote;
+
+/**
+ * Management bean for {@link com.hazelcast.spi.impl.operationexecutor.hotspotdetector.HotspotDetector}
+ */
+@ManagedDescription("HazelcastInstance.HotspotDetector")
+public class HotspotDetectorMBean extends HazelcastMBean<HotspotDetector> {
+
+    private static final int INITIAL_CAPACITY = 3;
+
+    public HotspotDetectorMBean(HazelcastInstance hazelcastInstance, HotspotDetector hotspotDetector,
+                                ManagementService service) {
+        super(hotspotDetector, service);
+
+        Hashtable<String, String> properties = new Hashtable<String, String>(INITIAL_CAPACITY);
+        properties.put("type", quote("HazelcastInstance.HotspotDetector"));
+        properties.put("name", quote("hotspotDetector" + hazelcastInstance.getName()));
+        properties.put("instance", quote(hazelcastInstance.getName()));
+
+        setObjectName(properties);
+    }
+
+    @ManagedAnnotation("hottestPartitionId")
+    @ManagedDescription("The id of the partition that consumed the most CPU time, or -1 if nothing has been sampled")
+    public int getHottestPartitionId() {
+        return managedObject.getHottestPartitionId();
+    }
+
+    @ManagedAnnotation("hottestPartitions")
+    @ManagedDescription("The partitions that consumed the most CPU time")
+    public String getHottestPartitions() {
+        return managedObject.getHottestPartitions();
+    }
+
+    @ManagedAnnotation("hottestStructures")
+    @ManagedDescription("The data structures that consumed the most CPU time")
+    public String getHottestStructures() {
+        return managedObject.getHottestStructures();
+    }
+
+    @ManagedAnnotation("hottestKeys")
+    @ManagedDescription("The most frequently accessed keys")
+    public String getHottestKeys() {
+        return managedObject.getHottestKeys();
+    }
+
+    @ManagedAnnotation(value = "reset", operation = true)
+    @ManagedDescription("Reset the collected load statistics")
+    public void reset() {
+        managedObject.reset();
+    }
+}
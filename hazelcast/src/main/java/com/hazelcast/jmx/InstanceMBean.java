@@ -24,6 +24,8 @@ import com.hazelcast.instance.HazelcastInstanceImpl;
 import com.hazelcast.instance.Node;
 import com.hazelcast.spi.ExecutionService;
 import com.hazelcast.spi.OperationService;
+import com.hazelcast.spi.impl.operationexecutor.hotspotdetector.HotspotDetector;
+import com.hazelcast.spi.impl.operationservice.impl.OperationServiceImpl;
 import java.io.File;
 import java.net.URL;
 import java.util.ArrayList;
@@ -55,6 +57,8 @@ public class InstanceMBean extends HazelcastMBean<HazelcastInstanceImpl> {
     private ManagedExecutorServiceMBean queryExecutorMBean;
     private ManagedExecutorServiceMBean ioExecutorMBean;
     private PartitionServiceMBean partitionServiceMBean;
+    private MetricsMBean metricsMBean;
+    private HotspotDetectorMBean hotspotDetectorMBean;
 
     protected InstanceMBean(HazelcastInstanceImpl hazelcastInstance, ManagementService managementService) {
         super(hazelcastInstance, managementService);
@@ -77,6 +81,11 @@ public class InstanceMBean extends HazelcastMBean<HazelcastInstanceImpl> {
         proxyServiceMBean = new ProxyServiceMBean(hazelcastInstance, node.nodeEngine.getProxyService(), service);
         partitionServiceMBean = new PartitionServiceMBean(hazelcastInstance, node.partitionService, service);
         clientEngineMBean = new ClientEngineMBean(hazelcastInstance, node.clientEngine, service);
+        metricsMBean = new MetricsMBean(hazelcastInstance, node.nodeEngine.getMetricsRegistry(), service);
+        HotspotDetector hotspotDetector = ((OperationServiceImpl) operationService).getHotspotDetector();
+        if (hotspotDetector != null) {
+            hotspotDetectorMBean = new HotspotDetectorMBean(hazelcastInstance, hotspotDetector, service);
+        }
         systemExecutorMBean = new ManagedExecutorServiceMBean(
                 hazelcastInstance, executionService.getExecutor(ExecutionService.SYSTEM_EXECUTOR), service);
         asyncExecutorMBean = new ManagedExecutorServiceMBean(
@@ -99,6 +108,10 @@ public class InstanceMBean extends HazelcastMBean<HazelcastInstanceImpl> {
         register(proxyServiceMBean);
         register(partitionServiceMBean);
         register(clientEngineMBean);
+        register(metricsMBean);
+        if (hotspotDetectorMBean != null) {
+            register(hotspotDetectorMBean);
+        }
         register(systemExecutorMBean);
         register(asyncExecutorMBean);
         register(scheduledExecutorMBean);
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jmx;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.metrics.MetricsRegistry;
+
+import javax.management.AttributeNotFoundException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanOperationInfo;
+import java.util.Hashtable;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static com.hazelcast.jmx.ManagementService.quote;
+
+/**
+ * Management bean for the {@link com.hazelcast.internal.metrics.MetricsRegistry}.
+ *
+ * Every gauge in the registry, e.g. the latency histograms of the operations, is exposed as a read-only attribute.
+ * Since gauges are added while the member is running, the attributes are resolved on every request.
+ */
+@ManagedDescription("HazelcastInstance.Metrics")
+public class MetricsMBean extends HazelcastMBean<MetricsRegistry> {
+
+    private static final int INITIAL_CAPACITY = 3;
+
+    public MetricsMBean(HazelcastInstance hazelcastInstance, MetricsRegistry metricsRegistry, ManagementService service) {
+        super(metricsRegistry, service);
+
+        Hashtable<String, String> properties = new Hashtable<String, String>(INITIAL_CAPACITY);
+        properties.put("type", quote("HazelcastInstance.Metrics"));
+        properties.put("name", quote(hazelcastInstance.getName()));
+        properties.put("instance", quote(hazelcastInstance.getName()));
+
+        setObjectName(properties);
+    }
+
+    @Override
+    public Object getAttribute(String attribute) throws AttributeNotFoundException {
+        if (attribute == null || attribute.length() == 0) {
+            throw new NullPointerException("Invalid null attribute requested");
+        }
+        if (!managedObject.getNames().contains(attribute)) {
+            throw new AttributeNotFoundException(attribute);
+        }
+        return managedObject.getGauge(attribute).readDouble();
+    }
+
+    @Override
+    public MBeanInfo getMBeanInfo() {
+        Set<String> names = new TreeSet<String>(managedObject.getNames());
+        MBeanAttributeInfo[] attributes = new MBeanAttributeInfo[names.size()];
+        int i = 0;
+        for (String name : names) {
+            attributes[i++] = new MBeanAttributeInfo(name, Double.class.getName(), name, true, false, false);
+        }
+        return new MBeanInfo(managedObject.getClass().getName(), description, attributes, null,
+                new MBeanOperationInfo[0], null);
+    }
+}
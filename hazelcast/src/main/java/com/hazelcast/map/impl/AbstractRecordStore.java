@@ -19,6 +19,7 @@ package com.hazelcast.map.impl;
 import com.hazelcast.concurrent.lock.LockService;
 import com.hazelcast.concurrent.lock.LockStore;
 import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.internal.hotrestart.PartitionLog;
 import com.hazelcast.map.impl.mapstore.MapStoreContext;
 import com.hazelcast.map.impl.record.Record;
 import com.hazelcast.map.impl.record.RecordFactory;
@@ -62,6 +63,11 @@ abstract class AbstractRecordStore implements RecordStore {
 
     protected final int partitionId;
 
+    /**
+     * Log of the hot restart store, {@code null} when hot restart is not enabled for this map.
+     */
+    protected final PartitionLog hotRestartLog;
+
     private SizeEstimator sizeEstimator;
 
     protected AbstractRecordStore(MapContainer mapContainer, int partitionId) {
@@ -72,6 +78,8 @@ abstract class AbstractRecordStore implements RecordStore {
         this.name = mapContainer.getName();
         this.recordFactory = mapContainer.getRecordFactory();
         this.sizeEstimator = createMapSizeEstimator();
+        this.hotRestartLog = mapContainer.getMapConfig().isHotRestartEnabled()
+                ? mapServiceContext.getHotRestartStore().getOrCreateLog(name, partitionId) : null;
     }
 
     @Override
@@ -142,6 +150,35 @@ abstract class AbstractRecordStore implements RecordStore {
         record.setLastUpdateTime(now);
         record.onUpdate();
         recordFactory.setValue(record, value);
+        persistRecord(record);
+    }
+
+    protected void persistRecord(Record record) {
+        if (hotRestartLog != null) {
+            hotRestartLog.put(record.getKey(), toData(record.getValue()), record.getLastUpdateTime());
+        }
+    }
+
+    protected void persistRemove(Data key) {
+        if (hotRestartLog != null) {
+            hotRestartLog.remove(key);
+        }
+    }
+
+    /**
+     * Rewrites the hot restart log so it only contains the given records, used when the records map is cleared.
+     */
+    private void resetHotRestartLog(Map<Data, Record> excludeRecords) {
+        // partitions of a shutting down member are cleared too, their data is kept for the next start
+        if (hotRestartLog == null || !mapServiceContext.getNodeEngine().isActive()) {
+            return;
+        }
+        hotRestartLog.clear();
+        if (excludeRecords != null) {
+            for (Record record : excludeRecords.values()) {
+                persistRecord(record);
+            }
+        }
     }
 
     @Override
@@ -215,6 +252,7 @@ abstract class AbstractRecordStore implements RecordStore {
     }
 
     protected void clearRecordsMap(Map<Data, Record> excludeRecords) {
+        resetHotRestartLog(excludeRecords);
         InMemoryFormat inMemoryFormat = recordFactory.getStorageFormat();
         switch (inMemoryFormat) {
             case BINARY:
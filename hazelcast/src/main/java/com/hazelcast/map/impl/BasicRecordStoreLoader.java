@@ -46,6 +46,10 @@ import static com.hazelcast.spi.ExecutionService.MAP_LOADER_EXECUTOR;
 
 /**
  * Responsible for loading keys from configured map store.
+ *
+ * The keys are split in chunks of {@link com.hazelcast.instance.GroupProperties#PROP_MAP_LOAD_CHUNK_SIZE} and every chunk is
+ * loaded by a separate task on the {@link ExecutionService#MAP_LOADER_EXECUTOR}. So the chunks are loaded in parallel and the
+ * parallelism can be controlled by configuring the pool size of this executor.
  */
 class BasicRecordStoreLoader implements RecordStoreLoader {
 
@@ -75,9 +79,15 @@ class BasicRecordStoreLoader implements RecordStoreLoader {
     }
 
     @Override
-    public Future<?> loadValues(List<Data> keys, boolean replaceExistingValues) {
-        final Callable task = new GivenKeysLoaderTask(keys, replaceExistingValues);
-        return executeTask(MAP_LOADER_EXECUTOR, task);
+    public Collection<Future> loadValues(List<Data> keys, boolean replaceExistingValues) {
+        final Queue<List<Data>> batchChunks = createBatchChunks(keys);
+        final List<Future> futures = new ArrayList<Future>(batchChunks.size());
+        for (List<Data> chunk : batchChunks) {
+            // a copy is made since the chunk is modified by the task.
+            final Callable task = new GivenKeysLoaderTask(new ArrayList<Data>(chunk), replaceExistingValues);
+            futures.add(executeTask(MAP_LOADER_EXECUTOR, task));
+        }
+        return futures;
     }
 
     private Future<?> executeTask(String executorName, Callable task) {
@@ -92,6 +102,7 @@ class BasicRecordStoreLoader implements RecordStoreLoader {
     /**
      * Task for loading values of given keys.
      * This task is used to make load in an outer thread instead of partition thread.
+     * The keys are expected to fit in a single chunk.
      */
     private final class GivenKeysLoaderTask implements Callable<Object> {
 
@@ -122,31 +133,14 @@ class BasicRecordStoreLoader implements RecordStoreLoader {
             return;
         }
 
-        List<Future> futures = doBatchLoad(keys);
-        for (Future future: futures) {
-            future.get();
-        }
-    }
-
-    private List<Future> doBatchLoad(List<Data> keys) {
-        final Queue<List<Data>> batchChunks = createBatchChunks(keys);
-        final int size = batchChunks.size();
-        final AtomicInteger finishedBatchCounter = new AtomicInteger(size);
-        List<Future> futures = new ArrayList<Future>();
-
-        while (!batchChunks.isEmpty()) {
-            final List<Data> chunk = batchChunks.poll();
-            final List<Data> keyValueSequence = loadAndGet(chunk);
-            if (keyValueSequence.isEmpty()) {
-                if (finishedBatchCounter.decrementAndGet() == 0) {
-                    loaded.set(true);
-                }
-                continue;
-            }
-            futures.add(sendOperation(keyValueSequence, finishedBatchCounter));
+        final List<Data> keyValueSequence = loadAndGet(keys);
+        if (keyValueSequence.isEmpty()) {
+            loaded.set(true);
+            return;
         }
 
-        return futures;
+        final AtomicInteger finishedBatchCounter = new AtomicInteger(1);
+        sendOperation(keyValueSequence, finishedBatchCounter).get();
     }
 
     private Queue<List<Data>> createBatchChunks(List<Data> keys) {
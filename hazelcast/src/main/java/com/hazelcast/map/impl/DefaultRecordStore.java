@@ -26,6 +26,7 @@ import com.hazelcast.map.impl.mapstore.MapStoreContext;
 import com.hazelcast.map.impl.mapstore.MapStoreManager;
 import com.hazelcast.map.impl.record.Record;
 import com.hazelcast.map.merge.MapMergePolicy;
+import com.hazelcast.nio.Address;
 import com.hazelcast.nio.serialization.Data;
 import com.hazelcast.query.impl.IndexService;
 import com.hazelcast.spi.DefaultObjectNamespace;
@@ -61,6 +62,11 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore implements
     private final RecordStoreLoader recordStoreLoader;
     private final MapKeyLoader keyLoader;
     private final Collection<Future> loadingFutures = new ArrayList<Future>();
+    /**
+     * Members replaying hot restart data into this record store, mapped to the expiry of their mark.
+     * Only accessed by the partition thread.
+     */
+    private final Map<Address, Long> hotRestartReplays = new HashMap<Address, Long>();
 
     public DefaultRecordStore(MapContainer mapContainer, int partitionId,
             MapKeyLoader keyLoader, ILogger logger) {
@@ -94,10 +100,11 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore implements
     }
 
     @Override
-    public void loadAllFromStore(List<Data> keys, boolean replaceExistingValues, boolean lastBatch) {
+    public Collection<Future> loadAllFromStore(List<Data> keys, boolean replaceExistingValues, boolean lastBatch) {
+        Collection<Future> futures = Collections.emptyList();
         if (!keys.isEmpty()) {
-            Future f = recordStoreLoader.loadValues(keys, replaceExistingValues);
-            loadingFutures.add(f);
+            futures = recordStoreLoader.loadValues(keys, replaceExistingValues);
+            loadingFutures.addAll(futures);
         }
 
         keyLoader.trackLoading(lastBatch);
@@ -105,6 +112,7 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore implements
         if (lastBatch) {
             logger.finest("Completed loading map " + name + " on partitionId=" + partitionId);
         }
+        return futures;
     }
 
     @Override
@@ -153,6 +161,7 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore implements
         markRecordStoreExpirable(record.getTtl());
 
         final Record existingRecord = records.put(key, record);
+        persistRecord(record);
         updateSizeEstimator(-calculateRecordHeapCost(existingRecord));
         updateSizeEstimator(calculateRecordHeapCost(record));
     }
@@ -172,6 +181,7 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore implements
         if (record == null) {
             record = createRecord(key, value, ttl, now);
             records.put(key, record);
+            persistRecord(record);
             updateSizeEstimator(calculateRecordHeapCost(record));
         } else {
             updateSizeEstimator(-calculateRecordHeapCost(record));
@@ -350,6 +360,7 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore implements
         if (value != null) {
             record = createRecord(key, value, getNow());
             records.put(key, record);
+            persistRecord(record);
             if (!backup) {
                 saveIndex(record);
             }
@@ -698,6 +709,7 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore implements
             if (value != null) {
                 record = createRecord(key, value, now);
                 records.put(key, record);
+                persistRecord(record);
                 updateSizeEstimator(calculateRecordHeapCost(record));
             }
         }
@@ -723,6 +735,7 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore implements
             value = mapDataStore.add(key, value, now);
             record = createRecord(key, value, now);
             records.put(key, record);
+            persistRecord(record);
             // increase size.
             updateSizeEstimator(calculateRecordHeapCost(record));
             saveIndex(record);
@@ -754,6 +767,7 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore implements
             value = mapDataStore.add(key, value, now);
             record = createRecord(key, value, ttl, now);
             records.put(key, record);
+            persistRecord(record);
             updateSizeEstimator(calculateRecordHeapCost(record));
             saveIndex(record);
         } else {
@@ -785,6 +799,7 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore implements
             value = mapDataStore.add(key, value, now);
             record = createRecord(key, value, ttl, now);
             records.put(key, record);
+            persistRecord(record);
             updateSizeEstimator(calculateRecordHeapCost(record));
             newRecord = true;
         } else {
@@ -820,6 +835,7 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore implements
             newValue = mapDataStore.add(key, newValue, now);
             record = createRecord(key, newValue, now);
             records.put(key, record);
+            persistRecord(record);
             updateSizeEstimator(calculateRecordHeapCost(record));
         } else {
             Object oldValue = record.getValue();
@@ -908,6 +924,7 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore implements
             value = mapServiceContext.interceptPut(name, null, value);
             record = createRecord(key, value, ttl, now);
             records.put(key, record);
+            persistRecord(record);
             updateSizeEstimator(calculateRecordHeapCost(record));
         } else {
             value = mapServiceContext.interceptPut(name, record.getValue(), value);
@@ -940,6 +957,7 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore implements
             value = mapServiceContext.interceptPut(name, null, value);
             record = createRecord(key, value, ttl, now);
             records.put(key, record);
+            persistRecord(record);
             updateSizeEstimator(calculateRecordHeapCost(record));
         } else {
             oldValue = record.getValue();
@@ -954,6 +972,55 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore implements
         return oldValue;
     }
 
+    @Override
+    public boolean putFromHotRestart(Data key, Object value, long version) {
+        final long now = getNow();
+        if (shouldEvict(now)) {
+            return false;
+        }
+        Record record = getRecordOrNull(key, now, false);
+        if (record != null && record.getLastUpdateTime() >= version) {
+            return false;
+        }
+        if (record == null) {
+            record = createRecord(key, value, now);
+            records.put(key, record);
+        } else {
+            updateSizeEstimator(-calculateRecordHeapCost(record));
+            recordFactory.setValue(record, value);
+        }
+        record.setLastUpdateTime(version);
+        persistRecord(record);
+        updateSizeEstimator(calculateRecordHeapCost(record));
+        saveIndex(record);
+        return true;
+    }
+
+    @Override
+    public void setHotRestartReplay(Address replayer, long deadline) {
+        if (deadline > 0) {
+            hotRestartReplays.put(replayer, deadline);
+        } else {
+            hotRestartReplays.remove(replayer);
+        }
+    }
+
+    @Override
+    public boolean isHotRestartReplaying() {
+        if (hotRestartReplays.isEmpty()) {
+            return false;
+        }
+        final long now = getNow();
+        final Iterator<Long> deadlines = hotRestartReplays.values().iterator();
+        while (deadlines.hasNext()) {
+            if (deadlines.next() <= now) {
+                // the replaying member stopped or the partition moved while replaying
+                deadlines.remove();
+            }
+        }
+        return !hotRestartReplays.isEmpty();
+    }
+
     @Override
     public boolean tryPut(Data key, Object value, long ttl) {
         checkIfLoaded();
@@ -966,6 +1033,7 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore implements
             value = mapDataStore.add(key, value, now);
             record = createRecord(key, value, ttl, now);
             records.put(key, record);
+            persistRecord(record);
             updateSizeEstimator(calculateRecordHeapCost(record));
         } else {
             value = mapServiceContext.interceptPut(name, record.getValue(), value);
@@ -993,6 +1061,7 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore implements
             if (oldValue != null) {
                 record = createRecord(key, oldValue, now);
                 records.put(key, record);
+                persistRecord(record);
                 updateSizeEstimator(calculateRecordHeapCost(record));
             }
         } else {
@@ -1005,6 +1074,7 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore implements
             onStore(record);
             record = createRecord(key, value, ttl, now);
             records.put(key, record);
+            persistRecord(record);
             updateSizeEstimator(calculateRecordHeapCost(record));
             updateExpiryTime(record, ttl, mapContainer.getMaxIdleMillis());
         }
@@ -1050,6 +1120,7 @@ public class DefaultRecordStore extends AbstractEvictableRecordStore implements
     private void deleteRecord(Data key) {
         Record record = records.remove(key);
         if (record != null) {
+            persistRemove(key);
             record.invalidate();
         }
     }
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl;
+
+import com.hazelcast.internal.hotrestart.RecoveredRecord;
+import com.hazelcast.internal.hotrestart.RecoveryHandler;
+import com.hazelcast.map.impl.operation.HotRestartReplayOperation;
+import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.spi.NodeEngine;
+import com.hazelcast.spi.OperationService;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import static com.hazelcast.map.impl.MapService.SERVICE_NAME;
+import static com.hazelcast.util.EmptyStatement.ignore;
+
+/**
+ * Replays the entries recovered from the hot restart store of a map to the current owners of their partitions.
+ * The partition table of the restarted cluster can differ from the one the entries were written with.
+ * <p/>
+ * The batches of a partition are sent one after the other; the last one ends the replay on the owner, also when
+ * the replay fails half way.
+ */
+class MapHotRestartRecoveryHandler implements RecoveryHandler {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final NodeEngine nodeEngine;
+
+    MapHotRestartRecoveryHandler(NodeEngine nodeEngine) {
+        this.nodeEngine = nodeEngine;
+    }
+
+    @Override
+    public void onRecovered(String name, int partitionId, Collection<RecoveredRecord> records) throws Exception {
+        final OperationService operationService = nodeEngine.getOperationService();
+        final Iterator<RecoveredRecord> iterator = records.iterator();
+        boolean replayEnded = false;
+        try {
+            boolean lastBatch;
+            do {
+                final int batchSize = Math.min(records.size(), BATCH_SIZE);
+                final List<Data> keyValueSequence = new ArrayList<Data>(2 * batchSize);
+                final List<Long> versions = new ArrayList<Long>(batchSize);
+                while (iterator.hasNext() && versions.size() < BATCH_SIZE) {
+                    RecoveredRecord record = iterator.next();
+                    keyValueSequence.add(record.getKey());
+                    keyValueSequence.add(record.getValue());
+                    versions.add(record.getVersion());
+                }
+                lastBatch = !iterator.hasNext();
+                replay(operationService, name, partitionId, keyValueSequence, versions, lastBatch);
+            } while (!lastBatch);
+            replayEnded = true;
+        } finally {
+            if (!replayEnded) {
+                endReplay(operationService, name, partitionId);
+            }
+        }
+    }
+
+    private void endReplay(OperationService operationService, String name, int partitionId) {
+        try {
+            replay(operationService, name, partitionId, Collections.<Data>emptyList(), Collections.<Long>emptyList(), true);
+        } catch (Exception e) {
+            // the replay mark on the owner expires on its own
+            ignore(e);
+        }
+    }
+
+    private void replay(OperationService operationService, String name, int partitionId,
+                        List<Data> keyValueSequence, List<Long> versions, boolean lastBatch) throws Exception {
+        HotRestartReplayOperation operation = new HotRestartReplayOperation(name, keyValueSequence, versions, lastBatch);
+        operationService.invokeOnPartition(SERVICE_NAME, operation, partitionId).get();
+    }
+}
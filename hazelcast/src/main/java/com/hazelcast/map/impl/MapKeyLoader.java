@@ -19,6 +19,8 @@ package com.hazelcast.map.impl;
 import com.hazelcast.core.ExecutionCallback;
 import com.hazelcast.core.IFunction;
 import com.hazelcast.core.MapLoader;
+import com.hazelcast.logging.ILogger;
+import com.hazelcast.logging.Logger;
 import com.hazelcast.map.impl.mapstore.MapStoreContext;
 import com.hazelcast.map.impl.operation.LoadAllOperation;
 import com.hazelcast.map.impl.operation.PartitionCheckIfLoadedOperation;
@@ -28,15 +30,18 @@ import com.hazelcast.spi.ExecutionService;
 import com.hazelcast.spi.Operation;
 import com.hazelcast.spi.OperationService;
 import com.hazelcast.spi.impl.AbstractCompletableFuture;
+import com.hazelcast.util.Clock;
 import com.hazelcast.util.StateMachine;
 
 import java.io.Closeable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Queue;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
@@ -53,7 +58,10 @@ import static com.hazelcast.util.IterableUtil.limit;
 import static com.hazelcast.util.IterableUtil.map;
 
 /**
- * Loads keys from a {@link MapLoader} and sends them to all partitions for loading
+ * Loads keys from a {@link MapLoader} and sends them to all partitions for loading.
+ *
+ * The keys are streamed: they are sent in batches while they are being read from the {@link MapLoader#loadAllKeys()}
+ * and at most maxInFlightBatches batches are sent, but not yet loaded by the receiving partitions.
  */
 public class MapKeyLoader {
 
@@ -63,8 +71,11 @@ public class MapKeyLoader {
     private IFunction<Object, Data> toData;
     private ExecutionService execService;
 
+    private ILogger logger = Logger.getLogger(MapKeyLoader.class);
+
     private int maxSize;
     private int maxBatch;
+    private int maxInFlightBatches = Integer.MAX_VALUE;
     private int mapNamePartition;
 
     private LoadFinishedFuture loadFinished = new LoadFinishedFuture(true);
@@ -207,7 +218,7 @@ public class MapKeyLoader {
         return state.is(State.NOT_LOADED);
     }
 
-    private void sendKeysInBatches(Iterable<Object> allKeys, boolean replaceExistingValues) {
+    private void sendKeysInBatches(Iterable<Object> allKeys, boolean replaceExistingValues) throws Exception {
 
         Iterator<Object> keys = allKeys.iterator();
         Iterator<Data> dataKeys = map(keys, toData);
@@ -219,25 +230,46 @@ public class MapKeyLoader {
         Iterator<Entry<Integer, Data>> partitionsAndKeys = map(dataKeys, toPartition(partitionService));
         Iterator<Map<Integer, List<Data>>> batches = toBatches(partitionsAndKeys, maxBatch);
 
+        long startMs = Clock.currentTimeMillis();
+        long keyCount = 0;
+        Queue<Future> inFlightBatches = new LinkedList<Future>();
         while (batches.hasNext()) {
             Map<Integer, List<Data>> batch = batches.next();
-            sendBatch(batch, replaceExistingValues);
+            keyCount += sendBatch(batch, replaceExistingValues, inFlightBatches);
+
+            if (logger.isFinestEnabled()) {
+                logger.finest("Sent " + keyCount + " keys of map '" + mapName + "' for loading");
+            }
         }
 
         sendLoadCompleted(partitionService.getPartitionCount(), replaceExistingValues);
 
+        logger.info("Sent all " + keyCount + " keys of map '" + mapName + "' for loading in "
+                + (Clock.currentTimeMillis() - startMs) + " ms");
+
         if (keys instanceof Closeable) {
             closeResource((Closeable) keys);
         }
     }
 
-    private void sendBatch(Map<Integer, List<Data>> batch, boolean replaceExistingValues) {
+    private int sendBatch(Map<Integer, List<Data>> batch, boolean replaceExistingValues, Queue<Future> inFlightBatches)
+            throws Exception {
+        int keyCount = 0;
         for (Entry<Integer, List<Data>> e : batch.entrySet()) {
+            // we wait for the oldest batch to be loaded, so we don't read more keys than the partitions can handle.
+            while (inFlightBatches.size() >= maxInFlightBatches) {
+                inFlightBatches.poll().get();
+            }
+
             int partitionId = e.getKey();
             List<Data> keys = e.getValue();
-            LoadAllOperation op = new LoadAllOperation(mapName, keys, replaceExistingValues, false);
-            opService.invokeOnPartition(SERVICE_NAME, op, partitionId);
+            LoadAllOperation op = new LoadAllOperation(mapName, keys, replaceExistingValues, false, true);
+            // the operation responds when the values are loaded, which can take longer than the default call timeout
+            inFlightBatches.offer(opService.createInvocationBuilder(SERVICE_NAME, op, partitionId)
+                    .setCallTimeout(Long.MAX_VALUE).invoke());
+            keyCount += keys.size();
         }
+        return keyCount;
     }
 
     private List<Future<Object>> sendLoadCompleted(int partitions, boolean replaceExistingValues) {
@@ -266,6 +298,14 @@ public class MapKeyLoader {
         this.maxSize = maxSize;
     }
 
+    public void setMaxInFlightBatches(int maxInFlightBatches) {
+        this.maxInFlightBatches = maxInFlightBatches;
+    }
+
+    public void setLogger(ILogger logger) {
+        this.logger = logger;
+    }
+
     private ExecutionCallback<Boolean> ifLoadedCallback() {
         return new ExecutionCallback<Boolean>() {
             @Override
@@ -18,6 +18,9 @@ package com.hazelcast.map.impl;
 
 import com.hazelcast.concurrent.lock.LockService;
 import com.hazelcast.concurrent.lock.LockStoreInfo;
+import com.hazelcast.core.LifecycleEvent;
+import com.hazelcast.core.LifecycleListener;
+import com.hazelcast.internal.hotrestart.HotRestartStore;
 import com.hazelcast.spi.ManagedService;
 import com.hazelcast.spi.NodeEngine;
 import com.hazelcast.spi.ObjectNamespace;
@@ -25,6 +28,8 @@ import com.hazelcast.util.ConstructorFunction;
 
 import java.util.Properties;
 
+import static com.hazelcast.core.LifecycleEvent.LifecycleState.STARTED;
+
 /**
  * Defines managed service behavior of map service.
  *
@@ -47,6 +52,32 @@ class MapManagedService implements ManagedService {
                     new ObjectNamespaceLockStoreInfoConstructorFunction());
         }
         mapServiceContext.getExpirationManager().start();
+        recoverHotRestartDataOnStart(nodeEngine);
+    }
+
+    /**
+     * Replays the hot restart data of all maps as soon as the member has joined the cluster, rather than when a
+     * map is first used, so partition operations of a map are held back while its data is replayed.
+     */
+    private void recoverHotRestartDataOnStart(final NodeEngine nodeEngine) {
+        nodeEngine.getHazelcastInstance().getLifecycleService().addLifecycleListener(new LifecycleListener() {
+            @Override
+            public void stateChanged(LifecycleEvent event) {
+                if (event.getState() == STARTED) {
+                    recoverHotRestartData(nodeEngine);
+                }
+            }
+        });
+    }
+
+    private void recoverHotRestartData(NodeEngine nodeEngine) {
+        final HotRestartStore hotRestartStore = mapServiceContext.getHotRestartStore();
+        final MapHotRestartRecoveryHandler handler = new MapHotRestartRecoveryHandler(nodeEngine);
+        for (String mapName : hotRestartStore.getRecoverableNames()) {
+            if (nodeEngine.getConfig().findMapConfig(mapName).isHotRestartEnabled()) {
+                hotRestartStore.recover(mapName, handler);
+            }
+        }
     }
 
     @Override
@@ -56,6 +87,7 @@ class MapManagedService implements ManagedService {
 
     @Override
     public void shutdown(boolean terminate) {
+        mapServiceContext.getHotRestartStore().shutdown();
         if (!terminate) {
             mapServiceContext.flushMaps();
             mapServiceContext.destroyMapStores();
@@ -17,6 +17,7 @@
 package com.hazelcast.map.impl;
 
 import com.hazelcast.core.PartitioningStrategy;
+import com.hazelcast.internal.hotrestart.HotRestartStore;
 import com.hazelcast.map.impl.eviction.EvictionOperator;
 import com.hazelcast.map.impl.eviction.ExpirationManager;
 import com.hazelcast.map.merge.MergePolicyProvider;
@@ -102,6 +103,8 @@ public interface MapServiceContext extends MapServiceContextInterceptorSupport,
 
     LocalMapStatsProvider getLocalMapStatsProvider();
 
+    HotRestartStore getHotRestartStore();
+
     /**
      * Sets an {@link EvictionOperator} to this {@link MapServiceContext}.
      * Used for testing purposes.
@@ -19,6 +19,7 @@ package com.hazelcast.map.impl;
 import com.hazelcast.config.Config;
 import com.hazelcast.config.MapConfig;
 import com.hazelcast.core.PartitioningStrategy;
+import com.hazelcast.internal.hotrestart.HotRestartStore;
 import com.hazelcast.map.MapInterceptor;
 import com.hazelcast.map.impl.eviction.EvictionOperator;
 import com.hazelcast.map.impl.eviction.ExpirationManager;
@@ -75,6 +76,7 @@ class MapServiceContextImpl implements MapServiceContext {
     private final LocalMapStatsProvider localMapStatsProvider;
     private final MergePolicyProvider mergePolicyProvider;
     private final MapContextQuerySupport mapContextQuerySupport;
+    private final HotRestartStore hotRestartStore;
     private MapEventPublisher mapEventPublisher;
     private EvictionOperator evictionOperator;
     private MapService mapService;
@@ -92,6 +94,7 @@ class MapServiceContextImpl implements MapServiceContext {
         this.mergePolicyProvider = new MergePolicyProvider(nodeEngine);
         this.mapEventPublisher = createMapEventPublisherSupport();
         this.mapContextQuerySupport = new BasicMapContextQuerySupport(this);
+        this.hotRestartStore = new HotRestartStore(nodeEngine, "map");
     }
 
     MapEventPublisherImpl createMapEventPublisherSupport() {
@@ -259,6 +262,11 @@ class MapServiceContextImpl implements MapServiceContext {
         return mapContextQuerySupport;
     }
 
+    @Override
+    public HotRestartStore getHotRestartStore() {
+        return hotRestartStore;
+    }
+
     @Override
     public LocalMapStatsProvider getLocalMapStatsProvider() {
         return localMapStatsProvider;
@@ -57,7 +57,9 @@ public class PartitionContainer {
             GroupProperties groupProperties = nodeEngine.getGroupProperties();
 
             MapKeyLoader keyLoader = new MapKeyLoader(name, opService, ps, execService, mapContainer.toData());
+            keyLoader.setLogger(nodeEngine.getLogger(MapKeyLoader.class));
             keyLoader.setMaxBatch(groupProperties.MAP_LOAD_CHUNK_SIZE.getInteger());
+            keyLoader.setMaxInFlightBatches(groupProperties.MAP_LOAD_MAX_INFLIGHT_BATCHES.getInteger());
             keyLoader.setMaxSize(getMaxSize(clusterService.getSize(), mapConfig.getMaxSizeConfig()));
 
             ILogger logger = nodeEngine.getLogger(DefaultRecordStore.class);
@@ -20,6 +20,7 @@ import com.hazelcast.core.EntryView;
 import com.hazelcast.map.impl.mapstore.MapDataStore;
 import com.hazelcast.map.impl.record.Record;
 import com.hazelcast.map.merge.MapMergePolicy;
+import com.hazelcast.nio.Address;
 import com.hazelcast.nio.serialization.Data;
 import com.hazelcast.spi.exception.RetryableHazelcastException;
 
@@ -28,6 +29,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Future;
 
 /**
  * Defines a record-store.
@@ -137,6 +139,32 @@ public interface RecordStore {
      */
     Object putFromLoad(Data key, Object value, long ttl);
 
+    /**
+     * Puts an entry recovered from the hot restart store, unless this record store holds a more recent version of it.
+     * The recovered version becomes the last update time of the record and is persisted as is.
+     *
+     * @param key     key to put.
+     * @param value   value to put.
+     * @param version version of the entry when it was persisted.
+     * @return {@code true} if the entry was put, {@code false} otherwise.
+     * @see com.hazelcast.map.impl.operation.HotRestartReplayOperation
+     */
+    boolean putFromHotRestart(Data key, Object value, long version);
+
+    /**
+     * Marks a member as replaying hot restart data into this record store. While a replay is in progress
+     * partition operations on this record store are retried.
+     *
+     * @param replayer address of the replaying member.
+     * @param deadline time in milliseconds when the mark expires, {@code 0} ends the replay.
+     */
+    void setHotRestartReplay(Address replayer, long deadline);
+
+    /**
+     * @return {@code true} if a member is replaying hot restart data into this record store.
+     */
+    boolean isHotRestartReplaying();
+
     boolean merge(Data dataKey, EntryView mergingEntryView, MapMergePolicy mergePolicy);
 
     Record getRecord(Data key);
@@ -261,8 +289,9 @@ public interface RecordStore {
      * @param keys                  keys to be loaded.
      * @param replaceExistingValues <code>true</code> if need to replace existing values otherwise <code>false</code>
      * @param lastBatch when keys are sent is batches this indicates the last batch. Used to indicate loading is complete.
+     * @return futures which complete when the values of the given keys have been loaded.
      */
-    void loadAllFromStore(List<Data> keys, boolean replaceExistingValues, boolean lastBatch);
+    Collection<Future> loadAllFromStore(List<Data> keys, boolean replaceExistingValues, boolean lastBatch);
 
     MapDataStore<Data, Object> getMapDataStore();
 
@@ -18,6 +18,8 @@ package com.hazelcast.map.impl;
 
 import com.hazelcast.nio.serialization.Data;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.Future;
 
@@ -28,8 +30,8 @@ interface RecordStoreLoader {
 
     RecordStoreLoader EMPTY_LOADER = new RecordStoreLoader() {
         @Override
-        public Future loadValues(List<Data> keys, boolean replaceExistingValues) {
-            return null;
+        public Collection<Future> loadValues(List<Data> keys, boolean replaceExistingValues) {
+            return Collections.emptyList();
         }
     };
 
@@ -38,7 +40,7 @@ interface RecordStoreLoader {
      *
      * @param keys                  keys to be loaded.
      * @param replaceExistingValues <code>true</code> if need to replace existing values otherwise <code>false</code>
-     * @return future for checking when loading is complete
+     * @return futures for checking when loading is complete; the keys can be loaded in parallel.
      */
-    Future<?> loadValues(List<Data> keys, boolean replaceExistingValues);
+    Collection<Future> loadValues(List<Data> keys, boolean replaceExistingValues);
 }
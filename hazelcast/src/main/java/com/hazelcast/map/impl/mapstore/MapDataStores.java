@@ -17,8 +17,10 @@
 package com.hazelcast.map.impl.mapstore;
 
 import com.hazelcast.config.MapStoreConfig;
+import com.hazelcast.instance.GroupProperties;
 import com.hazelcast.map.impl.MapServiceContext;
 import com.hazelcast.map.impl.MapStoreWrapper;
+import com.hazelcast.map.impl.mapstore.writebehind.WriteBehindBackPressure;
 import com.hazelcast.map.impl.mapstore.writebehind.WriteBehindProcessor;
 import com.hazelcast.map.impl.mapstore.writebehind.WriteBehindQueue;
 import com.hazelcast.map.impl.mapstore.writebehind.WriteBehindStore;
@@ -65,10 +67,20 @@ public final class MapDataStores {
                 = new WriteBehindStore(store, serializationService, writeDelayMillis, partitionId);
         final WriteBehindQueue writeBehindQueue = newWriteBehindQueue(mapServiceContext, writeCoalescing);
         mapDataStore.setWriteBehindQueue(writeBehindQueue);
+        if (!writeCoalescing) {
+            mapDataStore.setBackPressure(newBackPressure(mapServiceContext));
+        }
         mapDataStore.setWriteBehindProcessor(writeBehindProcessor);
         return (MapDataStore<K, V>) mapDataStore;
     }
 
+    private static WriteBehindBackPressure newBackPressure(MapServiceContext mapServiceContext) {
+        final GroupProperties groupProperties = mapServiceContext.getNodeEngine().getGroupProperties();
+        final int capacity = groupProperties.MAP_WRITE_BEHIND_QUEUE_CAPACITY.getInteger();
+        final int highWaterMark = WriteBehindBackPressure.getHighWaterMark(groupProperties);
+        return new WriteBehindBackPressure(mapServiceContext.getWriteBehindQueueItemCounter(), highWaterMark, capacity);
+    }
+
     private static WriteBehindQueue newWriteBehindQueue(MapServiceContext mapServiceContext, boolean writeCoalescing) {
         final int capacity = mapServiceContext.getNodeEngine().getGroupProperties().MAP_WRITE_BEHIND_QUEUE_CAPACITY.getInteger();
         final AtomicInteger counter = mapServiceContext.getWriteBehindQueueItemCounter();
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.mapstore.writebehind;
+
+/**
+ * Adapts the size of the batches passed to a {@link com.hazelcast.core.MapStore} to its observed latency.
+ * <p/>
+ * When a batch takes longer than the target latency the size is halved, when it takes less than half of
+ * the target latency the size is increased by a fraction of the maximum size. The size never exceeds
+ * the configured write-batch-size and never goes below 1.
+ * <p/>
+ * Updates may come from several store workers at once, a lost update only delays the adaptation.
+ */
+class AdaptiveWriteBatchSize {
+
+    private static final int INCREASE_STEPS = 8;
+
+    private final int maxBatchSize;
+
+    private final long targetLatencyMillis;
+
+    private final int increment;
+
+    private volatile int batchSize;
+
+    AdaptiveWriteBatchSize(int maxBatchSize, long targetLatencyMillis) {
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.targetLatencyMillis = targetLatencyMillis;
+        this.increment = Math.max(1, this.maxBatchSize / INCREASE_STEPS);
+        this.batchSize = this.maxBatchSize;
+    }
+
+    int get() {
+        return batchSize;
+    }
+
+    /**
+     * Updates the batch size according to the time it took to store a batch.
+     *
+     * @param storedCount   number of entries in the stored batch.
+     * @param elapsedMillis time it took to store the batch.
+     */
+    void update(int storedCount, long elapsedMillis) {
+        if (targetLatencyMillis <= 0) {
+            return;
+        }
+        int current = batchSize;
+        if (elapsedMillis > targetLatencyMillis) {
+            batchSize = Math.max(1, Math.min(current, storedCount) / 2);
+        } else if (elapsedMillis < targetLatencyMillis / 2 && storedCount >= current) {
+            batchSize = Math.min(maxBatchSize, current + increment);
+        }
+    }
+}
@@ -16,8 +16,10 @@
 
 package com.hazelcast.map.impl.mapstore.writebehind;
 
+import com.hazelcast.instance.GroupProperties;
 import com.hazelcast.map.impl.mapstore.MapStoreContext;
 import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.util.Clock;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -26,7 +28,6 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 import static com.hazelcast.util.CollectionUtil.isNotEmpty;
@@ -52,9 +53,14 @@ class DefaultWriteBehindProcessor extends AbstractWriteBehindProcessor<DelayedEn
 
     private final List<StoreListener> storeListeners;
 
+    private final AdaptiveWriteBatchSize adaptiveWriteBatchSize;
+
     DefaultWriteBehindProcessor(MapStoreContext mapStoreContext) {
         super(mapStoreContext);
         this.storeListeners = new ArrayList<StoreListener>(2);
+        GroupProperties groupProperties = mapStoreContext.getMapServiceContext().getNodeEngine().getGroupProperties();
+        long targetLatencyMillis = groupProperties.MAP_WRITE_BEHIND_BATCH_LATENCY_MILLIS.getLong();
+        this.adaptiveWriteBatchSize = new AdaptiveWriteBatchSize(writeBatchSize, targetLatencyMillis);
     }
 
     @Override
@@ -99,7 +105,7 @@ class DefaultWriteBehindProcessor extends AbstractWriteBehindProcessor<DelayedEn
         return failsPerPartition;
     }
 
-    private void addToFails(List<DelayedEntry> fails, Map<Integer, List<DelayedEntry>> failsPerPartition) {
+    static void addToFails(List<DelayedEntry> fails, Map<Integer, List<DelayedEntry>> failsPerPartition) {
         if (fails == null || fails.isEmpty()) {
             return;
         }
@@ -337,28 +343,26 @@ class DefaultWriteBehindProcessor extends AbstractWriteBehindProcessor<DelayedEn
     }
 
     /**
-     * Store chunk by chunk using write batch size {@link #writeBatchSize}
+     * Store chunk by chunk using write batch size {@link #writeBatchSize}. The size of the chunks
+     * is adapted to the observed store latency by {@link #adaptiveWriteBatchSize}.
      *
      * @param sortedDelayedEntries entries to be stored.
      * @return not-stored entries per partition.
      */
     private Map<Integer, List<DelayedEntry>> doStoreUsingBatchSize(List<DelayedEntry> sortedDelayedEntries) {
         final Map<Integer, List<DelayedEntry>> failsPerPartition = new HashMap<Integer, List<DelayedEntry>>();
-        int page = 0;
-        List<DelayedEntry> delayedEntryList;
-        while ((delayedEntryList = getBatchChunk(sortedDelayedEntries, writeBatchSize, page++)) != null) {
+        final int size = sortedDelayedEntries.size();
+        int start = 0;
+        while (start < size) {
+            final int end = Math.min(start + adaptiveWriteBatchSize.get(), size);
+            final List<DelayedEntry> delayedEntryList = sortedDelayedEntries.subList(start, end);
+            final long startMillis = Clock.currentTimeMillis();
             final Map<Integer, List<DelayedEntry>> fails = processInternal(delayedEntryList);
-            final Set<Map.Entry<Integer, List<DelayedEntry>>> entries = fails.entrySet();
-            for (Map.Entry<Integer, List<DelayedEntry>> entry : entries) {
-                final Integer partitionId = entry.getKey();
-                final List<DelayedEntry> tmpFailList = entry.getValue();
-                List<DelayedEntry> failList = failsPerPartition.get(partitionId);
-                if (failList == null || failList.isEmpty()) {
-                    failsPerPartition.put(partitionId, tmpFailList);
-                    failList = failsPerPartition.get(partitionId);
-                }
-                failList.addAll(tmpFailList);
+            adaptiveWriteBatchSize.update(delayedEntryList.size(), Clock.currentTimeMillis() - startMillis);
+            for (List<DelayedEntry> failList : fails.values()) {
+                addToFails(failList, failsPerPartition);
             }
+            start = end;
         }
         return failsPerPartition;
     }
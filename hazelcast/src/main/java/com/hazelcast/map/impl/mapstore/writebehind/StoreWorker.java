@@ -17,6 +17,8 @@
 package com.hazelcast.map.impl.mapstore.writebehind;
 
 import com.hazelcast.cluster.ClusterService;
+import com.hazelcast.instance.GroupProperties;
+import com.hazelcast.logging.ILogger;
 import com.hazelcast.map.impl.MapServiceContext;
 import com.hazelcast.map.impl.PartitionContainer;
 import com.hazelcast.map.impl.RecordStore;
@@ -30,9 +32,15 @@ import com.hazelcast.util.CollectionUtil;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.hazelcast.util.CollectionUtil.isEmpty;
@@ -41,6 +49,12 @@ import static com.hazelcast.util.CollectionUtil.isEmpty;
  * Used to process store operations in another thread.
  * Collects entries from write behind queues and passes them to {@link #writeBehindProcessor}.
  * Created per map.
+ * <p/>
+ * When more than one worker is configured, owned partitions are spread over the workers by partition id
+ * and each worker stores its own share of the entries, so the entries of a partition are still stored in order
+ * and a {@link WriteBehindStore} is only touched by one thread at a time.
+ *
+ * @see com.hazelcast.instance.GroupProperties#PROP_MAP_WRITE_BEHIND_WORKER_COUNT
  */
 public class StoreWorker implements Runnable {
 
@@ -50,21 +64,52 @@ public class StoreWorker implements Runnable {
 
     private final WriteBehindProcessor writeBehindProcessor;
 
+    /**
+     * Executor which runs the shares of the other workers when {@link #workerCount} is greater than one.
+     */
+    private final ExecutorService executor;
+
+    private final int workerCount;
+
+    /**
+     * When the node-wide write behind queue item count reaches this mark, owned entries are stored
+     * without waiting for their store time.
+     */
+    private final int highWaterMark;
+
+    private final AtomicInteger writeBehindQueueItemCounter;
+
+    private final ILogger logger;
+
     /**
      * Run on backup nodes after this interval.
      */
     private final long backupRunIntervalTime;
 
+    /**
+     * Set while a run is in progress. The runs are scheduled at a fixed rate on an executor with more than one thread
+     * when there are several workers, so a run which takes longer than the period must not be overlapped by the next
+     * one; it would store the same entries again and change the write-behind queues concurrently.
+     */
+    private final AtomicBoolean running = new AtomicBoolean();
+
     /**
      * Last run time of this processor.
      */
     private long lastRunTime;
 
 
-    public StoreWorker(MapStoreContext mapStoreContext, WriteBehindProcessor writeBehindProcessor) {
+    public StoreWorker(MapStoreContext mapStoreContext, WriteBehindProcessor writeBehindProcessor, ExecutorService executor) {
         this.mapName = mapStoreContext.getMapName();
         this.mapServiceContext = mapStoreContext.getMapServiceContext();
         this.writeBehindProcessor = writeBehindProcessor;
+        this.executor = executor;
+        NodeEngine nodeEngine = mapServiceContext.getNodeEngine();
+        GroupProperties groupProperties = nodeEngine.getGroupProperties();
+        this.workerCount = Math.max(1, groupProperties.MAP_WRITE_BEHIND_WORKER_COUNT.getInteger());
+        this.highWaterMark = WriteBehindBackPressure.getHighWaterMark(groupProperties);
+        this.writeBehindQueueItemCounter = mapServiceContext.getWriteBehindQueueItemCounter();
+        this.logger = nodeEngine.getLogger(StoreWorker.class);
         this.backupRunIntervalTime = getReplicaWaitTime();
         this.lastRunTime = Clock.currentTimeMillis();
     }
@@ -72,11 +117,24 @@ public class StoreWorker implements Runnable {
 
     @Override
     public void run() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            runInternal();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void runInternal() {
         long now = Clock.currentTimeMillis();
         NodeEngine nodeEngine = mapServiceContext.getNodeEngine();
         InternalPartitionService partitionService = nodeEngine.getPartitionService();
         int partitionCount = partitionService.getPartitionCount();
         List<DelayedEntry> entries = new ArrayList<DelayedEntry>();
+        List<List<DelayedEntry>> entriesPerWorker = createEntriesPerWorker();
+        boolean highWaterMarkReached = writeBehindQueueItemCounter.get() >= highWaterMark;
 
         for (int partitionId = 0; partitionId < partitionCount; partitionId++) {
             InternalPartition partition = partitionService.getPartition(partitionId, false);
@@ -90,13 +148,15 @@ public class StoreWorker implements Runnable {
                 continue;
             }
 
-            List<DelayedEntry> entriesToStore = getEntriesToStore(now, recordStore);
             if (!partition.isLocal()) {
+                List<DelayedEntry> entriesToStore = getEntriesToStore(now, recordStore);
                 if (now > lastRunTime + backupRunIntervalTime) {
                     doInBackup(entriesToStore, partitionId);
                 }
             } else {
+                List<DelayedEntry> entriesToStore = getEntriesToStore(highWaterMarkReached ? Long.MAX_VALUE : now, recordStore);
                 entries.addAll(entriesToStore);
+                entriesPerWorker.get(partitionId % workerCount).addAll(entriesToStore);
             }
         }
 
@@ -104,12 +164,61 @@ public class StoreWorker implements Runnable {
             return;
         }
 
-        Map<Integer, List<DelayedEntry>> failuresPerPartition = writeBehindProcessor.process(entries);
+        Map<Integer, List<DelayedEntry>> failuresPerPartition = process(entriesPerWorker);
         removeFinishedStoreOperationsFromQueues(mapName, entries);
         readdFailedStoreOperationsToQueues(mapName, failuresPerPartition);
         lastRunTime = now;
     }
 
+    private List<List<DelayedEntry>> createEntriesPerWorker() {
+        List<List<DelayedEntry>> entriesPerWorker = new ArrayList<List<DelayedEntry>>(workerCount);
+        for (int i = 0; i < workerCount; i++) {
+            entriesPerWorker.add(new ArrayList<DelayedEntry>());
+        }
+        return entriesPerWorker;
+    }
+
+    /**
+     * Stores the first share of entries in the calling thread and the others on {@link #executor}.
+     *
+     * @param entriesPerWorker entries to be stored, one list per worker.
+     * @return failed store operations per partition.
+     */
+    private Map<Integer, List<DelayedEntry>> process(List<List<DelayedEntry>> entriesPerWorker) {
+        if (workerCount == 1) {
+            return writeBehindProcessor.process(entriesPerWorker.get(0));
+        }
+        List<Future<Map<Integer, List<DelayedEntry>>>> futures
+                = new ArrayList<Future<Map<Integer, List<DelayedEntry>>>>(workerCount - 1);
+        for (int i = 1; i < workerCount; i++) {
+            List<DelayedEntry> share = entriesPerWorker.get(i);
+            futures.add(share.isEmpty() ? null : executor.submit(new StoreTask(share)));
+        }
+
+        Map<Integer, List<DelayedEntry>> failuresPerPartition = new HashMap<Integer, List<DelayedEntry>>();
+        List<DelayedEntry> ownShare = entriesPerWorker.get(0);
+        if (!ownShare.isEmpty()) {
+            failuresPerPartition.putAll(writeBehindProcessor.process(ownShare));
+        }
+        for (int i = 1; i < workerCount; i++) {
+            Future<Map<Integer, List<DelayedEntry>>> future = futures.get(i - 1);
+            if (future == null) {
+                continue;
+            }
+            try {
+                // shares do not have common partitions, so their failures can be merged as is.
+                failuresPerPartition.putAll(future.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                DefaultWriteBehindProcessor.addToFails(entriesPerWorker.get(i), failuresPerPartition);
+            } catch (ExecutionException e) {
+                logger.warning("Store operations of map " + mapName + " could not be done", e);
+                DefaultWriteBehindProcessor.addToFails(entriesPerWorker.get(i), failuresPerPartition);
+            }
+        }
+        return failuresPerPartition;
+    }
+
     private List<DelayedEntry> getEntriesToStore(long now, RecordStore recordStore) {
         int flushCount = getNumberOfFlushedEntries(recordStore);
         WriteBehindQueue<DelayedEntry> queue = getWriteBehindQueue(recordStore);
@@ -214,5 +323,21 @@ public class StoreWorker implements Runnable {
         AtomicInteger flushCounter = getFlushCounter(recordStore);
         return flushCounter.get();
     }
-}
 
+    /**
+     * Stores the share of one worker.
+     */
+    private final class StoreTask implements Callable<Map<Integer, List<DelayedEntry>>> {
+
+        private final List<DelayedEntry> entries;
+
+        private StoreTask(List<DelayedEntry> entries) {
+            this.entries = entries;
+        }
+
+        @Override
+        public Map<Integer, List<DelayedEntry>> call() throws Exception {
+            return writeBehindProcessor.process(entries);
+        }
+    }
+}
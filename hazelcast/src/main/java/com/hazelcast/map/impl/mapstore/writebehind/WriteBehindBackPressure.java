@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.mapstore.writebehind;
+
+import com.hazelcast.instance.GroupProperties;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Slows down the updates of write-behind maps while the node-wide write-behind queue item count is above the
+ * high-water mark, so the {@link StoreWorker} can catch up before the updates are rejected at the capacity.
+ * <p/>
+ * Updates run on partition threads, so the delay of a single update is bounded by {@link #MAX_DELAY_NANOS}. It grows
+ * linearly from zero at the high-water mark to its maximum at the capacity.
+ *
+ * @see GroupProperties#PROP_MAP_WRITE_BEHIND_QUEUE_HIGH_WATER_MARK_PERCENTAGE
+ */
+public class WriteBehindBackPressure {
+
+    static final long MAX_DELAY_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private static final int ONE_HUNDRED_PERCENT = 100;
+
+    private final AtomicInteger writeBehindQueueItemCounter;
+
+    private final int highWaterMark;
+
+    private final int capacity;
+
+    public WriteBehindBackPressure(AtomicInteger writeBehindQueueItemCounter, int highWaterMark, int capacity) {
+        this.writeBehindQueueItemCounter = writeBehindQueueItemCounter;
+        this.highWaterMark = highWaterMark;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Parks the calling thread for the delay matching the current write-behind queue item count.
+     */
+    public void apply() {
+        long delayNanos = getDelayNanos(writeBehindQueueItemCounter.get());
+        if (delayNanos > 0) {
+            LockSupport.parkNanos(delayNanos);
+        }
+    }
+
+    long getDelayNanos(int itemCount) {
+        if (itemCount <= highWaterMark) {
+            return 0;
+        }
+        if (itemCount >= capacity) {
+            return MAX_DELAY_NANOS;
+        }
+        return MAX_DELAY_NANOS * (itemCount - highWaterMark) / (capacity - highWaterMark);
+    }
+
+    /**
+     * Returns the node-wide write-behind queue item count above which owned entries are stored early and updates
+     * are slowed down.
+     */
+    public static int getHighWaterMark(GroupProperties groupProperties) {
+        long capacity = groupProperties.MAP_WRITE_BEHIND_QUEUE_CAPACITY.getInteger();
+        int percentage = groupProperties.MAP_WRITE_BEHIND_QUEUE_HIGH_WATER_MARK_PERCENTAGE.getInteger();
+        return (int) Math.min(Integer.MAX_VALUE, capacity * percentage / ONE_HUNDRED_PERCENT);
+    }
+}
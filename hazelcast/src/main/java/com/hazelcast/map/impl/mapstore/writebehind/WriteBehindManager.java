@@ -55,10 +55,11 @@ public class WriteBehindManager implements MapStoreManager {
     public WriteBehindManager(MapStoreContext mapStoreContext) {
         this.mapStoreContext = mapStoreContext;
         this.writeBehindProcessor = newWriteBehindProcessor(mapStoreContext);
-        this.storeWorker = new StoreWorker(mapStoreContext, writeBehindProcessor);
         this.executorName = EXECUTOR_NAME_PREFIX + mapStoreContext.getMapName();
         final MapServiceContext mapServiceContext = mapStoreContext.getMapServiceContext();
         this.scheduledExecutor = getScheduledExecutorService(mapServiceContext);
+        final ExecutionService executionService = mapServiceContext.getNodeEngine().getExecutionService();
+        this.storeWorker = new StoreWorker(mapStoreContext, writeBehindProcessor, executionService.getExecutor(executorName));
     }
 
     public void start() {
@@ -87,7 +88,8 @@ public class WriteBehindManager implements MapStoreManager {
     private ScheduledExecutorService getScheduledExecutorService(MapServiceContext mapServiceContext) {
         final NodeEngine nodeEngine = mapServiceContext.getNodeEngine();
         final ExecutionService executionService = nodeEngine.getExecutionService();
-        executionService.register(executorName, 1, EXECUTOR_DEFAULT_QUEUE_CAPACITY, ExecutorType.CACHED);
+        final int workerCount = nodeEngine.getGroupProperties().MAP_WRITE_BEHIND_WORKER_COUNT.getInteger();
+        executionService.register(executorName, Math.max(1, workerCount), EXECUTOR_DEFAULT_QUEUE_CAPACITY, ExecutorType.CACHED);
         return executionService.getScheduledExecutor(executorName);
     }
 
@@ -58,6 +58,12 @@ public class WriteBehindStore extends AbstractMapDataStore<Data, Object> {
 
     private WriteBehindProcessor writeBehindProcessor;
 
+    /**
+     * Slows down the updates of the owned entries above the write-behind queue high-water mark; {@code null} when
+     * the write-behind queue is not bounded.
+     */
+    private WriteBehindBackPressure backPressure;
+
     /**
      * A temporary living space for evicted data if we are using a write-behind map store.
      * Because every eviction triggers a map store flush and in write-behind mode this flush operation
@@ -98,9 +104,19 @@ public class WriteBehindStore extends AbstractMapDataStore<Data, Object> {
         this.writeBehindQueue = writeBehindQueue;
     }
 
+    public void setBackPressure(WriteBehindBackPressure backPressure) {
+        this.backPressure = backPressure;
+    }
+
     // TODO when mode is not write-coalescing, clone value objects. this is for EntryProcessors in object memory format.
     @Override
     public Object add(Data key, Object value, long now) {
+        addInternal(key, value, now);
+        applyBackPressure();
+        return value;
+    }
+
+    private void addInternal(Data key, Object value, long now) {
         final long writeDelay = this.writeDelayTime;
         final long storeTime = now + writeDelay;
         final DelayedEntry<Data, Object> delayedEntry =
@@ -108,8 +124,6 @@ public class WriteBehindStore extends AbstractMapDataStore<Data, Object> {
 
         writeBehindQueue.addLast(delayedEntry);
         removeFromWaitingDeletions(key);
-
-        return value;
     }
 
     @Override
@@ -119,11 +133,17 @@ public class WriteBehindStore extends AbstractMapDataStore<Data, Object> {
 
     @Override
     public Object addBackup(Data key, Object value, long time) {
-        return add(key, value, time);
+        addInternal(key, value, time);
+        return value;
     }
 
     @Override
     public void remove(Data key, long now) {
+        removeInternal(key, now);
+        applyBackPressure();
+    }
+
+    private void removeInternal(Data key, long now) {
         final long writeDelay = this.writeDelayTime;
         final long storeTime = now + writeDelay;
         final DelayedEntry<Data, Object> delayedEntry =
@@ -136,7 +156,17 @@ public class WriteBehindStore extends AbstractMapDataStore<Data, Object> {
 
     @Override
     public void removeBackup(Data key, long time) {
-        remove(key, time);
+        removeInternal(key, time);
+    }
+
+    /**
+     * Called after the update is queued and outside of the queue lock, so the store worker is not held up.
+     * Backups are not slowed down, since their owner already is.
+     */
+    private void applyBackPressure() {
+        if (backPressure != null) {
+            backPressure.apply();
+        }
     }
 
     @Override
@@ -18,6 +18,10 @@ package com.hazelcast.map.impl.operation;
 
 import com.hazelcast.map.impl.MapContainer;
 import com.hazelcast.map.impl.MapService;
+import com.hazelcast.map.impl.RecordStore;
+import com.hazelcast.spi.BackupOperation;
+import com.hazelcast.spi.PartitionAwareOperation;
+import com.hazelcast.spi.exception.RetryableHazelcastException;
 import com.hazelcast.spi.impl.AbstractNamedOperation;
 
 public abstract class AbstractMapOperation extends AbstractNamedOperation {
@@ -36,9 +40,26 @@ public abstract class AbstractMapOperation extends AbstractNamedOperation {
     public final void beforeRun() throws Exception {
         mapService = getService();
         mapContainer = mapService.getMapServiceContext().getMapContainer(name);
+        checkHotRestartReplay();
         innerBeforeRun();
     }
 
+    /**
+     * Retries partition operations while hot restart data is replayed into the partition, so they neither miss
+     * the recovered entries nor get overwritten by them.
+     */
+    private void checkHotRestartReplay() {
+        if (!mapContainer.getMapConfig().isHotRestartEnabled() || !(this instanceof PartitionAwareOperation)
+                || this instanceof BackupOperation || this instanceof HotRestartReplayOperation) {
+            return;
+        }
+        RecordStore recordStore = mapService.getMapServiceContext().getExistingRecordStore(getPartitionId(), name);
+        if (recordStore != null && recordStore.isHotRestartReplaying()) {
+            throw new RetryableHazelcastException("Hot restart data of map " + name + " is being replayed into partition "
+                    + getPartitionId());
+        }
+    }
+
     @Override
     public String getServiceName() {
         return MapService.SERVICE_NAME;
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.operation;
+
+import com.hazelcast.map.impl.MapServiceContext;
+import com.hazelcast.map.impl.RecordStore;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.spi.BackupOperation;
+import com.hazelcast.spi.impl.MutatingOperation;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Runs on backups, keeps the recovered versions of the replayed entries.
+ *
+ * @see HotRestartReplayOperation
+ */
+public class HotRestartReplayBackupOperation extends AbstractMapOperation implements BackupOperation, MutatingOperation {
+
+    private List<Data> keyValueSequence;
+    private List<Long> versions;
+
+    public HotRestartReplayBackupOperation() {
+        keyValueSequence = Collections.emptyList();
+        versions = Collections.emptyList();
+    }
+
+    public HotRestartReplayBackupOperation(String name, List<Data> keyValueSequence, List<Long> versions) {
+        super(name);
+        this.keyValueSequence = keyValueSequence;
+        this.versions = versions;
+    }
+
+    @Override
+    public void run() throws Exception {
+        final MapServiceContext mapServiceContext = mapService.getMapServiceContext();
+        final RecordStore recordStore = mapServiceContext.getRecordStore(getPartitionId(), name);
+        for (int i = 0; i < versions.size(); i++) {
+            final Object value = mapServiceContext.toObject(keyValueSequence.get(2 * i + 1));
+            recordStore.putFromHotRestart(keyValueSequence.get(2 * i), value, versions.get(i));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "HotRestartReplayBackupOperation{}";
+    }
+
+    @Override
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        super.writeInternal(out);
+        final int size = versions.size();
+        out.writeInt(size);
+        for (int i = 0; i < size; i++) {
+            out.writeData(keyValueSequence.get(2 * i));
+            out.writeData(keyValueSequence.get(2 * i + 1));
+            out.writeLong(versions.get(i));
+        }
+    }
+
+    @Override
+    protected void readInternal(ObjectDataInput in) throws IOException {
+        super.readInternal(in);
+        final int size = in.readInt();
+        final List<Data> keyValueSequence = new ArrayList<Data>(2 * size);
+        final List<Long> versions = new ArrayList<Long>(size);
+        for (int i = 0; i < size; i++) {
+            keyValueSequence.add(in.readData());
+            keyValueSequence.add(in.readData());
+            versions.add(in.readLong());
+        }
+        this.keyValueSequence = keyValueSequence;
+        this.versions = versions;
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.operation;
+
+import com.hazelcast.map.impl.MapServiceContext;
+import com.hazelcast.map.impl.NearCacheProvider;
+import com.hazelcast.map.impl.RecordStore;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.spi.BackupAwareOperation;
+import com.hazelcast.spi.Operation;
+import com.hazelcast.spi.PartitionAwareOperation;
+import com.hazelcast.spi.impl.MutatingOperation;
+import com.hazelcast.util.Clock;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Puts the entries recovered from the hot restart store of a map back into the map.
+ * <p/>
+ * An entry is only put when the map does not contain a more recent version of it, so replaying the same partition
+ * from the logs of several members is harmless. No events are published for the replayed entries.
+ * <p/>
+ * The batches of a partition mark the calling member as replaying on the record store of the owner until the
+ * last batch arrives, partition operations of the map are retried in the meantime. The mark expires when no
+ * batch arrives for {@link #REPLAY_MARK_TIMEOUT_MILLIS}, e.g. because the replaying member left.
+ */
+public class HotRestartReplayOperation extends AbstractMapOperation implements PartitionAwareOperation, MutatingOperation,
+        BackupAwareOperation {
+
+    static final long REPLAY_MARK_TIMEOUT_MILLIS = 60000;
+
+    private List<Data> keyValueSequence;
+    private List<Long> versions;
+    private boolean lastBatch;
+    private transient List<Data> appliedKeyValueSequence;
+    private transient List<Long> appliedVersions;
+
+    public HotRestartReplayOperation() {
+        keyValueSequence = Collections.emptyList();
+        versions = Collections.emptyList();
+    }
+
+    public HotRestartReplayOperation(String name, List<Data> keyValueSequence, List<Long> versions, boolean lastBatch) {
+        super(name);
+        this.keyValueSequence = keyValueSequence;
+        this.versions = versions;
+        this.lastBatch = lastBatch;
+    }
+
+    @Override
+    public void run() throws Exception {
+        final MapServiceContext mapServiceContext = mapService.getMapServiceContext();
+        final RecordStore recordStore = mapServiceContext.getRecordStore(getPartitionId(), name);
+        recordStore.setHotRestartReplay(getCallerAddress(),
+                lastBatch ? 0 : Clock.currentTimeMillis() + REPLAY_MARK_TIMEOUT_MILLIS);
+        final List<Data> applied = new ArrayList<Data>(keyValueSequence.size());
+        final List<Long> appliedVersions = new ArrayList<Long>(versions.size());
+        for (int i = 0; i < versions.size(); i++) {
+            final Data key = keyValueSequence.get(2 * i);
+            final Data value = keyValueSequence.get(2 * i + 1);
+            final long version = versions.get(i);
+            if (recordStore.putFromHotRestart(key, mapServiceContext.toObject(value), version)) {
+                applied.add(key);
+                applied.add(value);
+                appliedVersions.add(version);
+            }
+        }
+        this.appliedKeyValueSequence = applied;
+        this.appliedVersions = appliedVersions;
+    }
+
+    @Override
+    public void afterRun() throws Exception {
+        final int size = appliedKeyValueSequence.size();
+        if (size == 0) {
+            return;
+        }
+        final List<Data> dataKeys = new ArrayList<Data>(size / 2);
+        for (int i = 0; i < size; i += 2) {
+            dataKeys.add(appliedKeyValueSequence.get(i));
+        }
+        NearCacheProvider nearCacheProvider = mapService.getMapServiceContext().getNearCacheProvider();
+        nearCacheProvider.invalidateNearCache(name, dataKeys);
+    }
+
+    @Override
+    public Object getResponse() {
+        return true;
+    }
+
+    @Override
+    public boolean shouldBackup() {
+        return !appliedKeyValueSequence.isEmpty();
+    }
+
+    @Override
+    public final int getAsyncBackupCount() {
+        return mapContainer.getAsyncBackupCount();
+    }
+
+    @Override
+    public final int getSyncBackupCount() {
+        return mapContainer.getBackupCount();
+    }
+
+    @Override
+    public Operation getBackupOperation() {
+        return new HotRestartReplayBackupOperation(name, appliedKeyValueSequence, appliedVersions);
+    }
+
+    @Override
+    public String toString() {
+        return "HotRestartReplayOperation{}";
+    }
+
+    @Override
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        super.writeInternal(out);
+        final int size = versions.size();
+        out.writeInt(size);
+        for (int i = 0; i < size; i++) {
+            out.writeData(keyValueSequence.get(2 * i));
+            out.writeData(keyValueSequence.get(2 * i + 1));
+            out.writeLong(versions.get(i));
+        }
+        out.writeBoolean(lastBatch);
+    }
+
+    @Override
+    protected void readInternal(ObjectDataInput in) throws IOException {
+        super.readInternal(in);
+        final int size = in.readInt();
+        final List<Data> keyValueSequence = new ArrayList<Data>(2 * size);
+        final List<Long> versions = new ArrayList<Long>(size);
+        for (int i = 0; i < size; i++) {
+            keyValueSequence.add(in.readData());
+            keyValueSequence.add(in.readData());
+            versions.add(in.readLong());
+        }
+        this.keyValueSequence = keyValueSequence;
+        this.versions = versions;
+        this.lastBatch = in.readBoolean();
+    }
+}
@@ -24,13 +24,15 @@ import com.hazelcast.map.impl.RecordStore;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.spi.KeyBasedOperation;
 import com.hazelcast.spi.NamedOperation;
 import com.hazelcast.spi.Operation;
 import com.hazelcast.spi.PartitionAwareOperation;
 import com.hazelcast.util.Clock;
 import java.io.IOException;
 
-public abstract class KeyBasedMapOperation extends Operation implements PartitionAwareOperation, NamedOperation {
+public abstract class KeyBasedMapOperation extends Operation
+        implements PartitionAwareOperation, NamedOperation, KeyBasedOperation {
 
     protected String name;
     protected Data dataKey;
@@ -16,12 +16,14 @@
 
 package com.hazelcast.map.impl.operation;
 
+import com.hazelcast.core.ExecutionCallback;
 import com.hazelcast.map.impl.MapServiceContext;
 import com.hazelcast.map.impl.RecordStore;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.nio.serialization.Data;
 import com.hazelcast.partition.InternalPartitionService;
+import com.hazelcast.spi.ExecutionService;
 import com.hazelcast.spi.impl.MutatingOperation;
 import com.hazelcast.spi.PartitionAwareOperation;
 import java.io.IOException;
@@ -29,9 +31,14 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Triggers map store load of all given keys.
+ *
+ * If respondWhenLoaded is set, the response is only sent when the values of the keys have been loaded into the record
+ * store, so the caller can bound the loading work it has in flight.
  */
 public class LoadAllOperation extends AbstractMapOperation implements PartitionAwareOperation, MutatingOperation {
 
@@ -39,6 +46,9 @@ public class LoadAllOperation extends AbstractMapOperation implements PartitionA
 
     private boolean replaceExistingValues;
     private boolean lastBatch = true;
+    private boolean respondWhenLoaded;
+
+    private transient Collection<Future> loadingFutures;
 
     public LoadAllOperation() {
         keys = Collections.emptyList();
@@ -57,13 +67,49 @@ public class LoadAllOperation extends AbstractMapOperation implements PartitionA
         this.lastBatch = lastBatch;
     }
 
+    public LoadAllOperation(String name, List<Data> keys, boolean replaceExistingValues, boolean lastBatch,
+                            boolean respondWhenLoaded) {
+        this(name, keys, replaceExistingValues, lastBatch);
+        this.respondWhenLoaded = respondWhenLoaded;
+    }
+
     @Override
     public void run() throws Exception {
         final int partitionId = getPartitionId();
         MapServiceContext mapServiceContext = mapService.getMapServiceContext();
         final RecordStore recordStore = mapServiceContext.getRecordStore(partitionId, name);
         keys = selectThisPartitionsKeys(this.keys);
-        recordStore.loadAllFromStore(keys, replaceExistingValues, lastBatch);
+        loadingFutures = recordStore.loadAllFromStore(keys, replaceExistingValues, lastBatch);
+        if (!returnsResponse()) {
+            respondWhenLoaded();
+        }
+    }
+
+    @Override
+    public boolean returnsResponse() {
+        return !respondWhenLoaded || loadingFutures == null || loadingFutures.isEmpty();
+    }
+
+    private void respondWhenLoaded() {
+        final ExecutionService executionService = getNodeEngine().getExecutionService();
+        final AtomicInteger remaining = new AtomicInteger(loadingFutures.size());
+        // loading failures are handled by the record store, the caller only waits for the loading to finish.
+        final ExecutionCallback<Object> callback = new ExecutionCallback<Object>() {
+            @Override
+            public void onResponse(Object response) {
+                if (remaining.decrementAndGet() == 0) {
+                    getResponseHandler().sendResponse(null);
+                }
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+                onResponse(null);
+            }
+        };
+        for (Future future : loadingFutures) {
+            executionService.asCompletableFuture(future).andThen(callback);
+        }
     }
 
     private List<Data> selectThisPartitionsKeys(Collection<Data> keys) {
@@ -95,6 +141,7 @@ public class LoadAllOperation extends AbstractMapOperation implements PartitionA
         }
         out.writeBoolean(replaceExistingValues);
         out.writeBoolean(lastBatch);
+        out.writeBoolean(respondWhenLoaded);
     }
 
     @Override
@@ -110,5 +157,6 @@ public class LoadAllOperation extends AbstractMapOperation implements PartitionA
         }
         replaceExistingValues = in.readBoolean();
         lastBatch = in.readBoolean();
+        respondWhenLoaded = in.readBoolean();
     }
 }
@@ -27,6 +27,7 @@ import com.hazelcast.spi.Operation;
 import com.hazelcast.spi.impl.operationservice.InternalOperationService;
 import com.hazelcast.transaction.TransactionException;
 import com.hazelcast.transaction.impl.KeyAwareTransactionLog;
+import com.hazelcast.transaction.impl.PartitionedTransactionLog;
 import com.hazelcast.util.ExceptionUtil;
 import com.hazelcast.util.ThreadUtil;
 
@@ -36,7 +37,7 @@ import java.util.concurrent.Future;
 /**
  * Represents an operation on the map in the transaction log.
  */
-public class MapTransactionLog implements KeyAwareTransactionLog {
+public class MapTransactionLog implements KeyAwareTransactionLog, PartitionedTransactionLog {
 
     String name;
     Data key;
@@ -58,11 +59,42 @@ public class MapTransactionLog implements KeyAwareTransactionLog {
     }
 
     @Override
-    public Future prepare(NodeEngine nodeEngine) throws TransactionException {
+    public String getServiceName() {
+        return MapService.SERVICE_NAME;
+    }
+
+    @Override
+    public int getPartitionId(NodeEngine nodeEngine) {
+        return nodeEngine.getPartitionService().getPartitionId(key);
+    }
+
+    @Override
+    public Operation newPrepareOperation() {
         TxnPrepareOperation operation = new TxnPrepareOperation(name, key, ownerUuid);
         operation.setThreadId(threadId);
+        return operation;
+    }
+
+    @Override
+    public Operation newCommitOperation() {
+        MapTxnOperation txnOp = (MapTxnOperation) op;
+        txnOp.setThreadId(threadId);
+        txnOp.setOwnerUuid(ownerUuid);
+        return op;
+    }
+
+    @Override
+    public Operation newRollbackOperation() {
+        TxnRollbackOperation operation = new TxnRollbackOperation(name, key, ownerUuid);
+        operation.setThreadId(threadId);
+        return operation;
+    }
+
+    @Override
+    public Future prepare(NodeEngine nodeEngine) throws TransactionException {
+        Operation operation = newPrepareOperation();
         try {
-            int partitionId = nodeEngine.getPartitionService().getPartitionId(key);
+            int partitionId = getPartitionId(nodeEngine);
             return nodeEngine.getOperationService().invokeOnPartition(MapService.SERVICE_NAME, operation, partitionId);
         } catch (Throwable t) {
             throw ExceptionUtil.rethrow(t);
@@ -71,12 +103,10 @@ public class MapTransactionLog implements KeyAwareTransactionLog {
 
     @Override
     public Future commit(NodeEngine nodeEngine) {
-        MapTxnOperation txnOp = (MapTxnOperation) op;
-        txnOp.setThreadId(threadId);
-        txnOp.setOwnerUuid(ownerUuid);
+        Operation operation = newCommitOperation();
         try {
-            int partitionId = nodeEngine.getPartitionService().getPartitionId(key);
-            return nodeEngine.getOperationService().invokeOnPartition(MapService.SERVICE_NAME, op, partitionId);
+            int partitionId = getPartitionId(nodeEngine);
+            return nodeEngine.getOperationService().invokeOnPartition(MapService.SERVICE_NAME, operation, partitionId);
         } catch (Throwable t) {
             throw ExceptionUtil.rethrow(t);
         }
@@ -93,9 +123,8 @@ public class MapTransactionLog implements KeyAwareTransactionLog {
     }
 
     public Future rollback(NodeEngine nodeEngine) {
-        int partitionId = nodeEngine.getPartitionService().getPartitionId(key);
-        TxnRollbackOperation operation = new TxnRollbackOperation(name, key, ownerUuid);
-        operation.setThreadId(threadId);
+        int partitionId = getPartitionId(nodeEngine);
+        Operation operation = newRollbackOperation();
         try {
             return nodeEngine.getOperationService().invokeOnPartition(MapService.SERVICE_NAME, operation, partitionId);
         } catch (Throwable t) {
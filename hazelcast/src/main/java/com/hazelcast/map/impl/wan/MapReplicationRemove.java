@@ -16,14 +16,15 @@
 
 package com.hazelcast.map.impl.wan;
 
+import com.hazelcast.core.PartitionAware;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.nio.serialization.Data;
 import com.hazelcast.nio.serialization.DataSerializable;
-import com.hazelcast.wan.ReplicationEventObject;
+import com.hazelcast.wan.impl.CoalescingReplicationEventObject;
 import java.io.IOException;
 
-public class MapReplicationRemove implements ReplicationEventObject, DataSerializable {
+public class MapReplicationRemove implements CoalescingReplicationEventObject, DataSerializable, PartitionAware<Data> {
 
     String mapName;
     Data key;
@@ -46,6 +47,7 @@ public class MapReplicationRemove implements ReplicationEventObject, DataSeriali
         this.mapName = mapName;
     }
 
+    @Override
     public Data getKey() {
         return key;
     }
@@ -62,6 +64,16 @@ public class MapReplicationRemove implements ReplicationEventObject, DataSeriali
         this.removeTime = removeTime;
     }
 
+    @Override
+    public String getObjectName() {
+        return mapName;
+    }
+
+    @Override
+    public Data getPartitionKey() {
+        return key;
+    }
+
     @Override
     public void writeData(ObjectDataOutput out) throws IOException {
         out.writeUTF(mapName);
@@ -17,14 +17,16 @@
 package com.hazelcast.map.impl.wan;
 
 import com.hazelcast.core.EntryView;
+import com.hazelcast.core.PartitionAware;
 import com.hazelcast.map.merge.MapMergePolicy;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.Data;
 import com.hazelcast.nio.serialization.DataSerializable;
-import com.hazelcast.wan.ReplicationEventObject;
+import com.hazelcast.wan.impl.CoalescingReplicationEventObject;
 import java.io.IOException;
 
-public class MapReplicationUpdate implements ReplicationEventObject, DataSerializable {
+public class MapReplicationUpdate implements CoalescingReplicationEventObject, DataSerializable, PartitionAware<Object> {
 
     String mapName;
     MapMergePolicy mergePolicy;
@@ -63,6 +65,22 @@ public class MapReplicationUpdate implements ReplicationEventObject, DataSeriali
         this.entryView = entryView;
     }
 
+    @Override
+    public String getObjectName() {
+        return mapName;
+    }
+
+    @Override
+    public Data getKey() {
+        Object key = entryView.getKey();
+        return key instanceof Data ? (Data) key : null;
+    }
+
+    @Override
+    public Object getPartitionKey() {
+        return entryView.getKey();
+    }
+
     @Override
     public void writeData(ObjectDataOutput out) throws IOException {
         out.writeUTF(mapName);
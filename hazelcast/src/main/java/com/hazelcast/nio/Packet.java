@@ -50,6 +50,7 @@ public final class Packet implements SocketWritable, SocketReadable {
     private short header;
     private int partitionId;
     private transient Connection conn;
+    private transient long enqueueTimeNanos;
 
     // These 2 fields are only used during read/write. Otherwise they have no meaning.
     private int valueOffset;
@@ -90,6 +91,25 @@ public final class Packet implements SocketWritable, SocketReadable {
         this.conn = conn;
     }
 
+    /**
+     * Gets the {@link System#nanoTime()} at which this Packet was handed to the operation executor.
+     *
+     * @return the enqueue time, or 0 if it isn't set.
+     */
+    public long getEnqueueTimeNanos() {
+        return enqueueTimeNanos;
+    }
+
+    /**
+     * Sets the {@link System#nanoTime()} at which this Packet was handed to the operation executor. This is a local
+     * value; it is not part of the serialized Packet.
+     *
+     * @param enqueueTimeNanos the enqueue time.
+     */
+    public void setEnqueueTimeNanos(long enqueueTimeNanos) {
+        this.enqueueTimeNanos = enqueueTimeNanos;
+    }
+
     public void setHeader(int bit) {
         header |= 1 << bit;
     }
@@ -20,12 +20,14 @@ import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
 import com.hazelcast.replicatedmap.impl.operation.ReplicatedMapDataSerializerHook;
+import com.hazelcast.replicatedmap.impl.record.VectorClockMemberTable;
 import edu.umd.cs.findbugs.annotations.SuppressWarnings;
 
 import java.io.IOException;
 
 /**
- * This replicated message contains multiple replications at once
+ * This replicated message contains multiple replications at once. The members referenced by the contained
+ * messages are serialized only once per batch, see {@link VectorClockMemberTable}.
  */
 public class MultiReplicationMessage
         implements IdentifiedDataSerializable {
@@ -57,9 +59,14 @@ public class MultiReplicationMessage
     public void writeData(ObjectDataOutput out)
             throws IOException {
         out.writeUTF(name);
+        VectorClockMemberTable members = new VectorClockMemberTable();
+        for (ReplicationMessage replicationMessage : replicationMessages) {
+            replicationMessage.addMembers(members);
+        }
+        members.writeData(out);
         out.writeInt(replicationMessages.length);
         for (int i = 0; i < replicationMessages.length; i++) {
-            replicationMessages[i].writeData(out);
+            replicationMessages[i].writeData(out, members);
         }
     }
 
@@ -67,11 +74,14 @@ public class MultiReplicationMessage
     public void readData(ObjectDataInput in)
             throws IOException {
         name = in.readUTF();
+        VectorClockMemberTable members = new VectorClockMemberTable();
+        members.readData(in);
         int length = in.readInt();
         replicationMessages = new ReplicationMessage[length];
         for (int i = 0; i < length; i++) {
             ReplicationMessage replicationMessage = new ReplicationMessage();
-            replicationMessage.readData(in);
+            replicationMessage.readData(in, members);
+            replicationMessage.setName(name);
             replicationMessages[i] = replicationMessage;
         }
     }
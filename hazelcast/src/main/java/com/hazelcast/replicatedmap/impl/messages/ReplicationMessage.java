@@ -17,11 +17,11 @@
 package com.hazelcast.replicatedmap.impl.messages;
 
 import com.hazelcast.core.Member;
-import com.hazelcast.instance.MemberImpl;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
 import com.hazelcast.replicatedmap.impl.operation.ReplicatedMapDataSerializerHook;
+import com.hazelcast.replicatedmap.impl.record.VectorClockMemberTable;
 import com.hazelcast.replicatedmap.impl.record.VectorClockTimestamp;
 
 import java.io.IOException;
@@ -91,27 +91,52 @@ public class ReplicationMessage<K, V>
     public void writeData(ObjectDataOutput out)
             throws IOException {
         out.writeUTF(name);
+        VectorClockMemberTable members = new VectorClockMemberTable();
+        addMembers(members);
+        members.writeData(out);
+        writeData(out, members);
+    }
+
+    public void readData(ObjectDataInput in)
+            throws IOException {
+        name = in.readUTF();
+        VectorClockMemberTable members = new VectorClockMemberTable();
+        members.readData(in);
+        readData(in, members);
+    }
+
+    void addMembers(VectorClockMemberTable members) {
+        members.addMember(origin);
+        members.addMembers(vectorClockTimestamp);
+    }
+
+    /**
+     * Writes the message without its name, the origin and vector clock are written as indexes into the given table.
+     */
+    void writeData(ObjectDataOutput out, VectorClockMemberTable members)
+            throws IOException {
         out.writeObject(key);
         out.writeObject(value);
-        vectorClockTimestamp.writeData(out);
-        origin.writeData(out);
+        members.writeTimestamp(out, vectorClockTimestamp);
+        members.writeMember(out, origin);
         out.writeInt(updateHash);
         out.writeLong(ttlMillis);
     }
 
-    public void readData(ObjectDataInput in)
+    void readData(ObjectDataInput in, VectorClockMemberTable members)
             throws IOException {
-        name = in.readUTF();
         key = (K) in.readObject();
         value = (V) in.readObject();
-        vectorClockTimestamp = new VectorClockTimestamp();
-        vectorClockTimestamp.readData(in);
-        origin = new MemberImpl();
-        origin.readData(in);
+        vectorClockTimestamp = members.readTimestamp(in);
+        origin = members.readMember(in);
         updateHash = in.readInt();
         ttlMillis = in.readLong();
     }
 
+    void setName(String name) {
+        this.name = name;
+    }
+
     @Override
     public int getFactoryId() {
         return ReplicatedMapDataSerializerHook.F_ID;
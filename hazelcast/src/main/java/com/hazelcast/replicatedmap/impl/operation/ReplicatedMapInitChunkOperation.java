@@ -22,10 +22,12 @@ import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
 import com.hazelcast.replicatedmap.impl.ReplicatedMapService;
+import com.hazelcast.replicatedmap.impl.messages.MultiReplicationMessage;
 import com.hazelcast.replicatedmap.impl.messages.ReplicationMessage;
 import com.hazelcast.replicatedmap.impl.record.AbstractReplicatedRecordStore;
 import com.hazelcast.replicatedmap.impl.record.ReplicatedRecord;
 import com.hazelcast.replicatedmap.impl.record.ReplicationPublisher;
+import com.hazelcast.replicatedmap.impl.record.VectorClockMemberTable;
 import com.hazelcast.replicatedmap.impl.record.VectorClockTimestamp;
 import edu.umd.cs.findbugs.annotations.SuppressWarnings;
 
@@ -81,6 +83,7 @@ public class ReplicatedMapInitChunkOperation
         if (notYetReadyChooseSomeoneElse) {
             replicationPublisher.retryWithDifferentReplicationNode(origin);
         } else {
+            ReplicationMessage[] updates = new ReplicationMessage[recordCount];
             for (int i = 0; i < recordCount; i++) {
                 ReplicatedRecord record = replicatedRecords[i];
 
@@ -90,9 +93,10 @@ public class ReplicatedMapInitChunkOperation
                 int updateHash = record.getLatestUpdateHash();
                 long ttlMillis = record.getTtlMillis();
 
-                ReplicationMessage update = new ReplicationMessage(name, key, value, timestamp, origin, updateHash, ttlMillis);
-                replicationPublisher.queueUpdateMessage(update);
+                updates[i] = new ReplicationMessage(name, key, value, timestamp, origin, updateHash, ttlMillis);
             }
+            // the whole chunk is applied by a single task instead of one task per record
+            replicationPublisher.queueUpdateMessages(new MultiReplicationMessage(name, updates));
             if (finalChunk) {
                 recordStorage.finalChunkReceived();
             }
@@ -114,9 +118,14 @@ public class ReplicatedMapInitChunkOperation
             throws IOException {
         out.writeUTF(name);
         origin.writeData(out);
+        VectorClockMemberTable members = new VectorClockMemberTable();
+        for (int i = 0; i < recordCount; i++) {
+            members.addMembers(replicatedRecords[i].getVectorClockTimestamp());
+        }
+        members.writeData(out);
         out.writeInt(recordCount);
         for (int i = 0; i < recordCount; i++) {
-            replicatedRecords[i].writeData(out);
+            replicatedRecords[i].writeData(out, members);
         }
         out.writeBoolean(finalChunk);
     }
@@ -127,11 +136,13 @@ public class ReplicatedMapInitChunkOperation
         name = in.readUTF();
         origin = new MemberImpl();
         origin.readData(in);
+        VectorClockMemberTable members = new VectorClockMemberTable();
+        members.readData(in);
         recordCount = in.readInt();
         replicatedRecords = new ReplicatedRecord[recordCount];
         for (int i = 0; i < recordCount; i++) {
             ReplicatedRecord replicatedRecord = new ReplicatedRecord();
-            replicatedRecord.readData(in);
+            replicatedRecord.readData(in, members);
             replicatedRecords[i] = replicatedRecord;
         }
         finalChunk = in.readBoolean();
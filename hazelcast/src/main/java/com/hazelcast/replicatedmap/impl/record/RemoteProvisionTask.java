@@ -74,7 +74,7 @@ final class RemoteProvisionTask<K, V>
 
     private void pushReplicatedRecord(ReplicatedRecord<K, V> replicatedRecord, boolean finalRecord) {
         if (recordCachePos == chunkSize) {
-            sendChunk(finalRecord);
+            sendChunk(false);
         }
 
         int hash = replicatedRecord.getLatestUpdateHash();
@@ -194,6 +194,28 @@ public class ReplicatedRecord<K, V> implements IdentifiedDataSerializable {
         ttlMillis = in.readLong();
     }
 
+    /**
+     * Writes this record with its vector clock encoded against the given member table.
+     * The table has to contain all members of the record's vector clock.
+     */
+    public void writeData(ObjectDataOutput out, VectorClockMemberTable members)
+            throws IOException {
+        out.writeObject(key);
+        out.writeObject(value);
+        members.writeTimestamp(out, vectorClockTimestamp);
+        out.writeInt(latestUpdateHash);
+        out.writeLong(ttlMillis);
+    }
+
+    public void readData(ObjectDataInput in, VectorClockMemberTable members)
+            throws IOException {
+        key = in.readObject();
+        value = in.readObject();
+        vectorClockTimestamp = members.readTimestamp(in);
+        latestUpdateHash = in.readInt();
+        ttlMillis = in.readLong();
+    }
+
     //CHECKSTYLE:OFF
     // Deactivated due to complexity of the equals method
     @Override
@@ -33,6 +33,6 @@ class ReplicationCachedSenderTask<K, V>
 
     @Override
     public void run() {
-        replicationPublisher.processMessageCache();
+        replicationPublisher.processScheduledMessageCache();
     }
 }
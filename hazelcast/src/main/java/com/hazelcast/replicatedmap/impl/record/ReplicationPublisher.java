@@ -49,11 +49,13 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * This class implements the actual replication logic for replicated map
@@ -72,8 +74,10 @@ public class ReplicationPublisher<K, V>
     private static final int MAX_MESSAGE_CACHE_SIZE = 1000;
     private static final int MAX_CLEAR_EXECUTION_RETRY = 5;
 
-    private final List<ReplicationMessage> replicationMessageCache = new ArrayList<ReplicationMessage>();
-    private final Lock replicationMessageCacheLock = new ReentrantLock();
+    // Lock-free buffer for delayed replication, the size is tracked separately since ConcurrentLinkedQueue.size() is O(n)
+    private final Queue<ReplicationMessage> replicationMessageCache = new ConcurrentLinkedQueue<ReplicationMessage>();
+    private final AtomicInteger replicationMessageCacheSize = new AtomicInteger();
+    private final AtomicBoolean messageCacheFlushScheduled = new AtomicBoolean();
     private final Random memberRandomizer = new Random();
 
     private final ScheduledExecutorService executorService;
@@ -129,20 +133,12 @@ public class ReplicationPublisher<K, V>
         if (replicatedMapConfig.getReplicationDelayMillis() == 0) {
             distributeReplicationMessage(message, false);
         } else {
-            replicationMessageCacheLock.lock();
-            try {
-                replicationMessageCache.add(message);
-                if (replicationMessageCache.size() == 1) {
-                    ReplicationCachedSenderTask task = new ReplicationCachedSenderTask(this);
-                    long replicationDelayMillis = replicatedMapConfig.getReplicationDelayMillis();
-                    executorService.schedule(task, replicationDelayMillis, TimeUnit.MILLISECONDS);
-                } else {
-                    if (replicationMessageCache.size() > MAX_MESSAGE_CACHE_SIZE) {
-                        processMessageCache();
-                    }
-                }
-            } finally {
-                replicationMessageCacheLock.unlock();
+            replicationMessageCache.offer(message);
+            int size = replicationMessageCacheSize.incrementAndGet();
+            if (size == 1) {
+                scheduleMessageCacheFlush();
+            } else if (size > MAX_MESSAGE_CACHE_SIZE) {
+                processMessageCache();
             }
         }
     }
@@ -176,21 +172,43 @@ public class ReplicationPublisher<K, V>
     }
 
     void processMessageCache() {
-        ReplicationMessage[] replicationMessages = null;
-        replicationMessageCacheLock.lock();
-        try {
-            final int size = replicationMessageCache.size();
+        List<ReplicationMessage> replicationMessages = new ArrayList<ReplicationMessage>();
+        do {
+            replicationMessages.clear();
+            while (replicationMessages.size() < MAX_MESSAGE_CACHE_SIZE) {
+                ReplicationMessage replicationMessage = replicationMessageCache.poll();
+                if (replicationMessage == null) {
+                    break;
+                }
+                replicationMessages.add(replicationMessage);
+            }
+            int size = replicationMessages.size();
             if (size > 0) {
-                replicationMessages = replicationMessageCache.toArray(new ReplicationMessage[size]);
-                replicationMessageCache.clear();
+                replicationMessageCacheSize.addAndGet(-size);
+                ReplicationMessage[] messages = replicationMessages.toArray(new ReplicationMessage[size]);
+                distributeReplicationMessage(new MultiReplicationMessage(name, messages), false);
             }
-        } finally {
-            replicationMessageCacheLock.unlock();
+        } while (replicationMessages.size() == MAX_MESSAGE_CACHE_SIZE);
+
+        // a message offered while draining may have been counted after the size dropped to zero,
+        // make sure it does not stay in the buffer without a scheduled flush
+        if (replicationMessageCacheSize.get() > 0) {
+            scheduleMessageCacheFlush();
         }
-        if (replicationMessages != null) {
-            MultiReplicationMessage message = new MultiReplicationMessage(name, replicationMessages);
-            distributeReplicationMessage(message, false);
+    }
+
+    void processScheduledMessageCache() {
+        messageCacheFlushScheduled.set(false);
+        processMessageCache();
+    }
+
+    private void scheduleMessageCacheFlush() {
+        if (!messageCacheFlushScheduled.compareAndSet(false, true)) {
+            return;
         }
+        ReplicationCachedSenderTask task = new ReplicationCachedSenderTask(this);
+        long replicationDelayMillis = replicatedMapConfig.getReplicationDelayMillis();
+        executorService.schedule(task, replicationDelayMillis, TimeUnit.MILLISECONDS);
     }
 
     void distributeReplicationMessage(final Object message, final boolean forceSend) {
@@ -234,11 +252,8 @@ public class ReplicationPublisher<K, V>
     }
 
     public void emptyReplicationQueue() {
-        replicationMessageCacheLock.lock();
-        try {
-            replicationMessageCache.clear();
-        } finally {
-            replicationMessageCacheLock.unlock();
+        while (replicationMessageCache.poll() != null) {
+            replicationMessageCacheSize.decrementAndGet();
         }
     }
 
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.replicatedmap.impl.record;
+
+import com.hazelcast.core.Member;
+import com.hazelcast.instance.MemberImpl;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Table of the members referenced by a batch of replication data. The members are written once per batch and
+ * origins and vector clock entries are written as indexes into the table. Without it every clock entry carries
+ * a fully serialized member, which makes the replication metadata grow with the cluster size.
+ */
+public final class VectorClockMemberTable {
+
+    private final Map<Member, Integer> indexes = new HashMap<Member, Integer>();
+    private final List<Member> members = new ArrayList<Member>();
+
+    public void addMember(Member member) {
+        if (!indexes.containsKey(member)) {
+            indexes.put(member, members.size());
+            members.add(member);
+        }
+    }
+
+    public void addMembers(VectorClockTimestamp timestamp) {
+        for (Member member : timestamp.getClocks().keySet()) {
+            addMember(member);
+        }
+    }
+
+    public void writeData(ObjectDataOutput out)
+            throws IOException {
+        out.writeInt(members.size());
+        for (Member member : members) {
+            member.writeData(out);
+        }
+    }
+
+    public void readData(ObjectDataInput in)
+            throws IOException {
+        int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            Member member = new MemberImpl();
+            member.readData(in);
+            addMember(member);
+        }
+    }
+
+    public void writeMember(ObjectDataOutput out, Member member)
+            throws IOException {
+        Integer index = indexes.get(member);
+        if (index == null) {
+            throw new IllegalStateException("Member " + member + " was not added to the table");
+        }
+        out.writeInt(index);
+    }
+
+    public Member readMember(ObjectDataInput in)
+            throws IOException {
+        return members.get(in.readInt());
+    }
+
+    public void writeTimestamp(ObjectDataOutput out, VectorClockTimestamp timestamp)
+            throws IOException {
+        Map<Member, Integer> clocks = timestamp.getClocks();
+        out.writeInt(clocks.size());
+        for (Map.Entry<Member, Integer> entry : clocks.entrySet()) {
+            writeMember(out, entry.getKey());
+            out.writeInt(entry.getValue());
+        }
+    }
+
+    public VectorClockTimestamp readTimestamp(ObjectDataInput in)
+            throws IOException {
+        int size = in.readInt();
+        Map<Member, Integer> clocks = new HashMap<Member, Integer>(size);
+        for (int i = 0; i < size; i++) {
+            Member member = readMember(in);
+            clocks.put(member, in.readInt());
+        }
+        return new VectorClockTimestamp(clocks);
+    }
+}
@@ -44,10 +44,14 @@ public final class VectorClockTimestamp
         this.clocks = Collections.emptyMap();
     }
 
-    private VectorClockTimestamp(Map<Member, Integer> clocks) {
+    VectorClockTimestamp(Map<Member, Integer> clocks) {
         this.clocks = Collections.unmodifiableMap(clocks);
     }
 
+    Map<Member, Integer> getClocks() {
+        return clocks;
+    }
+
     VectorClockTimestamp incrementClock0(Member localMember) {
         Map<Member, Integer> copy = new HashMap<Member, Integer>(clocks);
         Integer clock = copy.get(localMember);
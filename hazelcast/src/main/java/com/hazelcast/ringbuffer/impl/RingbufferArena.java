@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.ringbuffer.impl;
+
+import static com.hazelcast.util.Preconditions.checkTrue;
+
+/**
+ * The RingbufferArena stores the serialized items of a {@link RingbufferContainer} back to back in a single byte array,
+ * instead of storing a {@link com.hazelcast.nio.serialization.Data} instance per item.
+ *
+ * The arena itself is a ring. Every item gets a position in a virtual, ever increasing, address space; the physical offset
+ * in the byte array is the position modulo the arena size. An item is never split over the end of the byte array: if it
+ * doesn't fit, the remaining bytes are skipped and the item is written at the beginning of the byte array.
+ *
+ * Because the positions increase with the sequence of the items, the oldest items are always the first ones to be
+ * overwritten. The {@link RingbufferContainer} uses {@link #isOverwritten(int, long)} to move the head of the ringbuffer
+ * past the items that are going to be overwritten before an item is written.
+ *
+ * The position and length of an item are stored at the same index as the item would have in the regular ring, so these
+ * arrays are in step with the ringExpirationMs of the {@link RingbufferContainer}.
+ *
+ * No thread-safety is needed since a partition can only be accessed by a single thread at any given moment.
+ */
+final class RingbufferArena {
+
+    // contains the serialized items
+    private final byte[] bytes;
+    // contains the virtual position of the first byte of an item.
+    private final long[] positions;
+    // contains the number of bytes of an item.
+    private final int[] lengths;
+    // the virtual position where the next item is going to be written.
+    private long writePosition;
+
+    RingbufferArena(int size, int capacity) {
+        this.bytes = new byte[size];
+        this.positions = new long[capacity];
+        this.lengths = new int[capacity];
+    }
+
+    int size() {
+        return bytes.length;
+    }
+
+    /**
+     * Checks if an item of the given length can be stored in the arena.
+     *
+     * @param length the length of the item in bytes.
+     * @throws IllegalArgumentException if the item is larger than the arena.
+     */
+    void checkFits(int length) {
+        checkTrue(length <= bytes.length, "Item of " + length + " bytes doesn't fit in an arena of " + bytes.length + " bytes");
+    }
+
+    /**
+     * Determines the position where an item of the given length is going to be written. Nothing is written yet.
+     * The length should have been checked using {@link #checkFits(int)}.
+     *
+     * @param length the length of the item in bytes.
+     * @return the position of the item.
+     */
+    long reserve(int length) {
+        int offset = toOffset(writePosition);
+        if (offset + length > bytes.length) {
+            // the item doesn't fit in the remaining bytes, so we skip them and start at the beginning of the arena.
+            return writePosition + bytes.length - offset;
+        }
+        return writePosition;
+    }
+
+    /**
+     * Checks if the item at the given index is overwritten if an item ending at the given position is written.
+     *
+     * @param index       the index of the item.
+     * @param endPosition the position directly after the last byte of the item to write.
+     * @return true if the item will be overwritten, false otherwise.
+     */
+    boolean isOverwritten(int index, long endPosition) {
+        return positions[index] < endPosition - bytes.length;
+    }
+
+    /**
+     * Writes an item at the given position. The position should have been obtained using {@link #reserve(int)}.
+     *
+     * @param index    the index of the item.
+     * @param position the position of the item.
+     * @param item     the serialized item.
+     */
+    void write(int index, long position, byte[] item) {
+        int length = item.length;
+        System.arraycopy(item, 0, bytes, toOffset(position), length);
+        positions[index] = position;
+        lengths[index] = length;
+        writePosition = position + length;
+    }
+
+    /**
+     * Reads the item at the given index. A single copy is made directly from the arena.
+     *
+     * @param index the index of the item.
+     * @return the serialized item.
+     */
+    byte[] read(int index) {
+        int length = lengths[index];
+        byte[] item = new byte[length];
+        System.arraycopy(bytes, toOffset(positions[index]), item, 0, length);
+        return item;
+    }
+
+    private int toOffset(long position) {
+        return (int) (position % bytes.length);
+    }
+}
@@ -22,6 +22,7 @@ import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.nio.serialization.Data;
 import com.hazelcast.nio.serialization.DataSerializable;
+import com.hazelcast.nio.serialization.DefaultData;
 import com.hazelcast.nio.serialization.SerializationService;
 import com.hazelcast.ringbuffer.StaleSequenceException;
 import com.hazelcast.spi.NodeEngine;
@@ -32,6 +33,7 @@ import static com.hazelcast.config.InMemoryFormat.BINARY;
 import static com.hazelcast.config.InMemoryFormat.OBJECT;
 import static com.hazelcast.config.InMemoryFormat.values;
 import static com.hazelcast.util.Clock.currentTimeMillis;
+import static com.hazelcast.util.Preconditions.checkTrue;
 import static java.util.concurrent.TimeUnit.SECONDS;
 
 
@@ -49,6 +51,10 @@ import static java.util.concurrent.TimeUnit.SECONDS;
  * each other.
  * The reason why 2 array are created instead of just wrapping the item in a new object containing the expiration is that
  * we don't want to generate more waste than needed.
+ *
+ * If an arena is configured, see {@link RingbufferConfig#getArenaSize()}, the items are not stored in the ringItems but
+ * back to back in the {@link RingbufferArena}. In that case the ringItems is null. Apart from the capacity, the size of the
+ * arena determines how many items are retained: the oldest items are removed if their bytes are needed to store a new item.
  */
 public class RingbufferContainer implements DataSerializable {
 
@@ -58,6 +64,8 @@ public class RingbufferContainer implements DataSerializable {
     Object[] ringItems;
     // contains the expiration time in ms when the item should be expired.
     long[] ringExpirationMs;
+    // contains the serialized items if an arena is configured.
+    RingbufferArena arena;
 
     InMemoryFormat inMemoryFormat;
     long ttlMs;
@@ -86,9 +94,16 @@ public class RingbufferContainer implements DataSerializable {
         this.config = config;
         this.capacity = config.getCapacity();
         this.inMemoryFormat = config.getInMemoryFormat();
-        this.ringItems = new Object[capacity];
         this.ttlMs = SECONDS.toMillis(config.getTimeToLiveSeconds());
 
+        int arenaSize = config.getArenaSize();
+        if (arenaSize > 0) {
+            checkTrue(inMemoryFormat == BINARY, "An arena can only be used in combination with InMemoryFormat " + BINARY);
+            arena = new RingbufferArena(arenaSize, capacity);
+        } else {
+            ringItems = new Object[capacity];
+        }
+
         if (isTTLEnabled()) {
             ringExpirationMs = new long[capacity];
         }
@@ -151,7 +166,7 @@ public class RingbufferContainer implements DataSerializable {
     }
 
     int toIndex(long sequence) {
-        return (int) (sequence % ringItems.length);
+        return (int) (sequence % capacity);
     }
 
     void checkReadSequence(long sequence) {
@@ -183,6 +198,13 @@ public class RingbufferContainer implements DataSerializable {
     }
 
     private long addInternal(Data dataItem) {
+        byte[] bytes = null;
+        if (arena != null) {
+            // the size is checked before any sequence is changed, so an item that doesn't fit leaves the ringbuffer intact.
+            bytes = toBytes(dataItem);
+            arena.checkFits(bytes.length);
+        }
+
         tailSequence++;
 
         if (tailSequence - capacity == headSequence) {
@@ -191,13 +213,18 @@ public class RingbufferContainer implements DataSerializable {
 
         int index = toIndex(tailSequence);
 
-        Object item = dataItem;
-        if (inMemoryFormat == OBJECT) {
-            item = serializationService.toObject(dataItem);
-        }
+        if (arena != null) {
+            // first we write the dataItem in the arena.
+            writeToArena(index, bytes);
+        } else {
+            Object item = dataItem;
+            if (inMemoryFormat == OBJECT) {
+                item = serializationService.toObject(dataItem);
+            }
 
-        // first we write the dataItem in the ring.
-        ringItems[index] = item;
+            // first we write the dataItem in the ring.
+            ringItems[index] = item;
+        }
 
         // and then we optionally write the expiration.
         if (isTTLEnabled()) {
@@ -207,7 +234,32 @@ public class RingbufferContainer implements DataSerializable {
         return tailSequence;
     }
 
+    private void writeToArena(int index, byte[] bytes) {
+        long position = arena.reserve(bytes.length);
+
+        // the oldest items are removed if their bytes are going to be overwritten. The item we are writing already has
+        // been given a sequence, so it isn't taken into consideration.
+        long endPosition = position + bytes.length;
+        while (headSequence < tailSequence && arena.isOverwritten(toIndex(headSequence), endPosition)) {
+            headSequence++;
+        }
+
+        arena.write(index, position, bytes);
+    }
+
+    private static byte[] toBytes(Data dataItem) {
+        byte[] bytes = dataItem.toByteArray();
+        return bytes == null ? new byte[0] : bytes;
+    }
+
     public long addAll(Data[] items) {
+        if (arena != null) {
+            // all items are checked up front, so either all items are added or none.
+            for (Data item : items) {
+                arena.checkFits(toBytes(item).length);
+            }
+        }
+
         long result = -1;
         for (Data item : items) {
             result = addInternal(item);
@@ -219,6 +271,10 @@ public class RingbufferContainer implements DataSerializable {
         checkReadSequence(sequence);
 
         int index = toIndex(sequence);
+        if (arena != null) {
+            return new DefaultData(arena.read(index));
+        }
+
         Object item = ringItems[index];
         return serializationService.toData(item);
     }
@@ -234,7 +290,7 @@ public class RingbufferContainer implements DataSerializable {
         long seq = beginSequence;
         while (seq <= tailSequence) {
             int index = toIndex(seq);
-            Object item = ringItems[index];
+            Object item = arena != null ? new DefaultData(arena.read(index)) : ringItems[index];
 
             result.addItem(item);
 
@@ -267,7 +323,10 @@ public class RingbufferContainer implements DataSerializable {
 
             // we null the slot and allow the gc to take care of the object.
             // if we don't clean it, we'll have a potential memory leak.
-            ringItems[index] = null;
+            // with an arena there is nothing to clean; the bytes are going to be overwritten.
+            if (ringItems != null) {
+                ringItems[index] = null;
+            }
 
             // we don't need to 0 the ringExpirationMs slot since it contains a long value.
 
@@ -284,6 +343,7 @@ public class RingbufferContainer implements DataSerializable {
         out.writeInt(capacity);
         out.writeLong(ttlMs);
         out.writeInt(inMemoryFormat.ordinal());
+        out.writeInt(arena == null ? 0 : arena.size());
 
         boolean ttlEnabled = isTTLEnabled();
 
@@ -293,7 +353,9 @@ public class RingbufferContainer implements DataSerializable {
         for (long seq = headSequence; seq <= tailSequence; seq++) {
             int index = toIndex(seq);
 
-            if (inMemoryFormat == BINARY) {
+            if (arena != null) {
+                out.writeData(new DefaultData(arena.read(index)));
+            } else if (inMemoryFormat == BINARY) {
                 out.writeData((Data) ringItems[index]);
             } else {
                 out.writeObject(ringItems[index]);
@@ -318,8 +380,13 @@ public class RingbufferContainer implements DataSerializable {
         capacity = in.readInt();
         ttlMs = in.readLong();
         inMemoryFormat = values()[in.readInt()];
+        int arenaSize = in.readInt();
 
-        ringItems = new Object[capacity];
+        if (arenaSize > 0) {
+            arena = new RingbufferArena(arenaSize, capacity);
+        } else {
+            ringItems = new Object[capacity];
+        }
 
         boolean ttlEnabled = isTTLEnabled();
         if (ttlEnabled) {
@@ -330,7 +397,11 @@ public class RingbufferContainer implements DataSerializable {
         for (long seq = headSequence; seq <= tailSequence; seq++) {
             int index = toIndex(seq);
 
-            if (inMemoryFormat == BINARY) {
+            if (arena != null) {
+                // the items used to fit in an arena of this size, so they will fit again and nothing is overwritten.
+                byte[] bytes = toBytes(in.readData());
+                arena.write(index, arena.reserve(bytes.length), bytes);
+            } else if (inMemoryFormat == BINARY) {
                 ringItems[index] = in.readData();
             } else {
                 ringItems[index] = in.readObject();
@@ -54,6 +54,17 @@ public interface ExecutionService {
      */
     String CLIENT_EXECUTOR = "hz:client";
 
+    /**
+     * Name of the client executor that runs query tasks when the client engine pipeline is enabled.
+     */
+    String CLIENT_QUERY_EXECUTOR = "hz:client-query";
+
+    /**
+     * Name of the client executor that runs multi partition and multi target tasks when the client engine pipeline
+     * is enabled.
+     */
+    String CLIENT_BULK_EXECUTOR = "hz:client-bulk";
+
     /**
      * Name of the query executor.
      */
@@ -74,6 +74,7 @@ public abstract class Operation implements DataSerializable {
     private transient Address callerAddress;
     private transient Connection connection;
     private transient ResponseHandler responseHandler;
+    private transient long enqueueTimeNanos;
 
     public Operation() {
         setFlag(true, BITMASK_VALIDATE_TARGET);
@@ -271,6 +272,16 @@ public abstract class Operation implements DataSerializable {
         return this;
     }
 
+    // Accessed using OperationAccessor
+    final long getEnqueueTimeNanos() {
+        return enqueueTimeNanos;
+    }
+
+    // Accessed using OperationAccessor
+    final void setEnqueueTimeNanos(long enqueueTimeNanos) {
+        this.enqueueTimeNanos = enqueueTimeNanos;
+    }
+
     /**
      * Gets the call timeout in milliseconds. For example, if a call should be executed within 60 seconds orotherwise it should be
      * aborted, then the call-timeout is 60000 milliseconds.
@@ -60,6 +60,27 @@ public final class OperationAccessor {
         op.setInvocationTime(invocationTime);
     }
 
+    /**
+     * Gets the {@link System#nanoTime()} at which the Operation was handed to the operation executor.
+     *
+     * @param op the Operation.
+     * @return the enqueue time, or 0 if the Operation is not waiting in an operation queue.
+     */
+    public static long getEnqueueTimeNanos(Operation op) {
+        return op.getEnqueueTimeNanos();
+    }
+
+    /**
+     * Sets the {@link System#nanoTime()} at which the Operation was handed to the operation executor. It is used to
+     * measure how long the Operation waited in the operation queue.
+     *
+     * @param op the Operation that is updated for its enqueue time.
+     * @param enqueueTimeNanos the enqueue time, or 0 to clear it.
+     */
+    public static void setEnqueueTimeNanos(Operation op, long enqueueTimeNanos) {
+        op.setEnqueueTimeNanos(enqueueTimeNanos);
+    }
+
     /**
      * Sets the call timeout in milliseconds for the Operation.
      *
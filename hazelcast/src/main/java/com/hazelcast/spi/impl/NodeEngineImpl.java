@@ -23,6 +23,8 @@ import com.hazelcast.instance.GroupProperties;
 import com.hazelcast.instance.MemberImpl;
 import com.hazelcast.instance.Node;
 import com.hazelcast.internal.management.ManagementCenterService;
+import com.hazelcast.internal.metrics.MetricsRegistry;
+import com.hazelcast.internal.metrics.impl.MetricsRegistryImpl;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.nio.Address;
 import com.hazelcast.nio.serialization.Data;
@@ -79,10 +81,12 @@ public class NodeEngineImpl implements NodeEngine {
     private final WanReplicationService wanReplicationService;
     private final PacketTransceiver packetTransceiver;
     private final QuorumServiceImpl quorumService;
+    private final MetricsRegistryImpl metricsRegistry;
 
     public NodeEngineImpl(Node node) {
         this.node = node;
         this.logger = node.getLogger(NodeEngine.class.getName());
+        this.metricsRegistry = new MetricsRegistryImpl(node.getLogger(MetricsRegistry.class));
         this.proxyService = new ProxyServiceImpl(this);
         this.serviceManager = new ServiceManager(this);
         this.executionService = new ExecutionServiceImpl(this);
@@ -96,6 +100,10 @@ public class NodeEngineImpl implements NodeEngine {
         quorumService = new QuorumServiceImpl(this);
     }
 
+    public MetricsRegistry getMetricsRegistry() {
+        return metricsRegistry;
+    }
+
     public PacketTransceiver getPacketTransceiver() {
         return packetTransceiver;
     }
@@ -324,5 +332,6 @@ public class NodeEngineImpl implements NodeEngine {
         operationService.shutdown();
         wanReplicationService.shutdown();
         executionService.shutdown();
+        metricsRegistry.shutdown();
     }
 }
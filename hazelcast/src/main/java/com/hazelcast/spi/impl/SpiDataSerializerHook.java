@@ -21,6 +21,7 @@ import com.hazelcast.nio.serialization.DataSerializerHook;
 import com.hazelcast.nio.serialization.FactoryIdHelper;
 import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
 import com.hazelcast.spi.impl.eventservice.impl.EventPacket;
+import com.hazelcast.spi.impl.eventservice.impl.EventPacketBatch;
 import com.hazelcast.spi.impl.operationservice.impl.operations.PartitionIteratingOperation;
 import com.hazelcast.spi.impl.operationservice.impl.operations.PartitionIteratingOperation.PartitionResponse;
 import com.hazelcast.spi.impl.operationservice.impl.operations.Backup;
@@ -43,6 +44,7 @@ public final class SpiDataSerializerHook implements DataSerializerHook {
     public static final int COLLECTION = 7;
     public static final int CALL_TIMEOUT_RESPONSE = 8;
     public static final int ERROR_RESPONSE = 9;
+    public static final int EVENT_PACKET_BATCH = 10;
 
     @Override
     public DataSerializableFactory createFactory() {
@@ -70,6 +72,8 @@ public final class SpiDataSerializerHook implements DataSerializerHook {
                         return new CallTimeoutResponse();
                     case ERROR_RESPONSE:
                         return new ErrorResponse();
+                    case EVENT_PACKET_BATCH:
+                        return new EventPacketBatch();
                     default:
                         return null;
                 }
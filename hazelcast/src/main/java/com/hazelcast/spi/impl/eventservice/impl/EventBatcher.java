@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.spi.impl.eventservice.impl;
+
+import com.hazelcast.nio.Address;
+import com.hazelcast.nio.serialization.Data;
+
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Collects the remote events destined to a single member and sends them as one {@link EventPacketBatch}.
+ *
+ * A batch is sent as soon as it contains the maximum number of events or bytes. Otherwise the first event added to
+ * an empty batch schedules a one-shot flush after the linger time, so an event lingers at most that long and an idle
+ * batcher costs nothing.
+ *
+ * Events are appended and complete batches are taken while holding the lock of the batcher; a taken batch is put in
+ * the queue of pending batches before the lock is released. The batches are serialized and sent after the lock has
+ * been released, by one thread at a time and in the order of the queue. So a thread that adds an event never waits
+ * for the serialization of a batch, the batches to a member are still handed over to the connection in the same
+ * order as the events were added, and the receiving side preserves the order of events with the same order key.
+ *
+ * Once the member has left, the batcher is discarded and drops the events added to it.
+ */
+final class EventBatcher {
+
+    private final EventServiceImpl eventService;
+    private final Address subscriber;
+    private final int maxBytes;
+    private final long lingerMillis;
+    private final EventPacket[] packets;
+    private final int[] orderKeys;
+    private final Queue<PendingBatch> pendingBatches = new ConcurrentLinkedQueue<PendingBatch>();
+    // set while a thread is sending the pending batches.
+    private final AtomicBoolean sending = new AtomicBoolean();
+    private int size;
+    private int bytes;
+    private boolean flushScheduled;
+    private boolean discarded;
+
+    EventBatcher(EventServiceImpl eventService, Address subscriber, int maxCount, int maxBytes, long lingerMillis) {
+        this.eventService = eventService;
+        this.subscriber = subscriber;
+        this.maxBytes = maxBytes;
+        this.lingerMillis = lingerMillis;
+        this.packets = new EventPacket[maxCount];
+        this.orderKeys = new int[maxCount];
+    }
+
+    void add(EventPacket packet, int orderKey) {
+        synchronized (this) {
+            if (discarded) {
+                return;
+            }
+
+            append(packet, orderKey);
+            if (size == packets.length || bytes >= maxBytes) {
+                takeBatch(null);
+            } else if (!flushScheduled) {
+                flushScheduled = eventService.scheduleEventBatchFlush(this, lingerMillis);
+                if (!flushScheduled) {
+                    takeBatch(null);
+                }
+            }
+        }
+        sendPendingBatches();
+    }
+
+    /**
+     * Adds the event and sends the batch with it as an operation, so the caller can wait for the subscriber to
+     * receive it. The batch still travels the same path on the subscriber as the other batches of this member,
+     * so it doesn't overtake the events added before.
+     *
+     * @return the future of the invocation, or null if the batcher has been discarded.
+     */
+    Future addAndInvoke(EventPacket packet, int orderKey) {
+        PendingBatch batch;
+        synchronized (this) {
+            if (discarded) {
+                return null;
+            }
+
+            append(packet, orderKey);
+            batch = takeBatch(packet.getServiceName());
+        }
+        sendPendingBatches();
+        return batch.awaitFuture();
+    }
+
+    void flushLingering() {
+        synchronized (this) {
+            flushScheduled = false;
+            if (size > 0) {
+                takeBatch(null);
+            }
+        }
+        sendPendingBatches();
+    }
+
+    synchronized void discard() {
+        discarded = true;
+        clear();
+    }
+
+    /**
+     * Takes the events added so far as a batch and puts it in the queue of pending batches. Must be called while
+     * holding the lock, so the batches are queued in the order of their events.
+     *
+     * @param serviceName the service name to invoke the batch with, or null to send it without an invocation.
+     */
+    private PendingBatch takeBatch(String serviceName) {
+        // the arrays are reused as soon as the lock is released
+        EventPacketBatch batch = new EventPacketBatch(Arrays.copyOf(packets, size), Arrays.copyOf(orderKeys, size), size);
+        PendingBatch pendingBatch = new PendingBatch(batch, serviceName);
+        pendingBatches.offer(pendingBatch);
+        clear();
+        return pendingBatch;
+    }
+
+    /**
+     * Sends the pending batches in order, unless another thread is sending them already. Must be called without
+     * holding the lock.
+     */
+    private void sendPendingBatches() {
+        // a batch queued while the previous sender was about to stop is picked up by the next iteration
+        while (!pendingBatches.isEmpty() && sending.compareAndSet(false, true)) {
+            try {
+                for (;;) {
+                    PendingBatch batch = pendingBatches.poll();
+                    if (batch == null) {
+                        break;
+                    }
+                    batch.send();
+                }
+            } finally {
+                sending.set(false);
+            }
+        }
+    }
+
+    private void append(EventPacket packet, int orderKey) {
+        packets[size] = packet;
+        orderKeys[size] = orderKey;
+        size++;
+        bytes += sizeOf(packet);
+    }
+
+    private void clear() {
+        for (int k = 0; k < size; k++) {
+            packets[k] = null;
+        }
+        size = 0;
+        bytes = 0;
+    }
+
+    /**
+     * Estimates the serialized size of the packet. Events that have not been serialized yet are not taken into
+     * account; such batches are only bound by the number of events.
+     */
+    private static int sizeOf(EventPacket packet) {
+        int size = packet.getEventId().length() + packet.getServiceName().length();
+        Object event = packet.getEvent();
+        if (event instanceof Data) {
+            size += ((Data) event).totalSize();
+        }
+        return size;
+    }
+
+    /**
+     * A batch waiting to be sent. If it is sent as an operation, the thread that added the last event waits for
+     * the future of the invocation.
+     */
+    private final class PendingBatch {
+        private final EventPacketBatch batch;
+        private final String serviceName;
+        private final CountDownLatch invoked;
+        private volatile Future future;
+
+        private PendingBatch(EventPacketBatch batch, String serviceName) {
+            this.batch = batch;
+            this.serviceName = serviceName;
+            this.invoked = serviceName == null ? null : new CountDownLatch(1);
+        }
+
+        private void send() {
+            if (serviceName == null) {
+                eventService.sendEventBatch(subscriber, batch);
+                return;
+            }
+
+            try {
+                future = eventService.invokeEventBatch(subscriber, batch, serviceName);
+            } finally {
+                invoked.countDown();
+            }
+        }
+
+        private Future awaitFuture() {
+            boolean interrupted = false;
+            for (;;) {
+                try {
+                    invoked.await();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            return future;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.spi.impl.eventservice.impl;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.spi.impl.SpiDataSerializerHook;
+
+import java.io.IOException;
+
+/**
+ * A batch of {@link EventPacket} instances destined to the same member. Every event carries its own order key, so
+ * the receiving side can dispatch each event to the right event thread.
+ *
+ * @see EventBatcher
+ */
+public final class EventPacketBatch implements IdentifiedDataSerializable {
+
+    private EventPacket[] packets;
+    private int[] orderKeys;
+    private int size;
+
+    public EventPacketBatch() {
+    }
+
+    EventPacketBatch(EventPacket[] packets, int[] orderKeys, int size) {
+        this.packets = packets;
+        this.orderKeys = orderKeys;
+        this.size = size;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public EventPacket getPacket(int index) {
+        return packets[index];
+    }
+
+    public int getOrderKey(int index) {
+        return orderKeys[index];
+    }
+
+    @Override
+    public int getFactoryId() {
+        return SpiDataSerializerHook.F_ID;
+    }
+
+    @Override
+    public int getId() {
+        return SpiDataSerializerHook.EVENT_PACKET_BATCH;
+    }
+
+    @Override
+    public void writeData(ObjectDataOutput out) throws IOException {
+        out.writeInt(size);
+        for (int k = 0; k < size; k++) {
+            out.writeInt(orderKeys[k]);
+            packets[k].writeData(out);
+        }
+    }
+
+    @Override
+    public void readData(ObjectDataInput in) throws IOException {
+        size = in.readInt();
+        packets = new EventPacket[size];
+        orderKeys = new int[size];
+        for (int k = 0; k < size; k++) {
+            orderKeys[k] = in.readInt();
+            EventPacket packet = new EventPacket();
+            packet.readData(in);
+            packets[k] = packet;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "EventPacketBatch{size=" + size + '}';
+    }
+}
@@ -28,17 +28,20 @@ import com.hazelcast.nio.serialization.Data;
 import com.hazelcast.spi.EventFilter;
 import com.hazelcast.spi.EventRegistration;
 import com.hazelcast.spi.EventService;
+import com.hazelcast.spi.Operation;
 import com.hazelcast.spi.OperationService;
 import com.hazelcast.spi.impl.NodeEngineImpl;
 import com.hazelcast.spi.impl.eventservice.InternalEventService;
 import com.hazelcast.spi.impl.eventservice.impl.operations.DeregistrationOperation;
 import com.hazelcast.spi.impl.eventservice.impl.operations.PostJoinRegistrationOperation;
 import com.hazelcast.spi.impl.eventservice.impl.operations.RegistrationOperation;
+import com.hazelcast.spi.impl.eventservice.impl.operations.SendEventBatchOperation;
 import com.hazelcast.spi.impl.eventservice.impl.operations.SendEventOperation;
 import com.hazelcast.util.ConcurrencyUtil;
 import com.hazelcast.util.ConstructorFunction;
 import com.hazelcast.util.EmptyStatement;
 import com.hazelcast.util.executor.StripedExecutor;
+import com.hazelcast.util.executor.StripedRunnable;
 
 import java.io.Closeable;
 import java.io.IOException;
@@ -80,6 +83,11 @@ public class EventServiceImpl implements InternalEventService {
     private final int eventThreadCount;
     private final int eventQueueCapacity;
     private final AtomicLong totalFailures = new AtomicLong();
+    private final boolean eventBatchEnabled;
+    private final int eventBatchMaxCount;
+    private final int eventBatchMaxBytes;
+    private final ConcurrentMap<Address, EventBatcher> eventBatchers;
+    private final ConstructorFunction<Address, EventBatcher> eventBatcherConstructor;
 
     public EventServiceImpl(NodeEngineImpl nodeEngine) {
         this.nodeEngine = nodeEngine;
@@ -101,6 +109,38 @@ public class EventServiceImpl implements InternalEventService {
         this.deregistrationExceptionHandler
                 = new FutureUtilExceptionHandler(logger, "Member left while de-registering listener...");
         this.segments = new ConcurrentHashMap<String, EventServiceSegment>();
+
+        this.eventBatchEnabled = groupProperties.EVENT_BATCH_ENABLED.getBoolean();
+        this.eventBatchMaxCount = groupProperties.EVENT_BATCH_MAX_COUNT.getInteger();
+        this.eventBatchMaxBytes = groupProperties.EVENT_BATCH_MAX_BYTES.getInteger();
+        final long eventBatchLingerMillis = groupProperties.EVENT_BATCH_LINGER_MILLIS.getLong();
+        this.eventBatchers = new ConcurrentHashMap<Address, EventBatcher>();
+        this.eventBatcherConstructor = new ConstructorFunction<Address, EventBatcher>() {
+            @Override
+            public EventBatcher createNew(Address subscriber) {
+                return new EventBatcher(EventServiceImpl.this, subscriber, eventBatchMaxCount, eventBatchMaxBytes,
+                        eventBatchLingerMillis);
+            }
+        };
+    }
+
+    /**
+     * Schedules a one-shot flush of the batcher.
+     *
+     * @return false if the flush could not be scheduled, e.g. because the member is shutting down.
+     */
+    boolean scheduleEventBatchFlush(final EventBatcher batcher, long lingerMillis) {
+        try {
+            nodeEngine.getExecutionService().schedule(new Runnable() {
+                @Override
+                public void run() {
+                    batcher.flushLingering();
+                }
+            }, lingerMillis, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
     }
 
     @Override
@@ -338,26 +378,79 @@ public class EventServiceImpl implements InternalEventService {
         boolean sync = segment.incrementPublish() % EVENT_SYNC_FREQUENCY == 0;
 
         if (sync) {
-            SendEventOperation op = new SendEventOperation(eventPacket, orderKey);
-            Future f = nodeEngine.getOperationService()
-                    .createInvocationBuilder(serviceName, op, subscriber)
-                    .setTryCount(SEND_RETRY_COUNT).invoke();
+            Future f;
+            if (eventBatchEnabled) {
+                // sent along the path of the batches, so the events batched before this one are not overtaken
+                f = getEventBatcher(subscriber).addAndInvoke(eventPacket, orderKey);
+            } else {
+                SendEventOperation op = new SendEventOperation(eventPacket, orderKey);
+                f = invoke(serviceName, op, subscriber);
+            }
+            if (f == null) {
+                return;
+            }
             try {
                 f.get(SEND_EVENT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
             } catch (Exception ignored) {
                 ignore(ignored);
             }
+        } else if (eventBatchEnabled) {
+            getEventBatcher(subscriber).add(eventPacket, orderKey);
         } else {
-            final Packet packet = new Packet(nodeEngine.toData(eventPacket), orderKey);
-            packet.setHeader(Packet.HEADER_EVENT);
-            if (!nodeEngine.getPacketTransceiver().transmit(packet, subscriber)) {
-                if (nodeEngine.isActive()) {
-                    logFailure("IO Queue overloaded! Failed to send event packet to: %s", subscriber);
-                }
+            transmit(subscriber, eventPacket, orderKey);
+        }
+    }
+
+    private Future invoke(String serviceName, Operation op, Address subscriber) {
+        return nodeEngine.getOperationService()
+                .createInvocationBuilder(serviceName, op, subscriber)
+                .setTryCount(SEND_RETRY_COUNT).invoke();
+    }
+
+    /**
+     * Sends a batch of events. The batches of this member are all processed by the same event thread of the
+     * subscriber, so they are unpacked in the order they were sent.
+     */
+    void sendEventBatch(Address subscriber, EventPacketBatch batch) {
+        transmit(subscriber, batch, batchOrderKey(nodeEngine.getThisAddress()));
+    }
+
+    /**
+     * Sends a batch of events as an operation, so the returned future completes once the subscriber received it.
+     */
+    Future invokeEventBatch(Address subscriber, EventPacketBatch batch, String serviceName) {
+        return invoke(serviceName, new SendEventBatchOperation(batch), subscriber);
+    }
+
+    private static int batchOrderKey(Address sender) {
+        return sender.hashCode();
+    }
+
+    private void transmit(Address subscriber, Object eventPacket, int orderKey) {
+        final Packet packet = new Packet(nodeEngine.toData(eventPacket), orderKey);
+        packet.setHeader(Packet.HEADER_EVENT);
+        if (!nodeEngine.getPacketTransceiver().transmit(packet, subscriber)) {
+            if (nodeEngine.isActive()) {
+                logFailure("IO Queue overloaded! Failed to send event packet to: %s", subscriber);
             }
         }
     }
 
+    private EventBatcher getEventBatcher(Address subscriber) {
+        EventBatcher batcher = eventBatchers.get(subscriber);
+        if (batcher != null) {
+            return batcher;
+        }
+
+        batcher = ConcurrencyUtil.getOrPutIfAbsent(eventBatchers, subscriber, eventBatcherConstructor);
+        if (nodeEngine.getClusterService().getMember(subscriber) == null) {
+            // the member has left, maybe before onMemberLeft removed the batcher we just created
+            eventBatchers.remove(subscriber, batcher);
+            batcher.discard();
+        }
+        return batcher;
+    }
+
     public EventServiceSegment getSegment(String service, boolean forceCreate) {
         EventServiceSegment segment = segments.get(service);
         if (segment == null && forceCreate) {
@@ -390,6 +483,41 @@ public class EventServiceImpl implements InternalEventService {
         }
     }
 
+    /**
+     * Handles a batch received by a {@link SendEventBatchOperation}. Like the batches received as packets, it is
+     * unpacked by the event thread of the sender, so it keeps its place among them.
+     */
+    public void handleEventBatch(final EventPacketBatch batch, Address sender) {
+        final int orderKey = batchOrderKey(sender);
+        executeEventCallback(new StripedRunnable() {
+            @Override
+            public int getKey() {
+                return orderKey;
+            }
+
+            @Override
+            public void run() {
+                dispatchEventBatch(batch);
+            }
+        });
+    }
+
+    /**
+     * Hands the events of a received batch over to the event threads determined by their order keys.
+     */
+    void dispatchEventBatch(EventPacketBatch batch) {
+        for (int k = 0; k < batch.size(); k++) {
+            EventPacket eventPacket = batch.getPacket(k);
+            try {
+                eventExecutor.execute(new EventPacketProcessor(this, eventPacket, batch.getOrderKey(k)));
+            } catch (RejectedExecutionException e) {
+                if (eventExecutor.isLive()) {
+                    logFailure("EventQueue overloaded! Failed to process event packet: %s", eventPacket);
+                }
+            }
+        }
+    }
+
     @Override
     public void handleEvent(Packet packet) {
         try {
@@ -418,6 +546,10 @@ public class EventServiceImpl implements InternalEventService {
 
     public void shutdown() {
         logger.finest("Stopping event executor...");
+        for (EventBatcher batcher : eventBatchers.values()) {
+            batcher.discard();
+        }
+        eventBatchers.clear();
         eventExecutor.shutdown();
         for (EventServiceSegment segment : segments.values()) {
             segment.clear();
@@ -427,6 +559,10 @@ public class EventServiceImpl implements InternalEventService {
 
     public void onMemberLeft(MemberImpl member) {
         final Address address = member.getAddress();
+        EventBatcher batcher = eventBatchers.remove(address);
+        if (batcher != null) {
+            batcher.discard();
+        }
         for (EventServiceSegment segment : segments.values()) {
             segment.onMemberLeft(address);
         }
@@ -34,8 +34,12 @@ public class RemoteEventPacketProcessor extends EventPacketProcessor implements
     public void run() {
         try {
             Data data = packet.getData();
-            EventPacket eventPacket = (EventPacket) eventService.nodeEngine.toObject(data);
-            process(eventPacket);
+            Object eventPacket = eventService.nodeEngine.toObject(data);
+            if (eventPacket instanceof EventPacketBatch) {
+                eventService.dispatchEventBatch((EventPacketBatch) eventPacket);
+            } else {
+                process((EventPacket) eventPacket);
+            }
         } catch (Exception e) {
             eventService.logger.warning("Error while logging processing event", e);
         }
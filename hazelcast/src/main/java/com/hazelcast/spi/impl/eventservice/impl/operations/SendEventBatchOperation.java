@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl.eventservice.impl.operations;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.spi.AbstractOperation;
+import com.hazelcast.spi.impl.eventservice.impl.EventPacketBatch;
+import com.hazelcast.spi.impl.eventservice.impl.EventServiceImpl;
+
+import java.io.IOException;
+
+/**
+ * Sends an {@link EventPacketBatch} whose delivery the publisher waits for. The batch is unpacked by the same event
+ * thread as the batches sent as packets by the calling member, so its events don't overtake the ones sent before.
+ */
+public class SendEventBatchOperation extends AbstractOperation {
+    private EventPacketBatch batch;
+
+    public SendEventBatchOperation() {
+    }
+
+    public SendEventBatchOperation(EventPacketBatch batch) {
+        this.batch = batch;
+    }
+
+    @Override
+    public void run() throws Exception {
+        EventServiceImpl eventService = (EventServiceImpl) getNodeEngine().getEventService();
+        eventService.handleEventBatch(batch, getCallerAddress());
+    }
+
+    @Override
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        super.writeInternal(out);
+        batch.writeData(out);
+    }
+
+    @Override
+    protected void readInternal(ObjectDataInput in) throws IOException {
+        super.readInternal(in);
+        batch = new EventPacketBatch();
+        batch.readData(in);
+    }
+}
@@ -33,6 +33,7 @@ import com.hazelcast.spi.impl.operationexecutor.ResponsePacketHandler;
 
 import java.util.concurrent.TimeUnit;
 
+import static com.hazelcast.spi.OperationAccessor.setEnqueueTimeNanos;
 import static com.hazelcast.util.Preconditions.checkNotNull;
 
 /**
@@ -78,6 +79,8 @@ public final class ClassicOperationExecutor implements OperationExecutor {
     private final NodeExtension nodeExtension;
     private final HazelcastThreadGroup threadGroup;
     private final OperationRunner adHocOperationRunner;
+    // if enabled, operations and packets are stamped with their enqueue time so the queue wait can be recorded
+    private final boolean latencyHistogramsEnabled;
 
     public ClassicOperationExecutor(GroupProperties properties,
                                     LoggingService loggerService,
@@ -92,6 +95,7 @@ public final class ClassicOperationExecutor implements OperationExecutor {
         this.logger = loggerService.getLogger(ClassicOperationExecutor.class);
         this.responsePacketHandler = responsePacketHandler;
         this.genericScheduleQueue = new DefaultScheduleQueue();
+        this.latencyHistogramsEnabled = properties.LATENCY_HISTOGRAMS_ENABLED.getBoolean();
 
         this.adHocOperationRunner = operationRunnerFactory.createAdHocRunner();
 
@@ -325,6 +329,9 @@ public final class ClassicOperationExecutor implements OperationExecutor {
     @Override
     public void execute(Operation op) {
         checkNotNull(op, "op can't be null");
+        if (latencyHistogramsEnabled) {
+            setEnqueueTimeNanos(op, System.nanoTime());
+        }
         execute(op, op.getPartitionId(), op.isUrgent());
     }
 
@@ -358,6 +365,9 @@ public final class ClassicOperationExecutor implements OperationExecutor {
             // it must be an operation packet
             int partitionId = packet.getPartitionId();
             boolean hasPriority = packet.isUrgent();
+            if (latencyHistogramsEnabled) {
+                packet.setEnqueueTimeNanos(System.nanoTime());
+            }
             execute(packet, partitionId, hasPriority);
         }
     }
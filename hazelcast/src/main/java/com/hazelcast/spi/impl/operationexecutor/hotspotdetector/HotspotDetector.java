@@ -0,0 +1,372 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl.operationexecutor.hotspotdetector;
+
+import com.hazelcast.instance.GroupProperties;
+import com.hazelcast.internal.metrics.MetricsRegistry;
+import com.hazelcast.internal.metrics.Probe;
+import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.nio.serialization.SerializationService;
+import com.hazelcast.spi.KeyBasedOperation;
+import com.hazelcast.spi.NamedOperation;
+import com.hazelcast.spi.Operation;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Accounts the load per partition, per data structure and per key, so that skew can be diagnosed while a
+ * cluster is under load. For example, it shows which map or key is responsible when one partition thread
+ * saturates.
+ *
+ * The partition operation threads sample one in every {@code sampleRate} operations. For a sampled operation
+ * they measure the CPU time and the received bytes and pass them to {@link #record(Operation, int, long, long)}.
+ * All counters are weighted by the sample rate, so they are estimates of the totals.
+ *
+ * Each partition has its own {@link SpaceSavingSketch} of the hottest keys. A key always maps to the same
+ * partition, so a report merges the sketches without double counting.
+ *
+ * The counters are exposed as gauges on the {@link MetricsRegistry}, e.g. {@code hotspot.partition[12].cpuNanos}
+ * or {@code hotspot.hz:impl:mapService[orders].operationCount}. The hottest keys are available through the
+ * textual reports.
+ */
+public final class HotspotDetector {
+
+    private static final int SKETCH_CAPACITY_FACTOR = 2;
+    private static final int PERCENT = 100;
+
+    private final int sampleRate;
+    private final int topCount;
+    private final LoadCounters[] partitionLoads;
+    private final AtomicReferenceArray<SpaceSavingSketch> keySketches;
+    private final ConcurrentMap<String, LoadCounters> structureLoads = new ConcurrentHashMap<String, LoadCounters>();
+    private final MetricsRegistry metricsRegistry;
+    private final SerializationService serializationService;
+    private final ThreadMXBean threadMXBean;
+    private final boolean cpuTimeSupported;
+
+    public HotspotDetector(GroupProperties groupProperties, MetricsRegistry metricsRegistry,
+                           SerializationService serializationService) {
+        this.sampleRate = Math.max(1, groupProperties.HOTSPOT_DETECTOR_SAMPLE_RATE.getInteger());
+        this.topCount = Math.max(1, groupProperties.HOTSPOT_DETECTOR_TOP_COUNT.getInteger());
+        this.metricsRegistry = metricsRegistry;
+        this.serializationService = serializationService;
+        this.threadMXBean = ManagementFactory.getThreadMXBean();
+        this.cpuTimeSupported = threadMXBean.isCurrentThreadCpuTimeSupported() && threadMXBean.isThreadCpuTimeEnabled();
+
+        int partitionCount = groupProperties.PARTITION_COUNT.getInteger();
+        this.partitionLoads = new LoadCounters[partitionCount];
+        this.keySketches = new AtomicReferenceArray<SpaceSavingSketch>(partitionCount);
+        for (int partitionId = 0; partitionId < partitionCount; partitionId++) {
+            String name = "partition[" + partitionId + "]";
+            partitionLoads[partitionId] = new LoadCounters(name);
+            metricsRegistry.scanAndRegister(partitionLoads[partitionId], "hotspot." + name);
+        }
+        metricsRegistry.scanAndRegister(this, "hotspot");
+    }
+
+    /**
+     * Returns the number of operations of which one is sampled.
+     *
+     * @return the sample rate.
+     */
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * Returns the CPU time of the current thread in nanoseconds. If the JVM doesn't support or has disabled thread
+     * CPU time measurement, the wall clock time is returned instead.
+     *
+     * @return the current CPU time.
+     */
+    public long currentThreadCpuNanos() {
+        return cpuTimeSupported ? threadMXBean.getCurrentThreadCpuTime() : System.nanoTime();
+    }
+
+    /**
+     * Records a sampled operation. Should only be called by the partition thread owning the partition.
+     *
+     * @param op          the sampled operation
+     * @param partitionId the partition the operation ran on
+     * @param cpuNanos    the CPU time used by the operation
+     * @param bytes       the number of bytes received for the operation, or 0 for a local operation
+     */
+    public void record(Operation op, int partitionId, long cpuNanos, long bytes) {
+        long weightedCpuNanos = cpuNanos * sampleRate;
+        long weightedBytes = bytes * sampleRate;
+        partitionLoads[partitionId].add(sampleRate, weightedBytes, weightedCpuNanos);
+
+        if (!(op instanceof NamedOperation)) {
+            return;
+        }
+
+        String name = ((NamedOperation) op).getName();
+        if (name == null) {
+            return;
+        }
+
+        String structureName = op.getServiceName() + '[' + name + ']';
+        getStructureLoad(structureName).add(sampleRate, weightedBytes, weightedCpuNanos);
+
+        if (op instanceof KeyBasedOperation) {
+            Data key = ((KeyBasedOperation) op).getKey();
+            if (key != null) {
+                getKeySketch(partitionId).offer(new HotKey(structureName, key), sampleRate);
+            }
+        }
+    }
+
+    private LoadCounters getStructureLoad(String structureName) {
+        LoadCounters load = structureLoads.get(structureName);
+        if (load != null) {
+            return load;
+        }
+
+        load = new LoadCounters(structureName);
+        LoadCounters found = structureLoads.putIfAbsent(structureName, load);
+        if (found != null) {
+            return found;
+        }
+
+        metricsRegistry.scanAndRegister(load, "hotspot." + structureName);
+        return load;
+    }
+
+    /**
+     * Drops the load of a destroyed data structure and deregisters its gauges. The hot keys of the data structure
+     * are left to be pushed out of the sketches by other keys.
+     *
+     * @param serviceName the name of the service of the data structure
+     * @param name        the name of the data structure
+     */
+    public void removeStructure(String serviceName, String name) {
+        LoadCounters load = structureLoads.remove(serviceName + '[' + name + ']');
+        if (load != null) {
+            metricsRegistry.deregister(load);
+        }
+    }
+
+    private SpaceSavingSketch getKeySketch(int partitionId) {
+        // only the partition thread creates the sketch of its partition, so there is no race between writers
+        SpaceSavingSketch sketch = keySketches.get(partitionId);
+        if (sketch == null) {
+            sketch = new SpaceSavingSketch(topCount * SKETCH_CAPACITY_FACTOR);
+            keySketches.set(partitionId, sketch);
+        }
+        return sketch;
+    }
+
+    /**
+     * Returns the id of the partition that used the most CPU time, or -1 if nothing has been sampled.
+     *
+     * @return the hottest partition id.
+     */
+    @Probe(name = "hottestPartitionId")
+    public int getHottestPartitionId() {
+        int hottestPartitionId = -1;
+        long max = 0;
+        for (int partitionId = 0; partitionId < partitionLoads.length; partitionId++) {
+            long cpuNanos = partitionLoads[partitionId].cpuNanos.get();
+            if (cpuNanos > max) {
+                max = cpuNanos;
+                hottestPartitionId = partitionId;
+            }
+        }
+        return hottestPartitionId;
+    }
+
+    /**
+     * Returns the percentage of the total sampled CPU time used by the hottest partition. With a uniform load this
+     * is close to {@code 100 / partitionCount}.
+     *
+     * @return the percentage of CPU time of the hottest partition.
+     */
+    @Probe(name = "hottestPartitionCpuPercentage")
+    public long getHottestPartitionCpuPercentage() {
+        long total = 0;
+        long max = 0;
+        for (LoadCounters load : partitionLoads) {
+            long cpuNanos = load.cpuNanos.get();
+            total += cpuNanos;
+            max = Math.max(max, cpuNanos);
+        }
+        return total == 0 ? 0 : max * PERCENT / total;
+    }
+
+    /**
+     * Returns a report of the partitions that used the most CPU time.
+     *
+     * @return the report.
+     */
+    public String getHottestPartitions() {
+        StringBuilder sb = new StringBuilder();
+        for (LoadCounters load : sortByCpu(Arrays.asList(partitionLoads), topCount)) {
+            appendLoad(sb, load);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Returns a report of the data structures that used the most CPU time.
+     *
+     * @return the report.
+     */
+    public String getHottestStructures() {
+        StringBuilder sb = new StringBuilder();
+        for (LoadCounters load : sortByCpu(structureLoads.values(), topCount)) {
+            appendLoad(sb, load);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Returns a report of the keys that received the most operations. The counts are upper bounds; the real count
+     * is at least the count minus the error.
+     *
+     * @return the report.
+     */
+    public String getHottestKeys() {
+        List<SpaceSavingSketch.Counter> counters = new ArrayList<SpaceSavingSketch.Counter>();
+        for (int partitionId = 0; partitionId < keySketches.length(); partitionId++) {
+            SpaceSavingSketch sketch = keySketches.get(partitionId);
+            if (sketch != null) {
+                counters.addAll(sketch.counters());
+            }
+        }
+        Collections.sort(counters, new Comparator<SpaceSavingSketch.Counter>() {
+            @Override
+            public int compare(SpaceSavingSketch.Counter c1, SpaceSavingSketch.Counter c2) {
+                return c1.count > c2.count ? -1 : (c1.count == c2.count ? 0 : 1);
+            }
+        });
+
+        StringBuilder sb = new StringBuilder();
+        for (SpaceSavingSketch.Counter counter : counters.subList(0, Math.min(topCount, counters.size()))) {
+            HotKey hotKey = (HotKey) counter.key;
+            sb.append(hotKey.structureName)
+                    .append(" key=").append(toString(hotKey.key))
+                    .append(" operations=").append(counter.count)
+                    .append(" error=").append(counter.error)
+                    .append('\n');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Returns a report with the hottest partitions, data structures and keys.
+     *
+     * @return the report.
+     */
+    public String getReport() {
+        return "Hottest partitions (sample rate 1/" + sampleRate + "):\n" + getHottestPartitions()
+                + "Hottest data structures:\n" + getHottestStructures()
+                + "Hottest keys:\n" + getHottestKeys();
+    }
+
+    /**
+     * Resets all counters and sketches, e.g. to start a fresh measurement.
+     */
+    public void reset() {
+        for (LoadCounters load : partitionLoads) {
+            load.reset();
+        }
+        for (LoadCounters load : structureLoads.values()) {
+            load.reset();
+        }
+        for (int partitionId = 0; partitionId < keySketches.length(); partitionId++) {
+            SpaceSavingSketch sketch = keySketches.get(partitionId);
+            if (sketch != null) {
+                sketch.clear();
+            }
+        }
+    }
+
+    private String toString(Data key) {
+        try {
+            return String.valueOf(serializationService.toObject(key));
+        } catch (Exception e) {
+            return "<binary key hash=" + key.hashCode() + ">";
+        }
+    }
+
+    private static List<LoadCounters> sortByCpu(Collection<LoadCounters> loads, int count) {
+        List<LoadCounters> sorted = new ArrayList<LoadCounters>(loads.size());
+        for (LoadCounters load : loads) {
+            if (load.operationCount.get() > 0) {
+                sorted.add(load);
+            }
+        }
+        Collections.sort(sorted, new Comparator<LoadCounters>() {
+            @Override
+            public int compare(LoadCounters l1, LoadCounters l2) {
+                long cpu1 = l1.cpuNanos.get();
+                long cpu2 = l2.cpuNanos.get();
+                return cpu1 > cpu2 ? -1 : (cpu1 == cpu2 ? 0 : 1);
+            }
+        });
+        return sorted.subList(0, Math.min(count, sorted.size()));
+    }
+
+    private static void appendLoad(StringBuilder sb, LoadCounters load) {
+        sb.append(load.name)
+                .append(" operations=").append(load.operationCount.get())
+                .append(" bytes=").append(load.bytes.get())
+                .append(" cpu=").append(TimeUnit.NANOSECONDS.toMillis(load.cpuNanos.get())).append("ms")
+                .append('\n');
+    }
+
+    /**
+     * A key of a data structure.
+     */
+    private static final class HotKey {
+        private final String structureName;
+        private final Data key;
+
+        HotKey(String structureName, Data key) {
+            this.structureName = structureName;
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof HotKey)) {
+                return false;
+            }
+            HotKey that = (HotKey) o;
+            return key.equals(that.key) && structureName.equals(that.structureName);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * structureName.hashCode() + key.hashCode();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl.operationexecutor.hotspotdetector;
+
+import com.hazelcast.internal.metrics.Probe;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The estimated load of a partition or a data structure. The counters are weighted by the sample rate, so they
+ * estimate the total number of operations, received bytes and CPU time.
+ */
+final class LoadCounters {
+
+    final String name;
+
+    @Probe
+    final AtomicLong operationCount = new AtomicLong();
+    @Probe
+    final AtomicLong bytes = new AtomicLong();
+    @Probe
+    final AtomicLong cpuNanos = new AtomicLong();
+
+    LoadCounters(String name) {
+        this.name = name;
+    }
+
+    void add(long operations, long bytes, long cpuNanos) {
+        this.operationCount.addAndGet(operations);
+        if (bytes > 0) {
+            this.bytes.addAndGet(bytes);
+        }
+        this.cpuNanos.addAndGet(cpuNanos);
+    }
+
+    void reset() {
+        operationCount.set(0);
+        bytes.set(0);
+        cpuNanos.set(0);
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.spi.impl.operationexecutor.hotspotdetector;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A space-saving top-K sketch (Metwally et al.) that tracks the heaviest keys of a stream using a fixed number of
+ * counters.
+ *
+ * When a key that is not tracked arrives and all counters are in use, the counter with the lowest count is taken
+ * over by the new key. The new key inherits the count of the evicted key as its possible overestimation (error).
+ * So every tracked count is an upper bound and {@code count - error} is a lower bound of the real weight.
+ *
+ * Finding the lowest counter is a linear scan; the number of counters is small and the sketch is only updated for
+ * sampled operations. The sketch is written by a single partition thread, but read by management threads, so all
+ * access is synchronized; the lock is practically uncontended.
+ */
+final class SpaceSavingSketch {
+
+    private final int capacity;
+    private final Map<Object, Counter> counters;
+
+    SpaceSavingSketch(int capacity) {
+        this.capacity = capacity;
+        this.counters = new HashMap<Object, Counter>(capacity * 2);
+    }
+
+    synchronized void offer(Object key, long weight) {
+        Counter counter = counters.get(key);
+        if (counter != null) {
+            counter.count += weight;
+            return;
+        }
+
+        if (counters.size() < capacity) {
+            counters.put(key, new Counter(key, weight, 0));
+            return;
+        }
+
+        Counter min = null;
+        for (Counter candidate : counters.values()) {
+            if (min == null || candidate.count < min.count) {
+                min = candidate;
+            }
+        }
+        counters.remove(min.key);
+        counters.put(key, new Counter(key, min.count + weight, min.count));
+    }
+
+    /**
+     * Returns a copy of the current counters in no particular order.
+     */
+    synchronized List<Counter> counters() {
+        List<Counter> result = new ArrayList<Counter>(counters.size());
+        for (Counter counter : counters.values()) {
+            result.add(new Counter(counter.key, counter.count, counter.error));
+        }
+        return result;
+    }
+
+    synchronized void clear() {
+        counters.clear();
+    }
+
+    /**
+     * The estimated weight of a key.
+     */
+    static final class Counter {
+        final Object key;
+        long count;
+        long error;
+
+        Counter(Object key, long count, long error) {
+            this.key = key;
+            this.count = count;
+            this.error = error;
+        }
+    }
+}
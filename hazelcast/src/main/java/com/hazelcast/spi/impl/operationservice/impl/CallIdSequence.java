@@ -36,7 +36,8 @@ import static com.hazelcast.spi.Operation.CALL_ID_LOCAL_SKIPPED;
  * The CallIdSequence provides back pressure if enabled and there are too many concurrent invocations. When this happens,
  * an exponential backoff policy is applied.
  * <p/>
- * Currently a single CallIdSequence is used for all partitions; so there is contention. Also one partition can cause problems
+ * Currently a single CallIdSequence is used for all partitions. Without backpressure the contention is reduced by
+ * letting every thread reserve a range of call-ids at once. Also one partition can cause problems
  * in other partition if a lot of invocations are created for that partition. Then other partitions can't make as many invocations
  * because a single callIdSequence is being used.
  * <p/>
@@ -92,16 +93,38 @@ public abstract class CallIdSequence {
         return true;
     }
 
+    /**
+     * A {@link com.hazelcast.spi.impl.operationservice.impl.CallIdSequence} without backpressure.
+     *
+     * Every thread reserves a range of {@link #CALL_ID_RANGE} call-ids at once, and hands them out without any
+     * synchronization. So the shared head is only touched once every CALL_ID_RANGE invocations of a thread. The
+     * call-ids are unique, but not ordered over threads.
+     */
     public static final class CallIdSequenceWithoutBackpressure extends CallIdSequence {
 
+        static final int CALL_ID_RANGE = 1024;
+
         private static final AtomicLongFieldUpdater<CallIdSequenceWithoutBackpressure> HEAD
                 = AtomicLongFieldUpdater.newUpdater(CallIdSequenceWithoutBackpressure.class, "head");
 
+        // the last call-id that has been reserved by any thread.
         private volatile long head;
 
+        private final ThreadLocal<CallIdRange> ranges = new ThreadLocal<CallIdRange>() {
+            @Override
+            protected CallIdRange initialValue() {
+                return new CallIdRange();
+            }
+        };
+
+        /**
+         * Returns the last call-id handed out to the calling thread, or the head of the sequence if this thread
+         * didn't get a call-id yet.
+         */
         @Override
         public long getLastCallId() {
-            return head;
+            CallIdRange range = ranges.get();
+            return range.end == 0 ? head : range.next - 1;
         }
 
         @Override
@@ -117,7 +140,13 @@ public abstract class CallIdSequence {
                 return CALL_ID_LOCAL_SKIPPED;
             }
 
-            return HEAD.incrementAndGet(this);
+            CallIdRange range = ranges.get();
+            if (range.next == range.end) {
+                long last = HEAD.addAndGet(this, CALL_ID_RANGE);
+                range.next = last - CALL_ID_RANGE + 1;
+                range.end = last + 1;
+            }
+            return range.next++;
         }
 
         @Override
@@ -126,6 +155,14 @@ public abstract class CallIdSequence {
         }
     }
 
+    /**
+     * The call-ids reserved by a thread: next (inclusive) till end (exclusive).
+     */
+    private static final class CallIdRange {
+        private long next;
+        private long end;
+    }
+
     /**
      * A {@link com.hazelcast.spi.impl.operationservice.impl.CallIdSequence} that provided backpressure by taking
      * the number in flight operations into account when a call-id needs to be determined.
@@ -107,6 +107,9 @@ abstract class Invocation implements ResponseHandler, Runnable {
     // writes to that are normally handled through the INVOKE_COUNT_UPDATER to ensure atomic increments / decrements
     volatile int invokeCount;
 
+    // the System.nanoTime of the first invoke; used to record the round trip time of the invocation
+    long startTimeNanos;
+
     Invocation(NodeEngineImpl nodeEngine, String serviceName, Operation op, int partitionId,
                int replicaIndex, int tryCount, long tryPauseMillis, long callTimeout, Object callback,
                boolean resultDeserialized) {
@@ -191,6 +194,10 @@ abstract class Invocation implements ResponseHandler, Runnable {
                     .setPartitionId(partitionId)
                     .setReplicaIndex(replicaIndex);
 
+            if (operationService.latencyHistogramsEnabled) {
+                startTimeNanos = System.nanoTime();
+            }
+
             boolean isAllowed = operationService.operationExecutor.isInvocationAllowedFromCurrentThread(op, isAsync);
             if (!isAllowed && !isMigrationOperation(op)) {
                 throw new IllegalThreadStateException(Thread.currentThread() + " cannot make remote call: " + op);
@@ -25,6 +25,7 @@ import com.hazelcast.spi.InternalCompletableFuture;
 import com.hazelcast.spi.impl.operationservice.impl.responses.Response;
 import com.hazelcast.util.Clock;
 import com.hazelcast.util.ExceptionUtil;
+import com.hazelcast.util.executor.WaiterStack;
 
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
@@ -33,6 +34,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
 
 import static com.hazelcast.spi.impl.operationservice.impl.InternalResponse.INTERRUPTED_RESPONSE;
 import static com.hazelcast.spi.impl.operationservice.impl.InternalResponse.NULL_RESPONSE;
@@ -41,11 +43,17 @@ import static com.hazelcast.spi.impl.operationservice.impl.InternalResponse.WAIT
 import static com.hazelcast.util.ExceptionUtil.fixRemoteStackTrace;
 import static com.hazelcast.util.Preconditions.isNotNull;
 import static java.lang.Math.min;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 /**
  * The InvocationFuture is the {@link com.hazelcast.spi.InternalCompletableFuture} that waits on the completion
  * of a {@link Invocation}. The Invocation executes an operation.
  *
+ * The future doesn't use any locks. The response is set using a CAS; only the first final response wins. Blocked
+ * threads and registered callbacks are kept in a {@link WaiterStack}. The thread that sets the response releases
+ * the stack, which unparks the waiting threads, and schedules the callbacks. A node that can't be pushed because
+ * the stack already has been released, sees the response.
+ *
  * @param <E>
  */
 final class InvocationFuture<E> implements InternalCompletableFuture<E> {
@@ -65,7 +73,7 @@ final class InvocationFuture<E> implements InternalCompletableFuture<E> {
     private volatile int waiterCount;
     private final OperationServiceImpl operationService;
     private final Invocation invocation;
-    private volatile ExecutionCallbackNode<E> callbackHead;
+    private final WaiterStack waiters;
 
     InvocationFuture(OperationServiceImpl operationService, Invocation invocation, Object callback) {
         this.invocation = invocation;
@@ -79,7 +87,9 @@ final class InvocationFuture<E> implements InternalCompletableFuture<E> {
                 executionCallback = new ExecutorCallbackAdapter<E>((Callback) callback);
             }
 
-            callbackHead = new ExecutionCallbackNode<E>(executionCallback, operationService.asyncExecutor, null);
+            waiters = new WaiterStack(executionCallback, operationService.asyncExecutor);
+        } else {
+            waiters = new WaiterStack();
         }
     }
 
@@ -96,13 +106,8 @@ final class InvocationFuture<E> implements InternalCompletableFuture<E> {
         isNotNull(callback, "callback");
         isNotNull(executor, "executor");
 
-        synchronized (this) {
-            if (responseAvailable(response)) {
-                runAsynchronous(callback, executor);
-                return;
-            }
-
-            this.callbackHead = new ExecutionCallbackNode<E>(callback, executor, callbackHead);
+        if (!waiters.pushCallback(callback, executor)) {
+            runAsynchronous(callback, executor);
         }
     }
 
@@ -160,41 +165,40 @@ final class InvocationFuture<E> implements InternalCompletableFuture<E> {
             offeredResponse = NULL_RESPONSE;
         }
 
-        ExecutionCallbackNode<E> callbackChain;
-        synchronized (this) {
-            if (response != null && !(response instanceof InternalResponse)) {
+        for (;;) {
+            Object currentResponse = response;
+            if (responseAvailable(currentResponse)) {
                 //it can be that this invocation future already received an answer, e.g. when an invocation
                 //already received a response, but before it cleans up itself, it receives a
                 //HazelcastInstanceNotActiveException.
-
-                // this is no good; no logging while holding a lock
                 ILogger logger = invocation.logger;
                 if (logger.isFinestEnabled()) {
                     logger.finest("Future response is already set! Current response: "
-                            + response + ", Offered response: " + offeredResponse + ", Invocation: " + invocation);
+                            + currentResponse + ", Offered response: " + offeredResponse + ", Invocation: " + invocation);
                 }
                 return;
             }
 
-            response = offeredResponse;
-            if (offeredResponse == WAIT_RESPONSE) {
-                return;
+            if (RESPONSE.compareAndSet(this, currentResponse, offeredResponse)) {
+                break;
             }
-            callbackChain = callbackHead;
-            callbackHead = null;
-            notifyAll();
+        }
 
-            operationService.invocationsRegistry.deregister(invocation);
+        if (offeredResponse == WAIT_RESPONSE) {
+            return;
         }
 
+        operationService.invocationsRegistry.deregister(invocation);
 
-        notifyCallbacks(callbackChain);
-    }
+        if (operationService.latencyHistogramsEnabled) {
+            operationService.invocationLatencies.recordNanos(invocation.op.getClass(),
+                    System.nanoTime() - invocation.startTimeNanos);
+        }
 
-    private void notifyCallbacks(ExecutionCallbackNode<E> callbackChain) {
-        while (callbackChain != null) {
-            runAsynchronous(callbackChain.callback, callbackChain.executor);
-            callbackChain = callbackChain.next;
+        for (WaiterStack.Node node = waiters.release(); node != null; node = node.getNext()) {
+            if (node.getCallback() != null) {
+                runAsynchronous(node.getCallback(), node.getExecutor());
+            }
         }
     }
 
@@ -231,6 +235,8 @@ final class InvocationFuture<E> implements InternalCompletableFuture<E> {
         }
 
         WAITER_COUNT.incrementAndGet(this);
+        // if the node can't be pushed, the response is available and the first poll returns immediately.
+        WaiterStack.Node waitNode = waiters.pushCurrentThread();
         try {
             long timeoutMs = toTimeoutMs(time, unit);
             long maxCallTimeoutMs = getMaxCallTimeout();
@@ -282,23 +288,32 @@ final class InvocationFuture<E> implements InternalCompletableFuture<E> {
             }
             return TIMEOUT_RESPONSE;
         } finally {
+            // unlinks the node when the response has not been set, e.g. after a timeout or an interrupt.
+            waiters.remove(waitNode);
             WAITER_COUNT.decrementAndGet(this);
         }
     }
 
     private void pollResponse(long pollTimeoutMs) throws InterruptedException {
-        //we should only wait if there is any timeout. We can't call wait with 0, because it is interpreted as infinite.
+        //we should only wait if there is any timeout.
         if (pollTimeoutMs <= 0 || response != null) {
             return;
         }
 
-        long currentTimeoutMs = pollTimeoutMs;
-        long waitStart = Clock.currentTimeMillis();
-        synchronized (this) {
-            while (currentTimeoutMs > 0 && response == null) {
-                wait(currentTimeoutMs);
-                currentTimeoutMs = pollTimeoutMs - (Clock.currentTimeMillis() - waitStart);
+        // MILLISECONDS.toNanos saturates at Long.MAX_VALUE, so the remaining time can't overflow.
+        long pollTimeoutNanos = MILLISECONDS.toNanos(pollTimeoutMs);
+        long waitStartNanos = System.nanoTime();
+        while (response == null) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
             }
+
+            long remainingNanos = pollTimeoutNanos - (System.nanoTime() - waitStartNanos);
+            if (remainingNanos <= 0) {
+                return;
+            }
+
+            LockSupport.parkNanos(this, remainingNanos);
         }
     }
 
@@ -414,18 +429,6 @@ final class InvocationFuture<E> implements InternalCompletableFuture<E> {
         return sb.toString();
     }
 
-    private static final class ExecutionCallbackNode<E> {
-        private final ExecutionCallback<E> callback;
-        private final Executor executor;
-        private final ExecutionCallbackNode<E> next;
-
-        private ExecutionCallbackNode(ExecutionCallback<E> callback, Executor executor, ExecutionCallbackNode<E> next) {
-            this.callback = callback;
-            this.executor = executor;
-            this.next = next;
-        }
-    }
-
     private static final class ExecutorCallbackAdapter<E> implements ExecutionCallback<E> {
         private final Callback callback;
 
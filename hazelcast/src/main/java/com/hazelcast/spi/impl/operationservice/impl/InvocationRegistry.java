@@ -31,10 +31,13 @@ import com.hazelcast.spi.impl.operationservice.impl.responses.CallTimeoutRespons
 import com.hazelcast.spi.impl.operationservice.impl.responses.ErrorResponse;
 import com.hazelcast.spi.impl.operationservice.impl.responses.NormalResponse;
 import com.hazelcast.spi.impl.operationservice.impl.responses.Response;
+import com.hazelcast.util.Clock;
+import com.hazelcast.util.ConcurrentLong2ObjectHashMap;
 import com.hazelcast.util.EmptyStatement;
+import com.hazelcast.util.QuickMath;
 
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import static com.hazelcast.instance.OutOfMemoryErrorDispatcher.inspectOutputMemoryError;
@@ -48,6 +51,14 @@ import static com.hazelcast.spi.OperationAccessor.setCallId;
  * {@link com.hazelcast.spi.impl.operationservice.impl.responses.Response} comes in, the
  * appropriate invocation can be looked up.
  * <p/>
+ * The invocations are stored in stripes; each stripe is a {@link ConcurrentLong2ObjectHashMap}, so the call-ids are
+ * never boxed and registering, deregistering and looking up the invocation of a response never takes a lock.
+ * Consecutive call-ids are spread over the stripes.
+ * <p/>
+ * Every stripe keeps track of the earliest time one of its invocations could time out; this time is guarded by the
+ * lock of the stripe. The {@link InspectionThread} only scans the stripes where this time has passed, instead of all
+ * pending invocations every second.
+ * <p/>
  * Some idea's:
  * - use an ringbuffer to store all invocations instead of a CHM. The call-id can be used as sequence-id for this
  * ringbuffer. It can be that you run in slots that have not been released; if that happens, just keep increasing
@@ -58,12 +69,13 @@ import static com.hazelcast.spi.OperationAccessor.setCallId;
 public class InvocationRegistry {
     private static final long SCHEDULE_DELAY = 1111;
     private static final int INITIAL_CAPACITY = 1000;
-    private static final float LOAD_FACTOR = 0.75f;
+    private static final int MIN_STRIPE_CAPACITY = 16;
     private static final int DELAY_MILLIS = 1000;
     private static final double HUNDRED_PERCENT = 100d;
 
     private final long backupTimeoutMillis;
-    private final ConcurrentMap<Long, Invocation> invocations;
+    private final Stripe[] stripes;
+    private final int stripeMask;
     private final OperationServiceImpl operationService;
     private final NodeEngineImpl nodeEngine;
     private final ILogger logger;
@@ -78,7 +90,13 @@ public class InvocationRegistry {
 
         GroupProperties props = operationService.nodeEngine.getGroupProperties();
         this.backupTimeoutMillis = props.OPERATION_BACKUP_TIMEOUT_MILLIS.getLong();
-        this.invocations = new ConcurrentHashMap<Long, Invocation>(INITIAL_CAPACITY, LOAD_FACTOR, concurrencyLevel);
+        int stripeCount = QuickMath.nextPowerOfTwo(concurrencyLevel);
+        int stripeCapacity = Math.max(MIN_STRIPE_CAPACITY, INITIAL_CAPACITY / stripeCount);
+        this.stripes = new Stripe[stripeCount];
+        for (int k = 0; k < stripeCount; k++) {
+            stripes[k] = new Stripe(stripeCapacity);
+        }
+        this.stripeMask = stripeCount - 1;
         this.inspectionThread = new InspectionThread();
         inspectionThread.start();
     }
@@ -102,7 +120,52 @@ public class InvocationRegistry {
             return;
         }
 
-        invocations.put(callId, invocation);
+        long timeoutCheckMillis = nextTimeoutCheckMillis(invocation, Clock.currentTimeMillis());
+        Stripe stripe = stripe(callId);
+        stripe.invocations.put(callId, invocation);
+        synchronized (stripe) {
+            stripe.timeoutCheckMillis = Math.min(stripe.timeoutCheckMillis, timeoutCheckMillis);
+        }
+    }
+
+    private Stripe stripe(long callId) {
+        return stripes[(int) callId & stripeMask];
+    }
+
+    // just for testing.
+    long getTimeoutCheckMillis(long callId) {
+        Stripe stripe = stripe(callId);
+        synchronized (stripe) {
+            return stripe.timeoutCheckMillis;
+        }
+    }
+
+    /**
+     * Determines the earliest time the invocation could run into an invocation or backup timeout. The result never
+     * lies in the future if a timeout could have happened already.
+     */
+    private long nextTimeoutCheckMillis(Invocation invocation, long nowMillis) {
+        long invocationTimeoutMillis = Long.MAX_VALUE;
+        long maxCallTimeout = invocation.invocationFuture.getMaxCallTimeout();
+        if (maxCallTimeout != Long.MAX_VALUE) {
+            long expirationTime = invocation.op.getInvocationTime() + maxCallTimeout;
+            // a negative expiration time is an overflow; such an invocation never times out.
+            if (expirationTime >= 0) {
+                invocationTimeoutMillis = expirationTime;
+            }
+        }
+
+        long backupTimeoutMillis;
+        if (invocation.pendingResponse == null) {
+            // the backup timeout starts when the response is received; which can't happen before now.
+            backupTimeoutMillis = nowMillis + this.backupTimeoutMillis;
+        } else if (invocation.backupsExpected == invocation.backupsCompleted) {
+            backupTimeoutMillis = Long.MAX_VALUE;
+        } else {
+            backupTimeoutMillis = invocation.pendingResponseReceivedMillis + this.backupTimeoutMillis;
+        }
+
+        return Math.min(invocationTimeoutMillis, backupTimeoutMillis);
     }
 
     /**
@@ -123,12 +186,12 @@ public class InvocationRegistry {
             return;
         }
 
-        boolean deleted = invocations.remove(callId) != null;
+        boolean deleted = stripe(callId).invocations.remove(callId) != null;
         assert deleted : "failed to deregister callId:" + callId + " " + invocation;
     }
 
     public double getInvocationUsagePercentage() {
-        return (HUNDRED_PERCENT * invocations.size()) / callIdSequence.getMaxConcurrentInvocations();
+        return (HUNDRED_PERCENT * size()) / callIdSequence.getMaxConcurrentInvocations();
     }
 
     /**
@@ -137,7 +200,22 @@ public class InvocationRegistry {
      * @return the number of pending invocations.
      */
     public int size() {
-        return invocations.size();
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.invocations.size();
+        }
+        return size;
+    }
+
+    /**
+     * Returns a snapshot of the pending invocations.
+     */
+    private List<Invocation> invocations() {
+        List<Invocation> invocations = new ArrayList<Invocation>();
+        for (Stripe stripe : stripes) {
+            stripe.invocations.copyValuesTo(invocations);
+        }
+        return invocations;
     }
 
     /**
@@ -147,7 +225,7 @@ public class InvocationRegistry {
      * @return the Invocation for the given callId, or null if no invocation was found.
      */
     public Invocation get(long callId) {
-        return invocations.get(callId);
+        return stripe(callId).invocations.get(callId);
     }
 
     /**
@@ -171,7 +249,7 @@ public class InvocationRegistry {
 
     public void notifyBackupComplete(long callId) {
         try {
-            Invocation invocation = invocations.get(callId);
+            Invocation invocation = get(callId);
 
             // It can happen that a {@link BackupResponse} is send without the Invocation being available anymore.
             // This is because the InvocationRegistry will automatically release invocations where the backup is
@@ -190,7 +268,7 @@ public class InvocationRegistry {
     }
 
     private void notifyErrorResponse(ErrorResponse response) {
-        Invocation invocation = invocations.get(response.getCallId());
+        Invocation invocation = get(response.getCallId());
 
         if (invocation == null) {
             if (nodeEngine.isActive()) {
@@ -203,7 +281,7 @@ public class InvocationRegistry {
     }
 
     private void notifyNormalResponse(NormalResponse response) {
-        Invocation invocation = invocations.get(response.getCallId());
+        Invocation invocation = get(response.getCallId());
 
         if (invocation == null) {
             if (nodeEngine.isActive()) {
@@ -215,7 +293,7 @@ public class InvocationRegistry {
     }
 
     private void notifyCallTimeout(CallTimeoutResponse response) {
-        Invocation invocation = invocations.get(response.getCallId());
+        Invocation invocation = get(response.getCallId());
 
         if (invocation == null) {
             if (nodeEngine.isActive()) {
@@ -234,7 +312,7 @@ public class InvocationRegistry {
     }
 
     public void reset() {
-        for (Invocation invocation : invocations.values()) {
+        for (Invocation invocation : invocations()) {
             try {
                 invocation.notifyError(new MemberLeftException());
             } catch (Throwable e) {
@@ -246,7 +324,7 @@ public class InvocationRegistry {
     public void shutdown() {
         inspectionThread.shutdown();
 
-        for (Invocation invocation : invocations.values()) {
+        for (Invocation invocation : invocations()) {
             try {
                 invocation.notifyError(new HazelcastInstanceNotActiveException());
             } catch (Throwable e) {
@@ -271,6 +349,9 @@ public class InvocationRegistry {
      */
     class InspectionThread extends Thread implements OperationHostileThread {
 
+        private final List<Invocation> dueInvocations = new ArrayList<Invocation>();
+        private int backupTimeouts;
+        private int invocationTimeouts;
         private volatile boolean shutdown;
 
         InspectionThread() {
@@ -307,18 +388,39 @@ public class InvocationRegistry {
         }
 
         private void scanHandleOperationTimeout() {
-            if (invocations.isEmpty()) {
-                return;
-            }
-
             // todo: these 2 measurements should be added to the black-box.
-            int backupTimeouts = 0;
-            int invocationTimeouts = 0;
-            for (Invocation invocation : invocations.values()) {
+            backupTimeouts = 0;
+            invocationTimeouts = 0;
+            long nowMillis = Clock.currentTimeMillis();
+            for (Stripe stripe : stripes) {
                 if (shutdown) {
                     return;
                 }
 
+                if (collectDueInvocations(stripe, nowMillis)) {
+                    scan(stripe, nowMillis);
+                }
+            }
+
+            log(backupTimeouts, invocationTimeouts);
+        }
+
+        private boolean collectDueInvocations(Stripe stripe, long nowMillis) {
+            synchronized (stripe) {
+                if (stripe.timeoutCheckMillis > nowMillis) {
+                    return false;
+                }
+
+                // invocations registered during the scan lower the time again.
+                stripe.timeoutCheckMillis = Long.MAX_VALUE;
+            }
+            stripe.invocations.copyValuesTo(dueInvocations);
+            return true;
+        }
+
+        private void scan(Stripe stripe, long nowMillis) {
+            long timeoutCheckMillis = Long.MAX_VALUE;
+            for (Invocation invocation : dueInvocations) {
                 try {
                     if (invocation.checkInvocationTimeout()) {
                         invocationTimeouts++;
@@ -336,9 +438,15 @@ public class InvocationRegistry {
                     inspectOutputMemoryError(t);
                     logger.severe("Failed to handle backup timeout of invocation:" + invocation, t);
                 }
+
+                // invocations that are done have been deregistered; including them only causes an early check.
+                timeoutCheckMillis = Math.min(timeoutCheckMillis, nextTimeoutCheckMillis(invocation, nowMillis));
             }
+            dueInvocations.clear();
 
-            log(backupTimeouts, invocationTimeouts);
+            synchronized (stripe) {
+                stripe.timeoutCheckMillis = Math.min(stripe.timeoutCheckMillis, timeoutCheckMillis);
+            }
         }
 
         private void log(int backupTimeouts, int invocationTimeouts) {
@@ -348,6 +456,19 @@ public class InvocationRegistry {
         }
     }
 
+    /**
+     * A part of the pending invocations.
+     */
+    private static final class Stripe {
+        private final ConcurrentLong2ObjectHashMap<Invocation> invocations;
+        // the earliest time one of the invocations could time out; guarded by the stripe.
+        private long timeoutCheckMillis = Long.MAX_VALUE;
+
+        private Stripe(int initialCapacity) {
+            invocations = new ConcurrentLong2ObjectHashMap<Invocation>(initialCapacity);
+        }
+    }
+
     private class OnMemberLeftTask implements Runnable {
         private final MemberImpl leftMember;
 
@@ -357,7 +478,7 @@ public class InvocationRegistry {
 
         @Override
         public void run() {
-            for (Invocation invocation : invocations.values()) {
+            for (Invocation invocation : invocations()) {
                 if (hasMemberLeft(invocation)) {
                     invocation.notifyError(new MemberLeftException(leftMember));
                 }
@@ -20,6 +20,7 @@ import com.hazelcast.core.HazelcastInstanceNotActiveException;
 import com.hazelcast.instance.MemberImpl;
 import com.hazelcast.instance.Node;
 import com.hazelcast.instance.OutOfMemoryErrorDispatcher;
+import com.hazelcast.internal.metrics.LatencyHistograms;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.nio.Address;
 import com.hazelcast.nio.Connection;
@@ -40,6 +41,7 @@ import com.hazelcast.spi.exception.RetryableException;
 import com.hazelcast.spi.exception.WrongTargetException;
 import com.hazelcast.spi.impl.NodeEngineImpl;
 import com.hazelcast.spi.impl.operationexecutor.OperationRunner;
+import com.hazelcast.spi.impl.operationexecutor.hotspotdetector.HotspotDetector;
 import com.hazelcast.spi.impl.operationservice.impl.responses.CallTimeoutResponse;
 import com.hazelcast.spi.impl.operationservice.impl.responses.ErrorResponse;
 import com.hazelcast.spi.impl.operationservice.impl.responses.NormalResponse;
@@ -49,7 +51,9 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 
 import static com.hazelcast.spi.OperationAccessor.setCallerAddress;
+import static com.hazelcast.spi.OperationAccessor.getEnqueueTimeNanos;
 import static com.hazelcast.spi.OperationAccessor.setConnection;
+import static com.hazelcast.spi.OperationAccessor.setEnqueueTimeNanos;
 import static com.hazelcast.spi.impl.ResponseHandlerFactory.setRemoteResponseHandler;
 import static com.hazelcast.spi.impl.operationutil.Operations.isJoinOperation;
 import static com.hazelcast.spi.impl.operationutil.Operations.isMigrationOperation;
@@ -64,11 +68,23 @@ import static java.util.logging.Level.WARNING;
 class OperationRunnerImpl extends OperationRunner {
     static final int AD_HOC_PARTITION_ID = -2;
 
+    private static final long NO_SAMPLE = Long.MIN_VALUE;
+
     private final ILogger logger;
     private final OperationServiceImpl operationService;
     private final Node node;
     private final NodeEngineImpl nodeEngine;
     private final AtomicLong executedOperationsCount;
+    private final boolean latencyHistogramsEnabled;
+    private final LatencyHistograms queueWaitLatencies;
+    private final LatencyHistograms executionLatencies;
+    // only set for partition specific runners, and only when the hotspot detector is enabled
+    private final HotspotDetector hotspotDetector;
+
+    // These fields don't need additional synchronization, since the hotspot detector is only used by partition
+    // specific runners which are never called concurrently.
+    private int operationsUntilSample;
+    private int receivedBytes;
 
     // This field doesn't need additional synchronization, since a partition-specific OperationRunner
     // will never be called concurrently.
@@ -86,6 +102,11 @@ class OperationRunnerImpl extends OperationRunner {
         this.node = operationService.node;
         this.nodeEngine = operationService.nodeEngine;
         this.executedOperationsCount = operationService.executedOperationsCount;
+        this.latencyHistogramsEnabled = operationService.latencyHistogramsEnabled;
+        this.queueWaitLatencies = operationService.queueWaitLatencies;
+        this.executionLatencies = operationService.executionLatencies;
+        this.hotspotDetector = partitionId >= 0 ? operationService.hotspotDetector : null;
+        this.operationsUntilSample = hotspotDetector == null ? 0 : hotspotDetector.getSampleRate();
     }
 
     @Override
@@ -113,6 +134,9 @@ class OperationRunnerImpl extends OperationRunner {
     public void run(Operation op) {
         executedOperationsCount.incrementAndGet();
 
+        long startNanos = recordQueueWait(op);
+        long startCpuNanos = startHotspotSample();
+
         boolean publishCurrentTask = publishCurrentTask();
 
         if (publishCurrentTask) {
@@ -143,7 +167,63 @@ class OperationRunnerImpl extends OperationRunner {
             if (publishCurrentTask) {
                 currentTask = null;
             }
+
+            recordExecution(op, startNanos);
+            recordHotspotSample(op, startCpuNanos);
+        }
+    }
+
+    private void recordExecution(Operation op, long startNanos) {
+        if (latencyHistogramsEnabled) {
+            executionLatencies.recordNanos(op.getClass(), System.nanoTime() - startNanos);
+        }
+    }
+
+    /**
+     * Checks if the operation should be sampled by the hotspot detector.
+     *
+     * @return the CPU time at the start of the sampled operation, or NO_SAMPLE if it isn't sampled.
+     */
+    private long startHotspotSample() {
+        if (hotspotDetector == null) {
+            return NO_SAMPLE;
+        }
+
+        operationsUntilSample--;
+        if (operationsUntilSample > 0) {
+            return NO_SAMPLE;
+        }
+
+        operationsUntilSample = hotspotDetector.getSampleRate();
+        return hotspotDetector.currentThreadCpuNanos();
+    }
+
+    private void recordHotspotSample(Operation op, long startCpuNanos) {
+        if (startCpuNanos != NO_SAMPLE) {
+            long cpuNanos = hotspotDetector.currentThreadCpuNanos() - startCpuNanos;
+            hotspotDetector.record(op, getPartitionId(), cpuNanos, receivedBytes);
+        }
+        receivedBytes = 0;
+    }
+
+    /**
+     * Records how long the operation has been waiting in the operation queue, if it has been queued at all.
+     *
+     * @return the start time of the execution
+     */
+    private long recordQueueWait(Operation op) {
+        if (!latencyHistogramsEnabled) {
+            return 0;
+        }
+
+        long now = System.nanoTime();
+        long enqueueTimeNanos = getEnqueueTimeNanos(op);
+        if (enqueueTimeNanos != 0) {
+            // clear it so that a later run on the calling thread is not counted as queue wait again
+            setEnqueueTimeNanos(op, 0);
+            queueWaitLatencies.recordNanos(op.getClass(), now - enqueueTimeNanos);
         }
+        return now;
     }
 
     private void ensureQuorumPresent(Operation op) {
@@ -298,6 +378,8 @@ class OperationRunnerImpl extends OperationRunner {
             setConnection(op, connection);
             setCallerUuidIfNotSet(caller, op);
             setRemoteResponseHandler(nodeEngine, op);
+            setEnqueueTimeNanos(op, packet.getEnqueueTimeNanos());
+            receivedBytes = data.totalSize();
 
             if (!ensureValidMember(op)) {
                 return;
@@ -317,6 +399,7 @@ class OperationRunnerImpl extends OperationRunner {
             if (publishCurrentTask) {
                 currentTask = null;
             }
+            receivedBytes = 0;
         }
     }
 
@@ -21,6 +21,7 @@ import com.hazelcast.core.ExecutionCallback;
 import com.hazelcast.instance.MemberImpl;
 import com.hazelcast.instance.Node;
 import com.hazelcast.internal.management.dto.SlowOperationDTO;
+import com.hazelcast.internal.metrics.LatencyHistograms;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.nio.Address;
 import com.hazelcast.nio.Connection;
@@ -38,6 +39,7 @@ import com.hazelcast.spi.impl.NodeEngineImpl;
 import com.hazelcast.spi.impl.PartitionSpecificRunnable;
 import com.hazelcast.spi.impl.operationexecutor.OperationExecutor;
 import com.hazelcast.spi.impl.operationexecutor.classic.ClassicOperationExecutor;
+import com.hazelcast.spi.impl.operationexecutor.hotspotdetector.HotspotDetector;
 import com.hazelcast.spi.impl.operationexecutor.slowoperationdetector.SlowOperationDetector;
 import com.hazelcast.spi.impl.operationservice.InternalOperationService;
 import com.hazelcast.spi.impl.operationservice.impl.responses.Response;
@@ -99,6 +101,12 @@ public final class OperationServiceImpl implements InternalOperationService {
     final OperationBackupHandler operationBackupHandler;
     final BackpressureRegulator backpressureRegulator;
     final long defaultCallTimeoutMillis;
+    final boolean latencyHistogramsEnabled;
+    final LatencyHistograms queueWaitLatencies;
+    final LatencyHistograms executionLatencies;
+    final LatencyHistograms invocationLatencies;
+    // null if the hotspot detector is disabled
+    final HotspotDetector hotspotDetector;
 
     private final SlowOperationDetector slowOperationDetector;
     private final IsStillRunningService isStillRunningService;
@@ -111,6 +119,14 @@ public final class OperationServiceImpl implements InternalOperationService {
         GroupProperties groupProperties = node.getGroupProperties();
         this.defaultCallTimeoutMillis = groupProperties.OPERATION_CALL_TIMEOUT_MILLIS.getLong();
 
+        this.latencyHistogramsEnabled = groupProperties.LATENCY_HISTOGRAMS_ENABLED.getBoolean();
+        this.queueWaitLatencies = new LatencyHistograms(nodeEngine.getMetricsRegistry(), "operation", "queueWait");
+        this.executionLatencies = new LatencyHistograms(nodeEngine.getMetricsRegistry(), "operation", "execution");
+        this.invocationLatencies = new LatencyHistograms(nodeEngine.getMetricsRegistry(), "invocation", "roundTrip");
+        this.hotspotDetector = groupProperties.HOTSPOT_DETECTOR_ENABLED.getBoolean()
+                ? new HotspotDetector(groupProperties, nodeEngine.getMetricsRegistry(), nodeEngine.getSerializationService())
+                : null;
+
         this.backpressureRegulator = new BackpressureRegulator(groupProperties, logger);
 
         int coreSize = Runtime.getRuntime().availableProcessors();
@@ -147,6 +163,15 @@ public final class OperationServiceImpl implements InternalOperationService {
                 node.getHazelcastThreadGroup());
     }
 
+    /**
+     * Returns the HotspotDetector.
+     *
+     * @return the HotspotDetector, or null if it is disabled.
+     */
+    public HotspotDetector getHotspotDetector() {
+        return hotspotDetector;
+    }
+
     public IsStillRunningService getIsStillRunningService() {
         return isStillRunningService;
     }
@@ -160,6 +185,9 @@ public final class OperationServiceImpl implements InternalOperationService {
         sb.append("invocationsMax=")
                 .append(backpressureRegulator.getMaxConcurrentInvocations()).append('\n');
         operationExecutor.dumpPerformanceMetrics(sb);
+        queueWaitLatencies.dump(sb);
+        executionLatencies.dump(sb);
+        invocationLatencies.dump(sb);
     }
 
     @Override
@@ -30,6 +30,8 @@ import com.hazelcast.spi.RemoteService;
 import com.hazelcast.spi.exception.DistributedObjectDestroyedException;
 import com.hazelcast.spi.impl.DistributedObjectEventPacket;
 import com.hazelcast.spi.impl.NodeEngineImpl;
+import com.hazelcast.spi.impl.operationexecutor.hotspotdetector.HotspotDetector;
+import com.hazelcast.spi.impl.operationservice.impl.OperationServiceImpl;
 import com.hazelcast.spi.impl.proxyservice.InternalProxyService;
 import com.hazelcast.spi.impl.proxyservice.impl.operations.DistributedObjectDestroyOperation;
 import com.hazelcast.spi.impl.proxyservice.impl.operations.PostJoinProxyOperation;
@@ -152,6 +154,10 @@ public class ProxyServiceImpl
         if (service != null) {
             service.destroyDistributedObject(name);
         }
+        HotspotDetector hotspotDetector = ((OperationServiceImpl) nodeEngine.getOperationService()).getHotspotDetector();
+        if (hotspotDetector != null) {
+            hotspotDetector.removeStructure(serviceName, name);
+        }
         String message = "DistributedObject[" + service + " -> " + name + "] has been destroyed!";
         Throwable cause = new DistributedObjectDestroyedException(message);
         nodeEngine.getWaitNotifyService().cancelWaitingOps(serviceName, name, cause);
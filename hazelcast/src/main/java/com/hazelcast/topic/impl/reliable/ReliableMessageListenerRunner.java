@@ -31,12 +31,20 @@ import com.hazelcast.spi.NodeEngine;
 import com.hazelcast.spi.exception.DistributedObjectDestroyedException;
 import com.hazelcast.topic.ReliableMessageListener;
 
+import java.util.ArrayDeque;
+import java.util.Queue;
+
 
 /**
  * An {@link com.hazelcast.core.ExecutionCallback} that will try to read an item from the ringbuffer or blocks
  * if no item is available. All data read is pushed into the {@link com.hazelcast.core.MessageListener}. It is
  * a self perpetuating stream of async calls.
  *
+ * Reading and processing are decoupled: as soon as a batch is received, the next read is sent while the received batch
+ * is being processed. The {@link com.hazelcast.config.ReliableTopicConfig#getReadAheadCount()} bounds the number of
+ * received batches that are waiting to be processed. Only a single thread at any given moment is processing batches,
+ * so the MessageListener still sees the messages in order and doesn't need to be thread-safe.
+ *
  * The ReliableTopicRunner keeps track of the sequence.
  */
 class ReliableMessageListenerRunner<E> implements ExecutionCallback<ReadResultSet<ReliableTopicMessage>> {
@@ -49,10 +57,21 @@ class ReliableMessageListenerRunner<E> implements ExecutionCallback<ReadResultSe
     private final ILogger logger;
     private final String id;
     private final ReliableTopicProxy<E> proxy;
+    private final int batchSze;
+    private final int readAheadCount;
 
+    // the batches that have been received, but not yet been processed. Guarded by 'this'.
+    private final Queue<Batch> pendingBatches = new ArrayDeque<Batch>();
+    // the sequence of the next item to read from the ringbuffer. Guarded by 'this'.
+    private long readSequence;
+    // if a read on the ringbuffer is pending. Guarded by 'this'.
+    private boolean reading;
+    // if a thread is processing batches. Guarded by 'this'.
+    private boolean processing;
+
+    // the sequence of the message being processed. Only accessed by the processing thread.
     private long sequence;
     private volatile boolean cancelled;
-    private final int batchSze;
 
     public ReliableMessageListenerRunner(String id,
                                          ReliableMessageListener<E> listener,
@@ -67,12 +86,14 @@ class ReliableMessageListenerRunner<E> implements ExecutionCallback<ReadResultSe
         this.clusterService = nodeEngine.getClusterService();
         this.logger = nodeEngine.getLogger(ReliableMessageListenerRunner.class);
         this.batchSze = proxy.topicConfig.getReadBatchSize();
+        this.readAheadCount = proxy.topicConfig.getReadAheadCount();
 
         // we are going to listen to next publication. We don't care about what already has been published.
         long initialSequence = listener.retrieveInitialSequence();
         if (initialSequence == -1) {
             initialSequence = ringbuffer.tailSequence() + 1;
         }
+        this.readSequence = initialSequence;
         this.sequence = initialSequence;
     }
 
@@ -81,20 +102,70 @@ class ReliableMessageListenerRunner<E> implements ExecutionCallback<ReadResultSe
             return;
         }
 
-        ICompletableFuture<ReadResultSet<ReliableTopicMessage>> f = ringbuffer.readManyAsync(sequence, 1, batchSze, null);
+        long startSequence;
+        synchronized (this) {
+            // we don't read if there already is a read pending, or if the listener is too far behind.
+            if (reading || pendingBatches.size() >= readAheadCount) {
+                return;
+            }
+            reading = true;
+            startSequence = readSequence;
+        }
+
+        ICompletableFuture<ReadResultSet<ReliableTopicMessage>> f
+                = ringbuffer.readManyAsync(startSequence, 1, batchSze, null);
         f.andThen(this, proxy.executor);
     }
 
     // This method is called from the provided executor.
     @Override
     public void onResponse(ReadResultSet<ReliableTopicMessage> result) {
-        // we process all messages in batch. So we don't release the thread and reschedule ourselves;
-        // but we'll process whatever was received in 1 go.
-        for (Object item : result) {
+        boolean process;
+        synchronized (this) {
+            pendingBatches.offer(new Batch(readSequence, result));
+            readSequence += result.readCount();
+            reading = false;
+            process = !processing;
+            processing = true;
+        }
+
+        // we immediately send out the next read so it is in flight while we process the current batch.
+        next();
+
+        if (process) {
+            processPendingBatches();
+        }
+    }
+
+    private void processPendingBatches() {
+        for (; ; ) {
+            Batch batch;
+            synchronized (this) {
+                batch = pendingBatches.poll();
+                if (batch == null || cancelled) {
+                    processing = false;
+                    return;
+                }
+            }
+
+            if (!process(batch)) {
+                return;
+            }
+
+            // a slot has been freed; so if reading was halted because the listener was behind, it can resume.
+            next();
+        }
+    }
+
+    // we process all messages in batch. So we don't release the thread and reschedule ourselves;
+    // but we'll process whatever was received in 1 go.
+    private boolean process(Batch batch) {
+        sequence = batch.startSequence;
+        for (Object item : batch.result) {
             ReliableTopicMessage message = (ReliableTopicMessage) item;
 
             if (cancelled) {
-                return;
+                return false;
             }
 
             try {
@@ -103,14 +174,13 @@ class ReliableMessageListenerRunner<E> implements ExecutionCallback<ReadResultSe
             } catch (Throwable t) {
                 if (terminate(t)) {
                     cancel();
-                    return;
+                    return false;
                 }
             }
 
             sequence++;
         }
-
-        next();
+        return true;
     }
 
     private void process(ReliableTopicMessage message) throws Throwable {
@@ -135,19 +205,24 @@ class ReliableMessageListenerRunner<E> implements ExecutionCallback<ReadResultSe
             StaleSequenceException staleSequenceException = (StaleSequenceException) t;
 
             if (listener.isLossTolerant()) {
+                long oldSequence;
+                synchronized (this) {
+                    oldSequence = readSequence;
+                    readSequence = staleSequenceException.getHeadSeq();
+                    reading = false;
+                }
                 if (logger.isFinestEnabled()) {
                     logger.finest("MessageListener " + listener + " on topic: " + topicName + " ran into a stale sequence. "
-                            + "Jumping from oldSequence: " + sequence
+                            + "Jumping from oldSequence: " + oldSequence
                             + " to sequence: " + staleSequenceException.getHeadSeq());
                 }
-                sequence = staleSequenceException.getHeadSeq();
                 next();
                 return;
             }
 
             logger.warning("Terminating MessageListener:" + listener + " on topic: " + topicName + ". "
                     + "Reason: The listener was too slow or the retention period of the message has been violated. "
-                    + "head: " + staleSequenceException.getHeadSeq() + " sequence:" + sequence);
+                    + "head: " + staleSequenceException.getHeadSeq() + " sequence:" + getReadSequence());
         } else if (t instanceof HazelcastInstanceNotActiveException) {
             if (logger.isFinestEnabled()) {
                 logger.finest("Terminating MessageListener " + listener + " on topic: " + topicName + ". "
@@ -166,6 +241,10 @@ class ReliableMessageListenerRunner<E> implements ExecutionCallback<ReadResultSe
         cancel();
     }
 
+    private synchronized long getReadSequence() {
+        return readSequence;
+    }
+
     void cancel() {
         cancelled = true;
         proxy.runnersMap.remove(id);
@@ -194,4 +273,14 @@ class ReliableMessageListenerRunner<E> implements ExecutionCallback<ReadResultSe
             return true;
         }
     }
+
+    private static final class Batch {
+        private final long startSequence;
+        private final ReadResultSet<ReliableTopicMessage> result;
+
+        private Batch(long startSequence, ReadResultSet<ReliableTopicMessage> result) {
+            this.startSequence = startSequence;
+            this.result = result;
+        }
+    }
 }
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.transaction.impl;
+
+import com.hazelcast.spi.NodeEngine;
+import com.hazelcast.spi.Operation;
+
+/**
+ * A {@link TransactionLog} that prepares, commits and rolls back with a single operation on one partition.
+ * <p/>
+ * {@link TransactionImpl} groups these logs by service and partition and runs the operations of a group
+ * with one {@link TxnBatchOperation}, so a transaction costs one invocation per touched partition instead
+ * of one per touched key.
+ */
+public interface PartitionedTransactionLog extends TransactionLog {
+
+    String getServiceName();
+
+    int getPartitionId(NodeEngine nodeEngine);
+
+    Operation newPrepareOperation();
+
+    Operation newCommitOperation();
+
+    Operation newRollbackOperation();
+}
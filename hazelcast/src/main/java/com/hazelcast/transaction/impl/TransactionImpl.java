@@ -20,6 +20,7 @@ import com.hazelcast.core.MemberLeftException;
 import com.hazelcast.logging.ILogger;
 import com.hazelcast.nio.Address;
 import com.hazelcast.spi.NodeEngine;
+import com.hazelcast.spi.Operation;
 import com.hazelcast.spi.OperationService;
 import com.hazelcast.spi.exception.TargetNotMemberException;
 import com.hazelcast.transaction.TransactionException;
@@ -32,6 +33,7 @@ import com.hazelcast.util.UuidUtil;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
@@ -240,11 +242,8 @@ public class TransactionImpl implements Transaction, TransactionSupport {
         checkThread();
         checkTimeout();
         try {
-            final List<Future> futures = new ArrayList<Future>(txLogs.size());
             state = PREPARING;
-            for (TransactionLog txLog : txLogs) {
-                futures.add(txLog.prepare(nodeEngine));
-            }
+            final List<Future> futures = invokeTxLogs(txLogs, Phase.PREPARE);
             waitWithDeadline(futures, timeoutMillis, TimeUnit.MILLISECONDS, RETHROW_TRANSACTION_EXCEPTION);
             futures.clear();
             state = PREPARED;
@@ -283,11 +282,8 @@ public class TransactionImpl implements Transaction, TransactionSupport {
             checkThread();
             checkTimeout();
             try {
-                final List<Future> futures = new ArrayList<Future>(txLogs.size());
                 state = COMMITTING;
-                for (TransactionLog txLog : txLogs) {
-                    futures.add(txLog.commit(nodeEngine));
-                }
+                final List<Future> futures = invokeTxLogs(txLogs, Phase.COMMIT);
                 // We should rethrow exception if transaction is not TWO_PHASE
                 ExceptionHandler exceptionHandler = transactionType.equals(TransactionType.TWO_PHASE)
                         ? commitExceptionHandler : FutureUtil.RETHROW_TRANSACTION_EXCEPTION;
@@ -306,6 +302,80 @@ public class TransactionImpl implements Transaction, TransactionSupport {
         }
     }
 
+    /**
+     * Invokes the given phase of the transaction logs. {@link PartitionedTransactionLog}s of the same service and
+     * partition are sent together with one {@link TxnBatchOperation}, other logs are invoked one by one.
+     * The order of the logs is kept within a partition.
+     */
+    private List<Future> invokeTxLogs(List<TransactionLog> logs, Phase phase) {
+        final List<Future> futures = new ArrayList<Future>(logs.size());
+        final Map<String, Map<Integer, List<PartitionedTransactionLog>>> groups
+                = new LinkedHashMap<String, Map<Integer, List<PartitionedTransactionLog>>>();
+        for (TransactionLog txLog : logs) {
+            if (!(txLog instanceof PartitionedTransactionLog)) {
+                futures.add(invokeTxLog(txLog, phase));
+                continue;
+            }
+            PartitionedTransactionLog partitionedTxLog = (PartitionedTransactionLog) txLog;
+            Map<Integer, List<PartitionedTransactionLog>> partitions = groups.get(partitionedTxLog.getServiceName());
+            if (partitions == null) {
+                partitions = new LinkedHashMap<Integer, List<PartitionedTransactionLog>>();
+                groups.put(partitionedTxLog.getServiceName(), partitions);
+            }
+            Integer partitionId = partitionedTxLog.getPartitionId(nodeEngine);
+            List<PartitionedTransactionLog> partitionTxLogs = partitions.get(partitionId);
+            if (partitionTxLogs == null) {
+                partitionTxLogs = new ArrayList<PartitionedTransactionLog>();
+                partitions.put(partitionId, partitionTxLogs);
+            }
+            partitionTxLogs.add(partitionedTxLog);
+        }
+
+        final OperationService operationService = nodeEngine.getOperationService();
+        for (Map.Entry<String, Map<Integer, List<PartitionedTransactionLog>>> serviceEntry : groups.entrySet()) {
+            for (Map.Entry<Integer, List<PartitionedTransactionLog>> entry : serviceEntry.getValue().entrySet()) {
+                List<PartitionedTransactionLog> partitionTxLogs = entry.getValue();
+                if (partitionTxLogs.size() == 1) {
+                    futures.add(invokeTxLog(partitionTxLogs.get(0), phase));
+                    continue;
+                }
+                List<Operation> ops = new ArrayList<Operation>(partitionTxLogs.size());
+                for (PartitionedTransactionLog partitionedTxLog : partitionTxLogs) {
+                    ops.add(newOperation(partitionedTxLog, phase));
+                }
+                try {
+                    futures.add(operationService.invokeOnPartition(serviceEntry.getKey(), new TxnBatchOperation(ops),
+                            entry.getKey()));
+                } catch (Throwable t) {
+                    throw ExceptionUtil.rethrow(t);
+                }
+            }
+        }
+        return futures;
+    }
+
+    private Future invokeTxLog(TransactionLog txLog, Phase phase) {
+        switch (phase) {
+            case PREPARE:
+                return txLog.prepare(nodeEngine);
+            case COMMIT:
+                return txLog.commit(nodeEngine);
+            default:
+                return txLog.rollback(nodeEngine);
+        }
+    }
+
+    private static Operation newOperation(PartitionedTransactionLog txLog, Phase phase) {
+        switch (phase) {
+            case PREPARE:
+                return txLog.newPrepareOperation();
+            case COMMIT:
+                return txLog.newCommitOperation();
+            default:
+                return txLog.newRollbackOperation();
+        }
+    }
+
     private void checkTimeout() throws TransactionException {
         if (startTime + timeoutMillis < Clock.currentTimeMillis()) {
             throw new TransactionException("Transaction is timed-out!");
@@ -323,12 +393,12 @@ public class TransactionImpl implements Transaction, TransactionSupport {
             try {
                 rollbackTxBackup();
 
-                final List<Future> futures = new ArrayList<Future>(txLogs.size());
+                final List<TransactionLog> reversedTxLogs = new ArrayList<TransactionLog>(txLogs.size());
                 final ListIterator<TransactionLog> iterator = txLogs.listIterator(txLogs.size());
                 while (iterator.hasPrevious()) {
-                    final TransactionLog txLog = iterator.previous();
-                    futures.add(txLog.rollback(nodeEngine));
+                    reversedTxLogs.add(iterator.previous());
                 }
+                final List<Future> futures = invokeTxLogs(reversedTxLogs, Phase.ROLLBACK);
                 waitWithDeadline(futures, ROLLBACK_TIMEOUT_MINUTES, TimeUnit.MINUTES, rollbackExceptionHandler);
                 // purge tx backup
                 purgeTxBackups();
@@ -424,4 +494,8 @@ public class TransactionImpl implements Transaction, TransactionSupport {
         sb.append('}');
         return sb.toString();
     }
+
+    private enum Phase {
+        PREPARE, COMMIT, ROLLBACK
+    }
 }
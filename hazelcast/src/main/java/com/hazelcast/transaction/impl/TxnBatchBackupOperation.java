@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.transaction.impl;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.spi.AbstractOperation;
+import com.hazelcast.spi.BackupOperation;
+import com.hazelcast.spi.Operation;
+import com.hazelcast.spi.OperationAccessor;
+import com.hazelcast.spi.PartitionAwareOperation;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.hazelcast.spi.impl.ResponseHandlerFactory.createEmptyResponseHandler;
+
+/**
+ * Backup of a {@link TxnBatchOperation}. The batch is sent to as many replicas as its operation with the most
+ * backups needs, so each backup operation is only run on the replicas its own operation asked for.
+ */
+public class TxnBatchBackupOperation extends AbstractOperation implements PartitionAwareOperation, BackupOperation {
+
+    private List<Operation> backupOpList;
+    private int[] backupCounts;
+
+    public TxnBatchBackupOperation() {
+    }
+
+    public TxnBatchBackupOperation(List<Operation> backupOpList, int[] backupCounts) {
+        this.backupOpList = backupOpList;
+        this.backupCounts = backupCounts;
+    }
+
+    @Override
+    public void run() throws Exception {
+        for (int i = 0; i < backupOpList.size(); i++) {
+            if (getReplicaIndex() > backupCounts[i]) {
+                continue;
+            }
+            Operation backupOp = backupOpList.get(i);
+            backupOp.setNodeEngine(getNodeEngine()).setServiceName(getServiceName())
+                    .setPartitionId(getPartitionId()).setReplicaIndex(getReplicaIndex());
+            backupOp.setCallerUuid(getCallerUuid());
+            OperationAccessor.setCallerAddress(backupOp, getCallerAddress());
+            backupOp.setResponseHandler(createEmptyResponseHandler());
+            try {
+                backupOp.beforeRun();
+                backupOp.run();
+                backupOp.afterRun();
+            } catch (Throwable e) {
+                backupOp.logError(e);
+            }
+        }
+    }
+
+    @Override
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        out.writeInt(backupOpList.size());
+        for (int i = 0; i < backupOpList.size(); i++) {
+            out.writeObject(backupOpList.get(i));
+            out.writeInt(backupCounts[i]);
+        }
+    }
+
+    @Override
+    protected void readInternal(ObjectDataInput in) throws IOException {
+        int size = in.readInt();
+        backupOpList = new ArrayList<Operation>(size);
+        backupCounts = new int[size];
+        for (int i = 0; i < size; i++) {
+            backupOpList.add((Operation) in.readObject());
+            backupCounts[i] = in.readInt();
+        }
+    }
+}
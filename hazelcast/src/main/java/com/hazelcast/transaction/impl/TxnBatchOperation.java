@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.transaction.impl;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.spi.AbstractOperation;
+import com.hazelcast.spi.BackupAwareOperation;
+import com.hazelcast.spi.Notifier;
+import com.hazelcast.spi.Operation;
+import com.hazelcast.spi.OperationAccessor;
+import com.hazelcast.spi.PartitionAwareOperation;
+import com.hazelcast.spi.impl.MutatingOperation;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.hazelcast.spi.impl.ResponseHandlerFactory.createEmptyResponseHandler;
+
+/**
+ * Runs the prepare, commit or rollback operations of several {@link PartitionedTransactionLog}s of the same
+ * partition in one go. All operations are run, even if one of them fails; the first failure is returned as the
+ * response after the backups of the successful operations are sent.
+ */
+public class TxnBatchOperation extends AbstractOperation
+        implements PartitionAwareOperation, BackupAwareOperation, MutatingOperation {
+
+    private List<Operation> opList;
+
+    private transient Object response;
+    private transient List<Operation> backupOpList;
+    private transient int[] backupCounts;
+    private transient int syncBackupCount;
+    private transient int totalBackupCount;
+
+    public TxnBatchOperation() {
+    }
+
+    public TxnBatchOperation(List<Operation> opList) {
+        this.opList = opList;
+    }
+
+    @Override
+    public void run() throws Exception {
+        List<BackupAwareOperation> backupAwareOps = new ArrayList<BackupAwareOperation>(opList.size());
+        for (Operation op : opList) {
+            op.setNodeEngine(getNodeEngine()).setServiceName(getServiceName()).setPartitionId(getPartitionId());
+            op.setCallerUuid(getCallerUuid());
+            OperationAccessor.setCallerAddress(op, getCallerAddress());
+            op.setResponseHandler(createEmptyResponseHandler());
+            try {
+                op.beforeRun();
+                op.run();
+                op.afterRun();
+            } catch (Throwable e) {
+                if (response == null) {
+                    response = e;
+                }
+                continue;
+            }
+            if (op instanceof Notifier && ((Notifier) op).shouldNotify()) {
+                getNodeEngine().getWaitNotifyService().notify((Notifier) op);
+            }
+            if (op instanceof BackupAwareOperation && ((BackupAwareOperation) op).shouldBackup()) {
+                backupAwareOps.add((BackupAwareOperation) op);
+            }
+        }
+        prepareBackups(backupAwareOps);
+    }
+
+    private void prepareBackups(List<BackupAwareOperation> backupAwareOps) {
+        backupOpList = new ArrayList<Operation>(backupAwareOps.size());
+        backupCounts = new int[backupAwareOps.size()];
+        for (int i = 0; i < backupAwareOps.size(); i++) {
+            BackupAwareOperation op = backupAwareOps.get(i);
+            int syncCount = op.getSyncBackupCount();
+            int totalCount = syncCount + op.getAsyncBackupCount();
+            backupOpList.add(op.getBackupOperation());
+            backupCounts[i] = totalCount;
+            syncBackupCount = Math.max(syncBackupCount, syncCount);
+            totalBackupCount = Math.max(totalBackupCount, totalCount);
+        }
+    }
+
+    @Override
+    public Object getResponse() {
+        return response != null ? response : Boolean.TRUE;
+    }
+
+    @Override
+    public boolean shouldBackup() {
+        return totalBackupCount > 0;
+    }
+
+    @Override
+    public int getSyncBackupCount() {
+        return syncBackupCount;
+    }
+
+    @Override
+    public int getAsyncBackupCount() {
+        return totalBackupCount - syncBackupCount;
+    }
+
+    @Override
+    public Operation getBackupOperation() {
+        return new TxnBatchBackupOperation(backupOpList, backupCounts);
+    }
+
+    @Override
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        out.writeInt(opList.size());
+        for (Operation op : opList) {
+            out.writeObject(op);
+        }
+    }
+
+    @Override
+    protected void readInternal(ObjectDataInput in) throws IOException {
+        int size = in.readInt();
+        opList = new ArrayList<Operation>(size);
+        for (int i = 0; i < size; i++) {
+            opList.add((Operation) in.readObject());
+        }
+    }
+}
@@ -0,0 +1,366 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.util;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static com.hazelcast.util.Preconditions.checkNotNull;
+
+/**
+ * A concurrent map specialised for primitive long keys using open addressing and linear probing.
+ *
+ * It doesn't implement {@link java.util.Map} so no key ever gets boxed. Every slot of the table holds an immutable
+ * entry containing the key and the value, and a slot is only changed using a compare-and-set:
+ * <ol>
+ * <li>{@link #get(long)} doesn't block and doesn't write.</li>
+ * <li>{@link #put(long, Object)} claims an empty slot, or replaces the entry with the same key.</li>
+ * <li>{@link #remove(long)} replaces the entry by a tombstone, so the probe sequences of other keys stay intact.</li>
+ * </ol>
+ * The slots of removed entries are reclaimed when the table is rebuilt, which happens once the used slots, including
+ * the tombstones, exceed the load factor. A single thread freezes all slots of the table, copies the live entries
+ * into a new table sized for the number of live entries, and publishes the new table. Reads continue on the frozen
+ * table in the meantime; writes that run into a frozen slot wait till the new table is published and retry on it.
+ *
+ * @param <V> values stored in the map
+ */
+public class ConcurrentLong2ObjectHashMap<V> {
+
+    private static final int MIN_CAPACITY = 8;
+    private static final double LOAD_FACTOR = 0.6;
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+    private static final int INT_BITS = 32;
+
+    // the slot of a removed entry.
+    private static final Object TOMBSTONE = new Object();
+    private static final Frozen FROZEN_EMPTY = new Frozen(null);
+    private static final Frozen FROZEN_TOMBSTONE = new Frozen(TOMBSTONE);
+    // returned by a write that needs to be retried on the next table.
+    private static final Object RETRY = new Object();
+
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicBoolean resizing = new AtomicBoolean();
+    private volatile Table table;
+
+    public ConcurrentLong2ObjectHashMap() {
+        this(MIN_CAPACITY);
+    }
+
+    /**
+     * Creates a map with room for the given number of entries.
+     *
+     * @param initialCapacity the number of entries the map should be able to contain without being resized.
+     */
+    public ConcurrentLong2ObjectHashMap(int initialCapacity) {
+        this.table = new Table(capacityFor(initialCapacity));
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Gets the value for the given key.
+     *
+     * @param key the key
+     * @return the value if found otherwise null
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        Table table = this.table;
+        int mask = table.mask;
+        int index = hash(key, mask);
+        for (int probes = 0; probes <= mask; probes++) {
+            Object slot = unfreeze(table.slots.get(index));
+            if (slot == null) {
+                return null;
+            }
+
+            if (slot != TOMBSTONE && ((Entry) slot).key == key) {
+                return ((Entry<V>) slot).value;
+            }
+
+            index = (index + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Puts a value for the given key.
+     *
+     * @param key   the key
+     * @param value the value; can't be null
+     * @return the previous value if found otherwise null
+     */
+    @SuppressWarnings("unchecked")
+    public V put(long key, V value) {
+        checkNotNull(value, "Value cannot be null");
+
+        Entry<V> entry = new Entry<V>(key, value);
+        for (;;) {
+            Table table = this.table;
+            Object result = put(table, entry);
+            if (result != RETRY) {
+                return (V) result;
+            }
+            awaitResize(table);
+        }
+    }
+
+    private Object put(Table table, Entry<V> entry) {
+        int mask = table.mask;
+        int index = hash(entry.key, mask);
+        int probes = 0;
+        while (probes <= mask) {
+            Object slot = table.slots.get(index);
+            if (slot instanceof Frozen) {
+                return RETRY;
+            }
+
+            if (slot == null) {
+                if (table.slots.compareAndSet(index, null, entry)) {
+                    size.incrementAndGet();
+                    if (table.used.incrementAndGet() > table.threshold) {
+                        resize(table);
+                    }
+                    return null;
+                }
+            } else if (slot != TOMBSTONE && ((Entry) slot).key == entry.key) {
+                if (table.slots.compareAndSet(index, slot, entry)) {
+                    return ((Entry) slot).value;
+                }
+            } else {
+                index = (index + 1) & mask;
+                probes++;
+            }
+            // if a compare-and-set failed, the same slot is read again.
+        }
+        // the table is full.
+        return RETRY;
+    }
+
+    /**
+     * Removes the value for the given key.
+     *
+     * @param key the key
+     * @return the removed value if found otherwise null
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(long key) {
+        for (;;) {
+            Table table = this.table;
+            Object result = remove(table, key);
+            if (result != RETRY) {
+                return (V) result;
+            }
+            awaitResize(table);
+        }
+    }
+
+    private Object remove(Table table, long key) {
+        int mask = table.mask;
+        int index = hash(key, mask);
+        int probes = 0;
+        while (probes <= mask) {
+            Object slot = table.slots.get(index);
+            if (slot == null) {
+                return null;
+            }
+
+            if (slot instanceof Frozen) {
+                return RETRY;
+            }
+
+            if (slot != TOMBSTONE && ((Entry) slot).key == key) {
+                if (table.slots.compareAndSet(index, slot, TOMBSTONE)) {
+                    size.decrementAndGet();
+                    return ((Entry) slot).value;
+                }
+            } else {
+                index = (index + 1) & mask;
+                probes++;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Adds all values of this map to the given collection.
+     *
+     * The values are read without blocking any writes, so values put or removed concurrently may or may not be
+     * included.
+     *
+     * @param target the collection to add the values to
+     */
+    @SuppressWarnings("unchecked")
+    public void copyValuesTo(Collection<? super V> target) {
+        AtomicReferenceArray<Object> slots = table.slots;
+        for (int k = 0; k < slots.length(); k++) {
+            Object slot = unfreeze(slots.get(k));
+            if (slot != null && slot != TOMBSTONE) {
+                target.add(((Entry<V>) slot).value);
+            }
+        }
+    }
+
+    private void awaitResize(Table table) {
+        while (this.table == table) {
+            if (resizing.get()) {
+                Thread.yield();
+            } else {
+                resize(table);
+            }
+        }
+    }
+
+    /**
+     * Replaces the given table by a table that only contains its live entries. If another thread is resizing
+     * already, the call returns immediately.
+     */
+    private void resize(Table table) {
+        if (!resizing.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            if (this.table != table) {
+                return;
+            }
+
+            int liveEntries = freeze(table);
+            // half of the new table stays free, so it isn't resized again right away.
+            Table newTable = new Table(capacityFor(2 * liveEntries));
+            copy(table, newTable);
+            this.table = newTable;
+        } finally {
+            resizing.set(false);
+        }
+    }
+
+    /**
+     * Freezes all slots of the table, so they can't be written anymore.
+     *
+     * @return the number of live entries in the frozen table.
+     */
+    private static int freeze(Table table) {
+        AtomicReferenceArray<Object> slots = table.slots;
+        int liveEntries = 0;
+        for (int k = 0; k < slots.length(); k++) {
+            Object slot = slots.get(k);
+            while (!(slot instanceof Frozen) && !slots.compareAndSet(k, slot, freeze(slot))) {
+                slot = slots.get(k);
+            }
+
+            if (unfreeze(slot) instanceof Entry) {
+                liveEntries++;
+            }
+        }
+        return liveEntries;
+    }
+
+    /**
+     * Copies the live entries of a frozen table into a new table that isn't published yet.
+     */
+    private static void copy(Table frozenTable, Table newTable) {
+        AtomicReferenceArray<Object> slots = frozenTable.slots;
+        int mask = newTable.mask;
+        for (int k = 0; k < slots.length(); k++) {
+            Object slot = unfreeze(slots.get(k));
+            if (!(slot instanceof Entry)) {
+                continue;
+            }
+
+            int index = hash(((Entry) slot).key, mask);
+            while (newTable.slots.get(index) != null) {
+                index = (index + 1) & mask;
+            }
+            newTable.slots.set(index, slot);
+            newTable.used.incrementAndGet();
+        }
+    }
+
+    private static Object freeze(Object slot) {
+        if (slot == null) {
+            return FROZEN_EMPTY;
+        }
+        return slot == TOMBSTONE ? FROZEN_TOMBSTONE : new Frozen(slot);
+    }
+
+    private static Object unfreeze(Object slot) {
+        return slot instanceof Frozen ? ((Frozen) slot).slot : slot;
+    }
+
+    private static int capacityFor(int entries) {
+        int capacity = QuickMath.nextPowerOfTwo((int) (entries / LOAD_FACTOR) + 1);
+        return Math.max(MIN_CAPACITY, capacity);
+    }
+
+    /**
+     * Keys are often sequences, or all have the same low bits when a map is used as a stripe of a bigger map, so
+     * the key is scrambled and the high bits are folded into the low bits before masking.
+     */
+    private static int hash(long key, int mask) {
+        long hash = key * GOLDEN_RATIO;
+        return (int) (hash ^ (hash >>> INT_BITS)) & mask;
+    }
+
+    @Override
+    public String toString() {
+        return "ConcurrentLong2ObjectHashMap{size=" + size() + '}';
+    }
+
+    private static final class Table {
+        private final AtomicReferenceArray<Object> slots;
+        private final int mask;
+        private final int threshold;
+        // the number of slots that are not empty, including the tombstones.
+        private final AtomicInteger used = new AtomicInteger();
+
+        private Table(int capacity) {
+            this.slots = new AtomicReferenceArray<Object>(capacity);
+            this.mask = capacity - 1;
+            this.threshold = (int) (capacity * LOAD_FACTOR);
+        }
+    }
+
+    private static final class Entry<V> {
+        private final long key;
+        private final V value;
+
+        private Entry(long key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    /**
+     * The content of a slot of a table that is being resized.
+     */
+    private static final class Frozen {
+        private final Object slot;
+
+        private Frozen(Object slot) {
+            this.slot = slot;
+        }
+    }
+}
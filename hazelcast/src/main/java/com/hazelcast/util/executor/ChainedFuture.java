@@ -0,0 +1,296 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.util.executor;
+
+import com.hazelcast.core.ExecutionCallback;
+import com.hazelcast.core.ICompletableFuture;
+import com.hazelcast.core.IFunction;
+import com.hazelcast.logging.ILogger;
+import com.hazelcast.logging.Logger;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.hazelcast.util.Preconditions.isNotNull;
+
+/**
+ * An {@link ICompletableFuture} that is completed by applying a function to the result of another future. It allows
+ * composing asynchronous calls without blocking a thread on any of the intermediate futures:
+ * <pre>
+ *     ICompletableFuture&lt;Order&gt; order = map.getAsync(orderId);
+ *     ICompletableFuture&lt;Customer&gt; customer = ChainedFuture.thenCompose(order, new IFunction&lt;Order,
+ *          ICompletableFuture&lt;Customer&gt;&gt;() {
+ *          public ICompletableFuture&lt;Customer&gt; apply(Order order) {
+ *              return customers.getAsync(order.getCustomerId());
+ *          }
+ *     }, executor);
+ * </pre>
+ * The function is executed on the given executor, which is also the default executor for callbacks registered on the
+ * chained future. If the original future fails, or the function throws an exception, the chained future fails with
+ * the same exception. If the executor rejects the function, the chained future fails with the
+ * {@link RejectedExecutionException}.
+ *
+ * Just like the InvocationFuture, this future doesn't use any locks: the result is set with a CAS and the waiting
+ * threads and callbacks are kept in a {@link WaiterStack}.
+ *
+ * @param <T> the result type of the original future
+ * @param <R> the result type of this future
+ */
+public final class ChainedFuture<T, R> implements ICompletableFuture<R> {
+
+    private static final Object NO_RESULT = new Object();
+
+    private static final AtomicReferenceFieldUpdater<ChainedFuture, Object> RESULT
+            = AtomicReferenceFieldUpdater.newUpdater(ChainedFuture.class, Object.class, "result");
+
+    private static final ILogger LOGGER = Logger.getLogger(ChainedFuture.class);
+
+    private final IFunction<T, ?> function;
+    private final boolean compose;
+    private final Executor executor;
+    private final Executor sourceExecutor;
+    private final WaiterStack waiters = new WaiterStack();
+
+    private volatile Object result = NO_RESULT;
+
+    private ChainedFuture(ICompletableFuture<T> future, IFunction<T, ?> function, boolean compose, Executor executor) {
+        this.function = function;
+        this.compose = compose;
+        this.executor = executor;
+        this.sourceExecutor = new FailOnRejectionExecutor();
+        future.andThen(new SourceCallback(), sourceExecutor);
+    }
+
+    /**
+     * Returns a future that is completed with the result of the function applied to the result of the given future.
+     *
+     * @param future   the future to chain to
+     * @param function the function to apply to the result of the future
+     * @param executor the executor to run the function and the callbacks on
+     * @return the chained future
+     */
+    public static <T, R> ICompletableFuture<R> map(ICompletableFuture<T> future, IFunction<T, R> function,
+                                                  Executor executor) {
+        checkArguments(future, function, executor);
+        return new ChainedFuture<T, R>(future, function, false, executor);
+    }
+
+    /**
+     * Returns a future that is completed with the result of the future returned by the function applied to the result
+     * of the given future. If the function returns null, the future is completed with null.
+     *
+     * @param future   the future to chain to
+     * @param function the function that starts the next asynchronous call
+     * @param executor the executor to run the function and the callbacks on
+     * @return the chained future
+     */
+    public static <T, R> ICompletableFuture<R> thenCompose(ICompletableFuture<T> future,
+                                                          IFunction<T, ICompletableFuture<R>> function,
+                                                          Executor executor) {
+        checkArguments(future, function, executor);
+        return new ChainedFuture<T, R>(future, function, true, executor);
+    }
+
+    private static void checkArguments(ICompletableFuture future, IFunction function, Executor executor) {
+        isNotNull(future, "future");
+        isNotNull(function, "function");
+        isNotNull(executor, "executor");
+    }
+
+    @Override
+    public void andThen(ExecutionCallback<R> callback) {
+        andThen(callback, executor);
+    }
+
+    @Override
+    public void andThen(ExecutionCallback<R> callback, Executor executor) {
+        isNotNull(callback, "callback");
+        isNotNull(executor, "executor");
+
+        if (!waiters.pushCallback(callback, executor)) {
+            runAsynchronous(callback, executor);
+        }
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        return false;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return false;
+    }
+
+    @Override
+    public boolean isDone() {
+        return result != NO_RESULT;
+    }
+
+    @Override
+    public R get() throws InterruptedException, ExecutionException {
+        try {
+            return get(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new ExecutionException(e);
+        }
+    }
+
+    @Override
+    public R get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+        if (!isDone()) {
+            await(unit.toNanos(timeout));
+        }
+
+        Object value = result;
+        if (value instanceof Failure) {
+            throw new ExecutionException(((Failure) value).cause);
+        }
+        return (R) value;
+    }
+
+    private void await(long timeoutNanos) throws InterruptedException, TimeoutException {
+        WaiterStack.Node node = waiters.pushCurrentThread();
+        try {
+            long startNanos = System.nanoTime();
+            while (!isDone()) {
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+
+                long remainingNanos = timeoutNanos - (System.nanoTime() - startNanos);
+                if (remainingNanos <= 0) {
+                    throw new TimeoutException();
+                }
+
+                LockSupport.parkNanos(this, remainingNanos);
+            }
+        } finally {
+            waiters.remove(node);
+        }
+    }
+
+    private void complete(Object value) {
+        if (!RESULT.compareAndSet(this, NO_RESULT, value)) {
+            return;
+        }
+
+        for (WaiterStack.Node node = waiters.release(); node != null; node = node.getNext()) {
+            if (node.getCallback() != null) {
+                runAsynchronous(node.getCallback(), node.getExecutor());
+            }
+        }
+    }
+
+    private void runAsynchronous(final ExecutionCallback<R> callback, Executor executor) {
+        try {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    Object value = result;
+                    try {
+                        if (value instanceof Failure) {
+                            callback.onFailure(((Failure) value).cause);
+                        } else {
+                            callback.onResponse((R) value);
+                        }
+                    } catch (Throwable t) {
+                        LOGGER.severe("Failed asynchronous execution of execution callback: " + callback, t);
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            LOGGER.warning("Execution of callback: " + callback + " is rejected!", e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ChainedFuture{result=" + (isDone() ? result : "<not available>") + '}';
+    }
+
+    /**
+     * Receives the result of the original future; is executed on the executor of the chained future.
+     */
+    private final class SourceCallback implements ExecutionCallback<T> {
+
+        @Override
+        public void onResponse(T response) {
+            Object value;
+            try {
+                value = function.apply(response);
+            } catch (Throwable t) {
+                complete(new Failure(t));
+                return;
+            }
+
+            if (compose && value != null) {
+                ((ICompletableFuture<R>) value).andThen(new ExecutionCallback<R>() {
+                    @Override
+                    public void onResponse(R response) {
+                        complete(response);
+                    }
+
+                    @Override
+                    public void onFailure(Throwable t) {
+                        complete(new Failure(t));
+                    }
+                }, sourceExecutor);
+            } else {
+                complete(value);
+            }
+        }
+
+        @Override
+        public void onFailure(Throwable t) {
+            complete(new Failure(t));
+        }
+    }
+
+    /**
+     * Runs the callbacks on the source futures on the executor, and fails this future if the executor rejects them.
+     * Otherwise the rejection would only be logged by the source future and this future would never complete.
+     */
+    private final class FailOnRejectionExecutor implements Executor {
+
+        @Override
+        public void execute(Runnable command) {
+            try {
+                executor.execute(command);
+            } catch (RejectedExecutionException e) {
+                complete(new Failure(e));
+            }
+        }
+    }
+
+    /**
+     * Wraps the cause of a failed future, so a function can return a throwable as a regular result.
+     */
+    private static final class Failure {
+        private final Throwable cause;
+
+        private Failure(Throwable cause) {
+            this.cause = cause;
+        }
+    }
+}
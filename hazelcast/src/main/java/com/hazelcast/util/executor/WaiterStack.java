@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.util.executor;
+
+import com.hazelcast.core.ExecutionCallback;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A lock free stack of the threads waiting for, and the callbacks registered on, a future.
+ *
+ * Nodes are pushed with a CAS on the head. The thread that completes the future calls {@link #release()}, which swaps
+ * the stack with a marker, so a node that can't be pushed anymore tells the caller that the result is available.
+ * A waiting thread that gives up, because of a timeout or an interrupt, unlinks its node with {@link #remove(Node)},
+ * so a future that is polled with short timeouts doesn't accumulate dead nodes.
+ */
+public final class WaiterStack {
+
+    private static final Node RELEASED = new Node(null, null, null);
+
+    private static final AtomicReferenceFieldUpdater<WaiterStack, Node> HEAD
+            = AtomicReferenceFieldUpdater.newUpdater(WaiterStack.class, Node.class, "head");
+
+    private volatile Node head;
+
+    public WaiterStack() {
+    }
+
+    /**
+     * Creates a stack that already contains the given callback.
+     */
+    public WaiterStack(ExecutionCallback callback, Executor executor) {
+        this.head = new Node(null, callback, executor);
+    }
+
+    /**
+     * Pushes the current thread.
+     *
+     * @return the pushed node, or null if the stack has been released.
+     */
+    public Node pushCurrentThread() {
+        Node node = new Node(Thread.currentThread(), null, null);
+        return push(node) ? node : null;
+    }
+
+    /**
+     * Pushes a callback.
+     *
+     * @return true if the callback was pushed, false if the stack has been released.
+     */
+    public boolean pushCallback(ExecutionCallback callback, Executor executor) {
+        return push(new Node(null, callback, executor));
+    }
+
+    private boolean push(Node node) {
+        for (;;) {
+            Node h = head;
+            if (h == RELEASED) {
+                return false;
+            }
+
+            node.next = h;
+            if (HEAD.compareAndSet(this, h, node)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Releases the stack: unparks the waiting threads and returns the nodes that were pushed, so the caller can
+     * schedule the callbacks. Only the first call returns the nodes.
+     *
+     * @return the first node, or null if nothing was pushed.
+     */
+    public Node release() {
+        Node nodes = HEAD.getAndSet(this, RELEASED);
+        if (nodes == RELEASED) {
+            return null;
+        }
+
+        for (Node node = nodes; node != null; node = node.next) {
+            Thread thread = node.thread;
+            if (thread != null) {
+                LockSupport.unpark(thread);
+            }
+        }
+        return nodes;
+    }
+
+    /**
+     * Removes the node of a thread that stopped waiting. Unlinks all the nodes of such threads it runs into,
+     * just like {@link java.util.concurrent.FutureTask} does.
+     *
+     * @param node the node returned by {@link #pushCurrentThread()}, can be null.
+     */
+    public void remove(Node node) {
+        if (node == null) {
+            return;
+        }
+
+        node.thread = null;
+        retry:
+        for (;;) {
+            Node pred = null;
+            Node q = head;
+            while (q != null && q != RELEASED) {
+                Node s = q.next;
+                if (q.isLive()) {
+                    pred = q;
+                } else if (pred != null) {
+                    pred.next = s;
+                    if (!pred.isLive()) {
+                        continue retry;
+                    }
+                } else if (!HEAD.compareAndSet(this, q, s)) {
+                    continue retry;
+                }
+                q = s;
+            }
+            return;
+        }
+    }
+
+    /**
+     * A waiting thread or a callback.
+     */
+    public static final class Node {
+        private final ExecutionCallback callback;
+        private final Executor executor;
+        private volatile Thread thread;
+        private volatile Node next;
+
+        private Node(Thread thread, ExecutionCallback callback, Executor executor) {
+            this.thread = thread;
+            this.callback = callback;
+            this.executor = executor;
+        }
+
+        private boolean isLive() {
+            return thread != null || callback != null;
+        }
+
+        /**
+         * Returns the callback, or null if this node is a waiting thread.
+         */
+        public ExecutionCallback getCallback() {
+            return callback;
+        }
+
+        public Executor getExecutor() {
+            return executor;
+        }
+
+        public Node getNext() {
+            return next;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.wan.impl;
+
+import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.wan.ReplicationEventObject;
+
+/**
+ * A replication event that only carries the latest state of a single entry, so a newer pending event
+ * for the same entry can replace it before it is sent to the target cluster.
+ *
+ * @see com.hazelcast.instance.GroupProperties#PROP_WAN_REP_COALESCING_ENABLED
+ */
+public interface CoalescingReplicationEventObject extends ReplicationEventObject {
+
+    /**
+     * Returns the name of the distributed object the entry belongs to.
+     *
+     * @return the name of the distributed object
+     */
+    String getObjectName();
+
+    /**
+     * Returns the serialized key of the entry, or {@code null} if the event must not be coalesced.
+     *
+     * @return the key of the entry
+     */
+    Data getKey();
+}
@@ -0,0 +1,515 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.wan.impl;
+
+import com.hazelcast.cluster.impl.operations.AuthorizationOperation;
+import com.hazelcast.core.PartitionAware;
+import com.hazelcast.instance.GroupProperties;
+import com.hazelcast.instance.Node;
+import com.hazelcast.internal.metrics.Probe;
+import com.hazelcast.logging.ILogger;
+import com.hazelcast.nio.Address;
+import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.spi.InvocationBuilder;
+import com.hazelcast.spi.Operation;
+import com.hazelcast.spi.OperationService;
+import com.hazelcast.util.AddressUtil;
+import com.hazelcast.util.AddressUtil.AddressHolder;
+import com.hazelcast.util.Clock;
+import com.hazelcast.wan.ReplicationEventObject;
+import com.hazelcast.wan.WanReplicationEndpoint;
+import com.hazelcast.wan.WanReplicationEvent;
+import com.hazelcast.wan.WanReplicationService;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Batching distribution implementation on WAN replication. It is used for the target clusters that configure it as
+ * their {@code replication-impl}; both clusters need to know the {@link WanBatchReplicationOperation}.
+ * <p/>
+ * Events are spread over a number of lanes by partition id. A lane cuts a batch when it holds
+ * {@link GroupProperties#PROP_WAN_REP_BATCH_SIZE} events or when its oldest event waited for
+ * {@link GroupProperties#PROP_WAN_REP_BATCH_MAX_DELAY_MILLIS}, and sends it to the target cluster
+ * with a {@link WanBatchReplicationOperation}. A lane has at most one batch in flight and only drops the
+ * batch once it is acknowledged, so the events of a partition arrive in order while the other lanes keep
+ * sending. A batch that is not acknowledged is sent again, to the next target endpoint.
+ * <p/>
+ * With {@link GroupProperties#PROP_WAN_REP_COALESCING_ENABLED} a lane keeps only the newest pending event of an entry
+ * (see {@link CoalescingReplicationEventObject}), so a hot key costs one event per batch instead of one per update.
+ * <p/>
+ * When the event queue is full, publishing threads wait at most
+ * {@link GroupProperties#PROP_WAN_REP_QUEUE_OFFER_TIMEOUT_MILLIS} for space before the event is dropped and
+ * counted. The probes of this class are registered by
+ * {@link WanReplicationServiceImpl} under {@code wan.<wan-replication-name>.<target-group-name>}.
+ */
+public class WanBatchReplication
+        implements Runnable, WanReplicationEndpoint {
+
+    private static final int RETRY_BACKOFF_MILLIS = 1000;
+    private static final int BUSY_POLL_MILLIS = 5;
+    private static final int IDLE_POLL_MILLIS = 100;
+    private static final int DROPPED_LOG_INTERVAL = 10000;
+
+    @Probe
+    private final AtomicLong droppedEventCount = new AtomicLong();
+    @Probe
+    private final AtomicLong sentEventCount = new AtomicLong();
+    @Probe
+    private final AtomicLong failedBatchCount = new AtomicLong();
+    @Probe
+    private final AtomicLong coalescedEventCount = new AtomicLong();
+    @Probe
+    private volatile int inFlightBatchCount;
+    @Probe
+    private volatile long lagMillis;
+
+    private Node node;
+    private ILogger logger;
+    private String groupName;
+    private String password;
+    private String[] targets;
+    private Address[] targetAddresses;
+    private boolean[] authorized;
+    private Lane[] lanes;
+    private BlockingQueue<PendingEvent> eventQueue;
+    private int batchSize;
+    private int maxBufferedEvents;
+    private long maxDelayMillis;
+    private long ackTimeoutMillis;
+    private long offerTimeoutMillis;
+    private boolean coalescing;
+    private int bufferedEventCount;
+    private volatile boolean running = true;
+
+    @Override
+    public void init(Node node, String groupName, String password, String... targets) {
+        this.node = node;
+        this.logger = node.getLogger(WanBatchReplication.class.getName());
+        this.groupName = groupName;
+        this.password = password;
+        this.targets = targets;
+        this.targetAddresses = new Address[targets.length];
+        this.authorized = new boolean[targets.length];
+
+        GroupProperties groupProperties = node.getGroupProperties();
+        this.eventQueue = new ArrayBlockingQueue<PendingEvent>(groupProperties.WAN_REP_QUEUE_CAPACITY.getInteger());
+        this.offerTimeoutMillis = groupProperties.WAN_REP_QUEUE_OFFER_TIMEOUT_MILLIS.getLong();
+        this.batchSize = Math.max(1, groupProperties.WAN_REP_BATCH_SIZE.getInteger());
+        this.maxDelayMillis = groupProperties.WAN_REP_BATCH_MAX_DELAY_MILLIS.getLong();
+        this.ackTimeoutMillis = groupProperties.WAN_REP_BATCH_ACK_TIMEOUT_MILLIS.getLong();
+        this.coalescing = groupProperties.WAN_REP_COALESCING_ENABLED.getBoolean();
+        int laneCount = Math.max(1, groupProperties.WAN_REP_BATCH_MAX_IN_FLIGHT.getInteger());
+        this.lanes = new Lane[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            lanes[i] = new Lane(i);
+        }
+        this.maxBufferedEvents = batchSize * laneCount;
+        node.nodeEngine.getExecutionService().execute("hz:wan", this);
+    }
+
+    @Override
+    public void publishReplicationEvent(String serviceName, ReplicationEventObject eventObject) {
+        WanReplicationEvent replicationEvent = new WanReplicationEvent(serviceName, eventObject);
+        int partitionId = getPartitionId(node, eventObject);
+        PendingEvent pendingEvent = new PendingEvent(replicationEvent, partitionId, Clock.currentTimeMillis());
+        try {
+            if (offer(pendingEvent)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        long dropped = droppedEventCount.incrementAndGet();
+        if (dropped % DROPPED_LOG_INTERVAL == 1) {
+            logger.warning("WAN replication queue is full, " + dropped + " replication events dropped so far. Last dropped: "
+                    + replicationEvent);
+        }
+    }
+
+    /**
+     * Offers the event to the queue, waiting at most {@link GroupProperties#PROP_WAN_REP_QUEUE_OFFER_TIMEOUT_MILLIS}
+     * for space. The wait is always bounded, since events are published on partition threads.
+     */
+    private boolean offer(PendingEvent pendingEvent) throws InterruptedException {
+        if (offerTimeoutMillis <= 0) {
+            return eventQueue.offer(pendingEvent);
+        }
+        return eventQueue.offer(pendingEvent, offerTimeoutMillis, MILLISECONDS);
+    }
+
+    @Override
+    public void shutdown() {
+        running = false;
+    }
+
+    @Override
+    public void run() {
+        while (running) {
+            try {
+                long now = Clock.currentTimeMillis();
+                completeBatches(now);
+                drainEvents();
+                now = Clock.currentTimeMillis();
+                sendBatches(now);
+                updateMetrics(now);
+            } catch (InterruptedException e) {
+                running = false;
+            } catch (Throwable e) {
+                logger.warning(e);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of events waiting in the replication queue.
+     */
+    @Probe
+    public int getQueueSize() {
+        return eventQueue.size();
+    }
+
+    public int getInFlightBatchCount() {
+        return inFlightBatchCount;
+    }
+
+    /**
+     * Returns how long the oldest unacknowledged event has been waiting, in milliseconds.
+     */
+    public long getLagMillis() {
+        return lagMillis;
+    }
+
+    public long getDroppedEventCount() {
+        return droppedEventCount.get();
+    }
+
+    public long getSentEventCount() {
+        return sentEventCount.get();
+    }
+
+    public long getFailedBatchCount() {
+        return failedBatchCount.get();
+    }
+
+    /**
+     * Returns the number of events that were replaced by a newer event of the same entry before being sent.
+     */
+    public long getCoalescedEventCount() {
+        return coalescedEventCount.get();
+    }
+
+    /**
+     * Returns the partition of a replication event, derived from its partition key when the event object is
+     * {@link PartitionAware}. Events without a partition key are all mapped to partition 0 and stay in order.
+     */
+    static int getPartitionId(Node node, Object eventObject) {
+        if (eventObject instanceof PartitionAware) {
+            Object partitionKey = ((PartitionAware) eventObject).getPartitionKey();
+            if (partitionKey != null) {
+                return node.getPartitionService().getPartitionId(partitionKey);
+            }
+        }
+        return 0;
+    }
+
+    private void drainEvents() throws InterruptedException {
+        if (bufferedEventCount >= maxBufferedEvents) {
+            // every lane is backed up; wait for acknowledgements and let the queue absorb the new events
+            Thread.sleep(BUSY_POLL_MILLIS);
+            return;
+        }
+        long timeout = (bufferedEventCount > 0 || inFlightBatchCount > 0) ? BUSY_POLL_MILLIS : IDLE_POLL_MILLIS;
+        PendingEvent event = eventQueue.poll(timeout, MILLISECONDS);
+        while (event != null) {
+            if (lanes[event.partitionId % lanes.length].add(event) && ++bufferedEventCount >= maxBufferedEvents) {
+                return;
+            }
+            event = eventQueue.poll();
+        }
+    }
+
+    private void completeBatches(long now) {
+        for (Lane lane : lanes) {
+            if (lane.future != null) {
+                lane.complete(now);
+            }
+        }
+    }
+
+    private void sendBatches(long now) {
+        for (Lane lane : lanes) {
+            if (lane.isReadyToSend(now)) {
+                lane.send(now);
+            }
+        }
+    }
+
+    private void updateMetrics(long now) {
+        int inFlight = 0;
+        long oldest = Long.MAX_VALUE;
+        for (Lane lane : lanes) {
+            if (lane.future != null) {
+                inFlight++;
+            }
+            PendingEvent first = lane.events.peekFirst();
+            if (first != null && first.timestamp < oldest) {
+                oldest = first.timestamp;
+            }
+        }
+        PendingEvent head = eventQueue.peek();
+        if (head != null && head.timestamp < oldest) {
+            oldest = head.timestamp;
+        }
+        inFlightBatchCount = inFlight;
+        lagMillis = oldest == Long.MAX_VALUE ? 0 : Math.max(0, now - oldest);
+    }
+
+    private static CoalescingKey getCoalescingKey(WanReplicationEvent event) {
+        Object eventObject = event.getEventObject();
+        if (!(eventObject instanceof CoalescingReplicationEventObject)) {
+            return null;
+        }
+        CoalescingReplicationEventObject coalescingEventObject = (CoalescingReplicationEventObject) eventObject;
+        Data key = coalescingEventObject.getKey();
+        if (key == null) {
+            return null;
+        }
+        return new CoalescingKey(event.getServiceName(), coalescingEventObject.getObjectName(), key);
+    }
+
+    private Address getTargetAddress(int targetIndex) throws Exception {
+        Address address = targetAddresses[targetIndex];
+        if (address == null) {
+            int defaultPort = node.getConfig().getNetworkConfig().getPort();
+            AddressHolder addressHolder = AddressUtil.getAddressHolder(targets[targetIndex], defaultPort);
+            address = new Address(addressHolder.getAddress(), addressHolder.getPort());
+            targetAddresses[targetIndex] = address;
+        }
+        if (!authorized[targetIndex]) {
+            authorized[targetIndex] = checkAuthorization(address);
+            if (!authorized[targetIndex]) {
+                logger.severe("Invalid groupName or groupPassword for WAN target " + address);
+                return null;
+            }
+        }
+        return address;
+    }
+
+    private boolean checkAuthorization(Address target) {
+        Operation authorizationCall = new AuthorizationOperation(groupName, password);
+        OperationService operationService = node.nodeEngine.getOperationService();
+        String serviceName = WanReplicationService.SERVICE_NAME;
+        InvocationBuilder invocationBuilder = operationService.createInvocationBuilder(serviceName, authorizationCall, target);
+        Future<Boolean> future = invocationBuilder.setTryCount(1).invoke();
+        try {
+            return future.get();
+        } catch (Exception ignored) {
+            logger.finest(ignored);
+        }
+        return false;
+    }
+
+    private static final class PendingEvent {
+        final int partitionId;
+        final long timestamp;
+        WanReplicationEvent event;
+
+        PendingEvent(WanReplicationEvent event, int partitionId, long timestamp) {
+            this.event = event;
+            this.partitionId = partitionId;
+            this.timestamp = timestamp;
+        }
+    }
+
+    /**
+     * Identifies the entry a {@link CoalescingReplicationEventObject} belongs to.
+     */
+    private static final class CoalescingKey {
+        final String serviceName;
+        final String objectName;
+        final Data key;
+
+        CoalescingKey(String serviceName, String objectName, Data key) {
+            this.serviceName = serviceName;
+            this.objectName = objectName;
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CoalescingKey)) {
+                return false;
+            }
+            CoalescingKey that = (CoalescingKey) o;
+            return key.equals(that.key) && objectName.equals(that.objectName) && serviceName.equals(that.serviceName);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = serviceName.hashCode();
+            result = 31 * result + objectName.hashCode();
+            result = 31 * result + key.hashCode();
+            return result;
+        }
+    }
+
+    /**
+     * The events of a subset of the partitions. Events are only removed from a lane when the batch
+     * containing them has been acknowledged.
+     */
+    private final class Lane {
+        final ArrayDeque<PendingEvent> events = new ArrayDeque<PendingEvent>();
+        // events not yet in flight, by entry; only used when coalescing is enabled
+        final Map<CoalescingKey, PendingEvent> pendingByKey = coalescing ? new HashMap<CoalescingKey, PendingEvent>() : null;
+        int targetIndex;
+        int inFlightSize;
+        long sendTime;
+        long retryTime;
+        Future<Object> future;
+
+        Lane(int index) {
+            this.targetIndex = targets.length == 0 ? 0 : index % targets.length;
+        }
+
+        /**
+         * Adds the event to this lane. When coalescing is enabled and an event of the same entry is still
+         * waiting to be sent, that event is replaced in place and nothing is added.
+         *
+         * @return true if the event was added, false if it replaced a pending event
+         */
+        boolean add(PendingEvent pendingEvent) {
+            CoalescingKey coalescingKey = pendingByKey != null ? getCoalescingKey(pendingEvent.event) : null;
+            if (coalescingKey != null) {
+                PendingEvent existing = pendingByKey.get(coalescingKey);
+                if (existing != null) {
+                    existing.event = pendingEvent.event;
+                    coalescedEventCount.incrementAndGet();
+                    return false;
+                }
+                pendingByKey.put(coalescingKey, pendingEvent);
+            }
+            events.addLast(pendingEvent);
+            return true;
+        }
+
+        boolean isReadyToSend(long now) {
+            if (future != null || events.isEmpty() || now < retryTime || targets.length == 0) {
+                return false;
+            }
+            return events.size() >= batchSize || now - events.peekFirst().timestamp >= maxDelayMillis;
+        }
+
+        void send(long now) {
+            Address target;
+            try {
+                target = getTargetAddress(targetIndex);
+            } catch (Exception e) {
+                logger.warning("Could not resolve WAN target " + targets[targetIndex], e);
+                target = null;
+            }
+            if (target == null) {
+                failed(now);
+                return;
+            }
+
+            int size = Math.min(batchSize, events.size());
+            List<WanReplicationEvent> batch = new ArrayList<WanReplicationEvent>(size);
+            Iterator<PendingEvent> iterator = events.iterator();
+            for (int i = 0; i < size; i++) {
+                WanReplicationEvent event = iterator.next().event;
+                if (pendingByKey != null) {
+                    // the batch is cut, later events of the same entry have to go in a later batch
+                    CoalescingKey coalescingKey = getCoalescingKey(event);
+                    if (coalescingKey != null) {
+                        pendingByKey.remove(coalescingKey);
+                    }
+                }
+                batch.add(event);
+            }
+
+            OperationService operationService = node.nodeEngine.getOperationService();
+            InvocationBuilder invocationBuilder = operationService.createInvocationBuilder(WanReplicationService.SERVICE_NAME,
+                    new WanBatchReplicationOperation(batch), target);
+            future = invocationBuilder.setTryCount(1).setCallTimeout(ackTimeoutMillis).invoke();
+            inFlightSize = size;
+            sendTime = now;
+        }
+
+        void complete(long now) {
+            if (!future.isDone()) {
+                if (now - sendTime > ackTimeoutMillis) {
+                    logger.warning("WAN batch of " + inFlightSize + " events to " + targetAddresses[targetIndex]
+                            + " was not acknowledged in " + ackTimeoutMillis + " ms, sending it again");
+                    finishInFlight();
+                    failed(now);
+                }
+                return;
+            }
+
+            boolean acknowledged;
+            try {
+                acknowledged = Boolean.TRUE.equals(future.get());
+                if (!acknowledged) {
+                    logger.warning("Some events of a WAN batch of " + inFlightSize + " events could not be applied by "
+                            + targetAddresses[targetIndex] + ", sending it again");
+                }
+            } catch (Exception e) {
+                logger.finest(e);
+                acknowledged = false;
+            }
+            int size = inFlightSize;
+            finishInFlight();
+            if (!acknowledged) {
+                failed(now);
+                return;
+            }
+            for (int i = 0; i < size; i++) {
+                events.removeFirst();
+            }
+            bufferedEventCount -= size;
+            sentEventCount.addAndGet(size);
+        }
+
+        private void finishInFlight() {
+            future = null;
+            inFlightSize = 0;
+        }
+
+        private void failed(long now) {
+            failedBatchCount.incrementAndGet();
+            authorized[targetIndex] = false;
+            targetIndex = (targetIndex + 1) % targets.length;
+            retryTime = now + RETRY_BACKOFF_MILLIS;
+        }
+    }
+}
@@ -26,6 +26,7 @@ import com.hazelcast.nio.ClassLoaderUtil;
 import com.hazelcast.nio.Packet;
 import com.hazelcast.nio.serialization.Data;
 import com.hazelcast.spi.ReplicationSupportingService;
+import com.hazelcast.spi.ResponseHandler;
 import com.hazelcast.util.ExceptionUtil;
 import com.hazelcast.util.executor.StripedExecutor;
 import com.hazelcast.util.executor.StripedRunnable;
@@ -34,9 +35,14 @@ import com.hazelcast.wan.WanReplicationEvent;
 import com.hazelcast.wan.WanReplicationPublisher;
 import com.hazelcast.wan.WanReplicationService;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Open source implementation of the {@link com.hazelcast.wan.WanReplicationService}
@@ -91,6 +97,7 @@ public class WanReplicationServiceImpl implements WanReplicationService {
                 String[] addresses = new String[targetClusterConfig.getEndpoints().size()];
                 targetClusterConfig.getEndpoints().toArray(addresses);
                 target.init(node, groupName, password, addresses);
+                node.nodeEngine.getMetricsRegistry().scanAndRegister(target, "wan." + name + "." + groupName);
                 targetEndpoints[count++] = target;
             }
             wr = new WanReplicationPublisherDelegate(name, targetEndpoints);
@@ -123,6 +130,81 @@ public class WanReplicationServiceImpl implements WanReplicationService {
         });
     }
 
+    /**
+     * Applies a batch of replication events without waiting for them. Events of different partitions are applied
+     * in parallel, events of the same partition in the order of the batch. Once all events are handled the response
+     * handler receives {@code true}, or {@code false} if any event could not be applied, so the sender keeps the
+     * batch and sends it again.
+     */
+    void handleEvents(List<WanReplicationEvent> events, final ResponseHandler responseHandler) {
+        Map<Integer, List<WanReplicationEvent>> eventsPerPartition = new HashMap<Integer, List<WanReplicationEvent>>();
+        for (WanReplicationEvent event : events) {
+            Integer partitionId = WanBatchReplication.getPartitionId(node, event.getEventObject());
+            List<WanReplicationEvent> partitionEvents = eventsPerPartition.get(partitionId);
+            if (partitionEvents == null) {
+                partitionEvents = new ArrayList<WanReplicationEvent>();
+                eventsPerPartition.put(partitionId, partitionEvents);
+            }
+            partitionEvents.add(event);
+        }
+        if (eventsPerPartition.isEmpty()) {
+            responseHandler.sendResponse(Boolean.TRUE);
+            return;
+        }
+
+        StripedExecutor ex = getExecutor();
+        final AtomicInteger remaining = new AtomicInteger(eventsPerPartition.size());
+        final AtomicBoolean failed = new AtomicBoolean();
+        for (final Map.Entry<Integer, List<WanReplicationEvent>> entry : eventsPerPartition.entrySet()) {
+            StripedRunnable task = new StripedRunnable() {
+                @Override
+                public void run() {
+                    try {
+                        for (WanReplicationEvent event : entry.getValue()) {
+                            if (!applyEvent(event)) {
+                                // the later events of the partition are applied again with the resent batch
+                                failed.set(true);
+                                break;
+                            }
+                        }
+                    } finally {
+                        partitionDone(remaining, failed, responseHandler);
+                    }
+                }
+
+                @Override
+                public int getKey() {
+                    return entry.getKey();
+                }
+            };
+            try {
+                ex.execute(task);
+            } catch (RejectedExecutionException e) {
+                logger.warning("Could not apply WAN replication events of partition " + entry.getKey(), e);
+                failed.set(true);
+                partitionDone(remaining, failed, responseHandler);
+            }
+        }
+    }
+
+    private static void partitionDone(AtomicInteger remaining, AtomicBoolean failed, ResponseHandler responseHandler) {
+        if (remaining.decrementAndGet() == 0) {
+            responseHandler.sendResponse(!failed.get());
+        }
+    }
+
+    private boolean applyEvent(WanReplicationEvent replicationEvent) {
+        try {
+            String serviceName = replicationEvent.getServiceName();
+            ReplicationSupportingService service = node.nodeEngine.getService(serviceName);
+            service.onReplicationEvent(replicationEvent);
+            return true;
+        } catch (Exception e) {
+            logger.severe(e);
+            return false;
+        }
+    }
+
     private StripedExecutor getExecutor() {
         StripedExecutor ex = executor;
         if (ex == null) {
@@ -150,6 +232,7 @@ public class WanReplicationServiceImpl implements WanReplicationService {
                     for (WanReplicationEndpoint wanReplicationEndpoint : wanReplicationEndpoints) {
                         if (wanReplicationEndpoint != null) {
                             wanReplicationEndpoint.shutdown();
+                            node.nodeEngine.getMetricsRegistry().deregister(wanReplicationEndpoint);
                         }
                     }
                 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.cluster.impl;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.instance.GroupProperties;
+import com.hazelcast.instance.MemberImpl;
+import com.hazelcast.internal.metrics.MetricsRegistry;
+import com.hazelcast.test.AssertTask;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(QuickTest.class)
+public class PhiAccrualClusterFailureDetectorTest extends HazelcastTestSupport {
+
+    @Test
+    public void testHealthyMembers_areNotSuspected() {
+        Config config = new Config();
+        config.setProperty(GroupProperties.PROP_HEARTBEAT_FAILURE_DETECTOR_TYPE, "phi-accrual");
+        config.setProperty(GroupProperties.PROP_HEARTBEAT_PHI_ACCRUAL_ACCEPTABLE_PAUSE_MILLIS, "0");
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        HazelcastInstance hz1 = factory.newHazelcastInstance(config);
+        HazelcastInstance hz2 = factory.newHazelcastInstance(config);
+
+        sleepSeconds(5);
+
+        assertEquals(2, hz1.getCluster().getMembers().size());
+        assertEquals(2, hz2.getCluster().getMembers().size());
+        ClusterServiceImpl clusterService = getNode(hz1).getClusterService();
+        MemberImpl member = clusterService.getMember(getNode(hz2).getThisAddress());
+        double threshold = Double.parseDouble(getNode(hz1).getGroupProperties().HEARTBEAT_PHI_ACCRUAL_THRESHOLD.getString());
+        assertTrue(clusterService.getSuspicionLevel(member) < threshold);
+    }
+
+    @Test
+    public void testProbes_areRegistered() {
+        Config config = new Config();
+        config.setProperty(GroupProperties.PROP_HEARTBEAT_FAILURE_DETECTOR_TYPE, "phi-accrual");
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        HazelcastInstance hz1 = factory.newHazelcastInstance(config);
+        factory.newHazelcastInstance(config);
+
+        final MetricsRegistry metricsRegistry = getNode(hz1).nodeEngine.getMetricsRegistry();
+        assertTrue(metricsRegistry.getNames().contains("cluster.failureDetector.getMaxSuspicionLevel"));
+        assertTrueEventually(new AssertTask() {
+            @Override
+            public void run() throws Exception {
+                assertEquals(1, metricsRegistry.getGauge("cluster.failureDetector.getMonitoredMemberCount").readLong());
+            }
+        });
+    }
+}
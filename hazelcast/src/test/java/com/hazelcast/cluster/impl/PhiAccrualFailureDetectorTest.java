@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.cluster.impl;
+
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category(QuickTest.class)
+public class PhiAccrualFailureDetectorTest {
+
+    private static final double THRESHOLD = 10;
+    private static final long HEARTBEAT_INTERVAL = 1000;
+
+    @Test
+    public void testPhi_isZero_withoutHeartbeat() {
+        PhiAccrualFailureDetector detector = newDetector(0);
+
+        assertEquals(0, detector.phi(100000), 0);
+        assertTrue(detector.isAlive(100000));
+    }
+
+    @Test
+    public void testPhi_atMean() {
+        // half of the heartbeats arrive later than the mean
+        assertEquals(-Math.log10(0.5), PhiAccrualFailureDetector.phi(1000, 1000, 100), 0.001);
+    }
+
+    @Test
+    public void testPhi_increasesWithTimeSinceLastHeartbeat() {
+        PhiAccrualFailureDetector detector = newDetector(0);
+        long timestamp = sendHeartbeats(detector, 0, 20);
+
+        double previous = 0;
+        for (long elapsed = 0; elapsed <= 2000; elapsed += 100) {
+            double phi = detector.phi(timestamp + elapsed);
+            assertTrue(phi >= previous);
+            previous = phi;
+        }
+    }
+
+    @Test
+    public void testMemberSuspected_whenHeartbeatsStop() {
+        PhiAccrualFailureDetector detector = newDetector(0);
+        long timestamp = sendHeartbeats(detector, 0, 20);
+
+        assertTrue(detector.isAlive(timestamp + HEARTBEAT_INTERVAL));
+        assertFalse(detector.isAlive(timestamp + 2 * HEARTBEAT_INTERVAL));
+    }
+
+    @Test
+    public void testAcceptablePause_isTolerated() {
+        PhiAccrualFailureDetector detector = newDetector(3000);
+        long timestamp = sendHeartbeats(detector, 0, 20);
+
+        assertTrue(detector.isAlive(timestamp + HEARTBEAT_INTERVAL + 3000));
+        assertFalse(detector.isAlive(timestamp + 3 * HEARTBEAT_INTERVAL + 3000));
+    }
+
+    @Test
+    public void testIrregularHeartbeats_makeDetectorMoreTolerant() {
+        PhiAccrualFailureDetector regular = newDetector(0);
+        PhiAccrualFailureDetector irregular = newDetector(0);
+        long regularTimestamp = sendHeartbeats(regular, 0, 20);
+        long irregularTimestamp = 0;
+        for (int i = 0; i < 20; i++) {
+            irregularTimestamp += i % 2 == 0 ? 500 : 1500;
+            irregular.heartbeat(irregularTimestamp);
+        }
+
+        long elapsed = 1500;
+        assertTrue(irregular.phi(irregularTimestamp + elapsed) < regular.phi(regularTimestamp + elapsed));
+    }
+
+    @Test
+    public void testHeartbeatAfterSuspicion_isNotAddedToHistory() {
+        PhiAccrualFailureDetector detector = newDetector(0);
+        long timestamp = sendHeartbeats(detector, 0, 20);
+        double phiBefore = detector.phi(timestamp + 1500);
+
+        // a long pause followed by the regular heartbeats again
+        timestamp += 60000;
+        detector.heartbeat(timestamp);
+
+        assertEquals(phiBefore, detector.phi(timestamp + 1500), 0.001);
+    }
+
+    @Test
+    public void testOutOfOrderHeartbeat_isIgnored() {
+        PhiAccrualFailureDetector detector = newDetector(0);
+        long timestamp = sendHeartbeats(detector, 0, 20);
+
+        detector.heartbeat(timestamp - 500);
+
+        assertEquals(timestamp, detector.lastHeartbeat());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConstructor_withNonPositiveThreshold() {
+        new PhiAccrualFailureDetector(0, 100, 100, 0, HEARTBEAT_INTERVAL);
+    }
+
+    private static PhiAccrualFailureDetector newDetector(long acceptablePauseMillis) {
+        return new PhiAccrualFailureDetector(THRESHOLD, 200, 100, acceptablePauseMillis, HEARTBEAT_INTERVAL);
+    }
+
+    private static long sendHeartbeats(PhiAccrualFailureDetector detector, long start, int count) {
+        long timestamp = start;
+        for (int i = 0; i < count; i++) {
+            timestamp += HEARTBEAT_INTERVAL;
+            detector.heartbeat(timestamp);
+        }
+        return timestamp;
+    }
+}
@@ -0,0 +1,227 @@
+package com.hazelcast.collection.impl.queue;
+
+import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.nio.serialization.DefaultSerializationServiceBuilder;
+import com.hazelcast.nio.serialization.SerializationService;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category(QuickTest.class)
+public class QueueItemRingTest {
+
+    private SerializationService serializationService;
+    private QueueItemRing ring;
+
+    @Before
+    public void setup() {
+        serializationService = new DefaultSerializationServiceBuilder().build();
+        ring = new QueueItemRing();
+    }
+
+    @Test
+    public void testAddLastAndRemoveFirst_whenGrowing() {
+        for (int i = 0; i < 100; i++) {
+            ring.addLast(i, data(i), i * 10);
+        }
+        assertEquals(100, ring.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, ring.getItemId(0));
+            assertEquals(i * 10, ring.getCreationTime(0));
+            assertEquals(data(i), ring.getData(0));
+            ring.removeFirst();
+        }
+        assertTrue(ring.isEmpty());
+    }
+
+    @Test
+    public void testAddFirst_whenWrappingAround() {
+        ring.addLast(1, data(1), 0);
+        ring.addFirst(0, data(0), 0);
+        ring.addFirst(-1, data(-1), 0);
+
+        assertItemIds(-1, 0, 1);
+    }
+
+    @Test
+    public void testAddSorted() {
+        ring.addSorted(1, data(1), 0);
+        ring.addSorted(5, data(5), 0);
+        ring.addSorted(3, data(3), 0);
+        ring.addSorted(0, data(0), 0);
+        ring.addSorted(7, data(7), 0);
+
+        assertItemIds(0, 1, 3, 5, 7);
+        assertEquals(2, ring.indexOfSorted(3));
+        assertEquals(-3, ring.indexOfSorted(2));
+        assertEquals(data(3), ring.getData(2));
+    }
+
+    @Test
+    public void testAddSorted_whenItemExists_thenReplaced() {
+        ring.addSorted(1, data(1), 0);
+        ring.addSorted(2, data(2), 0);
+        ring.addSorted(1, data(10), 0);
+
+        assertItemIds(1, 2);
+        assertEquals(data(10), ring.getData(0));
+    }
+
+    @Test
+    public void testRemoveAt() {
+        // start with a wrapped around ring
+        for (int i = 0; i < 10; i++) {
+            ring.addLast(i, data(i), 0);
+        }
+        ring.removeFirst(8);
+        for (int i = 10; i < 20; i++) {
+            ring.addLast(i, data(i), 0);
+        }
+
+        ring.removeAt(1);
+        ring.removeAt(7);
+        ring.removeAt(0);
+
+        assertItemIds(10, 11, 12, 13, 14, 15, 17, 18, 19);
+        assertEquals(data(17), ring.getData(6));
+    }
+
+    @Test
+    public void testRemoveAll() {
+        for (int i = 0; i < 10; i++) {
+            ring.addLast(i, data(i), 0);
+        }
+        Map<Long, Data> removed = new HashMap<Long, Data>();
+        removed.put(0L, null);
+        removed.put(4L, null);
+        removed.put(5L, null);
+        removed.put(9L, null);
+
+        ring.removeAll(removed);
+
+        assertItemIds(1, 2, 3, 6, 7, 8);
+        assertEquals(data(6), ring.getData(3));
+    }
+
+    @Test
+    public void testClear() {
+        for (int i = 0; i < 10; i++) {
+            ring.addLast(i, data(i), 0);
+        }
+
+        ring.clear();
+
+        assertTrue(ring.isEmpty());
+        ring.addLast(42, null, 0);
+        assertEquals(42, ring.getItemId(0));
+        assertNull(ring.getData(0));
+    }
+
+    @Test
+    public void testClear_whenGrown_thenShrinks() {
+        for (int i = 0; i < 1000; i++) {
+            ring.addLast(i, data(i), 0);
+        }
+
+        ring.clear();
+
+        assertEquals(16, ring.capacity());
+        ring.addLast(42, data(42), 0);
+        assertItemIds(42);
+    }
+
+    @Test
+    public void testRemoveFirst_whenDrained_thenShrinks() {
+        for (int i = 0; i < 1024; i++) {
+            ring.addLast(i, data(i), i * 10);
+        }
+        assertEquals(1024, ring.capacity());
+
+        ring.removeFirst(1000);
+
+        assertEquals(64, ring.capacity());
+        assertEquals(24, ring.size());
+        for (int i = 0; i < 24; i++) {
+            assertEquals(1000 + i, ring.getItemId(i));
+            assertEquals((1000 + i) * 10, ring.getCreationTime(i));
+            assertEquals(data(1000 + i), ring.getData(i));
+        }
+
+        ring.removeFirst(24);
+        assertEquals(16, ring.capacity());
+        assertTrue(ring.isEmpty());
+    }
+
+    @Test
+    public void testRemoveAt_whenWrappedAndSparse_thenShrinksKeepingOrder() {
+        for (int i = 0; i < 64; i++) {
+            ring.addLast(i, data(i), 0);
+        }
+        for (int i = 0; i < 8; i++) {
+            ring.addFirst(-1 - i, data(-1 - i), 0);
+        }
+        assertEquals(128, ring.capacity());
+
+        while (ring.size() > 5) {
+            ring.removeAt(ring.size() - 1);
+        }
+
+        assertEquals(16, ring.capacity());
+        assertItemIds(-8, -7, -6, -5, -4);
+    }
+
+    @Test
+    public void testRemoveAll_whenMostRemoved_thenShrinks() {
+        Map<Long, Data> removed = new HashMap<Long, Data>();
+        for (int i = 0; i < 100; i++) {
+            ring.addLast(i, data(i), 0);
+            if (i % 10 != 0) {
+                removed.put((long) i, null);
+            }
+        }
+
+        ring.removeAll(removed);
+
+        assertEquals(32, ring.capacity());
+        assertItemIds(0, 10, 20, 30, 40, 50, 60, 70, 80, 90);
+    }
+
+    @Test
+    public void testGrowAfterShrink() {
+        for (int i = 0; i < 1000; i++) {
+            ring.addLast(i, data(i), 0);
+        }
+        ring.removeFirst(990);
+
+        for (int i = 1000; i < 2000; i++) {
+            ring.addLast(i, data(i), 0);
+        }
+
+        assertEquals(1010, ring.size());
+        for (int i = 0; i < 1010; i++) {
+            assertEquals(990 + i, ring.getItemId(i));
+        }
+    }
+
+    private Data data(int value) {
+        return serializationService.toData(value);
+    }
+
+    private void assertItemIds(long... itemIds) {
+        assertEquals(itemIds.length, ring.size());
+        for (int i = 0; i < itemIds.length; i++) {
+            assertEquals(itemIds[i], ring.getItemId(i));
+        }
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.collection.impl.queue;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.QueueConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.IQueue;
+import com.hazelcast.test.AssertTask;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category(QuickTest.class)
+public class QueuePrefetchTest extends HazelcastTestSupport {
+
+    private static final String QUEUE_NAME = "prefetch*";
+
+    @Test
+    public void testPoll_returnsItemsInOrder() {
+        HazelcastInstance instance = createHazelcastInstance(newConfig(10));
+        IQueue<String> queue = instance.getQueue(prefetchQueueName());
+        for (int i = 0; i < 25; i++) {
+            queue.offer("item" + i);
+        }
+        for (int i = 0; i < 25; i++) {
+            assertEquals("item" + i, queue.poll());
+        }
+        assertNull(queue.poll());
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    public void testPoll_leasesItemsFromQueue() {
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        HazelcastInstance[] instances = factory.newInstances(newConfig(10));
+        String name = prefetchQueueName();
+        IQueue<String> queue1 = instances[0].getQueue(name);
+        IQueue<String> queue2 = instances[1].getQueue(name);
+        for (int i = 0; i < 20; i++) {
+            queue2.offer("item" + i);
+        }
+
+        assertEquals("item0", queue1.poll());
+        assertEquals(10, queue2.size());
+        assertEquals("item10", queue2.poll());
+        assertEquals("item1", queue1.poll());
+    }
+
+    @Test
+    public void testLeasedItems_returnToQueue_whenMemberLeaves() {
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(3);
+        HazelcastInstance[] instances = factory.newInstances(newConfig(10));
+        String name = prefetchQueueName();
+        IQueue<String> consumerQueue = instances[0].getQueue(name);
+        final IQueue<String> queue = instances[1].getQueue(name);
+        for (int i = 0; i < 20; i++) {
+            queue.offer("item" + i);
+        }
+        assertEquals("item0", consumerQueue.poll());
+        assertEquals(10, queue.size());
+
+        instances[0].getLifecycleService().terminate();
+
+        assertTrueEventually(new AssertTask() {
+            @Override
+            public void run() throws Exception {
+                assertEquals(20, queue.size());
+            }
+        });
+        for (int i = 0; i < 20; i++) {
+            assertEquals("item" + i, queue.poll());
+        }
+    }
+
+    @Test
+    public void testTake_wakesUp_whenLeasedItemsAreReleased() throws Exception {
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(3);
+        HazelcastInstance[] instances = factory.newInstances(newConfig(10));
+        String name = prefetchQueueName();
+        IQueue<String> consumerQueue = instances[0].getQueue(name);
+        IQueue<String> queue = instances[1].getQueue(name);
+        final IQueue<String> waitingQueue = instances[2].getQueue(name);
+        queue.offer("item0");
+        queue.offer("item1");
+        assertEquals("item0", consumerQueue.poll());
+        assertEquals(0, queue.size());
+
+        final CountDownLatch latch = new CountDownLatch(1);
+        new Thread() {
+            public void run() {
+                try {
+                    if ("item0".equals(waitingQueue.take())) {
+                        latch.countDown();
+                    }
+                } catch (InterruptedException ignored) {
+                }
+            }
+        }.start();
+        sleepSeconds(1);
+        instances[0].getLifecycleService().terminate();
+
+        assertOpenEventually(latch);
+    }
+
+    @Test
+    public void testLastLease_isAcknowledged_whenBufferDrains() {
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        HazelcastInstance[] instances = factory.newInstances(newConfig(10));
+        String name = prefetchQueueName();
+        IQueue<String> consumerQueue = instances[0].getQueue(name);
+        final IQueue<String> queue = instances[1].getQueue(name);
+        queue.offer("item0");
+        queue.offer("item1");
+        assertEquals("item0", consumerQueue.poll());
+        assertEquals("item1", consumerQueue.poll());
+
+        instances[0].getLifecycleService().terminate();
+
+        sleepSeconds(1);
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    public void testLeasedItems_countAgainstCapacity() {
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        Config config = newConfig(10);
+        config.getQueueConfig(QUEUE_NAME).setMaxSize(3);
+        HazelcastInstance[] instances = factory.newInstances(config);
+        String name = prefetchQueueName();
+        IQueue<String> consumerQueue = instances[0].getQueue(name);
+        final IQueue<String> queue = instances[1].getQueue(name);
+        for (int i = 0; i < 3; i++) {
+            queue.offer("item" + i);
+        }
+        assertEquals("item0", consumerQueue.poll());
+
+        assertEquals(0, queue.remainingCapacity());
+        assertFalse(queue.offer("item3"));
+        assertEquals(0, queue.offerAll(Arrays.asList("item3")));
+
+        assertEquals("item1", consumerQueue.poll());
+        assertEquals("item2", consumerQueue.poll());
+        assertTrueEventually(new AssertTask() {
+            @Override
+            public void run() throws Exception {
+                assertEquals(3, queue.remainingCapacity());
+            }
+        });
+    }
+
+    @Test
+    public void testTake_waitsForItem() throws Exception {
+        HazelcastInstance instance = createHazelcastInstance(newConfig(10));
+        final IQueue<String> queue = instance.getQueue(prefetchQueueName());
+        final CountDownLatch latch = new CountDownLatch(1);
+        new Thread() {
+            public void run() {
+                try {
+                    if ("item".equals(queue.take())) {
+                        latch.countDown();
+                    }
+                } catch (InterruptedException ignored) {
+                }
+            }
+        }.start();
+
+        sleepSeconds(1);
+        queue.offer("item");
+        assertOpenEventually(latch);
+    }
+
+    @Test
+    public void testDrainTo_includesPrefetchedItems() {
+        HazelcastInstance instance = createHazelcastInstance(newConfig(5));
+        IQueue<String> queue = instance.getQueue(prefetchQueueName());
+        for (int i = 0; i < 10; i++) {
+            queue.offer("item" + i);
+        }
+        assertEquals("item0", queue.poll());
+
+        List<String> drained = new ArrayList<String>();
+        assertEquals(6, queue.drainTo(drained, 6));
+        assertEquals(Arrays.asList("item1", "item2", "item3", "item4", "item5", "item6"), drained);
+        assertEquals("item7", queue.poll());
+        assertEquals(2, queue.drainTo(drained));
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    public void testOfferAll_acceptsUpToRemainingCapacity() {
+        Config config = new Config();
+        config.addQueueConfig(new QueueConfig().setName(QUEUE_NAME).setMaxSize(5));
+        HazelcastInstance instance = createHazelcastInstance(config);
+        IQueue<String> queue = instance.getQueue(prefetchQueueName());
+        queue.offer("item0");
+
+        assertEquals(4, queue.offerAll(Arrays.asList("item1", "item2", "item3", "item4", "item5", "item6")));
+        assertEquals(5, queue.size());
+        assertEquals(0, queue.offerAll(Arrays.asList("item5")));
+        for (int i = 0; i < 5; i++) {
+            assertEquals("item" + i, queue.poll());
+        }
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testOfferAll_withPrefetch() throws Exception {
+        HazelcastInstance instance = createHazelcastInstance(newConfig(3));
+        IQueue<String> queue = instance.getQueue(prefetchQueueName());
+
+        assertEquals(4, queue.offerAll(Arrays.asList("item0", "item1", "item2", "item3")));
+        for (int i = 0; i < 4; i++) {
+            assertEquals("item" + i, queue.poll(10, TimeUnit.SECONDS));
+        }
+    }
+
+    private static Config newConfig(int prefetchCount) {
+        Config config = new Config();
+        config.addQueueConfig(new QueueConfig().setName(QUEUE_NAME).setPrefetchCount(prefetchCount));
+        return config;
+    }
+
+    private static String prefetchQueueName() {
+        return "prefetch" + randomString();
+    }
+}
@@ -0,0 +1,95 @@
+package com.hazelcast.concurrent.idgen;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.IdGeneratorConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.IAtomicLong;
+import com.hazelcast.core.IdGenerator;
+import com.hazelcast.test.AssertTask;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static com.hazelcast.concurrent.idgen.IdGeneratorService.ATOMIC_LONG_NAME;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category(QuickTest.class)
+public class IdGeneratorPrefetchTest extends HazelcastTestSupport {
+
+    private static final int BLOCK_SIZE = 2 * IdGeneratorConfig.BLOCK_SIZE_UNIT;
+
+    @Test
+    public void testNextBlockIsPrefetched() {
+        String name = randomString();
+        HazelcastInstance hz = createHazelcastInstance(newConfig(name, 50));
+        IdGenerator idGenerator = hz.getIdGenerator(name);
+        final IAtomicLong blockGenerator = hz.getAtomicLong(ATOMIC_LONG_NAME + name);
+
+        for (int k = 0; k <= BLOCK_SIZE / 2; k++) {
+            assertEquals(k, idGenerator.newId());
+        }
+
+        assertTrueEventually(new AssertTask() {
+            @Override
+            public void run() throws Exception {
+                assertEquals(4, blockGenerator.get());
+            }
+        });
+    }
+
+    @Test
+    public void testGeneratingMultipleBlocks_whenPrefetching() {
+        String name = randomString();
+        HazelcastInstance hz = createHazelcastInstance(newConfig(name, 50));
+        IdGenerator idGenerator = hz.getIdGenerator(name);
+
+        for (int k = 0; k < 3 * BLOCK_SIZE; k++) {
+            assertEquals(k, idGenerator.newId());
+        }
+    }
+
+    @Test
+    public void testNoPrefetch_whenDisabled() {
+        String name = randomString();
+        HazelcastInstance hz = createHazelcastInstance(newConfig(name, 0));
+        IdGenerator idGenerator = hz.getIdGenerator(name);
+        IAtomicLong blockGenerator = hz.getAtomicLong(ATOMIC_LONG_NAME + name);
+
+        for (int k = 0; k < BLOCK_SIZE; k++) {
+            idGenerator.newId();
+        }
+
+        assertEquals(2, blockGenerator.get());
+    }
+
+    @Test
+    public void testIdsAreUnique_whenMembersUseDifferentBlockSizes() {
+        String name = randomString();
+        HazelcastInstance[] instances = createHazelcastInstanceFactory(2).newInstances(newConfig(name, 50));
+        IdGenerator bigBlocks = instances[0].getIdGenerator(name);
+        IdGenerator defaultBlocks = new IdGeneratorProxy(instances[1].getAtomicLong(ATOMIC_LONG_NAME + name),
+                name, null, null);
+
+        Set<Long> ids = new HashSet<Long>();
+        for (int k = 0; k < 2 * BLOCK_SIZE; k++) {
+            assertTrue(ids.add(bigBlocks.newId()));
+            assertTrue(ids.add(defaultBlocks.newId()));
+        }
+    }
+
+    private static Config newConfig(String name, int prefetchPercentage) {
+        Config config = new Config();
+        config.getIdGeneratorConfig(name)
+                .setBlockSize(BLOCK_SIZE)
+                .setPrefetchPercentage(prefetchPercentage);
+        return config;
+    }
+}
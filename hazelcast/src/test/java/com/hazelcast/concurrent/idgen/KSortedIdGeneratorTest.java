@@ -0,0 +1,112 @@
+package com.hazelcast.concurrent.idgen;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.IdGeneratorConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.IdGenerator;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.QuickTest;
+import com.hazelcast.util.Clock;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static com.hazelcast.concurrent.idgen.KSortedIdGeneratorProxy.EPOCH;
+import static com.hazelcast.concurrent.idgen.KSortedIdGeneratorProxy.GENERATOR_ID_BITS;
+import static com.hazelcast.concurrent.idgen.KSortedIdGeneratorProxy.SEQUENCE_BITS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category(QuickTest.class)
+public class KSortedIdGeneratorTest extends HazelcastTestSupport {
+
+    @Test
+    public void testInit_notSupported() {
+        String name = randomString();
+        HazelcastInstance hz = createHazelcastInstance(newConfig(name));
+        IdGenerator idGenerator = hz.getIdGenerator(name);
+
+        assertTrue(idGenerator instanceof KSortedIdGeneratorProxy);
+        assertFalse(idGenerator.init(10));
+    }
+
+    @Test
+    public void testIdsAreIncreasing() {
+        String name = randomString();
+        HazelcastInstance hz = createHazelcastInstance(newConfig(name));
+        IdGenerator idGenerator = hz.getIdGenerator(name);
+
+        long previous = idGenerator.newId();
+        for (int k = 0; k < 100000; k++) {
+            long id = idGenerator.newId();
+            assertTrue(id > previous);
+            previous = id;
+        }
+    }
+
+    @Test
+    public void testIdContainsTimestamp() {
+        String name = randomString();
+        HazelcastInstance hz = createHazelcastInstance(newConfig(name));
+        IdGenerator idGenerator = hz.getIdGenerator(name);
+
+        long before = Clock.currentTimeMillis() - EPOCH;
+        long timestamp = idGenerator.newId() >>> (GENERATOR_ID_BITS + SEQUENCE_BITS);
+        long after = Clock.currentTimeMillis() - EPOCH;
+
+        assertTrue(timestamp >= before);
+        assertTrue(timestamp <= after);
+    }
+
+    @Test
+    public void testIdsAreUnique_acrossMembers() {
+        String name = randomString();
+        HazelcastInstance[] instances = createHazelcastInstanceFactory(2).newInstances(newConfig(name));
+        IdGenerator idGenerator1 = instances[0].getIdGenerator(name);
+        IdGenerator idGenerator2 = instances[1].getIdGenerator(name);
+
+        Set<Long> ids = new HashSet<Long>();
+        for (int k = 0; k < 10000; k++) {
+            assertTrue(ids.add(idGenerator1.newId()));
+            assertTrue(ids.add(idGenerator2.newId()));
+        }
+    }
+
+    @Test
+    public void testNewId_whenGeneratorIdsUsedUp_thenFails() {
+        String name = randomString();
+        HazelcastInstance hz = createHazelcastInstance(newConfig(name));
+        hz.getAtomicLong(IdGeneratorService.GENERATOR_ID_ATOMIC_LONG_NAME + name).set(1 << GENERATOR_ID_BITS);
+        IdGenerator idGenerator = hz.getIdGenerator(name);
+
+        try {
+            idGenerator.newId();
+            fail();
+        } catch (IllegalStateException expected) {
+        }
+    }
+
+    @Test
+    public void testNewId_whenLastGeneratorId() {
+        String name = randomString();
+        HazelcastInstance hz = createHazelcastInstance(newConfig(name));
+        hz.getAtomicLong(IdGeneratorService.GENERATOR_ID_ATOMIC_LONG_NAME + name).set((1 << GENERATOR_ID_BITS) - 1);
+        IdGenerator idGenerator = hz.getIdGenerator(name);
+
+        long generatorId = (idGenerator.newId() >>> SEQUENCE_BITS) & ((1 << GENERATOR_ID_BITS) - 1);
+        assertEquals((1 << GENERATOR_ID_BITS) - 1, generatorId);
+    }
+
+    private static Config newConfig(String name) {
+        Config config = new Config();
+        config.getIdGeneratorConfig(name).setMode(IdGeneratorConfig.Mode.K_SORTED);
+        return config;
+    }
+}
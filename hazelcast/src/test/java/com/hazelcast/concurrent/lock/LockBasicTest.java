@@ -345,6 +345,18 @@ public abstract class LockBasicTest extends HazelcastTestSupport {
         assertTrue(lock.isLocked());
     }
 
+    @Test(timeout = 60000)
+    public void testLockLeaseTime_whenRelockedWithoutLease_thenLeaseNotApplied() {
+        lock.lock(1000, TimeUnit.MILLISECONDS);
+        lock.unlock();
+
+        lock.lock();
+        sleepMillis(2000);
+
+        assertTrue(lock.isLockedByCurrentThread());
+        assertEquals(Long.MAX_VALUE, lock.getRemainingLeaseTime());
+    }
+
 
     // =======================================================================
 
@@ -28,6 +28,7 @@ public class ReliableTopicConfigTest {
 
         assertNull(config.getExecutor());
         assertEquals(DEFAULT_READ_BATCH_SIZE, config.getReadBatchSize());
+        assertEquals(DEFAULT_READ_AHEAD_COUNT, config.getReadAheadCount());
         assertEquals("foo", config.getName());
         assertEquals(DEFAULT_TOPIC_OVERLOAD_POLICY, config.getTopicOverloadPolicy());
         assertEquals(DEFAULT_STATISTICS_ENABLED, config.isStatisticsEnabled());
@@ -39,6 +40,7 @@ public class ReliableTopicConfigTest {
                 .setTopicOverloadPolicy(TopicOverloadPolicy.ERROR)
                 .setExecutor(mock(Executor.class))
                 .setReadBatchSize(1)
+                .setReadAheadCount(3)
                 .setStatisticsEnabled(!DEFAULT_STATISTICS_ENABLED);
 
         ReliableTopicConfig copy = new ReliableTopicConfig(original, "copy");
@@ -46,6 +48,7 @@ public class ReliableTopicConfigTest {
         assertEquals("copy", copy.getName());
         assertSame(original.getExecutor(), copy.getExecutor());
         assertEquals(original.getReadBatchSize(), copy.getReadBatchSize());
+        assertEquals(original.getReadAheadCount(), copy.getReadAheadCount());
         assertEquals(original.isStatisticsEnabled(), copy.isStatisticsEnabled());
         assertEquals(original.getTopicOverloadPolicy(),copy.getTopicOverloadPolicy());
     }
@@ -56,6 +59,7 @@ public class ReliableTopicConfigTest {
                 .setTopicOverloadPolicy(TopicOverloadPolicy.ERROR)
                 .setExecutor(mock(Executor.class))
                 .setReadBatchSize(1)
+                .setReadAheadCount(3)
                 .setStatisticsEnabled(!DEFAULT_STATISTICS_ENABLED);
 
         ReliableTopicConfig copy = new ReliableTopicConfig(original);
@@ -63,6 +67,7 @@ public class ReliableTopicConfigTest {
         assertEquals(original.getName(), copy.getName());
         assertSame(original.getExecutor(), copy.getExecutor());
         assertEquals(original.getReadBatchSize(), copy.getReadBatchSize());
+        assertEquals(original.getReadAheadCount(), copy.getReadAheadCount());
         assertEquals(original.isStatisticsEnabled(), copy.isStatisticsEnabled());
         assertEquals(original.getTopicOverloadPolicy(),copy.getTopicOverloadPolicy());
     }
@@ -99,6 +104,22 @@ public class ReliableTopicConfigTest {
         config.setReadBatchSize(-1);
     }
 
+    // ==================== setReadAheadCount =============================\
+
+    @Test
+    public void setReadAheadCount() {
+        ReliableTopicConfig config = new ReliableTopicConfig("foo");
+        config.setReadAheadCount(5);
+
+        assertEquals(5, config.getReadAheadCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setReadAheadCount_whenZero() {
+        ReliableTopicConfig config = new ReliableTopicConfig("foo");
+        config.setReadAheadCount(0);
+    }
+
     // ==================== setStatisticsEnabled =============================\
 
     @Test
@@ -184,6 +184,48 @@ public class RingbufferConfigTest {
         assertEquals(InMemoryFormat.OBJECT, config.getInMemoryFormat());
     }
 
+    // ================== arenaSize =================================
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setArenaSize_whenNegative() {
+        RingbufferConfig config = new RingbufferConfig(NAME);
+
+        config.setArenaSize(-1);
+    }
+
+    @Test
+    public void setArenaSize() {
+        RingbufferConfig config = new RingbufferConfig(NAME);
+
+        RingbufferConfig returned = config.setArenaSize(1024);
+
+        assertSame(config, returned);
+        assertEquals(1024, config.getArenaSize());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setArenaSize_whenObjectInMemoryFormat() {
+        RingbufferConfig config = new RingbufferConfig(NAME).setInMemoryFormat(InMemoryFormat.OBJECT);
+
+        config.setArenaSize(1024);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void setInMemoryFormat_whenArena() {
+        RingbufferConfig config = new RingbufferConfig(NAME).setArenaSize(1024);
+
+        config.setInMemoryFormat(InMemoryFormat.OBJECT);
+    }
+
+    @Test
+    public void setInMemoryFormat_whenArenaDisabled() {
+        RingbufferConfig config = new RingbufferConfig(NAME).setArenaSize(1024).setArenaSize(0);
+
+        config.setInMemoryFormat(InMemoryFormat.OBJECT);
+
+        assertEquals(InMemoryFormat.OBJECT, config.getInMemoryFormat());
+    }
+
     // ==================== toString ================================
 
     @Test
@@ -193,7 +235,7 @@ public class RingbufferConfigTest {
         String s = config.toString();
 
         assertEquals("RingbufferConfig{name='someringbuffer', capacity=10000, backupCount=1, " +
-                "asyncBackupCount=0, timeToLiveSeconds=0, inMemoryFormat=BINARY}", s);
+                "asyncBackupCount=0, timeToLiveSeconds=0, inMemoryFormat=BINARY, arenaSize=0}", s);
     }
 
     // =================== getAsReadOnly ============================
@@ -201,7 +243,7 @@ public class RingbufferConfigTest {
     @Test
     public void getAsReadOnly() {
         RingbufferConfig original = new RingbufferConfig(NAME);
-        original.setBackupCount(2).setAsyncBackupCount(1).setCapacity(10).setTimeToLiveSeconds(400);
+        original.setBackupCount(2).setAsyncBackupCount(1).setCapacity(10).setTimeToLiveSeconds(400).setArenaSize(1024);
 
         RingbufferConfig readonly = original.getAsReadOnly();
         assertNotNull(readonly);
@@ -212,6 +254,7 @@ public class RingbufferConfigTest {
         assertEquals(original.getCapacity(), readonly.getCapacity());
         assertEquals(original.getTimeToLiveSeconds(), readonly.getTimeToLiveSeconds());
         assertEquals(original.getInMemoryFormat(), readonly.getInMemoryFormat());
+        assertEquals(original.getArenaSize(), readonly.getArenaSize());
 
         try {
             readonly.setCapacity(10);
@@ -242,5 +285,11 @@ public class RingbufferConfigTest {
             fail();
         } catch (UnsupportedOperationException expected) {
         }
+
+        try {
+            readonly.setArenaSize(1024);
+            fail();
+        } catch (UnsupportedOperationException expected) {
+        }
     }
 }
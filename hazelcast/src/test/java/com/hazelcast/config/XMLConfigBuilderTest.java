@@ -259,12 +259,51 @@ public class XMLConfigBuilderTest extends HazelcastTestSupport {
         assertEquals(10, customConfig.getInitialPermits());
     }
 
+    @Test
+    public void readIdGeneratorConfig() {
+        String xml =
+                "<hazelcast>\n" +
+                        "    <id-generator name=\"custom\">\n" +
+                        "        <block-size>50000</block-size>\n" +
+                        "        <prefetch-percentage>25</prefetch-percentage>\n" +
+                        "    </id-generator>" +
+                        "    <id-generator name=\"sorted\">\n" +
+                        "        <mode>K_SORTED</mode>\n" +
+                        "    </id-generator>" +
+                        "</hazelcast>";
+        Config config = buildConfig(xml);
+        IdGeneratorConfig customConfig = config.getIdGeneratorConfig("custom");
+        IdGeneratorConfig sortedConfig = config.getIdGeneratorConfig("sorted");
+        assertEquals(50000, customConfig.getBlockSize());
+        assertEquals(25, customConfig.getPrefetchPercentage());
+        assertEquals(IdGeneratorConfig.Mode.BLOCK, customConfig.getMode());
+        assertEquals(IdGeneratorConfig.DEFAULT_BLOCK_SIZE, sortedConfig.getBlockSize());
+        assertEquals(IdGeneratorConfig.Mode.K_SORTED, sortedConfig.getMode());
+    }
+
+    @Test
+    public void readQueueConfig() {
+        String xml =
+                "<hazelcast>\n" +
+                        "    <queue name=\"custom\">\n" +
+                        "        <max-size>100</max-size>\n" +
+                        "        <prefetch-count>50</prefetch-count>\n" +
+                        "    </queue>" +
+                        "</hazelcast>";
+        Config config = buildConfig(xml);
+        QueueConfig queueConfig = config.getQueueConfig("custom");
+        assertEquals(100, queueConfig.getMaxSize());
+        assertEquals(50, queueConfig.getPrefetchCount());
+        assertEquals(QueueConfig.DEFAULT_PREFETCH_COUNT, config.getQueueConfig("default").getPrefetchCount());
+    }
+
     @Test
     public void readReliableTopic() {
         String xml =
                 "<hazelcast>\n" +
                         "    <reliable-topic name=\"custom\">\n" +
                         "           <read-batch-size>35</read-batch-size>\n" +
+                        "           <read-ahead-count>4</read-ahead-count>\n" +
                         "           <statistics-enabled>false</statistics-enabled>\n" +
                         "           <topic-overload-policy>DISCARD_OLDEST</topic-overload-policy>\n" +
                         "           <message-listeners>" +
@@ -278,6 +317,7 @@ public class XMLConfigBuilderTest extends HazelcastTestSupport {
         ReliableTopicConfig topicConfig = config.getReliableTopicConfig("custom");
 
         assertEquals(35, topicConfig.getReadBatchSize());
+        assertEquals(4, topicConfig.getReadAheadCount());
         assertFalse(topicConfig.isStatisticsEnabled());
         assertEquals(TopicOverloadPolicy.DISCARD_OLDEST, topicConfig.getTopicOverloadPolicy());
 
@@ -299,6 +339,7 @@ public class XMLConfigBuilderTest extends HazelcastTestSupport {
                         "        <async-backup-count>1</async-backup-count>\n" +
                         "        <time-to-live-seconds>9</time-to-live-seconds>\n" +
                         "        <in-memory-format>OBJECT</in-memory-format>\n" +
+                        "        <arena-size>4096</arena-size>\n" +
                         "    </ringbuffer>" +
                         "</hazelcast>";
         Config config = buildConfig(xml);
@@ -308,6 +349,7 @@ public class XMLConfigBuilderTest extends HazelcastTestSupport {
         assertEquals(1, ringbufferConfig.getAsyncBackupCount());
         assertEquals(9, ringbufferConfig.getTimeToLiveSeconds());
         assertEquals(InMemoryFormat.OBJECT, ringbufferConfig.getInMemoryFormat());
+        assertEquals(4096, ringbufferConfig.getArenaSize());
     }
 
     @Test
@@ -507,6 +549,19 @@ public class XMLConfigBuilderTest extends HazelcastTestSupport {
         assertFalse(mapConfig.isOptimizeQueries());
     }
 
+    @Test
+    public void testMapConfig_hotRestartEnabled() {
+        String xml =
+                "<hazelcast>" +
+                        "<map name=\"mymap\">" +
+                        "<hot-restart-enabled>true</hot-restart-enabled>" +
+                        "</map>" +
+                        "</hazelcast>";
+        final Config config = buildConfig(xml);
+        assertTrue(config.getMapConfig("mymap").isHotRestartEnabled());
+        assertFalse(config.getMapConfig("othermap").isHotRestartEnabled());
+    }
+
     @Test
     public void testMapStoreInitialModeEager() {
         String xml =
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hazelcast.executor;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.ExecutionCallback;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.HazelcastInstanceAware;
+import com.hazelcast.core.ICompletableFuture;
+import com.hazelcast.core.IExecutorService;
+import com.hazelcast.core.Member;
+import com.hazelcast.core.PartitionAware;
+import com.hazelcast.instance.GroupProperties;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category(QuickTest.class)
+public class ExecutorServiceBulkSubmitTest extends ExecutorServiceTestSupport {
+
+    private static final int NODE_COUNT = 3;
+    private static final int TASK_COUNT = 1000;
+
+    private HazelcastInstance[] instances;
+    private IExecutorService executorService;
+
+    @Before
+    public void setup() {
+        Config config = new Config();
+        config.setProperty(GroupProperties.PROP_EXECUTOR_BULK_BATCH_SIZE, "10");
+        instances = createHazelcastInstanceFactory(NODE_COUNT).newInstances(config);
+        warmUpPartitions(instances);
+        waitAllForSafeState(instances);
+        executorService = instances[0].getExecutorService(randomString());
+    }
+
+    @Test
+    public void testSubmitAll_executesTasksOnKeyOwners() throws Exception {
+        List<KeyOwnerTask> tasks = new ArrayList<KeyOwnerTask>(TASK_COUNT);
+        for (int i = 0; i < TASK_COUNT; i++) {
+            tasks.add(new KeyOwnerTask("key" + i));
+        }
+
+        List<Future<Member>> futures = executorService.submitAll(tasks);
+
+        assertEquals(TASK_COUNT, futures.size());
+        for (int i = 0; i < TASK_COUNT; i++) {
+            Member owner = instances[0].getPartitionService().getPartition("key" + i).getOwner();
+            assertEquals(owner, futures.get(i).get());
+        }
+    }
+
+    @Test
+    public void testSubmitAll_whenTaskFails_thenOnlyItsFutureFails() throws Exception {
+        List<Callable<String>> tasks = new ArrayList<Callable<String>>();
+        tasks.add(new BasicTestTask());
+        tasks.add(new FailingTestTask());
+        tasks.add(new BasicTestTask());
+
+        List<Future<String>> futures = executorService.submitAll(tasks);
+
+        assertEquals(BasicTestTask.RESULT, futures.get(0).get());
+        try {
+            futures.get(1).get();
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+        assertEquals(BasicTestTask.RESULT, futures.get(2).get());
+    }
+
+    @Test
+    public void testSubmitAll_andThen() throws Exception {
+        List<Callable<String>> tasks = new ArrayList<Callable<String>>();
+        for (int i = 0; i < 100; i++) {
+            tasks.add(new BasicTestTask());
+        }
+        final CountDownLatch latch = new CountDownLatch(tasks.size());
+        final AtomicInteger responses = new AtomicInteger();
+
+        for (Future<String> future : executorService.submitAll(tasks)) {
+            ((ICompletableFuture<String>) future).andThen(new ExecutionCallback<String>() {
+                @Override
+                public void onResponse(String response) {
+                    if (BasicTestTask.RESULT.equals(response)) {
+                        responses.incrementAndGet();
+                    }
+                    latch.countDown();
+                }
+
+                @Override
+                public void onFailure(Throwable t) {
+                    latch.countDown();
+                }
+            });
+        }
+
+        assertOpenEventually(latch);
+        assertEquals(tasks.size(), responses.get());
+    }
+
+    @Test
+    public void testSubmitAll_whenNoTasks() {
+        List<Future<String>> futures = executorService.submitAll(Collections.<Callable<String>>emptyList());
+
+        assertTrue(futures.isEmpty());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testSubmitAll_whenNullTask() {
+        executorService.submitAll(Collections.<Callable<String>>singletonList(null));
+    }
+
+    static class KeyOwnerTask implements Callable<Member>, Serializable, PartitionAware, HazelcastInstanceAware {
+        private final String key;
+        private transient HazelcastInstance instance;
+
+        KeyOwnerTask(String key) {
+            this.key = key;
+        }
+
+        @Override
+        public Member call() {
+            return instance.getCluster().getLocalMember();
+        }
+
+        @Override
+        public Object getPartitionKey() {
+            return key;
+        }
+
+        @Override
+        public void setHazelcastInstance(HazelcastInstance hazelcastInstance) {
+            instance = hazelcastInstance;
+        }
+    }
+}
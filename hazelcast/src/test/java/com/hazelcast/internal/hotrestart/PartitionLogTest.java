@@ -0,0 +1,242 @@
+package com.hazelcast.internal.hotrestart;
+
+import com.hazelcast.logging.ILogger;
+import com.hazelcast.logging.Logger;
+import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.nio.serialization.DefaultSerializationServiceBuilder;
+import com.hazelcast.nio.serialization.SerializationService;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category(QuickTest.class)
+public class PartitionLogTest {
+
+    private static final int SEGMENT_SIZE = 128;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private SerializationService serializationService;
+    private ILogger logger;
+    private File dir;
+
+    @Before
+    public void setUp() throws IOException {
+        serializationService = new DefaultSerializationServiceBuilder().build();
+        logger = Logger.getLogger(PartitionLogTest.class);
+        dir = folder.newFolder("partition");
+    }
+
+    @Test
+    public void testRecover_afterRestart() throws IOException {
+        PartitionLog log = newLog();
+        for (int i = 0; i < 100; i++) {
+            log.put(data(i), data("value" + i), i);
+        }
+        log.remove(data(5));
+        log.put(data(6), data("updated"), 1000);
+        log.close();
+
+        PartitionLog restarted = newLog();
+        assertTrue(restarted.hasRecoveredData());
+        Map<Object, RecoveredRecord> recovered = toMap(restarted.readRecovered());
+
+        assertEquals(99, recovered.size());
+        assertFalse(recovered.containsKey(5));
+        assertEquals("value7", object(recovered.get(7).getValue()));
+        assertEquals(7, recovered.get(7).getVersion());
+        assertEquals("updated", object(recovered.get(6).getValue()));
+        assertEquals(1000, recovered.get(6).getVersion());
+    }
+
+    @Test
+    public void testRecover_afterCompaction() throws IOException {
+        PartitionLog log = newLog();
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 50; i++) {
+                log.put(data(i), data("value" + round), round);
+            }
+            log.compact();
+        }
+        log.remove(data(0));
+        log.close();
+
+        PartitionLog restarted = newLog();
+        Map<Object, RecoveredRecord> recovered = toMap(restarted.readRecovered());
+
+        assertEquals(49, recovered.size());
+        for (int i = 1; i < 50; i++) {
+            assertEquals("value4", object(recovered.get(i).getValue()));
+        }
+    }
+
+    @Test
+    public void testRecover_afterCompaction_whenRemovedEntryInPreviousRun() throws IOException {
+        PartitionLog log = newLog();
+        log.put(data(0), data("value"), 1);
+        log.close();
+
+        PartitionLog restarted = newLog();
+        restarted.remove(data(0));
+        for (int i = 1; i < 50; i++) {
+            restarted.put(data(i), data("value" + i), i);
+        }
+        restarted.flush();
+        int filesBefore = countFiles();
+        restarted.compact();
+        assertTrue(countFiles() < filesBefore);
+        restarted.close();
+
+        Map<Object, RecoveredRecord> recovered = toMap(newLog().readRecovered());
+
+        assertEquals(49, recovered.size());
+        assertFalse(recovered.containsKey(0));
+    }
+
+    @Test
+    public void testCompaction_mergesSegments() {
+        PartitionLog log = newLog();
+        for (int i = 0; i < 100; i++) {
+            log.put(data(0), data("value" + i), i);
+        }
+        log.flush();
+        int filesBefore = countFiles();
+
+        log.compact();
+
+        assertTrue(countFiles() < filesBefore);
+        log.close();
+    }
+
+    @Test
+    public void testClear_removesDataOfThisRun() throws IOException {
+        PartitionLog log = newLog();
+        for (int i = 0; i < 100; i++) {
+            log.put(data(i), data("value" + i), i);
+        }
+        log.clear();
+        log.put(data(1000), data("value"), 1);
+        log.close();
+
+        PartitionLog restarted = newLog();
+        Map<Object, RecoveredRecord> recovered = toMap(restarted.readRecovered());
+
+        assertEquals(1, recovered.size());
+        assertTrue(recovered.containsKey(1000));
+    }
+
+    @Test
+    public void testDiscardRecovered() throws IOException {
+        PartitionLog log = newLog();
+        log.put(data(1), data("value"), 1);
+        log.close();
+
+        PartitionLog restarted = newLog();
+        assertTrue(restarted.startRecovery());
+        assertFalse(restarted.startRecovery());
+        restarted.endRecovery(true);
+        restarted.close();
+
+        assertFalse(newLog().hasRecoveredData());
+    }
+
+    @Test
+    public void testFailedRecovery_keepsData() throws IOException {
+        PartitionLog log = newLog();
+        log.put(data(1), data("value"), 1);
+        log.close();
+
+        PartitionLog restarted = newLog();
+        assertTrue(restarted.startRecovery());
+        restarted.endRecovery(false);
+        restarted.close();
+
+        PartitionLog again = newLog();
+        assertEquals(1, again.readRecovered().size());
+    }
+
+    @Test
+    public void testQueuedMutations_areOnlyWrittenByWriter() throws IOException {
+        BlockingQueue<PartitionLog.Mutation> queue = new LinkedBlockingQueue<PartitionLog.Mutation>();
+        PartitionLog log = new PartitionLog(dir, 0, SEGMENT_SIZE, logger, queue, 0);
+        log.put(data(1), data("value"), 1);
+        log.put(data(2), data("value"), 2);
+        log.remove(data(1));
+
+        assertEquals(3, queue.size());
+        assertEquals(0, countFiles());
+
+        for (PartitionLog.Mutation mutation : queue) {
+            mutation.log.write(mutation);
+        }
+        log.close();
+
+        Map<Object, RecoveredRecord> recovered = toMap(newLog().readRecovered());
+        assertEquals(1, recovered.size());
+        assertEquals(2, recovered.get(2).getVersion());
+    }
+
+    @Test
+    public void testQueuedMutations_areDroppedWhenQueueFull() {
+        BlockingQueue<PartitionLog.Mutation> queue = new LinkedBlockingQueue<PartitionLog.Mutation>(1);
+        PartitionLog log = new PartitionLog(dir, 0, SEGMENT_SIZE, logger, queue, 10);
+        log.put(data(1), data("value"), 1);
+        log.put(data(2), data("value"), 2);
+        log.remove(data(1));
+
+        assertEquals(1, queue.size());
+        assertEquals(2, log.getDroppedMutationCount());
+        log.close();
+    }
+
+    private PartitionLog newLog() {
+        return new PartitionLog(dir, 0, SEGMENT_SIZE, logger);
+    }
+
+    private int countFiles() {
+        int count = 0;
+        File[] epochs = dir.listFiles();
+        if (epochs == null) {
+            return 0;
+        }
+        for (File epoch : epochs) {
+            count += epoch.listFiles().length;
+        }
+        return count;
+    }
+
+    private Map<Object, RecoveredRecord> toMap(Collection<RecoveredRecord> records) {
+        Map<Object, RecoveredRecord> map = new HashMap<Object, RecoveredRecord>();
+        for (RecoveredRecord record : records) {
+            map.put(object(record.getKey()), record);
+        }
+        return map;
+    }
+
+    private Data data(Object object) {
+        return serializationService.toData(object);
+    }
+
+    private Object object(Data data) {
+        return serializationService.toObject(data);
+    }
+}
@@ -0,0 +1,128 @@
+package com.hazelcast.internal.metrics;
+
+import com.hazelcast.internal.metrics.impl.MetricsRegistryImpl;
+import com.hazelcast.logging.Logger;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(QuickTest.class)
+public class LatencyHistogramTest {
+
+    private LatencyHistogram histogram;
+
+    @Before
+    public void setup() {
+        histogram = new LatencyHistogram();
+    }
+
+    @Test
+    public void whenEmpty() {
+        assertEquals(0, histogram.count());
+        assertEquals(0, histogram.meanMicros());
+        assertEquals(0, histogram.maxMicros());
+        assertEquals(0, histogram.percentileMicros(99));
+    }
+
+    @Test
+    public void bucketIndex_isMonotonicAndWithinRelativeError() {
+        int previous = -1;
+        for (long micros = 0; micros < 1 << 20; micros++) {
+            int bucket = LatencyHistogram.bucketIndex(micros);
+            long highest = LatencyHistogram.highestEquivalentValue(bucket);
+
+            assertTrue(bucket >= previous);
+            assertTrue(micros <= highest);
+            assertTrue(highest - micros <= micros / LatencyHistogram.SUB_BUCKET_COUNT);
+            previous = bucket;
+        }
+    }
+
+    @Test
+    public void bucketIndex_whenTooLarge_thenLastBucket() {
+        assertEquals(LatencyHistogram.BUCKET_COUNT - 1, LatencyHistogram.bucketIndex(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void recordNanos_whenNegative_thenRecordedAsZero() {
+        histogram.recordNanos(-10);
+
+        assertEquals(1, histogram.count());
+        assertEquals(0, histogram.maxMicros());
+    }
+
+    @Test
+    public void percentiles() {
+        for (int micros = 1; micros <= 1000; micros++) {
+            histogram.recordNanos(TimeUnit.MICROSECONDS.toNanos(micros));
+        }
+
+        assertEquals(1000, histogram.count());
+        assertEquals(500, histogram.meanMicros());
+        assertEquals(511, histogram.percentileMicros(50));
+        assertEquals(1023, histogram.percentileMicros(99));
+        assertEquals(1023, histogram.maxMicros());
+        assertEquals(1, histogram.percentileMicros(0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void percentile_whenTooLarge() {
+        histogram.percentileMicros(101);
+    }
+
+    @Test
+    public void recordNanos_fromManyThreads() throws InterruptedException {
+        final int threadCount = 8;
+        final int iterations = 10000;
+        final CountDownLatch done = new CountDownLatch(threadCount);
+        for (int k = 0; k < threadCount; k++) {
+            new Thread() {
+                public void run() {
+                    for (int i = 0; i < iterations; i++) {
+                        histogram.recordNanos(TimeUnit.MICROSECONDS.toNanos(100));
+                    }
+                    done.countDown();
+                }
+            }.start();
+        }
+        done.await();
+
+        assertEquals(threadCount * iterations, histogram.count());
+        assertEquals(100, histogram.meanMicros());
+        assertEquals(threadCount, histogram.stripeCount());
+    }
+
+    @Test
+    public void recordNanos_fromSameThread_thenSingleStripe() {
+        for (int k = 0; k < 100; k++) {
+            histogram.recordNanos(TimeUnit.MICROSECONDS.toNanos(k));
+        }
+
+        assertEquals(1, histogram.stripeCount());
+        assertEquals(100, histogram.count());
+    }
+
+    @Test
+    public void register() {
+        MetricsRegistry metricsRegistry = new MetricsRegistryImpl(Logger.getLogger(MetricsRegistryImpl.class));
+        LatencyHistograms histograms = new LatencyHistograms(metricsRegistry, "operation", "execution");
+
+        histograms.recordNanos(String.class, TimeUnit.MILLISECONDS.toNanos(1));
+        histograms.recordNanos(String.class, TimeUnit.MILLISECONDS.toNanos(1));
+
+        String name = "operation[java.lang.String].execution";
+        assertEquals(2, metricsRegistry.getGauge(name + ".count").readLong());
+        assertEquals(LatencyHistogram.highestEquivalentValue(LatencyHistogram.bucketIndex(1000)),
+                metricsRegistry.getGauge(name + ".p99Micros").readLong());
+    }
+}
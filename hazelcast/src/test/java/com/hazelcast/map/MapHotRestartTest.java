@@ -0,0 +1,94 @@
+package com.hazelcast.map;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.IMap;
+import com.hazelcast.instance.GroupProperties;
+import com.hazelcast.instance.HazelcastInstanceFactory;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.SlowTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(SlowTest.class)
+public class MapHotRestartTest extends HazelcastTestSupport {
+
+    private static final int ENTRY_COUNT = 1000;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private String mapName;
+    private Config config;
+
+    @Before
+    public void setUp() throws Exception {
+        HazelcastInstanceFactory.terminateAll();
+        mapName = randomMapName();
+        config = new Config();
+        config.setProperty(GroupProperties.PROP_HOT_RESTART_BASE_DIR, folder.newFolder("hot-restart").getAbsolutePath());
+        config.getGroupConfig().setName(generateRandomString(10));
+        config.getMapConfig(mapName).setHotRestartEnabled(true);
+    }
+
+    @After
+    public void tearDown() {
+        HazelcastInstanceFactory.terminateAll();
+    }
+
+    @Test
+    public void testMapSurvivesRestart() {
+        HazelcastInstance hz = Hazelcast.newHazelcastInstance(config);
+        IMap<Integer, String> map = hz.getMap(mapName);
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, "value" + i);
+        }
+        map.remove(0);
+        map.put(1, "updated");
+        hz.shutdown();
+
+        hz = Hazelcast.newHazelcastInstance(config);
+        IMap<Integer, String> restarted = hz.getMap(mapName);
+
+        assertSizeEventually(ENTRY_COUNT - 1, restarted);
+        assertFalse(restarted.containsKey(0));
+        assertEquals("updated", restarted.get(1));
+        for (int i = 2; i < ENTRY_COUNT; i++) {
+            assertEquals("value" + i, restarted.get(i));
+        }
+    }
+
+    @Test
+    public void testMapSurvivesSecondRestart() {
+        HazelcastInstance hz = Hazelcast.newHazelcastInstance(config);
+        IMap<Integer, String> map = hz.getMap(mapName);
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            map.put(i, "value" + i);
+        }
+        hz.shutdown();
+
+        hz = Hazelcast.newHazelcastInstance(config);
+        IMap<Integer, String> restarted = hz.getMap(mapName);
+        assertSizeEventually(ENTRY_COUNT, restarted);
+        restarted.remove(0);
+        hz.shutdown();
+
+        hz = Hazelcast.newHazelcastInstance(config);
+        IMap<Integer, String> restartedAgain = hz.getMap(mapName);
+
+        assertSizeEventually(ENTRY_COUNT - 1, restartedAgain);
+        assertFalse(restartedAgain.containsKey(0));
+        assertEquals("value1", restartedAgain.get(1));
+    }
+}
@@ -1353,4 +1353,58 @@ public class MapTransactionTest extends HazelcastTestSupport {
             }
         });
     }
+
+    @Test
+    public void testCommit_manyKeysPerPartition_areCommittedAndBackedUp() {
+        Config config = new Config();
+        config.setProperty(GroupProperties.PROP_PARTITION_COUNT, "3");
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        HazelcastInstance h1 = factory.newHazelcastInstance(config);
+        HazelcastInstance h2 = factory.newHazelcastInstance(config);
+        final String mapName = randomMapName();
+
+        h1.executeTransaction(options, new TransactionalTask<Object>() {
+            @Override
+            public Object execute(TransactionalTaskContext context) throws TransactionException {
+                TransactionalMap<Integer, Integer> txMap = context.getMap(mapName);
+                for (int i = 0; i < 100; i++) {
+                    txMap.put(i, i);
+                }
+                for (int i = 0; i < 10; i++) {
+                    txMap.remove(i);
+                }
+                return null;
+            }
+        });
+
+        h1.getLifecycleService().terminate();
+        IMap<Integer, Integer> map = h2.getMap(mapName);
+        assertEquals(90, map.size());
+        for (int i = 10; i < 100; i++) {
+            assertEquals(i, (int) map.get(i));
+            assertFalse(map.isLocked(i));
+        }
+    }
+
+    @Test
+    public void testRollback_manyKeysPerPartition_releasesLocks() {
+        Config config = new Config();
+        config.setProperty(GroupProperties.PROP_PARTITION_COUNT, "3");
+        HazelcastInstance instance = createHazelcastInstance(config);
+        String mapName = randomMapName();
+        IMap<Integer, Integer> map = instance.getMap(mapName);
+
+        TransactionContext context = instance.newTransactionContext(options);
+        context.beginTransaction();
+        TransactionalMap<Integer, Integer> txMap = context.getMap(mapName);
+        for (int i = 0; i < 100; i++) {
+            txMap.put(i, i);
+        }
+        context.rollbackTransaction();
+
+        assertEquals(0, map.size());
+        for (int i = 0; i < 100; i++) {
+            assertFalse(map.isLocked(i));
+        }
+    }
 }
@@ -0,0 +1,77 @@
+package com.hazelcast.map.impl.mapstore.writebehind;
+
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category(QuickTest.class)
+public class AdaptiveWriteBatchSizeTest {
+
+    @Test
+    public void testInitialSize_isMaxBatchSize() {
+        AdaptiveWriteBatchSize batchSize = new AdaptiveWriteBatchSize(100, 50);
+
+        assertEquals(100, batchSize.get());
+    }
+
+    @Test
+    public void testSizeNotChanged_whenDisabled() {
+        AdaptiveWriteBatchSize batchSize = new AdaptiveWriteBatchSize(100, 0);
+
+        batchSize.update(100, 1000);
+
+        assertEquals(100, batchSize.get());
+    }
+
+    @Test
+    public void testSizeHalved_whenSlowerThanTarget() {
+        AdaptiveWriteBatchSize batchSize = new AdaptiveWriteBatchSize(100, 50);
+
+        batchSize.update(100, 60);
+        assertEquals(50, batchSize.get());
+
+        batchSize.update(50, 60);
+        assertEquals(25, batchSize.get());
+    }
+
+    @Test
+    public void testSizeNeverBelowOne() {
+        AdaptiveWriteBatchSize batchSize = new AdaptiveWriteBatchSize(2, 50);
+
+        batchSize.update(2, 60);
+        batchSize.update(1, 60);
+        batchSize.update(1, 60);
+
+        assertEquals(1, batchSize.get());
+    }
+
+    @Test
+    public void testSizeGrowsUpToMax_whenFasterThanTarget() {
+        AdaptiveWriteBatchSize batchSize = new AdaptiveWriteBatchSize(80, 50);
+        batchSize.update(80, 60);
+        assertEquals(40, batchSize.get());
+
+        batchSize.update(40, 10);
+        assertEquals(50, batchSize.get());
+
+        for (int i = 0; i < 10; i++) {
+            batchSize.update(batchSize.get(), 10);
+        }
+        assertEquals(80, batchSize.get());
+    }
+
+    @Test
+    public void testSizeNotGrown_whenBatchWasNotFull() {
+        AdaptiveWriteBatchSize batchSize = new AdaptiveWriteBatchSize(80, 50);
+        batchSize.update(80, 60);
+
+        batchSize.update(5, 10);
+
+        assertEquals(40, batchSize.get());
+    }
+}
@@ -0,0 +1,37 @@
+package com.hazelcast.map.impl.mapstore.writebehind;
+
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.hazelcast.map.impl.mapstore.writebehind.WriteBehindBackPressure.MAX_DELAY_NANOS;
+import static org.junit.Assert.assertEquals;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category(QuickTest.class)
+public class WriteBehindBackPressureTest {
+
+    private final WriteBehindBackPressure backPressure = new WriteBehindBackPressure(new AtomicInteger(), 80, 100);
+
+    @Test
+    public void testNoDelay_whenBelowHighWaterMark() {
+        assertEquals(0, backPressure.getDelayNanos(0));
+        assertEquals(0, backPressure.getDelayNanos(80));
+    }
+
+    @Test
+    public void testDelayGrows_aboveHighWaterMark() {
+        assertEquals(MAX_DELAY_NANOS / 4, backPressure.getDelayNanos(85));
+        assertEquals(MAX_DELAY_NANOS / 2, backPressure.getDelayNanos(90));
+    }
+
+    @Test
+    public void testDelayBounded_atCapacity() {
+        assertEquals(MAX_DELAY_NANOS, backPressure.getDelayNanos(100));
+        assertEquals(MAX_DELAY_NANOS, backPressure.getDelayNanos(1000));
+    }
+}
@@ -10,6 +10,7 @@ import com.hazelcast.core.MapLoader;
 import com.hazelcast.core.MapStore;
 import com.hazelcast.core.MapStoreAdapter;
 import com.hazelcast.core.MapStoreFactory;
+import com.hazelcast.instance.GroupProperties;
 import com.hazelcast.map.mapstore.writebehind.TestMapUsingMapStoreBuilder;
 import com.hazelcast.query.SqlPredicate;
 import com.hazelcast.test.AssertTask;
@@ -90,6 +91,52 @@ public class MapLoaderTest extends HazelcastTestSupport {
         }, 10);
     }
 
+    @Test
+    public void testInitialLoad_withSmallChunksAndBoundedInFlightBatches() {
+        final int keyCount = 1000;
+        Config config = new Config();
+        config.setProperty(GroupProperties.PROP_MAP_LOAD_CHUNK_SIZE, "10");
+        config.setProperty(GroupProperties.PROP_MAP_LOAD_MAX_INFLIGHT_BATCHES, "2");
+
+        MapLoader<Integer, Integer> mapLoader = new MapLoader<Integer, Integer>() {
+            @Override
+            public Integer load(Integer key) {
+                return key;
+            }
+
+            @Override
+            public Map<Integer, Integer> loadAll(Collection<Integer> keys) {
+                Map<Integer, Integer> result = new HashMap<Integer, Integer>();
+                for (Integer key : keys) {
+                    result.put(key, key);
+                }
+                return result;
+            }
+
+            @Override
+            public Set<Integer> loadAllKeys() {
+                Set<Integer> keys = new HashSet<Integer>();
+                for (int k = 0; k < keyCount; k++) {
+                    keys.add(k);
+                }
+                return keys;
+            }
+        };
+        MapStoreConfig mapStoreConfig = new MapStoreConfig()
+                .setEnabled(true)
+                .setImplementation(mapLoader);
+        config.addMapConfig(new MapConfig("foo").setMapStoreConfig(mapStoreConfig));
+
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        HazelcastInstance[] instances = factory.newInstances(config);
+        IMap<Integer, Integer> map = instances[0].getMap("foo");
+
+        assertEquals(keyCount, map.size());
+        for (int k = 0; k < keyCount; k += 100) {
+            assertEquals(Integer.valueOf(k), map.get(k));
+        }
+    }
+
     @Test
     public void testMapLoaderLoadUpdatingIndex() throws Exception {
         final int nodeCount = 3;
@@ -37,6 +37,10 @@ public class TestMapUsingMapStoreBuilder<K, V> {
 
     private long writeBehindQueueCapacity;
 
+    private int writeBehindWorkerCount;
+
+    private int writeBehindQueueHighWaterMarkPercentage;
+
     private TestHazelcastInstanceFactory instanceFactory;
 
     private TestMapUsingMapStoreBuilder() {
@@ -100,6 +104,22 @@ public class TestMapUsingMapStoreBuilder<K, V> {
         return this;
     }
 
+    public TestMapUsingMapStoreBuilder<K, V> withWriteBehindWorkerCount(int writeBehindWorkerCount) {
+        if (writeBehindWorkerCount < 1) {
+            throw new IllegalArgumentException("writeBehindWorkerCount < 1");
+        }
+        this.writeBehindWorkerCount = writeBehindWorkerCount;
+        return this;
+    }
+
+    public TestMapUsingMapStoreBuilder<K, V> withWriteBehindQueueHighWaterMarkPercentage(int percentage) {
+        if (percentage < 1) {
+            throw new IllegalArgumentException("percentage < 1");
+        }
+        this.writeBehindQueueHighWaterMarkPercentage = percentage;
+        return this;
+    }
+
 
     public TestMapUsingMapStoreBuilder<K, V> withMapStore(MapStore<K, V> mapStore) {
         this.mapStore = mapStore;
@@ -152,6 +172,14 @@ public class TestMapUsingMapStoreBuilder<K, V> {
             config.setProperty(GroupProperties.PROP_MAP_WRITE_BEHIND_QUEUE_CAPACITY,
                     String.valueOf(writeBehindQueueCapacity));
         }
+        if (writeBehindWorkerCount > 0) {
+            config.setProperty(GroupProperties.PROP_MAP_WRITE_BEHIND_WORKER_COUNT,
+                    String.valueOf(writeBehindWorkerCount));
+        }
+        if (writeBehindQueueHighWaterMarkPercentage > 0) {
+            config.setProperty(GroupProperties.PROP_MAP_WRITE_BEHIND_QUEUE_HIGH_WATER_MARK_PERCENTAGE,
+                    String.valueOf(writeBehindQueueHighWaterMarkPercentage));
+        }
 
 
         config.setProperty(GroupProperties.PROP_PARTITION_COUNT, String.valueOf(partitionCount));
@@ -0,0 +1,141 @@
+package com.hazelcast.map.mapstore.writebehind;
+
+import com.hazelcast.core.IMap;
+import com.hazelcast.test.AssertTask;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category(QuickTest.class)
+public class WriteBehindParallelStoreTest extends HazelcastTestSupport {
+
+    @Test
+    public void testAllEntriesStored_whenManyWorkers() throws Exception {
+        final int numberOfItems = 1000;
+        final MapStoreWithCounter<Integer, Integer> mapStore = new MapStoreWithCounter<Integer, Integer>();
+        final IMap<Integer, Integer> map = TestMapUsingMapStoreBuilder.<Integer, Integer>create()
+                .withMapStore(mapStore)
+                .withNodeCount(1)
+                .withNodeFactory(createHazelcastInstanceFactory(1))
+                .withPartitionCount(17)
+                .withWriteDelaySeconds(1)
+                .withWriteBatchSize(10)
+                .withWriteBehindWorkerCount(4)
+                .build();
+
+        for (int i = 0; i < numberOfItems; i++) {
+            map.put(i, i);
+        }
+
+        assertTrueEventually(new AssertTask() {
+            @Override
+            public void run() throws Exception {
+                assertEquals(numberOfItems, mapStore.size());
+            }
+        });
+    }
+
+    @Test
+    public void testLastUpdateStored_whenManyWorkers() throws Exception {
+        final MapStoreWithCounter<Integer, Integer> mapStore = new MapStoreWithCounter<Integer, Integer>();
+        final IMap<Integer, Integer> map = TestMapUsingMapStoreBuilder.<Integer, Integer>create()
+                .withMapStore(mapStore)
+                .withNodeCount(1)
+                .withNodeFactory(createHazelcastInstanceFactory(1))
+                .withWriteDelaySeconds(1)
+                .withWriteCoalescing(false)
+                .withWriteBehindWorkerCount(3)
+                .build();
+
+        for (int i = 0; i < 100; i++) {
+            map.put(i % 10, i);
+        }
+
+        assertTrueEventually(new AssertTask() {
+            @Override
+            public void run() throws Exception {
+                for (int key = 0; key < 10; key++) {
+                    assertEquals(90 + key, (int) mapStore.store.get(key));
+                }
+            }
+        });
+    }
+
+    @Test
+    public void testEntriesStoredBeforeWriteDelay_whenHighWaterMarkReached() throws Exception {
+        final int maxCapacityPerNode = 100;
+        final MapStoreWithCounter<Integer, Integer> mapStore = new MapStoreWithCounter<Integer, Integer>();
+        final IMap<Integer, Integer> map = TestMapUsingMapStoreBuilder.<Integer, Integer>create()
+                .withMapStore(mapStore)
+                .withNodeCount(1)
+                .withNodeFactory(createHazelcastInstanceFactory(1))
+                .withWriteDelaySeconds(1000)
+                .withWriteCoalescing(false)
+                .withWriteBehindQueueCapacity(maxCapacityPerNode)
+                .withWriteBehindQueueHighWaterMarkPercentage(50)
+                .build();
+
+        for (int i = 0; i < 60; i++) {
+            map.put(i, i);
+        }
+
+        assertTrueEventually(new AssertTask() {
+            @Override
+            public void run() throws Exception {
+                assertEquals(60, mapStore.size());
+            }
+        });
+    }
+
+    @Test
+    public void testEntriesStoredOnce_whenStoreSlowerThanRunPeriod() throws Exception {
+        final int numberOfItems = 100;
+        final SlowMapStore mapStore = new SlowMapStore();
+        final IMap<Integer, Integer> map = TestMapUsingMapStoreBuilder.<Integer, Integer>create()
+                .withMapStore(mapStore)
+                .withNodeCount(1)
+                .withNodeFactory(createHazelcastInstanceFactory(1))
+                .withWriteDelaySeconds(1)
+                .withWriteCoalescing(false)
+                .withWriteBatchSize(numberOfItems)
+                .withWriteBehindWorkerCount(4)
+                .build();
+
+        for (int i = 0; i < numberOfItems; i++) {
+            map.put(i, i);
+        }
+
+        assertTrueEventually(new AssertTask() {
+            @Override
+            public void run() throws Exception {
+                assertEquals(numberOfItems, mapStore.size());
+            }
+        });
+        // give an overlapping run the time to store the same entries again
+        sleepSeconds(3);
+        assertEquals(numberOfItems, mapStore.getStoreOpCount());
+    }
+
+    private static class SlowMapStore extends MapStoreWithCounter<Integer, Integer> {
+
+        @Override
+        public void store(Integer key, Integer value) {
+            sleepMillis(1500);
+            super.store(key, value);
+        }
+
+        @Override
+        public void storeAll(Map<Integer, Integer> map) {
+            sleepMillis(1500);
+            super.storeAll(map);
+        }
+    }
+}
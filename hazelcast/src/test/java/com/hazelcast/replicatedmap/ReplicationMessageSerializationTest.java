@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2008-2015, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.replicatedmap;
+
+import com.hazelcast.core.Member;
+import com.hazelcast.instance.MemberImpl;
+import com.hazelcast.nio.Address;
+import com.hazelcast.nio.serialization.Data;
+import com.hazelcast.nio.serialization.DefaultSerializationServiceBuilder;
+import com.hazelcast.nio.serialization.SerializationService;
+import com.hazelcast.replicatedmap.impl.messages.MultiReplicationMessage;
+import com.hazelcast.replicatedmap.impl.messages.ReplicationMessage;
+import com.hazelcast.replicatedmap.impl.record.ReplicatedRecord;
+import com.hazelcast.replicatedmap.impl.record.VectorClockTimestamp;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category(QuickTest.class)
+public class ReplicationMessageSerializationTest {
+
+    private SerializationService serializationService;
+    private Member member1;
+    private Member member2;
+    private Member member3;
+
+    @Before
+    public void setup() throws Exception {
+        serializationService = new DefaultSerializationServiceBuilder().build();
+        member1 = new MemberImpl(new Address("127.0.0.1", 5701), false);
+        member2 = new MemberImpl(new Address("127.0.0.1", 5702), false);
+        member3 = new MemberImpl(new Address("127.0.0.1", 5703), false);
+    }
+
+    @Test
+    public void testReplicationMessage() {
+        VectorClockTimestamp timestamp = timestamp(member1, member2, member2);
+        ReplicationMessage message = new ReplicationMessage("map", "key", "value", timestamp, member1, 17, 1000);
+
+        ReplicationMessage copy = serializeAndDeserialize(message);
+
+        assertMessageEquals(message, copy);
+    }
+
+    @Test
+    public void testMultiReplicationMessage_sharesMembersBetweenMessages() {
+        ReplicationMessage[] messages = new ReplicationMessage[]{
+                new ReplicationMessage("map", "key1", "value1", timestamp(member1), member1, 1, 0),
+                new ReplicationMessage("map", "key2", "value2", timestamp(member1, member2, member3), member2, 2, 0),
+                new ReplicationMessage("map", "key3", null, timestamp(member3, member3), member3, 3, 100),
+                new ReplicationMessage("map", "key4", "value4", new VectorClockTimestamp(), member1, 4, 0),
+        };
+        MultiReplicationMessage message = new MultiReplicationMessage("map", messages);
+
+        MultiReplicationMessage copy = serializeAndDeserialize(message);
+
+        assertEquals("map", copy.getName());
+        assertEquals(messages.length, copy.getReplicationMessages().length);
+        for (int i = 0; i < messages.length; i++) {
+            assertMessageEquals(messages[i], copy.getReplicationMessages()[i]);
+        }
+        assertNull(copy.getReplicationMessages()[2].getValue());
+    }
+
+    private VectorClockTimestamp timestamp(Member... increments) {
+        ReplicatedRecord record = new ReplicatedRecord("key", "value", new VectorClockTimestamp(), 0, 0);
+        for (Member member : increments) {
+            record.incrementVectorClock(member);
+        }
+        return record.getVectorClockTimestamp();
+    }
+
+    private <T> T serializeAndDeserialize(Object object) {
+        Data data = serializationService.toData(object);
+        return serializationService.toObject(data);
+    }
+
+    private static void assertMessageEquals(ReplicationMessage expected, ReplicationMessage actual) {
+        assertEquals(expected.getName(), actual.getName());
+        assertEquals(expected.getKey(), actual.getKey());
+        assertEquals(expected.getValue(), actual.getValue());
+        assertEquals(expected.getVectorClockTimestamp(), actual.getVectorClockTimestamp());
+        assertEquals(expected.getOrigin(), actual.getOrigin());
+        assertEquals(expected.getUpdateHash(), actual.getUpdateHash());
+        assertEquals(expected.getTtlMillis(), actual.getTtlMillis());
+    }
+}
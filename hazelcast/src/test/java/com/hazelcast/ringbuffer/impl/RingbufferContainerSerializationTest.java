@@ -76,6 +76,36 @@ public class RingbufferContainerSerializationTest extends HazelcastTestSupport {
         test(BINARY, 0);
     }
 
+    @Test
+    public void whenArenaUsed() {
+        RingbufferConfig config = new RingbufferConfig("foobar")
+                .setCapacity(5)
+                .setArenaSize(200);
+
+        RingbufferContainer ringbuffer = new RingbufferContainer(config, serializationService);
+        testArenaSerialization(ringbuffer);
+
+        for (int k = 0; k < config.getCapacity() * 4; k++) {
+            ringbuffer.add(toData("item" + k));
+            testArenaSerialization(ringbuffer);
+        }
+    }
+
+    private void testArenaSerialization(RingbufferContainer original) {
+        RingbufferContainer clone = clone(original);
+
+        assertEquals(original.headSequence, clone.headSequence);
+        assertEquals(original.tailSequence, clone.tailSequence);
+        assertEquals(original.capacity, clone.capacity);
+        assertNull(clone.ringItems);
+        assertNotNull(clone.arena);
+        assertEquals(original.arena.size(), clone.arena.size());
+
+        for (long seq = original.headSequence; seq <= original.tailSequence; seq++) {
+            assertEquals(original.read(seq), clone.read(seq));
+        }
+    }
+
     public void test(InMemoryFormat inMemoryFormat, int ttlSeconds) {
         RingbufferConfig config = new RingbufferConfig("foobar")
                 .setCapacity(5)
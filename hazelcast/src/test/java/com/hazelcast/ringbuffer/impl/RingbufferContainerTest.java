@@ -19,6 +19,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
 
 @RunWith(HazelcastSerialClassRunner.class)
 @Category(QuickTest.class)
@@ -205,6 +206,105 @@ public class RingbufferContainerTest extends HazelcastTestSupport {
         assertInstanceOf(String.class, ringbuffer.ringItems[0]);
     }
 
+    // =============== arena =======================
+
+    @Test
+    public void constructionWithArena() {
+        RingbufferConfig config = new RingbufferConfig("foo").setCapacity(100).setArenaSize(1024);
+        RingbufferContainer ringbuffer = new RingbufferContainer(config, serializationService);
+
+        assertNull(ringbuffer.ringItems);
+        assertNotNull(ringbuffer.arena);
+        assertEquals(1024, ringbuffer.arena.size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructionWithArena_whenObjectInMemoryFormat() {
+        RingbufferConfig config = new RingbufferConfig("foo").setInMemoryFormat(InMemoryFormat.OBJECT).setArenaSize(1024);
+        new RingbufferContainer(config, serializationService);
+    }
+
+    @Test
+    public void add_whenArena() {
+        RingbufferConfig config = new RingbufferConfig("foo").setCapacity(3).setArenaSize(1024);
+        RingbufferContainer ringbuffer = new RingbufferContainer(config, serializationService);
+
+        for (int k = 1; k <= 5; k++) {
+            ringbuffer.add(toData("" + k));
+        }
+
+        assertEquals(4, ringbuffer.tailSequence());
+        assertEquals(2, ringbuffer.headSequence());
+        assertEquals(toData("3"), ringbuffer.read(2));
+        assertEquals(toData("4"), ringbuffer.read(3));
+        assertEquals(toData("5"), ringbuffer.read(4));
+    }
+
+    @Test
+    public void add_whenArenaFull_thenOldestItemsRemoved() {
+        Data item = toData("item");
+        int itemSize = item.toByteArray().length;
+        // the arena can only contain 2.5 items.
+        RingbufferConfig config = new RingbufferConfig("foo").setCapacity(100).setArenaSize(itemSize * 5 / 2);
+        RingbufferContainer ringbuffer = new RingbufferContainer(config, serializationService);
+
+        ringbuffer.add(toData("item"));
+        ringbuffer.add(toData("item"));
+        assertEquals(0, ringbuffer.headSequence());
+        assertEquals(1, ringbuffer.tailSequence());
+
+        // the third item doesn't fit at the end of the arena, it is written at the beginning and overwrites the first one.
+        ringbuffer.add(toData("item"));
+        assertEquals(1, ringbuffer.headSequence());
+        assertEquals(2, ringbuffer.tailSequence());
+
+        for (long seq = ringbuffer.headSequence(); seq <= ringbuffer.tailSequence(); seq++) {
+            assertEquals(item, ringbuffer.read(seq));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void add_whenItemLargerThanArena() {
+        RingbufferConfig config = new RingbufferConfig("foo").setCapacity(10).setArenaSize(10);
+        RingbufferContainer ringbuffer = new RingbufferContainer(config, serializationService);
+
+        ringbuffer.add(toData("an item that doesn't fit in 10 bytes"));
+    }
+
+    @Test
+    public void add_whenItemLargerThanArena_thenRingbufferUnchanged() {
+        Data item = toData("item");
+        RingbufferConfig config = new RingbufferConfig("foo").setCapacity(10).setArenaSize(item.toByteArray().length * 2);
+        RingbufferContainer ringbuffer = new RingbufferContainer(config, serializationService);
+        ringbuffer.add(item);
+
+        try {
+            ringbuffer.add(toData("an item that is much larger than the arena"));
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+
+        assertEquals(0, ringbuffer.headSequence());
+        assertEquals(0, ringbuffer.tailSequence());
+        assertEquals(item, ringbuffer.read(0));
+    }
+
+    @Test
+    public void addAll_whenItemLargerThanArena_thenNothingAdded() {
+        Data item = toData("item");
+        RingbufferConfig config = new RingbufferConfig("foo").setCapacity(10).setArenaSize(item.toByteArray().length * 2);
+        RingbufferContainer ringbuffer = new RingbufferContainer(config, serializationService);
+
+        try {
+            ringbuffer.addAll(new Data[]{item, toData("an item that is much larger than the arena")});
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+
+        assertEquals(0, ringbuffer.size());
+        assertEquals(-1, ringbuffer.tailSequence());
+    }
+
     // ===================================================
 
     @Test
@@ -0,0 +1,139 @@
+package com.hazelcast.spi.impl.eventservice.impl;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.ITopic;
+import com.hazelcast.core.Message;
+import com.hazelcast.core.MessageListener;
+import com.hazelcast.instance.GroupProperties;
+import com.hazelcast.test.AssertTask;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category(QuickTest.class)
+public class EventBatchingTest extends HazelcastTestSupport {
+
+    private static final int EVENT_COUNT = 1000;
+
+    @Test
+    public void batchingDisabledByDefault() {
+        assertFalse(new GroupProperties(new Config()).EVENT_BATCH_ENABLED.getBoolean());
+    }
+
+    @Test
+    public void whenBatchingEnabled_thenEventsDeliveredInOrder() {
+        assertEventsDeliveredInOrder(newConfig(true));
+    }
+
+    @Test
+    public void whenBatchesFilledBeforeLinger_thenEventsDeliveredInOrder() {
+        Config config = newConfig(true);
+        config.setProperty(GroupProperties.PROP_EVENT_BATCH_MAX_COUNT, "7");
+        config.setProperty(GroupProperties.PROP_EVENT_BATCH_LINGER_MILLIS, "1000");
+        assertEventsDeliveredInOrder(config);
+    }
+
+    @Test
+    public void whenPublishedConcurrently_thenEventsOfEachTopicDeliveredInOrder() throws Exception {
+        Config config = newConfig(true);
+        config.setProperty(GroupProperties.PROP_EVENT_BATCH_MAX_COUNT, "7");
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        final HazelcastInstance publisher = factory.newHazelcastInstance(config);
+        HazelcastInstance subscriber = factory.newHazelcastInstance(config);
+
+        int topicCount = 4;
+        final List<List<Integer>> received = new ArrayList<List<Integer>>();
+        for (int t = 0; t < topicCount; t++) {
+            final List<Integer> receivedOfTopic = new CopyOnWriteArrayList<Integer>();
+            received.add(receivedOfTopic);
+            subscriber.<Integer>getTopic("topic" + t).addMessageListener(new MessageListener<Integer>() {
+                @Override
+                public void onMessage(Message<Integer> message) {
+                    receivedOfTopic.add(message.getMessageObject());
+                }
+            });
+        }
+
+        List<Future> futures = new ArrayList<Future>();
+        for (int t = 0; t < topicCount; t++) {
+            final ITopic<Integer> topic = publisher.getTopic("topic" + t);
+            futures.add(spawn(new Runnable() {
+                @Override
+                public void run() {
+                    for (int k = 0; k < EVENT_COUNT; k++) {
+                        topic.publish(k);
+                    }
+                }
+            }));
+        }
+        for (Future future : futures) {
+            future.get();
+        }
+
+        for (final List<Integer> receivedOfTopic : received) {
+            assertTrueEventually(new AssertTask() {
+                @Override
+                public void run() throws Exception {
+                    assertEquals(EVENT_COUNT, receivedOfTopic.size());
+                }
+            });
+            for (int k = 0; k < EVENT_COUNT; k++) {
+                assertEquals(Integer.valueOf(k), receivedOfTopic.get(k));
+            }
+        }
+    }
+
+    @Test
+    public void whenBatchingDisabled_thenEventsDeliveredInOrder() {
+        assertEventsDeliveredInOrder(newConfig(false));
+    }
+
+    private static Config newConfig(boolean batchEnabled) {
+        Config config = new Config();
+        config.setProperty(GroupProperties.PROP_EVENT_BATCH_ENABLED, String.valueOf(batchEnabled));
+        return config;
+    }
+
+    private void assertEventsDeliveredInOrder(Config config) {
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(2);
+        HazelcastInstance publisher = factory.newHazelcastInstance(config);
+        HazelcastInstance subscriber = factory.newHazelcastInstance(config);
+
+        final List<Integer> received = new CopyOnWriteArrayList<Integer>();
+        subscriber.<Integer>getTopic("topic").addMessageListener(new MessageListener<Integer>() {
+            @Override
+            public void onMessage(Message<Integer> message) {
+                received.add(message.getMessageObject());
+            }
+        });
+
+        ITopic<Integer> topic = publisher.getTopic("topic");
+        for (int k = 0; k < EVENT_COUNT; k++) {
+            topic.publish(k);
+        }
+
+        assertTrueEventually(new AssertTask() {
+            @Override
+            public void run() throws Exception {
+                assertEquals(EVENT_COUNT, received.size());
+            }
+        });
+        for (int k = 0; k < EVENT_COUNT; k++) {
+            assertEquals(Integer.valueOf(k), received.get(k));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.hazelcast.spi.impl.operationexecutor.hotspotdetector;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.IMap;
+import com.hazelcast.instance.GroupProperties;
+import com.hazelcast.internal.metrics.MetricsRegistry;
+import com.hazelcast.map.impl.MapService;
+import com.hazelcast.spi.impl.operationservice.impl.OperationServiceImpl;
+import com.hazelcast.test.AssertTask;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(QuickTest.class)
+public class HotspotDetectorTest extends HazelcastTestSupport {
+
+    @Test
+    public void testDisabledByDefault() {
+        HazelcastInstance hz = createHazelcastInstance();
+
+        assertNull(getHotspotDetector(hz));
+        assertFalse(getNodeEngineImpl(hz).getMetricsRegistry().getNames().contains("hotspot.partition[0].cpuNanos"));
+    }
+
+    @Test
+    public void testStructureLoad_isRemoved_whenStructureIsDestroyed() {
+        Config config = new Config();
+        config.setProperty(GroupProperties.PROP_HOTSPOT_DETECTOR_ENABLED, "true");
+        config.setProperty(GroupProperties.PROP_HOTSPOT_DETECTOR_SAMPLE_RATE, "1");
+        HazelcastInstance hz = createHazelcastInstance(config);
+        final HotspotDetector hotspotDetector = getHotspotDetector(hz);
+        assertNotNull(hotspotDetector);
+        final MetricsRegistry metricsRegistry = getNodeEngineImpl(hz).getMetricsRegistry();
+
+        IMap<String, String> map = hz.getMap("orders");
+        map.put("key", "value");
+        final String gaugeName = "hotspot." + MapService.SERVICE_NAME + "[orders].operationCount";
+        assertTrueEventually(new AssertTask() {
+            @Override
+            public void run() throws Exception {
+                assertTrue(metricsRegistry.getNames().contains(gaugeName));
+                assertTrue(hotspotDetector.getHottestStructures().contains("[orders]"));
+            }
+        });
+
+        map.destroy();
+
+        assertFalse(metricsRegistry.getNames().contains(gaugeName));
+        assertFalse(hotspotDetector.getHottestStructures().contains("[orders]"));
+    }
+
+    private static HotspotDetector getHotspotDetector(HazelcastInstance hz) {
+        return ((OperationServiceImpl) getOperationService(hz)).getHotspotDetector();
+    }
+}
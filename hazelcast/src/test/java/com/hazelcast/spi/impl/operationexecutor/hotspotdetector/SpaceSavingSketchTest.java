@@ -0,0 +1,95 @@
+package com.hazelcast.spi.impl.operationexecutor.hotspotdetector;
+
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(QuickTest.class)
+public class SpaceSavingSketchTest {
+
+    private SpaceSavingSketch sketch;
+
+    @Before
+    public void setup() {
+        sketch = new SpaceSavingSketch(3);
+    }
+
+    @Test
+    public void whenEmpty() {
+        assertTrue(sketch.counters().isEmpty());
+    }
+
+    @Test
+    public void offer_whenBelowCapacity_thenExactCounts() {
+        sketch.offer("a", 5);
+        sketch.offer("b", 1);
+        sketch.offer("a", 2);
+
+        List<SpaceSavingSketch.Counter> counters = sketch.counters();
+        assertEquals(2, counters.size());
+
+        SpaceSavingSketch.Counter a = find(counters, "a");
+        assertEquals(7, a.count);
+        assertEquals(0, a.error);
+        assertEquals(1, find(counters, "b").count);
+    }
+
+    @Test
+    public void offer_whenFull_thenLowestCounterReplaced() {
+        sketch.offer("a", 10);
+        sketch.offer("b", 3);
+        sketch.offer("c", 5);
+
+        sketch.offer("d", 1);
+
+        List<SpaceSavingSketch.Counter> counters = sketch.counters();
+        assertEquals(3, counters.size());
+        assertNull(find(counters, "b"));
+
+        SpaceSavingSketch.Counter d = find(counters, "d");
+        assertEquals(4, d.count);
+        assertEquals(3, d.error);
+    }
+
+    @Test
+    public void offer_heavyHitterIsRetained() {
+        for (int k = 0; k < 1000; k++) {
+            sketch.offer("hot", 1);
+            sketch.offer("cold" + k, 1);
+        }
+
+        SpaceSavingSketch.Counter hot = find(sketch.counters(), "hot");
+        assertNotNull(hot);
+        assertTrue(hot.count - hot.error <= 1000);
+        assertTrue(hot.count >= 1000);
+    }
+
+    @Test
+    public void clear() {
+        sketch.offer("a", 1);
+
+        sketch.clear();
+
+        assertTrue(sketch.counters().isEmpty());
+    }
+
+    private static SpaceSavingSketch.Counter find(List<SpaceSavingSketch.Counter> counters, Object key) {
+        for (SpaceSavingSketch.Counter counter : counters) {
+            if (counter.key.equals(key)) {
+                return counter;
+            }
+        }
+        return null;
+    }
+}
@@ -4,6 +4,7 @@ import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.spi.Operation;
 import com.hazelcast.spi.impl.NodeEngineImpl;
 import com.hazelcast.spi.impl.operationservice.impl.CallIdSequence.CallIdSequenceWithBackpressure;
+import com.hazelcast.spi.impl.operationservice.impl.CallIdSequence.CallIdSequenceWithoutBackpressure;
 import com.hazelcast.test.HazelcastParallelClassRunner;
 import com.hazelcast.test.HazelcastTestSupport;
 import com.hazelcast.test.annotation.QuickTest;
@@ -12,8 +13,18 @@ import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+
 import static com.hazelcast.spi.OperationAccessor.setCallId;
+import static com.hazelcast.spi.impl.operationservice.impl.CallIdSequence.CallIdSequenceWithoutBackpressure.CALL_ID_RANGE;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.fail;
 
 @RunWith(HazelcastParallelClassRunner.class)
@@ -50,6 +61,63 @@ public class CallIdSequenceWithoutBackpressureTest extends HazelcastTestSupport
         }
     }
 
+    @Test
+    public void next_whenRangeExhausted_thenNextRangeReserved() {
+        CallIdSequenceWithoutBackpressure sequence = new CallIdSequenceWithoutBackpressure();
+        Invocation invocation = newInvocation(new DummyBackupAwareOperation());
+
+        for (long k = 1; k <= 2 * CALL_ID_RANGE + 1; k++) {
+            assertEquals(k, sequence.next(invocation));
+            assertEquals(k, sequence.getLastCallId());
+        }
+    }
+
+    @Test
+    public void next_whenRangeReservedByOtherThread() throws Exception {
+        final CallIdSequenceWithoutBackpressure sequence = new CallIdSequenceWithoutBackpressure();
+        final Invocation invocation = newInvocation(new DummyBackupAwareOperation());
+
+        Future<Long> otherThreadCallId = spawn(new Callable<Long>() {
+            @Override
+            public Long call() {
+                return sequence.next(invocation);
+            }
+        });
+        assertEquals(1, otherThreadCallId.get().longValue());
+
+        // this thread didn't get a call-id yet, so it sees the head of the sequence.
+        assertEquals(CALL_ID_RANGE, sequence.getLastCallId());
+        assertEquals(CALL_ID_RANGE + 1, sequence.next(invocation));
+        assertEquals(CALL_ID_RANGE + 1, sequence.getLastCallId());
+    }
+
+    @Test
+    public void next_whenConcurrent_thenUnique() throws Exception {
+        final CallIdSequenceWithoutBackpressure sequence = new CallIdSequenceWithoutBackpressure();
+        final Set<Long> callIds = Collections.newSetFromMap(new ConcurrentHashMap<Long, Boolean>());
+        final int threadCount = 4;
+        final int callIdsPerThread = 3 * CALL_ID_RANGE + 7;
+
+        List<Future> futures = new ArrayList<Future>();
+        for (int t = 0; t < threadCount; t++) {
+            futures.add(spawn(new Runnable() {
+                @Override
+                public void run() {
+                    Invocation invocation = newInvocation(new DummyBackupAwareOperation());
+                    for (int k = 0; k < callIdsPerThread; k++) {
+                        callIds.add(sequence.next(invocation));
+                    }
+                }
+            }));
+        }
+        for (Future future : futures) {
+            future.get();
+        }
+
+        assertEquals(threadCount * callIdsPerThread, callIds.size());
+        assertFalse(callIds.contains(0L));
+    }
+
     @Test
     public void next_whenNot_0() {
         CallIdSequenceWithBackpressure sequence = new CallIdSequenceWithBackpressure(100, 60000);
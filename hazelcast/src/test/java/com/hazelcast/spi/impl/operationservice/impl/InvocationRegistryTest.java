@@ -6,9 +6,11 @@ import com.hazelcast.core.HazelcastInstanceNotActiveException;
 import com.hazelcast.core.MemberLeftException;
 import com.hazelcast.spi.Operation;
 import com.hazelcast.spi.impl.NodeEngineImpl;
+import com.hazelcast.test.AssertTask;
 import com.hazelcast.test.HazelcastSerialClassRunner;
 import com.hazelcast.test.HazelcastTestSupport;
 import com.hazelcast.test.annotation.QuickTest;
+import com.hazelcast.util.Clock;
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
@@ -21,6 +23,7 @@ import static com.hazelcast.instance.GroupProperties.*;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 
@@ -152,6 +155,37 @@ public class InvocationRegistryTest extends HazelcastTestSupport {
         assertEquals(2, invocationRegistry.size());
     }
 
+    // ====================== timeout check ===============================
+
+    @Test
+    public void register_thenTimeoutCheckOfStripeScheduled() {
+        Invocation invocation = newInvocation();
+        invocationRegistry.register(invocation);
+        long callId = invocation.op.getCallId();
+        long backupTimeoutMillis = nodeEngine.getGroupProperties().OPERATION_BACKUP_TIMEOUT_MILLIS.getLong();
+
+        // no response has been received yet, so the backup timeout is the earliest timeout that can happen.
+        long timeoutCheckMillis = invocationRegistry.getTimeoutCheckMillis(callId);
+        assertTrue(timeoutCheckMillis <= Clock.currentTimeMillis() + backupTimeoutMillis);
+    }
+
+    @Test
+    public void inspection_whenStripeDue_thenTimeoutCheckRescheduled() {
+        Invocation invocation = newInvocation();
+        invocationRegistry.register(invocation);
+        final long callId = invocation.op.getCallId();
+        final long timeoutCheckMillis = invocationRegistry.getTimeoutCheckMillis(callId);
+
+        // once the stripe has been scanned, the check of the pending invocation is scheduled after the scan.
+        assertTrueEventually(new AssertTask() {
+            @Override
+            public void run() throws Exception {
+                assertTrue(invocationRegistry.getTimeoutCheckMillis(callId) > timeoutCheckMillis);
+            }
+        });
+        assertSame(invocation, invocationRegistry.get(callId));
+    }
+
     // ===================== onMemberLeft ============================
 
     // ===================== reset ============================
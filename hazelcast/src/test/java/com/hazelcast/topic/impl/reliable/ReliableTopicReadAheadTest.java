@@ -0,0 +1,69 @@
+package com.hazelcast.topic.impl.reliable;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.ReliableTopicConfig;
+import com.hazelcast.config.RingbufferConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.test.AssertTask;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category(QuickTest.class)
+public class ReliableTopicReadAheadTest extends HazelcastTestSupport {
+
+    private ReliableTopicProxy<String> topic;
+
+    @Before
+    public void setup() {
+        ReliableTopicConfig topicConfig = new ReliableTopicConfig("reliableTopic*")
+                .setReadBatchSize(2)
+                .setReadAheadCount(4);
+
+        RingbufferConfig ringbufferConfig = new RingbufferConfig(topicConfig.getName());
+        ringbufferConfig.setCapacity(1000);
+
+        Config config = new Config();
+        config.addReliableTopicConfig(topicConfig);
+        config.addRingBufferConfig(ringbufferConfig);
+
+        HazelcastInstance[] instances = createHazelcastInstanceFactory(2).newInstances(config);
+        HazelcastInstance local = instances[0];
+        String name = randomNameOwnedBy(instances[1], "reliableTopic");
+        topic = (ReliableTopicProxy) local.getReliableTopic(name);
+    }
+
+    @Test
+    public void publishMultiple_messagesReceivedInOrder() {
+        final ReliableMessageListenerMock listener = new ReliableMessageListenerMock();
+        topic.addMessageListener(listener);
+
+        final List<String> items = new ArrayList<String>();
+        for (int k = 0; k < 100; k++) {
+            items.add("" + k);
+        }
+
+        for (String item : items) {
+            topic.publish(item);
+        }
+
+        assertTrueEventually(new AssertTask() {
+            @Override
+            public void run() throws Exception {
+                assertEquals(items, Arrays.asList(listener.objects.toArray()));
+                assertEquals(items.size() - 1, listener.storedSequence);
+            }
+        });
+    }
+}
@@ -0,0 +1,180 @@
+package com.hazelcast.util;
+
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category(QuickTest.class)
+public class ConcurrentLong2ObjectHashMapTest {
+
+    private final ConcurrentLong2ObjectHashMap<String> map = new ConcurrentLong2ObjectHashMap<String>();
+
+    @Test
+    public void whenEmpty() {
+        assertTrue(map.isEmpty());
+        assertEquals(0, map.size());
+        assertNull(map.get(1));
+        assertNull(map.remove(1));
+    }
+
+    @Test
+    public void put() {
+        assertNull(map.put(1, "a"));
+        assertEquals("a", map.put(1, "b"));
+
+        assertEquals("b", map.get(1));
+        assertEquals(1, map.size());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void put_whenNullValue() {
+        map.put(1, null);
+    }
+
+    @Test
+    public void remove() {
+        map.put(1, "a");
+
+        assertEquals("a", map.remove(1));
+        assertNull(map.remove(1));
+        assertNull(map.get(1));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void remove_thenPutAgain() {
+        map.put(1, "a");
+        map.remove(1);
+
+        assertNull(map.put(1, "b"));
+        assertEquals("b", map.get(1));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void copyValuesTo() {
+        for (long k = 0; k < 100; k++) {
+            map.put(k, "value" + k);
+        }
+
+        List<String> values = new ArrayList<String>();
+        map.copyValuesTo(values);
+
+        assertEquals(100, values.size());
+        assertTrue(values.contains("value50"));
+    }
+
+    @Test
+    public void sequentialKeys_whenRegisteredAndRemoved() {
+        // like call-ids: every key is used once, so the removed slots have to be reclaimed by resizing.
+        for (long k = 0; k < 100000; k++) {
+            map.put(k, "value");
+            if (k >= 10) {
+                assertEquals("value", map.remove(k - 10));
+            }
+        }
+
+        assertEquals(10, map.size());
+        for (long k = 100000 - 10; k < 100000; k++) {
+            assertEquals("value", map.get(k));
+        }
+    }
+
+    @Test
+    public void randomOperations_matchHashMap() {
+        Map<Long, String> expected = new HashMap<Long, String>();
+        Random random = new Random();
+        for (int k = 0; k < 100000; k++) {
+            // keys with identical low bits, like the keys of a stripe in the InvocationRegistry
+            long key = random.nextInt(1000) * 16L;
+            switch (random.nextInt(3)) {
+                case 0:
+                    assertEquals(expected.put(key, "" + k), map.put(key, "" + k));
+                    break;
+                case 1:
+                    assertEquals(expected.remove(key), map.remove(key));
+                    break;
+                default:
+                    assertEquals(expected.get(key), map.get(key));
+            }
+            assertEquals(expected.size(), map.size());
+        }
+    }
+
+    @Test
+    public void concurrentOperations() throws Exception {
+        final int threadCount = 4;
+        final int keysPerThread = 50000;
+        final int pendingKeys = 100;
+        final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+        final AtomicBoolean stop = new AtomicBoolean();
+
+        // a key that is never removed has to be found by a reader at any moment, no matter how often the map resizes.
+        map.put(-1, "stable");
+        Thread reader = new Thread() {
+            @Override
+            public void run() {
+                while (!stop.get()) {
+                    if (!"stable".equals(map.get(-1))) {
+                        failure.compareAndSet(null, new AssertionError("stable key not found"));
+                    }
+                }
+            }
+        };
+        reader.start();
+
+        Thread[] writers = new Thread[threadCount];
+        for (int t = 0; t < threadCount; t++) {
+            final int threadIndex = t;
+            writers[t] = new Thread() {
+                @Override
+                public void run() {
+                    try {
+                        for (int k = 0; k < keysPerThread; k++) {
+                            // interleaved keys, like the call-ids handed out to different threads.
+                            long key = (long) k * threadCount + threadIndex;
+                            String value = "value" + key;
+                            assertNull(map.put(key, value));
+                            assertSame(value, map.get(key));
+                            if (k >= pendingKeys) {
+                                long oldKey = (long) (k - pendingKeys) * threadCount + threadIndex;
+                                assertEquals("value" + oldKey, map.remove(oldKey));
+                            }
+                        }
+                    } catch (Throwable e) {
+                        failure.compareAndSet(null, e);
+                    }
+                }
+            };
+            writers[t].start();
+        }
+
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        stop.set(true);
+        reader.join();
+
+        assertNull(failure.get());
+        assertEquals(threadCount * pendingKeys + 1, map.size());
+        List<String> values = new ArrayList<String>();
+        map.copyValuesTo(values);
+        assertEquals(threadCount * pendingKeys + 1, values.size());
+    }
+}
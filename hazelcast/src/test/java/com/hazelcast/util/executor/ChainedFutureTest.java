@@ -0,0 +1,183 @@
+package com.hazelcast.util.executor;
+
+import com.hazelcast.core.ExecutionCallback;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.ICompletableFuture;
+import com.hazelcast.core.IFunction;
+import com.hazelcast.core.IMap;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category(QuickTest.class)
+public class ChainedFutureTest extends HazelcastTestSupport {
+
+    private IMap<String, String> map;
+    private ExecutorService executor;
+
+    @Before
+    public void setup() {
+        HazelcastInstance hz = createHazelcastInstance();
+        map = hz.getMap(randomMapName());
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void map_whenNullFunction() {
+        ChainedFuture.map(map.getAsync("key"), null, executor);
+    }
+
+    @Test
+    public void map() throws Exception {
+        map.put("key", "value");
+
+        ICompletableFuture<Integer> future = ChainedFuture.map(map.getAsync("key"), new IFunction<String, Integer>() {
+            @Override
+            public Integer apply(String input) {
+                return input.length();
+            }
+        }, executor);
+
+        assertEquals(Integer.valueOf(5), future.get());
+        assertTrue(future.isDone());
+    }
+
+    @Test
+    public void map_whenFunctionThrowsException() throws Exception {
+        ICompletableFuture<Integer> future = ChainedFuture.map(map.getAsync("key"), new IFunction<String, Integer>() {
+            @Override
+            public Integer apply(String input) {
+                throw new IllegalStateException();
+            }
+        }, executor);
+
+        try {
+            future.get();
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+    }
+
+    @Test
+    public void thenCompose() throws Exception {
+        map.put("key", "otherKey");
+        map.put("otherKey", "value");
+
+        ICompletableFuture<String> future = ChainedFuture.thenCompose(map.getAsync("key"),
+                new IFunction<String, ICompletableFuture<String>>() {
+                    @Override
+                    public ICompletableFuture<String> apply(String input) {
+                        return map.getAsync(input);
+                    }
+                }, executor);
+
+        assertEquals("value", future.get());
+    }
+
+    @Test
+    public void thenCompose_whenFunctionReturnsNull() throws Exception {
+        ICompletableFuture<String> future = ChainedFuture.thenCompose(map.getAsync("key"),
+                new IFunction<String, ICompletableFuture<String>>() {
+                    @Override
+                    public ICompletableFuture<String> apply(String input) {
+                        return null;
+                    }
+                }, executor);
+
+        assertNull(future.get());
+    }
+
+    @Test
+    public void andThen() throws Exception {
+        map.put("key", "value");
+        ICompletableFuture<String> future = ChainedFuture.map(map.getAsync("key"), new IFunction<String, String>() {
+            @Override
+            public String apply(String input) {
+                return input.toUpperCase();
+            }
+        }, executor);
+
+        final CountDownLatch latch = new CountDownLatch(1);
+        final AtomicReference<String> result = new AtomicReference<String>();
+        future.andThen(new ExecutionCallback<String>() {
+            @Override
+            public void onResponse(String response) {
+                result.set(response);
+                latch.countDown();
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+            }
+        });
+
+        assertOpenEventually(latch);
+        assertEquals("VALUE", result.get());
+    }
+
+    @Test
+    public void map_whenExecutorRejects() throws Exception {
+        ExecutorService rejectingExecutor = Executors.newSingleThreadExecutor();
+        rejectingExecutor.shutdown();
+
+        ICompletableFuture<Integer> future = ChainedFuture.map(map.getAsync("key"), new IFunction<String, Integer>() {
+            @Override
+            public Integer apply(String input) {
+                return 1;
+            }
+        }, rejectingExecutor);
+
+        try {
+            future.get();
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof RejectedExecutionException);
+        }
+    }
+
+    @Test
+    public void get_whenTimeout() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(1);
+        ICompletableFuture<String> future = ChainedFuture.map(map.getAsync("key"), new IFunction<String, String>() {
+            @Override
+            public String apply(String input) {
+                assertOpenEventually(latch);
+                return "value";
+            }
+        }, executor);
+
+        try {
+            future.get(10, TimeUnit.MILLISECONDS);
+            fail();
+        } catch (TimeoutException expected) {
+            latch.countDown();
+        }
+        assertEquals("value", future.get());
+    }
+}
@@ -0,0 +1,95 @@
+package com.hazelcast.util.executor;
+
+import com.hazelcast.core.ExecutionCallback;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.concurrent.Executor;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category(QuickTest.class)
+public class WaiterStackTest {
+
+    private final WaiterStack stack = new WaiterStack();
+
+    @Test
+    public void remove_unlinksWaiter() {
+        WaiterStack.Node waiter = stack.pushCurrentThread();
+        assertNotNull(waiter);
+
+        stack.remove(waiter);
+
+        assertNull(stack.release());
+    }
+
+    @Test
+    public void remove_keepsCallbacksAndOtherWaiters() {
+        ExecutionCallback callback = new NoopCallback();
+        Executor executor = new CallerRunsExecutor();
+        stack.pushCallback(callback, executor);
+        WaiterStack.Node waiter1 = stack.pushCurrentThread();
+        WaiterStack.Node waiter2 = stack.pushCurrentThread();
+        WaiterStack.Node waiter3 = stack.pushCurrentThread();
+
+        stack.remove(waiter1);
+        stack.remove(waiter3);
+
+        WaiterStack.Node nodes = stack.release();
+        assertSame(waiter2, nodes);
+        assertSame(callback, nodes.getNext().getCallback());
+        assertSame(executor, nodes.getNext().getExecutor());
+        assertNull(nodes.getNext().getNext());
+    }
+
+    @Test
+    public void release_onlyOnce() {
+        stack.pushCallback(new NoopCallback(), new CallerRunsExecutor());
+
+        assertNotNull(stack.release());
+        assertNull(stack.release());
+    }
+
+    @Test
+    public void push_afterRelease() {
+        stack.release();
+
+        assertNull(stack.pushCurrentThread());
+        assertFalse(stack.pushCallback(new NoopCallback(), new CallerRunsExecutor()));
+    }
+
+    @Test
+    public void remove_afterRelease() {
+        WaiterStack.Node waiter = stack.pushCurrentThread();
+        stack.release();
+
+        stack.remove(waiter);
+        stack.remove(null);
+
+        assertNull(stack.pushCurrentThread());
+    }
+
+    private static class NoopCallback implements ExecutionCallback<Object> {
+        @Override
+        public void onResponse(Object response) {
+        }
+
+        @Override
+        public void onFailure(Throwable t) {
+        }
+    }
+
+    private static class CallerRunsExecutor implements Executor {
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.hazelcast.wan.impl;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.WanReplicationConfig;
+import com.hazelcast.config.WanReplicationRef;
+import com.hazelcast.config.WanTargetClusterConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.IMap;
+import com.hazelcast.instance.GroupProperties;
+import com.hazelcast.instance.HazelcastInstanceFactory;
+import com.hazelcast.internal.metrics.Gauge;
+import com.hazelcast.map.merge.PassThroughMergePolicy;
+import com.hazelcast.test.AssertTask;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.NightlyTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(NightlyTest.class)
+public class WanBatchReplicationCoalescingTest extends HazelcastTestSupport {
+
+    private static final String WAN_NAME = "atob";
+
+    private HazelcastInstance source;
+    private HazelcastInstance target;
+
+    @Before
+    public void setup() {
+        Config configA = new Config();
+        configA.getGroupConfig().setName("A");
+        configA.getNetworkConfig().setPort(5701);
+        configA.setProperty(GroupProperties.PROP_WAN_REP_COALESCING_ENABLED, "true");
+        configA.setProperty(GroupProperties.PROP_WAN_REP_BATCH_MAX_DELAY_MILLIS, "2000");
+
+        WanTargetClusterConfig targetConfig = new WanTargetClusterConfig();
+        targetConfig.setGroupName("B");
+        targetConfig.setReplicationImpl(WanBatchReplication.class.getName());
+        targetConfig.setEndpoints(Collections.singletonList("127.0.0.1:5801"));
+        WanReplicationConfig wanConfig = new WanReplicationConfig();
+        wanConfig.setName(WAN_NAME);
+        wanConfig.addTargetClusterConfig(targetConfig);
+        configA.addWanReplicationConfig(wanConfig);
+
+        WanReplicationRef wanRef = new WanReplicationRef();
+        wanRef.setName(WAN_NAME);
+        wanRef.setMergePolicy(PassThroughMergePolicy.class.getName());
+        configA.getMapConfig("default").setWanReplicationRef(wanRef);
+
+        Config configB = new Config();
+        configB.getGroupConfig().setName("B");
+        configB.getNetworkConfig().setPort(5801);
+
+        source = HazelcastInstanceFactory.newHazelcastInstance(configA);
+        target = HazelcastInstanceFactory.newHazelcastInstance(configB);
+    }
+
+    @After
+    public void cleanup() {
+        HazelcastInstanceFactory.shutdownAll();
+    }
+
+    @Test
+    public void testUpdatesOfHotKeyAreCoalesced() {
+        IMap<String, Integer> map = source.getMap("map");
+        for (int i = 0; i < 1000; i++) {
+            map.put("counter", i);
+        }
+
+        final IMap<String, Integer> targetMap = target.getMap("map");
+        assertTrueEventually(new AssertTask() {
+            @Override
+            public void run() throws Exception {
+                assertEquals(999, (int) targetMap.get("counter"));
+            }
+        });
+
+        final WanBatchReplication replication = getReplication();
+        assertTrueEventually(new AssertTask() {
+            @Override
+            public void run() throws Exception {
+                assertEquals(1000, replication.getSentEventCount() + replication.getCoalescedEventCount());
+            }
+        });
+        assertTrue(replication.getCoalescedEventCount() > 0);
+    }
+
+    @Test
+    public void testCoalescedEventCount_isExposedAsMetric() {
+        IMap<String, Integer> map = source.getMap("map");
+        for (int i = 0; i < 1000; i++) {
+            map.put("counter", i);
+        }
+
+        final WanBatchReplication replication = getReplication();
+        final Gauge gauge = getNode(source).nodeEngine.getMetricsRegistry()
+                .getGauge("wan." + WAN_NAME + ".B.coalescedEventCount");
+        assertTrueEventually(new AssertTask() {
+            @Override
+            public void run() throws Exception {
+                assertEquals(1000, replication.getSentEventCount() + replication.getCoalescedEventCount());
+            }
+        });
+        assertEquals(replication.getCoalescedEventCount(), gauge.readLong());
+    }
+
+    @Test
+    public void testRemoveReplacesPendingUpdate() {
+        IMap<String, Integer> map = source.getMap("map");
+        map.put("key", 1);
+        map.put("other", 2);
+        map.remove("key");
+
+        final IMap<String, Integer> targetMap = target.getMap("map");
+        assertTrueEventually(new AssertTask() {
+            @Override
+            public void run() throws Exception {
+                assertEquals(2, (int) targetMap.get("other"));
+                assertNull(targetMap.get("key"));
+            }
+        });
+    }
+
+    private WanBatchReplication getReplication() {
+        WanReplicationPublisherDelegate publisher = (WanReplicationPublisherDelegate) getNode(source).nodeEngine
+                .getWanReplicationService().getWanReplicationPublisher(WAN_NAME);
+        return (WanBatchReplication) publisher.getEndpoints()[0];
+    }
+}
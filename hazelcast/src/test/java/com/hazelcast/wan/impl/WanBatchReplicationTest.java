@@ -0,0 +1,176 @@
+package com.hazelcast.wan.impl;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.WanReplicationConfig;
+import com.hazelcast.config.WanReplicationRef;
+import com.hazelcast.config.WanTargetClusterConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.IMap;
+import com.hazelcast.instance.GroupProperties;
+import com.hazelcast.instance.HazelcastInstanceFactory;
+import com.hazelcast.map.merge.PassThroughMergePolicy;
+import com.hazelcast.test.AssertTask;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.NightlyTest;
+import com.hazelcast.wan.WanReplicationEndpoint;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(NightlyTest.class)
+public class WanBatchReplicationTest extends HazelcastTestSupport {
+
+    private static final String WAN_NAME = "atob";
+    private static final String DEFAULT_IMPL_WAN_NAME = "atob-default-impl";
+
+    private Config configA;
+    private Config configB;
+    private HazelcastInstance[] clusterA = new HazelcastInstance[2];
+    private HazelcastInstance[] clusterB = new HazelcastInstance[2];
+
+    @Before
+    public void setup() {
+        configA = new Config();
+        configA.getGroupConfig().setName("A");
+        configA.getNetworkConfig().setPort(5701);
+        configA.setProperty(GroupProperties.PROP_WAN_REP_BATCH_SIZE, "10");
+        configA.setProperty(GroupProperties.PROP_WAN_REP_BATCH_MAX_IN_FLIGHT, "4");
+
+        configB = new Config();
+        configB.getGroupConfig().setName("B");
+        configB.getNetworkConfig().setPort(5801);
+
+        WanTargetClusterConfig target = new WanTargetClusterConfig();
+        target.setGroupName("B");
+        target.setReplicationImpl(WanBatchReplication.class.getName());
+        target.setEndpoints(Arrays.asList("127.0.0.1:5801", "127.0.0.1:5802"));
+        WanReplicationConfig wanConfig = new WanReplicationConfig();
+        wanConfig.setName(WAN_NAME);
+        wanConfig.addTargetClusterConfig(target);
+        configA.addWanReplicationConfig(wanConfig);
+
+        WanTargetClusterConfig defaultImplTarget = new WanTargetClusterConfig();
+        defaultImplTarget.setGroupName("B");
+        defaultImplTarget.setEndpoints(Arrays.asList("127.0.0.1:5801"));
+        WanReplicationConfig defaultImplWanConfig = new WanReplicationConfig();
+        defaultImplWanConfig.setName(DEFAULT_IMPL_WAN_NAME);
+        defaultImplWanConfig.addTargetClusterConfig(defaultImplTarget);
+        configA.addWanReplicationConfig(defaultImplWanConfig);
+
+        WanReplicationRef wanRef = new WanReplicationRef();
+        wanRef.setName(WAN_NAME);
+        wanRef.setMergePolicy(PassThroughMergePolicy.class.getName());
+        configA.getMapConfig("default").setWanReplicationRef(wanRef);
+
+        for (int i = 0; i < clusterA.length; i++) {
+            clusterA[i] = HazelcastInstanceFactory.newHazelcastInstance(configA);
+            clusterB[i] = HazelcastInstanceFactory.newHazelcastInstance(configB);
+        }
+    }
+
+    @After
+    public void cleanup() {
+        HazelcastInstanceFactory.shutdownAll();
+    }
+
+    @Test
+    public void testBatchReplicationIsUsedWhenConfigured() {
+        for (WanReplicationEndpoint endpoint : getEndpoints(clusterA[0])) {
+            assertEquals(WanBatchReplication.class, endpoint.getClass());
+        }
+    }
+
+    @Test
+    public void testNoDelayReplicationIsDefault() {
+        for (WanReplicationEndpoint endpoint : getEndpoints(clusterA[0], DEFAULT_IMPL_WAN_NAME)) {
+            assertEquals(WanNoDelayReplication.class, endpoint.getClass());
+        }
+    }
+
+    @Test
+    public void testPutAndRemoveAreReplicated() {
+        final IMap<Integer, Integer> source = clusterA[0].getMap("map");
+        for (int i = 0; i < 1000; i++) {
+            source.put(i, i);
+        }
+        for (int i = 0; i < 500; i++) {
+            source.remove(i);
+        }
+
+        final IMap<Integer, Integer> target = clusterB[1].getMap("map");
+        assertTrueEventually(new AssertTask() {
+            @Override
+            public void run() throws Exception {
+                assertEquals(500, target.size());
+                for (int i = 0; i < 500; i++) {
+                    assertNull(target.get(i));
+                }
+                for (int i = 500; i < 1000; i++) {
+                    assertEquals(i, (int) target.get(i));
+                }
+            }
+        });
+    }
+
+    @Test
+    public void testUpdatesOfSameKeyAreAppliedInOrder() {
+        IMap<Integer, Integer> source = clusterA[0].getMap("map");
+        for (int value = 0; value < 1000; value++) {
+            source.put(value % 10, value);
+        }
+
+        final IMap<Integer, Integer> target = clusterB[0].getMap("map");
+        assertTrueEventually(new AssertTask() {
+            @Override
+            public void run() throws Exception {
+                for (int key = 0; key < 10; key++) {
+                    assertEquals(990 + key, (int) target.get(key));
+                }
+            }
+        });
+    }
+
+    @Test
+    public void testMetrics() {
+        IMap<Integer, Integer> source = clusterA[0].getMap("map");
+        for (int i = 0; i < 100; i++) {
+            source.put(i, i);
+        }
+
+        assertTrueEventually(new AssertTask() {
+            @Override
+            public void run() throws Exception {
+                long sent = 0;
+                for (HazelcastInstance instance : clusterA) {
+                    for (WanReplicationEndpoint endpoint : getEndpoints(instance)) {
+                        WanBatchReplication replication = (WanBatchReplication) endpoint;
+                        assertEquals(0, replication.getQueueSize());
+                        assertEquals(0, replication.getInFlightBatchCount());
+                        assertEquals(0, replication.getDroppedEventCount());
+                        sent += replication.getSentEventCount();
+                    }
+                }
+                assertEquals(100, sent);
+            }
+        });
+    }
+
+    private static WanReplicationEndpoint[] getEndpoints(HazelcastInstance instance) {
+        return getEndpoints(instance, WAN_NAME);
+    }
+
+    private static WanReplicationEndpoint[] getEndpoints(HazelcastInstance instance, String wanName) {
+        WanReplicationPublisherDelegate publisher = (WanReplicationPublisherDelegate) getNode(instance).nodeEngine
+                .getWanReplicationService().getWanReplicationPublisher(wanName);
+        return publisher.getEndpoints();
+    }
+}